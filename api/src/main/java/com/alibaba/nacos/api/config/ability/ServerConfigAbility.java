@@ -34,6 +34,11 @@ public class ServerConfigAbility implements Serializable {
      */
     private boolean supportRemoteMetrics;
     
+    /**
+     * support config change batch sync between servers.
+     */
+    private boolean supportClusterSyncBatch;
+    
     public boolean isSupportRemoteMetrics() {
         return supportRemoteMetrics;
     }
@@ -42,6 +47,14 @@ public class ServerConfigAbility implements Serializable {
         this.supportRemoteMetrics = supportRemoteMetrics;
     }
     
+    public boolean isSupportClusterSyncBatch() {
+        return supportClusterSyncBatch;
+    }
+    
+    public void setSupportClusterSyncBatch(boolean supportClusterSyncBatch) {
+        this.supportClusterSyncBatch = supportClusterSyncBatch;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -51,11 +64,12 @@ public class ServerConfigAbility implements Serializable {
             return false;
         }
         ServerConfigAbility that = (ServerConfigAbility) o;
-        return supportRemoteMetrics == that.supportRemoteMetrics;
+        return supportRemoteMetrics == that.supportRemoteMetrics
+                && supportClusterSyncBatch == that.supportClusterSyncBatch;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(supportRemoteMetrics);
+        return Objects.hash(supportRemoteMetrics, supportClusterSyncBatch);
     }
 }
@@ -33,6 +33,18 @@ public class ConfigChangeNotifyRequest extends ServerRequest {
     
     String tenant;
     
+    /**
+     * Content of changed config, only pushed to the clients which support content push and the config is small enough.
+     * Otherwise, it is {@code null} and the client should query the config by itself.
+     */
+    String content;
+    
+    String md5;
+    
+    String contentType;
+    
+    String encryptedDataKey;
+    
     public String getDataId() {
         return dataId;
     }
@@ -57,6 +69,38 @@ public class ConfigChangeNotifyRequest extends ServerRequest {
         this.tenant = tenant;
     }
     
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public void setMd5(String md5) {
+        this.md5 = md5;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    public void setEncryptedDataKey(String encryptedDataKey) {
+        this.encryptedDataKey = encryptedDataKey;
+    }
+    
     /**
      * build success response.
      *
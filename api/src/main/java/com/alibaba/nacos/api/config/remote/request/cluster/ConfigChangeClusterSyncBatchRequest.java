@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch of config change sync requests on clusters, which is sent to the member supporting batch sync.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigChangeClusterSyncBatchRequest extends AbstractConfigRequest {
+    
+    private List<ConfigChangeClusterSyncRequest> syncRequests = new ArrayList<>();
+    
+    /**
+     * Getter method for property <tt>syncRequests</tt>.
+     *
+     * @return property value of syncRequests
+     */
+    public List<ConfigChangeClusterSyncRequest> getSyncRequests() {
+        return syncRequests;
+    }
+    
+    /**
+     * Setter method for property <tt>syncRequests</tt>.
+     *
+     * @param syncRequests value to be assigned to property syncRequests
+     */
+    public void setSyncRequests(List<ConfigChangeClusterSyncRequest> syncRequests) {
+        this.syncRequests = syncRequests;
+    }
+}
@@ -38,6 +38,18 @@ public class ConfigChangeClusterSyncRequest extends AbstractConfigRequest {
     
     boolean isBeta;
     
+    /**
+     * Content of published formal config, the receiver dumps it directly instead of reading database. It is
+     * {@code null} if the content is not synced, such as removed or too large config.
+     */
+    String content;
+    
+    String md5;
+    
+    String type;
+    
+    String encryptedDataKey;
+    
     public boolean isBeta() {
         return isBeta;
     }
@@ -136,4 +148,76 @@ public class ConfigChangeClusterSyncRequest extends AbstractConfigRequest {
         this.lastModified = lastModified;
     }
     
+    /**
+     * Getter method for property <tt>content</tt>.
+     *
+     * @return property value of content
+     */
+    public String getContent() {
+        return content;
+    }
+    
+    /**
+     * Setter method for property <tt>content</tt>.
+     *
+     * @param content value to be assigned to property content
+     */
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    /**
+     * Getter method for property <tt>md5</tt>.
+     *
+     * @return property value of md5
+     */
+    public String getMd5() {
+        return md5;
+    }
+    
+    /**
+     * Setter method for property <tt>md5</tt>.
+     *
+     * @param md5 value to be assigned to property md5
+     */
+    public void setMd5(String md5) {
+        this.md5 = md5;
+    }
+    
+    /**
+     * Getter method for property <tt>type</tt>.
+     *
+     * @return property value of type
+     */
+    public String getType() {
+        return type;
+    }
+    
+    /**
+     * Setter method for property <tt>type</tt>.
+     *
+     * @param type value to be assigned to property type
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    /**
+     * Getter method for property <tt>encryptedDataKey</tt>.
+     *
+     * @return property value of encryptedDataKey
+     */
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    /**
+     * Setter method for property <tt>encryptedDataKey</tt>.
+     *
+     * @param encryptedDataKey value to be assigned to property encryptedDataKey
+     */
+    public void setEncryptedDataKey(String encryptedDataKey) {
+        this.encryptedDataKey = encryptedDataKey;
+    }
+    
 }
@@ -32,6 +32,8 @@ public class ClientNamingAbility implements Serializable {
     
     private boolean supportRemoteMetric;
     
+    private boolean supportBatchPush;
+    
     public boolean isSupportDeltaPush() {
         return supportDeltaPush;
     }
@@ -47,4 +49,12 @@ public class ClientNamingAbility implements Serializable {
     public void setSupportRemoteMetric(boolean supportRemoteMetric) {
         this.supportRemoteMetric = supportRemoteMetric;
     }
+    
+    public boolean isSupportBatchPush() {
+        return supportBatchPush;
+    }
+    
+    public void setSupportBatchPush(boolean supportBatchPush) {
+        this.supportBatchPush = supportBatchPush;
+    }
 }
@@ -16,9 +16,12 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 
+import java.util.List;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
@@ -36,6 +39,24 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * The revision of pushed service data in server, {@code 0} means server doesn't record the revision.
+     */
+    private long revision;
+    
+    /**
+     * Whether this request only carries the changed instances since {@link #baseRevision}. If {@code true}, the hosts
+     * of {@link #serviceInfo} is empty and client should apply {@link #updatedHosts} and {@link #removedHosts} to the
+     * service info of {@link #baseRevision}.
+     */
+    private boolean deltaPush;
+    
+    private long baseRevision;
+    
+    private List<Instance> updatedHosts;
+    
+    private List<Instance> removedHosts;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -52,6 +73,40 @@ public class NotifySubscriberRequest extends ServerRequest {
         return new NotifySubscriberRequest(serviceInfo);
     }
     
+    /**
+     * Build full push request with revision.
+     *
+     * @param serviceInfo service info with all hosts
+     * @param revision    revision of service info
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildNotifySubscriberRequest(ServiceInfo serviceInfo, long revision) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setRevision(revision);
+        return result;
+    }
+    
+    /**
+     * Build delta push request.
+     *
+     * @param serviceInfo  service info without hosts
+     * @param baseRevision revision which the delta based on
+     * @param revision     revision after apply the delta
+     * @param updatedHosts added or modified hosts since base revision
+     * @param removedHosts removed hosts since base revision
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildDeltaNotifySubscriberRequest(ServiceInfo serviceInfo,
+            long baseRevision, long revision, List<Instance> updatedHosts, List<Instance> removedHosts) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setDeltaPush(true);
+        result.setBaseRevision(baseRevision);
+        result.setRevision(revision);
+        result.setUpdatedHosts(updatedHosts);
+        result.setRemovedHosts(removedHosts);
+        return result;
+    }
+    
     public ServiceInfo getServiceInfo() {
         return serviceInfo;
     }
@@ -84,4 +139,44 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public boolean isDeltaPush() {
+        return deltaPush;
+    }
+    
+    public void setDeltaPush(boolean deltaPush) {
+        this.deltaPush = deltaPush;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public List<Instance> getUpdatedHosts() {
+        return updatedHosts;
+    }
+    
+    public void setUpdatedHosts(List<Instance> updatedHosts) {
+        this.updatedHosts = updatedHosts;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public void setRemovedHosts(List<Instance> removedHosts) {
+        this.removedHosts = removedHosts;
+    }
+    
 }
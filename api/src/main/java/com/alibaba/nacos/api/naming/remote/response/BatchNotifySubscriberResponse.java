@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.response;
+
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response for batch notify subscriber request.
+ *
+ * <p>The pushes in batch are applied separately by client, the indexes of pushes which can't be applied are returned
+ * in {@link #rejectedIndexes}, and only these pushes should be re-pushed by server.
+ *
+ * @author xiweng.yy
+ */
+public class BatchNotifySubscriberResponse extends Response {
+    
+    private List<Integer> rejectedIndexes = new ArrayList<>();
+    
+    public BatchNotifySubscriberResponse() {
+    }
+    
+    public BatchNotifySubscriberResponse(List<Integer> rejectedIndexes) {
+        this.rejectedIndexes = rejectedIndexes;
+    }
+    
+    public List<Integer> getRejectedIndexes() {
+        return rejectedIndexes;
+    }
+    
+    public void setRejectedIndexes(List<Integer> rejectedIndexes) {
+        this.rejectedIndexes = rejectedIndexes;
+    }
+}
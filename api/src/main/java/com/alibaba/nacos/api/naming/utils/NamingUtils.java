@@ -184,4 +184,16 @@ public class NamingUtils {
     public static boolean isNumber(String str) {
         return !StringUtils.isEmpty(str) && NUMBER_PATTERN.matcher(str).matches();
     }
+    
+    /**
+     * Build the unique key of instance in one service, used to match instances between different versions of service
+     * info.
+     *
+     * @param instance instance
+     * @return 'clusterName#ip#port'
+     */
+    public static String getInstanceKey(Instance instance) {
+        return instance.getClusterName() + Constants.NAMING_INSTANCE_ID_SPLITTER + instance.getIp()
+                + Constants.NAMING_INSTANCE_ID_SPLITTER + instance.getPort();
+    }
 }
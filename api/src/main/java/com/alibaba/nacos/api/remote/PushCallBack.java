@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.api.remote;
 
+import com.alibaba.nacos.api.remote.response.Response;
+
 /**
  * callback of push service.
  *
@@ -36,6 +38,15 @@ public interface PushCallBack {
      */
     void onSuccess();
     
+    /**
+     * invoked on success with the response of client, the response is ignored by default.
+     *
+     * @param response response of client.
+     */
+    default void onSuccess(Response response) {
+        onSuccess();
+    }
+    
     /**
      * invoked on fail.
      *
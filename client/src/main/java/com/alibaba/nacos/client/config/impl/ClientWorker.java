@@ -612,6 +612,7 @@ public class ClientWorker implements Closeable {
                     if (cacheData != null) {
                         synchronized (cacheData) {
                             cacheData.getLastModifiedTs().set(System.currentTimeMillis());
+                            applyPushedContent(cacheData, configChangeNotifyRequest);
                             cacheData.setSyncWithServer(false);
                             notifyListenConfig();
                         }
@@ -898,10 +899,40 @@ public class ClientWorker implements Closeable {
             
         }
         
+        /**
+         * Apply the content pushed with change notification to cache data, so that the changed config needn't be
+         * queried again. The cache data is still synced with server by next listen, which checks md5 only.
+         *
+         * @param cacheData     cache data of changed config
+         * @param notifyRequest change notification
+         */
+        private void applyPushedContent(CacheData cacheData, ConfigChangeNotifyRequest notifyRequest) {
+            String content = notifyRequest.getContent();
+            if (null == content || cacheData.isUseLocalConfigInfo() || !MD5Utils.md5Hex(content, ENCODE)
+                    .equals(notifyRequest.getMd5())) {
+                return;
+            }
+            String encryptedDataKey = notifyRequest.getEncryptedDataKey();
+            LocalConfigInfoProcessor.saveSnapshot(getName(), cacheData.dataId, cacheData.group, cacheData.tenant,
+                    content);
+            LocalEncryptedDataKeyProcessor.saveEncryptDataKeySnapshot(agent.getName(), cacheData.dataId,
+                    cacheData.group, cacheData.tenant, encryptedDataKey);
+            cacheData.setEncryptedDataKey(encryptedDataKey);
+            cacheData.setContent(content);
+            String configType = StringUtils.isNotBlank(notifyRequest.getContentType()) ? notifyRequest.getContentType()
+                    : ConfigType.TEXT.getType();
+            cacheData.setType(configType);
+            LOGGER.info("[{}] [data-received] pushed, dataId={}, group={}, tenant={}, md5={}, content={}, type={}",
+                    agent.getName(), cacheData.dataId, cacheData.group, cacheData.tenant, cacheData.getMd5(),
+                    ContentUtils.truncateContent(content), configType);
+            cacheData.checkListenerMd5();
+        }
+        
         private ClientAbilities initAbilities() {
             ClientAbilities clientAbilities = new ClientAbilities();
             clientAbilities.getRemoteAbility().setSupportRemoteConnection(true);
             clientAbilities.getConfigAbility().setSupportRemoteMetrics(true);
+            clientAbilities.getConfigAbility().setSupportContentPush(true);
             return clientAbilities;
         }
         
@@ -20,6 +20,8 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
@@ -32,8 +34,10 @@ import com.alibaba.nacos.common.utils.StringUtils;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -60,6 +64,11 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * The latest revision of service info pushed by server, used to apply delta push.
+     */
+    private final ConcurrentMap<String, Long> pushRevisionMap = new ConcurrentHashMap<>(16);
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
@@ -175,6 +184,104 @@ public class ServiceInfoHolder implements Closeable {
         return serviceInfo;
     }
     
+    /**
+     * Process service info pushed by server.
+     *
+     * <p>If the push is a delta push, the changed hosts will be applied to the current service info. If current service
+     * info is not the base revision of the delta push, {@code null} will be returned and server should re-push the
+     * full service info.
+     *
+     * @param request notify subscriber request
+     * @return service info after processed, or {@code null} if the delta push can't be applied
+     */
+    public synchronized ServiceInfo processPushServiceInfo(NotifySubscriberRequest request) {
+        ServiceInfo serviceInfo = resolvePushServiceInfo(request);
+        if (null == serviceInfo) {
+            return null;
+        }
+        return applyPushServiceInfo(request, serviceInfo);
+    }
+    
+    /**
+     * Process service infos of multiple services pushed by server in one batch.
+     *
+     * <p>The pushes in batch are applied separately. The delta push which can't be applied is rejected without
+     * affecting the other pushes in batch, then server should re-push the full service info of the rejected one.
+     *
+     * @param request batch notify subscriber request
+     * @return indexes of the rejected pushes in batch, empty if all pushes are applied
+     */
+    public synchronized List<Integer> processBatchPushServiceInfo(BatchNotifySubscriberRequest request) {
+        List<NotifySubscriberRequest> notifyRequests = request.getNotifyRequests();
+        if (null == notifyRequests || notifyRequests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < notifyRequests.size(); i++) {
+            NotifySubscriberRequest each = notifyRequests.get(i);
+            ServiceInfo serviceInfo = resolvePushServiceInfo(each);
+            if (null != serviceInfo) {
+                applyPushServiceInfo(each, serviceInfo);
+            } else if (each.isDeltaPush()) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    private ServiceInfo resolvePushServiceInfo(NotifySubscriberRequest request) {
+        ServiceInfo serviceInfo = request.getServiceInfo();
+        String serviceKey = serviceInfo.getKey();
+        if (serviceKey == null) {
+            return null;
+        }
+        if (!request.isDeltaPush()) {
+            return serviceInfo;
+        }
+        ServiceInfo result = applyDeltaPush(serviceKey, request);
+        if (null == result) {
+            NAMING_LOGGER.warn("delta push of {} based on revision {} can't be applied, current revision {}",
+                    serviceKey, request.getBaseRevision(), pushRevisionMap.get(serviceKey));
+            pushRevisionMap.remove(serviceKey);
+        }
+        return result;
+    }
+    
+    private ServiceInfo applyPushServiceInfo(NotifySubscriberRequest request, ServiceInfo serviceInfo) {
+        ServiceInfo result = processServiceInfo(serviceInfo);
+        if (result == serviceInfo && request.getRevision() > 0) {
+            pushRevisionMap.put(serviceInfo.getKey(), request.getRevision());
+        } else {
+            pushRevisionMap.remove(serviceInfo.getKey());
+        }
+        return result;
+    }
+    
+    private ServiceInfo applyDeltaPush(String serviceKey, NotifySubscriberRequest request) {
+        ServiceInfo oldService = serviceInfoMap.get(serviceKey);
+        Long currentRevision = pushRevisionMap.get(serviceKey);
+        if (null == oldService || null == currentRevision || currentRevision != request.getBaseRevision()) {
+            return null;
+        }
+        Map<String, Instance> hostMap = new LinkedHashMap<>(oldService.getHosts().size());
+        for (Instance each : oldService.getHosts()) {
+            hostMap.put(NamingUtils.getInstanceKey(each), each);
+        }
+        if (null != request.getRemovedHosts()) {
+            for (Instance each : request.getRemovedHosts()) {
+                hostMap.remove(NamingUtils.getInstanceKey(each));
+            }
+        }
+        if (null != request.getUpdatedHosts()) {
+            for (Instance each : request.getUpdatedHosts()) {
+                hostMap.put(NamingUtils.getInstanceKey(each), each);
+            }
+        }
+        ServiceInfo result = request.getServiceInfo();
+        result.setHosts(new ArrayList<>(hostMap.values()));
+        return result;
+    }
+    
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
         return null == serviceInfo.getHosts() || (pushEmptyProtection && !serviceInfo.validate());
     }
@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchNotifySubscriberResponse;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
@@ -40,9 +43,17 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            if (null == serviceInfoHolder.processPushServiceInfo(notifyRequest) && notifyRequest.isDeltaPush()) {
+                NotifySubscriberResponse response = new NotifySubscriberResponse();
+                response.setErrorInfo(NacosException.RESOURCE_NOT_FOUND, "Base revision of delta push not found");
+                return response;
+            }
             return new NotifySubscriberResponse();
         }
+        if (request instanceof BatchNotifySubscriberRequest) {
+            return new BatchNotifySubscriberResponse(
+                    serviceInfoHolder.processBatchPushServiceInfo((BatchNotifySubscriberRequest) request));
+        }
         return null;
     }
 }
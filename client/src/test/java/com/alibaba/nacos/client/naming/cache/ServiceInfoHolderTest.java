@@ -22,12 +22,16 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
@@ -73,6 +77,57 @@ public class ServiceInfoHolderTest {
         Assert.assertEquals(info2, actual2);
     }
     
+    @Test
+    public void testProcessDeltaPushServiceInfo() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        ServiceInfoHolder holder = new ServiceInfoHolder("aa", "scope-001", new Properties());
+        holder.processPushServiceInfo(NotifySubscriberRequest.buildNotifySubscriberRequest(info, 1L));
+        
+        Instance newInstance1 = createInstance("1.1.1.1", 1);
+        newInstance1.setWeight(2.0);
+        NotifySubscriberRequest deltaRequest = NotifySubscriberRequest
+                .buildDeltaNotifySubscriberRequest(new ServiceInfo("a@@b@@c"), 1L, 2L,
+                        Collections.singletonList(newInstance1),
+                        Collections.singletonList(createInstance("1.1.1.2", 2)));
+        ServiceInfo actual = holder.processPushServiceInfo(deltaRequest);
+        Assert.assertEquals(1, actual.getHosts().size());
+        Assert.assertEquals(2.0, actual.getHosts().get(0).getWeight(), 0.0);
+        
+        NotifySubscriberRequest outOfDateRequest = NotifySubscriberRequest
+                .buildDeltaNotifySubscriberRequest(new ServiceInfo("a@@b@@c"), 1L, 3L, Collections.emptyList(),
+                        Collections.emptyList());
+        Assert.assertNull(holder.processPushServiceInfo(outOfDateRequest));
+    }
+    
+    @Test
+    public void testProcessBatchPushServiceInfo() {
+        ServiceInfoHolder holder = new ServiceInfoHolder("aa", "scope-001", new Properties());
+        ServiceInfo info1 = new ServiceInfo("a@@b@@c");
+        info1.setHosts(new ArrayList<>(Collections.singletonList(createInstance("1.1.1.1", 1))));
+        ServiceInfo info2 = new ServiceInfo("a@@d@@c");
+        info2.setHosts(new ArrayList<>(Collections.singletonList(createInstance("1.1.1.2", 2))));
+        Assert.assertTrue(holder.processBatchPushServiceInfo(new BatchNotifySubscriberRequest(
+                Arrays.asList(NotifySubscriberRequest.buildNotifySubscriberRequest(info1, 1L),
+                        NotifySubscriberRequest.buildNotifySubscriberRequest(info2, 1L)))).isEmpty());
+        Assert.assertEquals(2, holder.getServiceInfoMap().size());
+        
+        // the delta push of a@@d@@c is based on an unknown revision, so only it is rejected.
+        NotifySubscriberRequest delta1 = NotifySubscriberRequest
+                .buildDeltaNotifySubscriberRequest(new ServiceInfo("a@@b@@c"), 1L, 2L,
+                        Collections.singletonList(createInstance("1.1.1.3", 3)), Collections.emptyList());
+        NotifySubscriberRequest delta2 = NotifySubscriberRequest
+                .buildDeltaNotifySubscriberRequest(new ServiceInfo("a@@d@@c"), 5L, 6L,
+                        Collections.singletonList(createInstance("1.1.1.4", 4)), Collections.emptyList());
+        Assert.assertEquals(Collections.singletonList(1),
+                holder.processBatchPushServiceInfo(new BatchNotifySubscriberRequest(Arrays.asList(delta1, delta2))));
+        Assert.assertEquals(2, holder.getServiceInfoMap().get("a@@b@@c").getHosts().size());
+        Assert.assertEquals(1, holder.getServiceInfoMap().get("a@@d@@c").getHosts().size());
+    }
+    
     private Instance createInstance(String ip, int port) {
         Instance instance = new Instance();
         instance.setIp(ip);
@@ -19,7 +19,9 @@
 package com.alibaba.nacos.client.naming.remote.gprc;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchNotifySubscriberResponse;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
@@ -27,9 +29,12 @@ import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class NamingPushRequestHandlerTest {
     
@@ -44,6 +49,36 @@ public class NamingPushRequestHandlerTest {
         Response response = handler.requestReply(req);
         //then
         Assert.assertTrue(response instanceof NotifySubscriberResponse);
-        verify(holder, times(1)).processServiceInfo(info);
+        verify(holder, times(1)).processPushServiceInfo((NotifySubscriberRequest) req);
+    }
+    
+    @Test
+    public void testRequestReplyWithUnappliedDeltaPush() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest
+                .buildDeltaNotifySubscriberRequest(info, 1L, 2L, Collections.emptyList(), Collections.emptyList());
+        Response response = handler.requestReply(req);
+        Assert.assertTrue(response instanceof NotifySubscriberResponse);
+        Assert.assertFalse(response.isSuccess());
+    }
+    
+    @Test
+    public void testRequestReplyBatchPush() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        BatchNotifySubscriberRequest req = new BatchNotifySubscriberRequest(Collections
+                .singletonList(NotifySubscriberRequest.buildNotifySubscriberRequest(new ServiceInfo("name", "c"))));
+        when(holder.processBatchPushServiceInfo(req)).thenReturn(Collections.emptyList());
+        Response response = handler.requestReply(req);
+        Assert.assertTrue(response instanceof BatchNotifySubscriberResponse);
+        Assert.assertTrue(response.isSuccess());
+        Assert.assertTrue(((BatchNotifySubscriberResponse) response).getRejectedIndexes().isEmpty());
+        when(holder.processBatchPushServiceInfo(req)).thenReturn(Collections.singletonList(0));
+        response = handler.requestReply(req);
+        Assert.assertTrue(response.isSuccess());
+        Assert.assertEquals(Collections.singletonList(0),
+                ((BatchNotifySubscriberResponse) response).getRejectedIndexes());
     }
-}
\ No newline at end of file
+}
@@ -43,6 +43,8 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    private static final int EMPTY_JSON_OBJECT_LENGTH = 2;
+    
     /**
      * convert request to payload.
      *
@@ -89,6 +91,31 @@ public class GrpcUtils {
         
     }
     
+    /**
+     * convert request to payload with encoded body, the request id will be prepended to the encoded body without
+     * encoding the request again.
+     *
+     * @param request     request.
+     * @param requestId   request id.
+     * @param encodedBody body encoded by {@link #encodeRequestBody(Request)}.
+     * @return payload.
+     */
+    public static Payload convert(Request request, String requestId, byte[] encodedBody) {
+        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+                .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
+        
+        ByteString body = UnsafeByteOperations.unsafeWrap(encodedBody);
+        if (null != requestId) {
+            ByteString requestIdField = ByteString
+                    .copyFromUtf8("{\"requestId\":" + JacksonUtils.toJson(requestId));
+            // encoded body is a json object started with '{', replace it with the request id field.
+            body = encodedBody.length <= EMPTY_JSON_OBJECT_LENGTH ? requestIdField.concat(ByteString.copyFromUtf8("}"))
+                    : requestIdField.concat(ByteString.copyFromUtf8(",")).concat(body.substring(1));
+        }
+        
+        return Payload.newBuilder().setBody(Any.newBuilder().setValue(body)).setMetadata(newMeta).build();
+    }
+    
     /**
      * convert response to payload.
      *
@@ -104,6 +131,23 @@ public class GrpcUtils {
                 .setMetadata(metaBuilder.build()).build();
     }
     
+    /**
+     * Encode request body without request id, the encoded body can be shared by multiple requests with different
+     * request id, see {@link #convert(Request, String, byte[])}.
+     *
+     * @param request request.
+     * @return encoded body without request id.
+     */
+    public static byte[] encodeRequestBody(Request request) {
+        String requestId = request.getRequestId();
+        request.setRequestId(null);
+        try {
+            return convertRequestToByte(request);
+        } finally {
+            request.setRequestId(requestId);
+        }
+    }
+    
     private static byte[] convertRequestToByte(Request request) {
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
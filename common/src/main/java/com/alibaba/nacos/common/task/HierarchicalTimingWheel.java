@@ -0,0 +1,207 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel.
+ *
+ * <p>The lowest wheel holds the keys which will expire in {@code tickMs * wheelSize} milliseconds, and the keys which
+ * expire later are kept in the overflow wheels whose tick is the interval of lower wheel. The overflow wheels are
+ * created only when needed and the keys in them are moved to lower wheel when the lower wheel turns a round. So the
+ * cost of advancing the clock is proportional to the number of expired keys instead of all scheduled keys.
+ *
+ * <p>This class is not thread safe, the caller should guard it by itself.
+ *
+ * @param <K> type of key
+ * @author xiweng.yy
+ */
+public class HierarchicalTimingWheel<K> {
+    
+    private final long tickMs;
+    
+    private final int wheelSize;
+    
+    private final long interval;
+    
+    /**
+     * Whether this wheel is the lowest wheel, the keys in lowest wheel expire when the clock passes their expiration,
+     * and the keys in overflow wheels are moved to lower wheel when the clock reaches their bucket.
+     */
+    private final boolean lowest;
+    
+    private final List<List<TimerEntry<K>>> buckets;
+    
+    private long currentTime;
+    
+    private HierarchicalTimingWheel<K> overflowWheel;
+    
+    private List<TimerEntry<K>> expiredEntries;
+    
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this(tickMs, wheelSize, startMs, true);
+    }
+    
+    private HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs, boolean lowest) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize of timing wheel should be positive");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.lowest = lowest;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTime = startMs - (startMs % tickMs);
+        this.expiredEntries = new ArrayList<>();
+    }
+    
+    /**
+     * Schedule key to expire at target time. If the target time is already passed, the key will be expired in next
+     * advancing.
+     *
+     * @param key          key
+     * @param expirationMs expiration time, unit millisecond
+     * @return entry of the scheduled key, which can be cancelled before expiration
+     */
+    public TimerEntry<K> schedule(K key, long expirationMs) {
+        TimerEntry<K> entry = new TimerEntry<>(key, expirationMs);
+        if (!add(entry)) {
+            expiredEntries.add(entry);
+        }
+        return entry;
+    }
+    
+    /**
+     * Advance the clock of wheel to target time, the expired keys will be passed to consumer with their expiration.
+     *
+     * <p>The clock moves by tick, so keys might expire at most one tick later than their expiration. Keys scheduled
+     * by consumer during advancing with passed time will be expired in next advancing.
+     *
+     * @param timeMs          target time, unit millisecond
+     * @param expiredConsumer consumer of expired keys and their expiration
+     */
+    public void advanceClock(long timeMs, BiConsumer<K, Long> expiredConsumer) {
+        List<TimerEntry<K>> expired = expiredEntries;
+        expiredEntries = new ArrayList<>();
+        for (TimerEntry<K> each : expired) {
+            if (!each.cancelled) {
+                expiredConsumer.accept(each.key, each.expirationMs);
+            }
+        }
+        tick(timeMs, entry -> expiredConsumer.accept(entry.key, entry.expirationMs));
+    }
+    
+    private void tick(long timeMs, Consumer<TimerEntry<K>> expiredConsumer) {
+        while (timeMs >= currentTime + tickMs) {
+            long previousTime = currentTime;
+            currentTime += tickMs;
+            if (lowest) {
+                flushBucket(previousTime, expiredConsumer);
+                cascade(expiredConsumer);
+            } else {
+                cascade(expiredConsumer);
+                flushBucket(currentTime, expiredConsumer);
+            }
+        }
+    }
+    
+    private void cascade(Consumer<TimerEntry<K>> expiredConsumer) {
+        if (null != overflowWheel && currentTime % interval == 0) {
+            overflowWheel.tick(currentTime, entry -> reinsert(entry, expiredConsumer));
+        }
+    }
+    
+    private void flushBucket(long bucketTime, Consumer<TimerEntry<K>> expiredConsumer) {
+        int index = (int) ((bucketTime / tickMs) % wheelSize);
+        List<TimerEntry<K>> bucket = buckets.get(index);
+        if (bucket.isEmpty()) {
+            return;
+        }
+        buckets.set(index, new ArrayList<>());
+        for (TimerEntry<K> each : bucket) {
+            reinsert(each, expiredConsumer);
+        }
+    }
+    
+    private void reinsert(TimerEntry<K> entry, Consumer<TimerEntry<K>> expiredConsumer) {
+        if (entry.cancelled) {
+            return;
+        }
+        if (!add(entry)) {
+            expiredConsumer.accept(entry);
+        }
+    }
+    
+    /**
+     * Add entry into this wheel or overflow wheels.
+     *
+     * @return {@code false} if the entry is expired for lowest wheel, or should be moved to lower wheel for overflow
+     *         wheel, otherwise {@code true}
+     */
+    private boolean add(TimerEntry<K> entry) {
+        if (entry.expirationMs < (lowest ? currentTime : currentTime + tickMs)) {
+            return false;
+        }
+        if (entry.expirationMs < currentTime + interval) {
+            buckets.get((int) ((entry.expirationMs / tickMs) % wheelSize)).add(entry);
+            return true;
+        }
+        if (null == overflowWheel) {
+            overflowWheel = new HierarchicalTimingWheel<>(interval, wheelSize, currentTime, false);
+        }
+        return overflowWheel.add(entry);
+    }
+    
+    /**
+     * Entry of scheduled key. The cancelled entry releases its key at once, and is dropped from wheel when its bucket
+     * is reached, so cancelling doesn't need to search the bucket.
+     *
+     * @param <K> type of key
+     */
+    public static class TimerEntry<K> {
+        
+        private K key;
+        
+        private final long expirationMs;
+        
+        private boolean cancelled;
+        
+        private TimerEntry(K key, long expirationMs) {
+            this.key = key;
+            this.expirationMs = expirationMs;
+        }
+        
+        /**
+         * Cancel the entry, the key will not be expired and is no longer referenced by wheel.
+         */
+        public void cancel() {
+            cancelled = true;
+            key = null;
+        }
+        
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -20,11 +20,14 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.common.executor.ExecutorFactory;
 import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.HierarchicalTimingWheel;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import org.slf4j.Logger;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -37,12 +40,24 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractDelayTask> {
     
+    private static final int TIMING_WHEEL_SIZE = 64;
+    
     private final ScheduledExecutorService processingExecutor;
     
     protected final ConcurrentHashMap<Object, AbstractDelayTask> tasks;
     
     protected final ReentrantLock lock = new ReentrantLock();
     
+    /**
+     * Timing wheel of task keys, only created when timing wheel enabled. Guarded by {@link #lock}.
+     */
+    private final HierarchicalTimingWheel<Object> timingWheel;
+    
+    /**
+     * The earliest time scheduled in timing wheel for each task key. Guarded by {@link #lock}.
+     */
+    private final Map<Object, Long> scheduledTimes;
+    
     public NacosDelayTaskExecuteEngine(String name) {
         this(name, null);
     }
@@ -55,13 +70,42 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
         this(name, 32, logger, processInterval);
     }
     
+    public NacosDelayTaskExecuteEngine(String name, Logger logger, long processInterval, boolean timingWheelEnabled) {
+        this(name, 32, logger, processInterval, timingWheelEnabled);
+    }
+    
     public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger) {
         this(name, initCapacity, logger, 100L);
     }
     
     public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval) {
+        this(name, initCapacity, logger, processInterval, false);
+    }
+    
+    /**
+     * Create delay task execute engine.
+     *
+     * <p>If {@code timingWheelEnabled} is {@code true}, the task keys will be scheduled in a hierarchical timing wheel
+     * by the time they should be processed, and each processing only handles the due tasks instead of scanning all
+     * tasks. It is suitable for the engine with a large amount of pending tasks.
+     *
+     * @param name               name of engine
+     * @param initCapacity       initial capacity of tasks
+     * @param logger             logger of engine
+     * @param processInterval    interval of processing tasks, also the tick of timing wheel, unit millisecond
+     * @param timingWheelEnabled whether schedule tasks by timing wheel
+     */
+    public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval,
+            boolean timingWheelEnabled) {
         super(logger);
         tasks = new ConcurrentHashMap<>(initCapacity);
+        if (timingWheelEnabled) {
+            timingWheel = new HierarchicalTimingWheel<>(processInterval, TIMING_WHEEL_SIZE, System.currentTimeMillis());
+            scheduledTimes = new HashMap<>(initCapacity);
+        } else {
+            timingWheel = null;
+            scheduledTimes = null;
+        }
         processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
         processingExecutor
                 .scheduleWithFixedDelay(new ProcessRunnable(), processInterval, processInterval, TimeUnit.MILLISECONDS);
@@ -116,7 +160,15 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     
     @Override
     public void shutdown() throws NacosException {
-        tasks.clear();
+        lock.lock();
+        try {
+            tasks.clear();
+            if (null != scheduledTimes) {
+                scheduledTimes.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
         processingExecutor.shutdown();
     }
     
@@ -129,16 +181,65 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
                 newTask.merge(existTask);
             }
             tasks.put(key, newTask);
+            scheduleTask(key, newTask);
         } finally {
             lock.unlock();
         }
     }
     
+    /**
+     * Schedule task key into timing wheel if the task should be processed earlier than scheduled. Must be called with
+     * {@link #lock}.
+     */
+    private void scheduleTask(Object key, AbstractDelayTask task) {
+        if (null == timingWheel) {
+            return;
+        }
+        long processTime = task.getLastProcessTime() + task.getTaskInterval();
+        Long scheduledTime = scheduledTimes.get(key);
+        if (null == scheduledTime || processTime < scheduledTime) {
+            scheduledTimes.put(key, processTime);
+            timingWheel.schedule(key, processTime);
+        }
+    }
+    
+    /**
+     * Get the keys of tasks which should be processed now from timing wheel.
+     *
+     * @return keys of due tasks
+     */
+    private Collection<Object> getDueTaskKeys() {
+        Collection<Object> keys = new HashSet<>();
+        lock.lock();
+        try {
+            timingWheel.advanceClock(System.currentTimeMillis(), (key, expiration) -> {
+                // Stale entry, the task has been rescheduled to an earlier time or has been processed.
+                if (!expiration.equals(scheduledTimes.get(key))) {
+                    return;
+                }
+                scheduledTimes.remove(key);
+                AbstractDelayTask task = tasks.get(key);
+                if (null == task) {
+                    return;
+                }
+                if (task.shouldProcess()) {
+                    keys.add(key);
+                } else {
+                    // The task has been replaced by a later one, schedule again by the new task.
+                    scheduleTask(key, task);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+        return keys;
+    }
+    
     /**
      * process tasks in execute engine.
      */
     protected void processTasks() {
-        Collection<Object> keys = getAllTaskKeys();
+        Collection<Object> keys = null == timingWheel ? getAllTaskKeys() : getDueTaskKeys();
         for (Object taskKey : keys) {
             AbstractDelayTask task = removeTask(taskKey);
             if (null == task) {
@@ -0,0 +1,57 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.remote.request.ConnectResetRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class GrpcUtilsTest {
+    
+    @Test
+    public void testConvertWithEncodedBody() {
+        ConnectResetRequest request = new ConnectResetRequest();
+        request.setRequestId("origin");
+        request.setServerIp("1.1.1.1");
+        request.setServerPort("8848");
+        byte[] encodedBody = GrpcUtils.encodeRequestBody(request);
+        assertEquals("origin", request.getRequestId());
+        
+        Payload payload = GrpcUtils.convert(request, "100", encodedBody);
+        assertEquals(ConnectResetRequest.class.getSimpleName(), payload.getMetadata().getType());
+        ConnectResetRequest actual = JacksonUtils
+                .toObj(payload.getBody().getValue().toByteArray(), ConnectResetRequest.class);
+        assertEquals("100", actual.getRequestId());
+        assertEquals("1.1.1.1", actual.getServerIp());
+        assertEquals("8848", actual.getServerPort());
+    }
+    
+    @Test
+    public void testConvertWithEncodedBodyWithoutRequestId() {
+        ConnectResetRequest request = new ConnectResetRequest();
+        request.setServerIp("1.1.1.1");
+        Payload payload = GrpcUtils.convert(request, null, GrpcUtils.encodeRequestBody(request));
+        ConnectResetRequest actual = JacksonUtils
+                .toObj(payload.getBody().getValue().toByteArray(), ConnectResetRequest.class);
+        assertNull(actual.getRequestId());
+        assertEquals("1.1.1.1", actual.getServerIp());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HierarchicalTimingWheelTest {
+    
+    private HierarchicalTimingWheel<String> timingWheel;
+    
+    private List<String> expiredKeys;
+    
+    @Before
+    public void setUp() {
+        timingWheel = new HierarchicalTimingWheel<>(10L, 4, 1000L);
+        expiredKeys = new ArrayList<>();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalTick() {
+        new HierarchicalTimingWheel<String>(0L, 4, 1000L);
+    }
+    
+    @Test
+    public void testExpirePassedKey() {
+        timingWheel.schedule("passed", 900L);
+        advanceClock(1000L);
+        assertEquals(Collections.singletonList("passed"), expiredKeys);
+    }
+    
+    @Test
+    public void testExpireKeyInLowestWheel() {
+        timingWheel.schedule("a", 1015L);
+        advanceClock(1015L);
+        assertTrue(expiredKeys.isEmpty());
+        advanceClock(1020L);
+        assertEquals(Collections.singletonList("a"), expiredKeys);
+    }
+    
+    @Test
+    public void testExpireKeyInOverflowWheel() {
+        timingWheel.schedule("b", 1045L);
+        timingWheel.schedule("c", 1175L);
+        timingWheel.schedule("d", 1700L);
+        advanceClock(1040L);
+        assertTrue(expiredKeys.isEmpty());
+        advanceClock(1050L);
+        assertEquals(Collections.singletonList("b"), expiredKeys);
+        advanceClock(1170L);
+        assertEquals(Collections.singletonList("b"), expiredKeys);
+        advanceClock(1180L);
+        assertEquals(Arrays.asList("b", "c"), expiredKeys);
+        advanceClock(1700L);
+        assertEquals(Arrays.asList("b", "c"), expiredKeys);
+        advanceClock(1710L);
+        assertEquals(Arrays.asList("b", "c", "d"), expiredKeys);
+    }
+    
+    @Test
+    public void testRescheduleWhenAdvancing() {
+        timingWheel.schedule("e", 1005L);
+        timingWheel.advanceClock(1010L, (key, expiration) -> {
+            expiredKeys.add(key);
+            timingWheel.schedule(key, expiration);
+        });
+        assertEquals(Collections.singletonList("e"), expiredKeys);
+        advanceClock(1010L);
+        assertEquals(Arrays.asList("e", "e"), expiredKeys);
+    }
+    
+    @Test
+    public void testCancel() {
+        timingWheel.schedule("h", 1175L);
+        HierarchicalTimingWheel.TimerEntry<String> passed = timingWheel.schedule("passed", 900L);
+        HierarchicalTimingWheel.TimerEntry<String> lowest = timingWheel.schedule("f", 1015L);
+        HierarchicalTimingWheel.TimerEntry<String> overflow = timingWheel.schedule("g", 1175L);
+        passed.cancel();
+        lowest.cancel();
+        overflow.cancel();
+        assertTrue(overflow.isCancelled());
+        advanceClock(1180L);
+        assertEquals(Collections.singletonList("h"), expiredKeys);
+    }
+    
+    private void advanceClock(long timeMs) {
+        timingWheel.advanceClock(timeMs, (key, expiration) -> expiredKeys.add(key));
+    }
+}
@@ -110,4 +110,39 @@ public class NacosDelayTaskExecuteEngineTest {
         TimeUnit.MILLISECONDS.sleep(300);
         verify(taskProcessor, new Times(2)).process(abstractTask);
     }
+    
+    @Test
+    public void testProcessTaskByTimingWheel() throws Exception {
+        NacosDelayTaskExecuteEngine timingWheelEngine = new NacosDelayTaskExecuteEngine(
+                NacosDelayTaskExecuteEngineTest.class.getName(), null, 100L, true);
+        try {
+            timingWheelEngine.setDefaultTaskProcessor(taskProcessor);
+            when(taskProcessor.process(abstractTask)).thenReturn(false, true);
+            timingWheelEngine.addTask("test", abstractTask);
+            TimeUnit.MILLISECONDS.sleep(600);
+            verify(taskProcessor, new Times(2)).process(abstractTask);
+            assertTrue(timingWheelEngine.isEmpty());
+        } finally {
+            timingWheelEngine.shutdown();
+        }
+    }
+    
+    @Test
+    public void testProcessDelayedTaskByTimingWheel() throws Exception {
+        NacosDelayTaskExecuteEngine timingWheelEngine = new NacosDelayTaskExecuteEngine(
+                NacosDelayTaskExecuteEngineTest.class.getName(), null, 100L, true);
+        try {
+            timingWheelEngine.setDefaultTaskProcessor(taskProcessor);
+            when(taskProcessor.process(abstractTask)).thenReturn(true);
+            abstractTask.setTaskInterval(500L);
+            abstractTask.setLastProcessTime(System.currentTimeMillis());
+            timingWheelEngine.addTask("test", abstractTask);
+            TimeUnit.MILLISECONDS.sleep(200);
+            verify(taskProcessor, never()).process(abstractTask);
+            TimeUnit.MILLISECONDS.sleep(600);
+            verify(taskProcessor).process(abstractTask);
+        } finally {
+            timingWheelEngine.shutdown();
+        }
+    }
 }
@@ -18,10 +18,11 @@ package com.alibaba.nacos.config.server.aspect;
 
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.constant.CounterMode;
-import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.capacity.Capacity;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.capacity.CapacityService;
-import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -39,6 +40,9 @@ import static com.alibaba.nacos.config.server.constant.Constants.LIMIT_ERROR_COD
 /**
  * Capacity management aspect: batch write and update but don't process it.
  *
+ * <p>The usage is counted and the quota is checked by {@link CapacityService} in memory, so that the publishing and
+ * deleting of configs do not wait for the round-trips of database.
+ *
  * @author hexu.hxy
  * @date 2018/3/13
  */
@@ -58,9 +62,6 @@ public class CapacityManagementAspect {
     @Autowired
     private CapacityService capacityService;
     
-    @Autowired
-    private PersistService persistService;
-    
     /**
      * Need to judge the size of content whether to exceed the limitation.
      */
@@ -76,7 +77,7 @@ public class CapacityManagementAspect {
         if (StringUtils.isBlank(betaIps)) {
             if (StringUtils.isBlank(tag)) {
                 // do capacity management limitation check for writing or updating config_info table.
-                if (persistService.findConfigInfo(dataId, group, tenant) == null) {
+                if (!isConfigExist(dataId, group, tenant)) {
                     // Write operation.
                     return do4Insert(pjp, request, response, group, tenant, content);
                 }
@@ -99,7 +100,7 @@ public class CapacityManagementAspect {
         }
         try {
             boolean hasTenant = hasTenant(tenant);
-            Capacity capacity = getCapacity(group, tenant, hasTenant);
+            Capacity capacity = capacityService.getCapacityInMemory(group, tenant);
             if (isSizeLimited(group, tenant, getCurrentSize(content), hasTenant, false, capacity)) {
                 return response4Limit(request, response, LimitType.OVER_MAX_SIZE);
             }
@@ -142,6 +143,15 @@ public class CapacityManagementAspect {
         return StringUtils.isNotBlank(tenant);
     }
     
+    /**
+     * Judge whether the config exists by the cache in memory instead of querying database. The usage miscounted for
+     * the config which is not dumped into cache yet, is fixed by correcting usage periodically.
+     */
+    private boolean isConfigExist(String dataId, String group, String tenant) {
+        CacheItem cacheItem = ConfigCacheService.getContentCache(GroupKey2.getKey(dataId, group, tenant));
+        return cacheItem != null && StringUtils.isNotBlank(cacheItem.getMd5());
+    }
+    
     /**
      * The usage of capacity table for counting module will subtracte one whether open the limitation check of capacity
      * management.
@@ -153,11 +163,10 @@ public class CapacityManagementAspect {
             return pjp.proceed();
         }
         LOGGER.info("[capacityManagement] aroundDeleteConfig");
-        ConfigInfo configInfo = persistService.findConfigInfo(dataId, group, tenant);
-        if (configInfo == null) {
+        if (!isConfigExist(dataId, group, tenant)) {
             return pjp.proceed();
         }
-        return do4Delete(pjp, response, group, tenant, configInfo);
+        return do4Delete(pjp, response, group, tenant);
     }
     
     /**
@@ -165,24 +174,9 @@ public class CapacityManagementAspect {
      *
      * @throws Throwable Exception.
      */
-    private Object do4Delete(ProceedingJoinPoint pjp, HttpServletResponse response, String group, String tenant,
-            ConfigInfo configInfo) throws Throwable {
+    private Object do4Delete(ProceedingJoinPoint pjp, HttpServletResponse response, String group, String tenant)
+            throws Throwable {
         boolean hasTenant = hasTenant(tenant);
-        if (configInfo == null) {
-            // "configInfo == null", has two possible points.
-            // 1. Concurrently deletion.
-            // 2. First, new sub configurations are added, and then all sub configurations are deleted.
-            // At this time, the task (asynchronous) written to configinfo has not been executed.
-            //
-            // About 2 point, then it will execute to merge to write config_info's task orderly, and delete config_info's task.
-            // Active modification of usage, when it happens to be in the above "merging to write config_info's task".
-            // Modify usage when the task of info is finished, and usage = 1.
-            // The following "delete config_info" task will not be executed with usage-1, because the request has already returned.
-            // Therefore, it is necessary to modify the usage job regularly.
-            correctUsage(group, tenant, hasTenant);
-            return pjp.proceed();
-        }
-        
         // The same record can be deleted concurrently. This interface can be deleted asynchronously(submit MergeDataTask
         // to MergeTaskProcessor for processing), It may lead to more than one decrease in usage.
         // Therefore, it is necessary to modify the usage job regularly.
@@ -191,20 +185,6 @@ public class CapacityManagementAspect {
         return getResult(pjp, response, group, tenant, counterMode, hasTenant);
     }
     
-    private void correctUsage(String group, String tenant, boolean hasTenant) {
-        try {
-            if (hasTenant) {
-                LOGGER.info("[capacityManagement] correct usage, tenant: {}", tenant);
-                capacityService.correctTenantUsage(tenant);
-            } else {
-                LOGGER.info("[capacityManagement] correct usage, group: {}", group);
-                capacityService.correctGroupUsage(group);
-            }
-        } catch (Exception e) {
-            LOGGER.error("[capacityManagement] correctUsage ", e);
-        }
-    }
-    
     private Object getResult(ProceedingJoinPoint pjp, HttpServletResponse response, String group, String tenant,
             CounterMode counterMode, boolean hasTenant) throws Throwable {
         try {
@@ -226,12 +206,8 @@ public class CapacityManagementAspect {
      */
     private void insertOrUpdateUsage(String group, String tenant, CounterMode counterMode, boolean hasTenant) {
         try {
-            capacityService.insertAndUpdateClusterUsage(counterMode, true);
-            if (hasTenant) {
-                capacityService.insertAndUpdateTenantUsage(counterMode, tenant, true);
-            } else {
-                capacityService.insertAndUpdateGroupUsage(counterMode, group, true);
-            }
+            capacityService.updateClusterUsageInMemory(counterMode, true);
+            capacityService.updateUsageInMemory(counterMode, group, tenant, true);
         } catch (Exception e) {
             LOGGER.error("[capacityManagement] insertOrUpdateUsage ", e);
         }
@@ -240,7 +216,7 @@ public class CapacityManagementAspect {
     private LimitType getLimitType(CounterMode counterMode, String group, String tenant, String content,
             boolean hasTenant) {
         try {
-            boolean clusterLimited = !capacityService.insertAndUpdateClusterUsage(counterMode, false);
+            boolean clusterLimited = !capacityService.updateClusterUsageInMemory(counterMode, false);
             if (clusterLimited) {
                 LOGGER.warn("[capacityManagement] cluster capacity reaches quota.");
                 return LimitType.OVER_CLUSTER_QUOTA;
@@ -277,13 +253,10 @@ public class CapacityManagementAspect {
         if (group == null) {
             return null;
         }
-        Capacity capacity = getCapacity(group, tenant, hasTenant);
+        Capacity capacity = capacityService.getCapacityInMemory(group, tenant);
         if (isSizeLimited(group, tenant, currentSize, hasTenant, false, capacity)) {
             return LimitType.OVER_MAX_SIZE;
         }
-        if (capacity == null) {
-            insertCapacity(group, tenant, hasTenant);
-        }
         boolean updateSuccess = isUpdateSuccess(counterMode, group, tenant, hasTenant);
         if (updateSuccess) {
             return null;
@@ -295,14 +268,12 @@ public class CapacityManagementAspect {
     }
     
     private boolean isUpdateSuccess(CounterMode counterMode, String group, String tenant, boolean hasTenant) {
-        boolean updateSuccess;
+        boolean updateSuccess = capacityService.updateUsageInMemory(counterMode, group, tenant, false);
         if (hasTenant) {
-            updateSuccess = capacityService.updateTenantUsage(counterMode, tenant);
             if (!updateSuccess) {
                 LOGGER.warn("[capacityManagement] tenant capacity reaches quota, tenant: {}", tenant);
             }
         } else {
-            updateSuccess = capacityService.updateGroupUsage(counterMode, group);
             if (!updateSuccess) {
                 LOGGER.warn("[capacityManagement] group capacity reaches quota, group: {}", group);
             }
@@ -310,24 +281,6 @@ public class CapacityManagementAspect {
         return updateSuccess;
     }
     
-    private void insertCapacity(String group, String tenant, boolean hasTenant) {
-        if (hasTenant) {
-            capacityService.initTenantCapacity(tenant);
-        } else {
-            capacityService.initGroupCapacity(group);
-        }
-    }
-    
-    private Capacity getCapacity(String group, String tenant, boolean hasTenant) {
-        Capacity capacity;
-        if (hasTenant) {
-            capacity = capacityService.getTenantCapacity(tenant);
-        } else {
-            capacity = capacityService.getGroupCapacity(group);
-        }
-        return capacity;
-    }
-    
     private boolean isSizeLimited(String group, String tenant, int currentSize, boolean hasTenant, boolean isAggr,
             Capacity capacity) {
         int defaultMaxSize = getDefaultMaxSize(isAggr);
@@ -400,11 +353,7 @@ public class CapacityManagementAspect {
     private void rollback(CounterMode counterMode, String group, String tenant, boolean hasTenant) {
         try {
             rollbackClusterUsage(counterMode);
-            if (hasTenant) {
-                capacityService.updateTenantUsage(counterMode.reverse(), tenant);
-            } else {
-                capacityService.updateGroupUsage(counterMode.reverse(), group);
-            }
+            capacityService.updateUsageInMemory(counterMode.reverse(), group, tenant, false);
         } catch (Exception e) {
             LOGGER.error("[capacityManagement] rollback ", e);
         }
@@ -412,7 +361,7 @@ public class CapacityManagementAspect {
     
     private void rollbackClusterUsage(CounterMode counterMode) {
         try {
-            if (!capacityService.updateClusterUsage(counterMode.reverse())) {
+            if (!capacityService.updateClusterUsageInMemory(counterMode.reverse(), false)) {
                 LOGGER.error("[capacityManagement] cluster usage rollback fail counterMode: {}", counterMode);
             }
         } catch (Exception e) {
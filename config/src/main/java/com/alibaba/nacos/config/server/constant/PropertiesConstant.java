@@ -59,4 +59,36 @@ public class PropertiesConstant {
     
     public static final String EMBEDDED_STORAGE = "embeddedStorage";
     
+    public static final String DUMP_TASK_TIMING_WHEEL_ENABLED = "dumpTaskTimingWheelEnabled";
+    
+    public static final String DUMP_INCREMENTAL_ENABLED = "dumpIncrementalEnabled";
+    
+    public static final String DUMP_FULL_SCAN_INTERVAL = "dumpFullScanInterval";
+    
+    public static final String DUMP_ALL_READER_COUNT = "dumpAllReaderCount";
+    
+    public static final String DUMP_ALL_WRITER_COUNT = "dumpAllWriterCount";
+    
+    public static final String CONTENT_CACHE_MAX_SIZE = "contentCacheMaxSize";
+    
+    public static final String CONTENT_PUSH_MAX_SIZE = "contentPushMaxSize";
+    
+    public static final String CLUSTER_SYNC_CONTENT_MAX_SIZE = "clusterSyncContentMaxSize";
+    
+    public static final String CLUSTER_SYNC_BATCH_WINDOW = "clusterSyncBatchWindow";
+    
+    public static final String FUZZY_SEARCH_INDEX_ENABLED = "fuzzySearchIndexEnabled";
+    
+    public static final String CAPACITY_USAGE_FLUSH_INTERVAL = "capacityUsageFlushInterval";
+    
+    public static final String CONFIG_HISTORY_ASYNC_WRITE_ENABLED = "configHistoryAsyncWriteEnabled";
+    
+    public static final String CONFIG_HISTORY_BUFFER_SIZE = "configHistoryBufferSize";
+    
+    public static final String CONFIG_HISTORY_RETENTION_BUCKET_MINUTES = "configHistoryRetentionBucketMinutes";
+    
+    public static final String EMBEDDED_STORAGE_GROUP_COMMIT_WINDOW = "embeddedStorageGroupCommitWindow";
+    
+    public static final String EMBEDDED_STORAGE_GROUP_COMMIT_MAX_SIZE = "embeddedStorageGroupCommitMaxSize";
+    
 }
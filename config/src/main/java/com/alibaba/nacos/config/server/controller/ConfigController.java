@@ -45,6 +45,7 @@ import com.alibaba.nacos.config.server.service.ConfigChangePublisher;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
 import com.alibaba.nacos.config.server.service.ConfigSubService;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.service.search.ConfigSearchService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.config.server.utils.MD5Util;
@@ -113,12 +114,15 @@ public class ConfigController {
     
     private final ConfigSubService configSubService;
     
+    private final ConfigSearchService configSearchService;
+    
     public ConfigController(ConfigServletInner inner, PersistService persistService, ConfigOperationService configOperationService,
-            ConfigSubService configSubService) {
+            ConfigSubService configSubService, ConfigSearchService configSearchService) {
         this.inner = inner;
         this.persistService = persistService;
         this.configOperationService = configOperationService;
         this.configSubService = configSubService;
+        this.configSearchService = configSearchService;
     }
     
     /**
@@ -398,6 +402,12 @@ public class ConfigController {
             configAdvanceInfo.put("config_tags", configTags);
         }
         try {
+            if (StringUtils.isBlank(configTags)) {
+                Page<ConfigInfo> page = configSearchService.search(pageNo, pageSize, dataId, group, tenant, appName);
+                if (null != page) {
+                    return page;
+                }
+            }
             return persistService.findConfigInfoLike4Page(pageNo, pageSize, dataId, group, tenant, configAdvanceInfo);
         } catch (Exception e) {
             String errorMsg = "serialize page error, dataId=" + dataId + ", group=" + group;
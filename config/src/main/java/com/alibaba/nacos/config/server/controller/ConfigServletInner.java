@@ -46,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
@@ -53,6 +54,9 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
@@ -71,6 +75,11 @@ public class ConfigServletInner {
     
     private static final int START_LONG_POLLING_VERSION_NUM = 204;
     
+    /**
+     * The dumped file not smaller than this size is transferred to response directly, unit for bytes.
+     */
+    private static final long TRANSFER_CONTENT_MIN_SIZE = 64 * 1024L;
+    
     private static final Logger LOGGER = LoggerFactory.getLogger(ConfigServletInner.class);
     
     private final LongPollingService longPollingService;
@@ -181,6 +190,8 @@ public class ConfigServletInner {
                 File file = null;
                 ConfigInfoBase configInfoBase = null;
                 PrintWriter out;
+                String contentTag = null;
+                String cachedContent = null;
                 if (isBeta) {
                     md5 = cacheItem.getMd54Beta();
                     lastModified = cacheItem.getLastModifiedTs4Beta();
@@ -188,6 +199,7 @@ public class ConfigServletInner {
                         configInfoBase = persistService.findConfigInfo4Beta(dataId, group, tenant);
                     } else {
                         file = DiskUtil.targetBetaFile(dataId, group, tenant);
+                        cachedContent = ConfigCacheService.getCachedContent(groupKey, true, null, md5);
                     }
                     response.setHeader("isBeta", "true");
                 } else {
@@ -199,10 +211,12 @@ public class ConfigServletInner {
                             if (cacheItem.tagLastModifiedTs != null) {
                                 lastModified = cacheItem.tagLastModifiedTs.get(autoTag);
                             }
+                            contentTag = autoTag;
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = persistService.findConfigInfo4Tag(dataId, group, tenant, autoTag);
                             } else {
                                 file = DiskUtil.targetTagFile(dataId, group, tenant, autoTag);
+                                cachedContent = ConfigCacheService.getCachedContent(groupKey, false, autoTag, md5);
                             }
                             
                             response.setHeader(com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG,
@@ -214,8 +228,9 @@ public class ConfigServletInner {
                                 configInfoBase = persistService.findConfigInfo(dataId, group, tenant);
                             } else {
                                 file = DiskUtil.targetFile(dataId, group, tenant);
+                                cachedContent = ConfigCacheService.getCachedContent(groupKey, false, null, md5);
                             }
-                            if (configInfoBase == null && fileNotExist(file)) {
+                            if (configInfoBase == null && cachedContent == null && fileNotExist(file)) {
                                 // FIXME CacheItem
                                 // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                                 ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -239,12 +254,14 @@ public class ConfigServletInner {
                                 lastModified = lm;
                             }
                         }
+                        contentTag = tag;
                         if (PropertyUtil.isDirectRead()) {
                             configInfoBase = persistService.findConfigInfo4Tag(dataId, group, tenant, tag);
                         } else {
                             file = DiskUtil.targetTagFile(dataId, group, tenant, tag);
+                            cachedContent = ConfigCacheService.getCachedContent(groupKey, false, tag, md5);
                         }
-                        if (configInfoBase == null && fileNotExist(file)) {
+                        if (configInfoBase == null && cachedContent == null && fileNotExist(file)) {
                             // FIXME CacheItem
                             // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                             ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -265,7 +282,7 @@ public class ConfigServletInner {
                 response.setHeader("Pragma", "no-cache");
                 response.setDateHeader("Expires", 0);
                 response.setHeader("Cache-Control", "no-cache,no-store");
-                if (PropertyUtil.isDirectRead()) {
+                if (PropertyUtil.isDirectRead() || null != cachedContent) {
                     response.setDateHeader("Last-Modified", lastModified);
                 } else {
                     fis = new FileInputStream(file);
@@ -283,8 +300,15 @@ public class ConfigServletInner {
                     }
                     out.flush();
                     out.close();
+                } else if (null == cachedContent && !isV2 && !isBeta && null == contentTag
+                        && isTransferable(cacheItem, fis)) {
+                    transferFile(fis, response);
                 } else {
-                    String fileContent = IoUtils.toString(fis, StandardCharsets.UTF_8.name());
+                    String fileContent = cachedContent;
+                    if (null == fileContent) {
+                        fileContent = IoUtils.toString(fis, StandardCharsets.UTF_8.name());
+                        ConfigCacheService.cacheContent(groupKey, isBeta, contentTag, md5, fileContent);
+                    }
                     String encryptedDataKey = cacheItem.getEncryptedDataKey();
                     Pair<String, String> pair = EncryptionHandler.decryptHandler(dataId, encryptedDataKey, fileContent);
                     String decryptContent = pair.getSecond();
@@ -405,6 +429,41 @@ public class ConfigServletInner {
         return false;
     }
     
+    /**
+     * Whether the dumped formal file can be transferred to response directly. Only large plain content will be
+     * transferred, the small one is read as string and cached in memory. The content is encrypted only when an
+     * encrypted data key is dumped with it, so the content without encrypted data key needs no decryption.
+     *
+     * @param cacheItem cache item of config
+     * @param fis       input stream of dumped formal file
+     * @return {@code true} if the file can be transferred directly
+     * @throws IOException if the size of file can't be read
+     */
+    private static boolean isTransferable(CacheItem cacheItem, FileInputStream fis) throws IOException {
+        return StringUtils.isBlank(cacheItem.getEncryptedDataKey())
+                && fis.getChannel().size() >= TRANSFER_CONTENT_MIN_SIZE;
+    }
+    
+    /**
+     * Transfer the dumped file to response by file channel, without decoding it to string and encoding it back.
+     *
+     * @param fis      input stream of dumped file
+     * @param response http servlet response
+     * @throws IOException if transfer failed
+     */
+    private static void transferFile(FileInputStream fis, HttpServletResponse response) throws IOException {
+        FileChannel fileChannel = fis.getChannel();
+        long size = fileChannel.size();
+        response.setContentLengthLong(size);
+        ServletOutputStream outputStream = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        long position = 0L;
+        while (position < size) {
+            position += fileChannel.transferTo(position, size - position, target);
+        }
+        outputStream.flush();
+    }
+    
     private static boolean fileNotExist(File file) {
         return file == null || !file.exists();
     }
@@ -27,9 +27,12 @@ import com.alibaba.nacos.common.utils.Pair;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.controller.ConfigServletInner;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
+import com.alibaba.nacos.config.server.model.ContinuationPage;
 import com.alibaba.nacos.config.server.model.form.ConfigForm;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
+import com.alibaba.nacos.config.server.utils.ContinuationTokenUtil;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.config.server.utils.RequestUtil;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
@@ -93,6 +96,32 @@ public class ConfigControllerV2 {
         inner.doGetConfig(request, response, dataId, group, namespaceId, tag, isNotify, clientIp, true);
     }
     
+    /**
+     * Query configs by keyset pagination in the order of id, which keeps the cost of deep pages same as the first page.
+     * The {@code search} is {@code accurate} for exact dataId and group, or {@code blur} for patterns.
+     *
+     * @throws NacosApiException NacosApiException.
+     */
+    @GetMapping("/scroll")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    public Result<ContinuationPage<ConfigInfo>> scrollConfig(
+            @RequestParam(value = "dataId", required = false, defaultValue = StringUtils.EMPTY) String dataId,
+            @RequestParam(value = "group", required = false, defaultValue = StringUtils.EMPTY) String group,
+            @RequestParam(value = "namespaceId", required = false, defaultValue = StringUtils.EMPTY) String namespaceId,
+            @RequestParam(value = "appName", required = false) String appName,
+            @RequestParam(value = "search", required = false, defaultValue = "accurate") String search,
+            @RequestParam(value = "continuationToken", required = false) String continuationToken,
+            @RequestParam(value = "pageSize", required = false, defaultValue = "100") Integer pageSize)
+            throws NacosApiException {
+        // check namespaceId
+        ParamUtils.checkTenantV2(namespaceId);
+        namespaceId = NamespaceUtil.processNamespaceParameter(namespaceId);
+        long lastId = ContinuationTokenUtil.decode(continuationToken, 0L);
+        pageSize = Math.max(1, Math.min(500, pageSize));
+        return Result.success(configOperationService
+                .scrollConfigInfo(dataId, group, namespaceId, appName, "blur".equals(search), lastId, pageSize));
+    }
+    
     /**
      * Adds or updates non-aggregated data.
      *
@@ -26,8 +26,10 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.ConfigHistoryInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.ContinuationPage;
 import com.alibaba.nacos.config.server.model.Page;
 import com.alibaba.nacos.config.server.service.HistoryService;
+import com.alibaba.nacos.config.server.utils.ContinuationTokenUtil;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
 import com.alibaba.nacos.plugin.auth.constant.SignType;
@@ -81,6 +83,31 @@ public class HistoryControllerV2 {
         return Result.success(historyService.listConfigHistory(dataId, group, namespaceId, pageNo, pageSize));
     }
     
+    /**
+     * Query the list history config by keyset pagination, which keeps the cost of deep pages same as the first page.
+     *
+     * @param dataId            dataId string value [required].
+     * @param group             group string value [required].
+     * @param namespaceId       namespaceId.
+     * @param continuationToken the token returned by previous page, blank for the first page.
+     * @param pageSize          pageSize integer value.
+     * @return the page of history config with the token of next page.
+     * @throws NacosApiException if the continuationToken is invalid.
+     */
+    @GetMapping("/scroll")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    public Result<ContinuationPage<ConfigHistoryInfo>> scrollConfigHistory(
+            @RequestParam("dataId") String dataId,
+            @RequestParam("group") String group,
+            @RequestParam(value = "namespaceId", required = false, defaultValue = StringUtils.EMPTY) String namespaceId,
+            @RequestParam(value = "continuationToken", required = false) String continuationToken,
+            @RequestParam(value = "pageSize", required = false, defaultValue = "100") Integer pageSize)
+            throws NacosApiException {
+        long lastNid = ContinuationTokenUtil.decode(continuationToken, Long.MAX_VALUE);
+        pageSize = Math.max(1, Math.min(500, pageSize));
+        return Result.success(historyService.scrollConfigHistory(dataId, group, namespaceId, lastNid, pageSize));
+    }
+    
     /**
      * Query the detailed configuration history information. notes:
      *
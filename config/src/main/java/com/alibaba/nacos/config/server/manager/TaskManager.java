@@ -45,7 +45,11 @@ public final class TaskManager extends NacosDelayTaskExecuteEngine implements Ta
     Condition notEmpty = this.lock.newCondition();
     
     public TaskManager(String name) {
-        super(name, LOGGER, 100L);
+        this(name, false);
+    }
+    
+    public TaskManager(String name, boolean timingWheelEnabled) {
+        super(name, LOGGER, 100L, timingWheelEnabled);
         this.name = name;
     }
     
@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Page of keyset pagination. The next page is queried by {@link #continuationToken}, which is {@code null} if there is
+ * no more page.
+ *
+ * @author xiweng.yy
+ */
+public class ContinuationPage<E> implements Serializable {
+    
+    private static final long serialVersionUID = -3471859716416893474L;
+    
+    private List<E> pageItems = new ArrayList<>();
+    
+    private String continuationToken;
+    
+    public List<E> getPageItems() {
+        return pageItems;
+    }
+    
+    public void setPageItems(List<E> pageItems) {
+        this.pageItems = pageItems;
+    }
+    
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+    
+    public void setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
+}
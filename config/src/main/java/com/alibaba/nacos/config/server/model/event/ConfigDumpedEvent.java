@@ -0,0 +1,41 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model.event;
+
+import com.alibaba.nacos.common.notify.SlowEvent;
+
+/**
+ * Event published when the formal config is dumped or removed on this server. Different from
+ * {@link LocalDataChangeEvent}, it is published even if the md5 of config is not changed, such as only the appName of
+ * config is changed.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigDumpedEvent extends SlowEvent {
+    
+    private static final long serialVersionUID = -2958462157323530826L;
+    
+    private final String groupKey;
+    
+    public ConfigDumpedEvent(String groupKey) {
+        this.groupKey = groupKey;
+    }
+    
+    public String getGroupKey() {
+        return groupKey;
+    }
+}
@@ -60,6 +60,16 @@ public class MetricsMonitor {
     
     private static AtomicInteger dumpTask = new AtomicInteger();
     
+    /**
+     * total count of configs to dump in the running dump all at startup.
+     */
+    private static AtomicInteger dumpAllTotal = new AtomicInteger();
+    
+    /**
+     * count of configs dumped in the running dump all at startup.
+     */
+    private static AtomicInteger dumpAllFinished = new AtomicInteger();
+    
     /**
      * config fuzzy search count.
      */
@@ -112,6 +122,16 @@ public class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "dumpTask"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpTask);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllTotal"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllTotal);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllFinished"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllFinished);
     
         tags = new ArrayList<>();
         tags.add(immutableTag);
@@ -158,6 +178,14 @@ public class MetricsMonitor {
         return dumpTask;
     }
     
+    public static AtomicInteger getDumpAllTotalMonitor() {
+        return dumpAllTotal;
+    }
+    
+    public static AtomicInteger getDumpAllFinishedMonitor() {
+        return dumpAllFinished;
+    }
+    
     public static AtomicInteger getFuzzySearchMonitor() {
         return fuzzySearch;
     }
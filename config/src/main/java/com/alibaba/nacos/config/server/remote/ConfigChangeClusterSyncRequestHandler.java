@@ -20,6 +20,10 @@ import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSy
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.core.remote.control.TpsControl;
@@ -45,16 +49,47 @@ public class ConfigChangeClusterSyncRequestHandler
     @Override
     public ConfigChangeClusterSyncResponse handle(ConfigChangeClusterSyncRequest configChangeSyncRequest,
             RequestMeta meta) throws NacosException {
-        
+        dump(configChangeSyncRequest, meta.getClientIp());
+        return new ConfigChangeClusterSyncResponse();
+    }
+    
+    /**
+     * Dump the changed config of sync request.
+     *
+     * @param configChangeSyncRequest config change sync request
+     * @param handleIp                ip of the member which sends the request
+     */
+    public void dump(ConfigChangeClusterSyncRequest configChangeSyncRequest, String handleIp) {
         if (configChangeSyncRequest.isBeta()) {
             dumpService.dump(configChangeSyncRequest.getDataId(), configChangeSyncRequest.getGroup(),
-                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), meta.getClientIp(),
-                    true);
+                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), handleIp, true);
+        } else if (isContentCarried(configChangeSyncRequest)) {
+            ConfigInfo configInfo = new ConfigInfo(configChangeSyncRequest.getDataId(),
+                    configChangeSyncRequest.getGroup(), configChangeSyncRequest.getTenant(), null,
+                    configChangeSyncRequest.getContent());
+            configInfo.setType(configChangeSyncRequest.getType());
+            configInfo.setEncryptedDataKey(configChangeSyncRequest.getEncryptedDataKey());
+            dumpService.dump(configChangeSyncRequest.getDataId(), configChangeSyncRequest.getGroup(),
+                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), handleIp,
+                    configInfo);
         } else {
             dumpService.dump(configChangeSyncRequest.getDataId(), configChangeSyncRequest.getGroup(),
-                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), meta.getClientIp());
+                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), handleIp);
         }
-        return new ConfigChangeClusterSyncResponse();
+    }
+    
+    /**
+     * Whether the request carries the complete content of formal config. The content is dropped if its md5 is not
+     * matched, and the config will be read from database.
+     *
+     * @param request config change sync request
+     * @return {@code true} if the content can be dumped directly
+     */
+    private boolean isContentCarried(ConfigChangeClusterSyncRequest request) {
+        if (null == request.getContent() || null == request.getMd5() || StringUtils.isNotBlank(request.getTag())) {
+            return false;
+        }
+        return request.getMd5().equals(MD5Utils.md5Hex(request.getContent(), Constants.ENCODE));
     }
     
 }
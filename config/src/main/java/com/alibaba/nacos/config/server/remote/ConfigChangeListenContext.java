@@ -19,10 +19,8 @@ package com.alibaba.nacos.config.server.remote;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,6 +28,10 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>Both contexts are concurrent maps whose values are concurrent collections, and each entry is only changed in the
+ * atomic compute of its key, so that listening and notifying of different group keys or connections don't block each
+ * other.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
@@ -39,12 +41,12 @@ public class ConfigChangeListenContext {
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -52,23 +54,18 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId) {
+    public void addListen(String groupKey, String md5, String connectionId) {
         // 1.add groupKeyContext
-        Set<String> listenClients = groupKeyContext.get(groupKey);
-        if (listenClients == null) {
-            groupKeyContext.putIfAbsent(groupKey, new HashSet<>());
-            listenClients = groupKeyContext.get(groupKey);
-        }
-        listenClients.add(connectionId);
+        groupKeyContext.compute(groupKey, (key, listenClients) -> {
+            if (listenClients == null) {
+                listenClients = ConcurrentHashMap.newKeySet();
+            }
+            listenClients.add(connectionId);
+            return listenClients;
+        });
         
         // 2.add connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
-        if (groupKeys == null) {
-            connectionIdContext.putIfAbsent(connectionId, new HashMap<>(16));
-            groupKeys = connectionIdContext.get(connectionId);
-        }
-        groupKeys.put(groupKey, md5);
-        
+        connectionIdContext.computeIfAbsent(connectionId, id -> new ConcurrentHashMap<>(16)).put(groupKey, md5);
     }
     
     /**
@@ -77,19 +74,13 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
+    public void removeListen(String groupKey, String connectionId) {
         
         //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
-        }
+        removeConnectionId(groupKey, connectionId);
         
         //2.remove connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
+        Map<String, String> groupKeys = connectionIdContext.get(connectionId);
         if (groupKeys != null) {
             groupKeys.remove(groupKey);
         }
@@ -99,56 +90,42 @@ public class ConfigChangeListenContext {
      * get listeners of the group key.
      *
      * @param groupKey groupKey.
-     * @return the copy of listeners, may be return null.
+     * @return the unmodifiable view of listeners, which can be iterated while modified concurrently, may be return null.
      */
-    public synchronized Set<String> getListeners(String groupKey) {
-        
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
+    public Set<String> getListeners(String groupKey) {
+        Set<String> listenConnections = groupKeyContext.get(groupKey);
+        if (CollectionUtils.isNotEmpty(listenConnections)) {
+            return Collections.unmodifiableSet(listenConnections);
         }
         return null;
     }
     
-    /**
-     * copy collections.
-     *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
-     */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
-        }
-    }
-    
     /**
      * remove the context related to the connection id.
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
-        
+    public void clearContextForConnectionId(final String connectionId) {
+        Map<String, String> listenKeys = connectionIdContext.remove(connectionId);
         if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
             return;
         }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
-            }
-
+        for (String groupKey : listenKeys.keySet()) {
+            removeConnectionId(groupKey, connectionId);
         }
-        connectionIdContext.remove(connectionId);
+    }
+    
+    /**
+     * Remove connection id from listeners of the group key, and remove the group key if no listeners.
+     *
+     * @param groupKey     groupKey
+     * @param connectionId connection id
+     */
+    private void removeConnectionId(String groupKey, String connectionId) {
+        groupKeyContext.computeIfPresent(groupKey, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
     }
     
     /**
@@ -157,9 +134,9 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, String> stringStringHashMap = connectionIdContext.get(connectionId);
-        return stringStringHashMap == null ? null : new HashMap<>(stringStringHashMap);
+    public Map<String, String> getListenKeys(String connectionId) {
+        Map<String, String> groupKeys = connectionIdContext.get(connectionId);
+        return groupKeys == null ? null : new HashMap<>(groupKeys);
     }
     
     /**
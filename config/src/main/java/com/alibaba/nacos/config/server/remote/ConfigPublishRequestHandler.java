@@ -116,7 +116,8 @@ public class ConfigPublishRequestHandler extends RequestHandler<ConfigPublishReq
                         persistService.insertOrUpdate(srcIp, srcUser, configInfo, time, configAdvanceInfo, false);
                     }
                     ConfigChangePublisher.notifyConfigChange(
-                            new ConfigDataChangeEvent(false, dataId, group, tenant, time.getTime()));
+                            new ConfigDataChangeEvent(dataId, group, tenant, time.getTime(), content, type,
+                                    encryptedDataKey));
                 } else {
                     if (StringUtils.isNotBlank(request.getCasMd5())) {
                         boolean casSuccess = persistService
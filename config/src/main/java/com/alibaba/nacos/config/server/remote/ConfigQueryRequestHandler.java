@@ -119,6 +119,8 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                 File file = null;
                 ConfigInfoBase configInfoBase = null;
                 PrintWriter out = null;
+                String contentTag = null;
+                String cachedContent = null;
                 if (isBeta) {
                     md5 = cacheItem.getMd54Beta();
                     lastModified = cacheItem.getLastModifiedTs4Beta();
@@ -126,6 +128,7 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                         configInfoBase = persistService.findConfigInfo4Beta(dataId, group, tenant);
                     } else {
                         file = DiskUtil.targetBetaFile(dataId, group, tenant);
+                        cachedContent = ConfigCacheService.getCachedContent(groupKey, true, null, md5);
                     }
                     response.setBeta(true);
                 } else {
@@ -139,10 +142,12 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                                     lastModified = cacheItem.tagLastModifiedTs.get(autoTag);
                                 }
                             }
+                            contentTag = autoTag;
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = persistService.findConfigInfo4Tag(dataId, group, tenant, autoTag);
                             } else {
                                 file = DiskUtil.targetTagFile(dataId, group, tenant, autoTag);
+                                cachedContent = ConfigCacheService.getCachedContent(groupKey, false, autoTag, md5);
                             }
                             response.setTag(URLEncoder.encode(autoTag, Constants.ENCODE));
                             
@@ -153,8 +158,9 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                                 configInfoBase = persistService.findConfigInfo(dataId, group, tenant);
                             } else {
                                 file = DiskUtil.targetFile(dataId, group, tenant);
+                                cachedContent = ConfigCacheService.getCachedContent(groupKey, false, null, md5);
                             }
-                            if (configInfoBase == null && fileNotExist(file)) {
+                            if (configInfoBase == null && cachedContent == null && fileNotExist(file)) {
                                 // FIXME CacheItem
                                 // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                                 ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -180,12 +186,14 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                                 }
                             }
                         }
+                        contentTag = tag;
                         if (PropertyUtil.isDirectRead()) {
                             configInfoBase = persistService.findConfigInfo4Tag(dataId, group, tenant, tag);
                         } else {
                             file = DiskUtil.targetTagFile(dataId, group, tenant, tag);
+                            cachedContent = ConfigCacheService.getCachedContent(groupKey, false, tag, md5);
                         }
-                        if (configInfoBase == null && fileNotExist(file)) {
+                        if (configInfoBase == null && cachedContent == null && fileNotExist(file)) {
                             // FIXME CacheItem
                             // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                             ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -211,10 +219,13 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     response.setResultCode(ResponseCode.SUCCESS.getCode());
                     
                 } else {
-                    //read from file
-                    String content = null;
+                    //read from memory, or from file if not in memory
+                    String content = cachedContent;
                     try {
-                        content = readFileContent(file);
+                        if (null == content) {
+                            content = readFileContent(file);
+                            ConfigCacheService.cacheContent(groupKey, isBeta, contentTag, md5, content);
+                        }
                         response.setContent(content);
                         response.setLastModified(lastModified);
                         response.setResultCode(ResponseCode.SUCCESS.getCode());
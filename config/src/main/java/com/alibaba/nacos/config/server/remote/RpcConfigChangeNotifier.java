@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
 import com.alibaba.nacos.common.notify.Event;
@@ -23,9 +24,13 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.DiskUtil;
 import com.alibaba.nacos.config.server.utils.GroupKey;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -37,6 +42,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -94,6 +104,9 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return;
         }
         int notifyClientCount = 0;
+        // Only formal config is pushed with content, the beta and tag contents are different for each client.
+        boolean contentPushable = !isBeta && StringUtils.isBlank(tag) && PropertyUtil.getContentPushMaxSize() > 0;
+        PushContent pushContent = null;
         for (final String client : listeners) {
             Connection connection = connectionManager.getConnection(client);
             if (connection == null) {
@@ -113,6 +126,15 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             }
             
             ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
+            if (contentPushable && isSupportContentPush(connection)) {
+                if (null == pushContent) {
+                    pushContent = loadPushContent(groupKey, dataId, group, tenant);
+                    contentPushable = null != pushContent;
+                }
+                if (contentPushable && pushContent.isFormalContentOf(clientIp, clientTag)) {
+                    pushContent.fill(notifyRequest);
+                }
+            }
             
             RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest, 50, client, clientIp, metaInfo.getAppName());
             push(rpcPushRetryTask);
@@ -121,6 +143,59 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         Loggers.REMOTE_PUSH.info("push [{}] clients ,groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    private boolean isSupportContentPush(Connection connection) {
+        ClientAbilities abilities = connection.getAbilities();
+        return null != abilities && null != abilities.getConfigAbility() && abilities.getConfigAbility()
+                .isSupportContentPush();
+    }
+    
+    /**
+     * Load the content of changed config for push. The content is read under read lock of config, so that it is
+     * consistent with the md5, the beta ips and tags of config are read together to decide whether the formal content
+     * is the one each client will query.
+     *
+     * @param groupKey groupKey
+     * @param dataId   dataId
+     * @param group    group
+     * @param tenant   tenant
+     * @return content for push, {@code null} if the config can't be pushed with content
+     */
+    private PushContent loadPushContent(String groupKey, String dataId, String group, String tenant) {
+        if (PropertyUtil.isDirectRead() || ConfigCacheService.tryReadLock(groupKey) <= 0) {
+            return null;
+        }
+        try {
+            CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
+            String md5 = cacheItem.getMd5();
+            int maxSize = PropertyUtil.getContentPushMaxSize();
+            String content = ConfigCacheService.getCachedContent(groupKey, false, null, md5);
+            if (null == content) {
+                File file = DiskUtil.targetFile(dataId, group, tenant);
+                if (!file.exists() || file.length() > maxSize) {
+                    return null;
+                }
+                content = DiskUtil.getConfig(dataId, group, tenant);
+                ConfigCacheService.cacheContent(groupKey, false, null, md5, content);
+            }
+            if (content.length() > maxSize || content.getBytes(StandardCharsets.UTF_8).length > maxSize) {
+                return null;
+            }
+            PushContent result = new PushContent(content, md5, cacheItem.getType(), cacheItem.getEncryptedDataKey());
+            if (cacheItem.isBeta() && null != cacheItem.getIps4Beta()) {
+                result.betaIps = new HashSet<>(cacheItem.getIps4Beta());
+            }
+            if (null != cacheItem.getTagMd5()) {
+                result.tags = new HashSet<>(cacheItem.getTagMd5().keySet());
+            }
+            return result;
+        } catch (IOException e) {
+            Loggers.REMOTE_PUSH.warn("Load content for push failed, groupKey={}", groupKey, e);
+            return null;
+        } finally {
+            ConfigCacheService.releaseReadLock(groupKey);
+        }
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
@@ -141,6 +216,53 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         return LocalDataChangeEvent.class;
     }
     
+    /**
+     * Content of changed config which is shared by the notify requests to all listeners.
+     */
+    private static class PushContent {
+        
+        private final String content;
+        
+        private final String md5;
+        
+        private final String contentType;
+        
+        private final String encryptedDataKey;
+        
+        private Set<String> betaIps = Collections.emptySet();
+        
+        private Set<String> tags = Collections.emptySet();
+        
+        private PushContent(String content, String md5, String contentType, String encryptedDataKey) {
+            this.content = content;
+            this.md5 = md5;
+            this.contentType = contentType;
+            this.encryptedDataKey = encryptedDataKey;
+        }
+        
+        /**
+         * Whether the client queries the formal content. The client in beta ips queries the beta content, and the
+         * client whose tag has tag content queries the tag content, so they are only notified without content.
+         *
+         * @param clientIp  ip of client
+         * @param clientTag tag of client connection
+         * @return {@code true} if the formal content can be pushed to the client
+         */
+        private boolean isFormalContentOf(String clientIp, String clientTag) {
+            if (betaIps.contains(clientIp)) {
+                return false;
+            }
+            return StringUtils.isBlank(clientTag) || !tags.contains(clientTag);
+        }
+        
+        private void fill(ConfigChangeNotifyRequest notifyRequest) {
+            notifyRequest.setContent(content);
+            notifyRequest.setMd5(md5);
+            notifyRequest.setContentType(contentType);
+            notifyRequest.setEncryptedDataKey(encryptedDataKey);
+        }
+    }
+    
     class RpcPushTask implements Runnable {
         
         ConfigChangeNotifyRequest notifyRequest;
@@ -0,0 +1,173 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.model.CacheItem;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary index file of cache items, which holds the group key, md5, last modified time, type and encrypted data key of
+ * formal configs.
+ *
+ * <p>The layout is: magic, version, watermark, entries each led by a flag, count of entries and the CRC32 checksum
+ * of all previous bytes. The watermark is the time before the cache items are read, so the changes after it should be
+ * caught up from database after the index loaded. The file is written to a temporary file and then renamed, and is
+ * memory-mapped when read.
+ *
+ * @author xiweng.yy
+ */
+class ConfigCacheIndex {
+    
+    private static final int MAGIC = 0x4E434349;
+    
+    private static final int VERSION = 1;
+    
+    private static final int NULL_LENGTH = -1;
+    
+    private static final int CHECKSUM_LENGTH = Long.BYTES;
+    
+    /**
+     * Write cache items to index file.
+     *
+     * @param file      index file
+     * @param watermark the time before cache items are read
+     * @param items     cache items
+     * @return count of written items
+     * @throws IOException if writing failed
+     */
+    static int write(File file, long watermark, Collection<CacheItem> items) throws IOException {
+        File parent = file.getParentFile();
+        if (null != parent && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("create directory failed: " + parent);
+        }
+        File tmpFile = new File(file.getPath() + ".tmp");
+        int count = 0;
+        CheckedOutputStream checkedStream = new CheckedOutputStream(new FileOutputStream(tmpFile), new CRC32());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checkedStream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(watermark);
+            // the count is unknown before iterating, so each entry is led by a flag and the count is written at last.
+            for (CacheItem each : items) {
+                String md5 = each.getMd5();
+                if (null == md5 || md5.isEmpty()) {
+                    continue;
+                }
+                out.writeBoolean(true);
+                writeString(out, each.getGroupKey());
+                writeString(out, md5);
+                out.writeLong(each.getLastModifiedTs());
+                writeString(out, each.getType());
+                writeString(out, each.getEncryptedDataKey());
+                count++;
+            }
+            out.writeBoolean(false);
+            out.writeInt(count);
+            out.flush();
+            out.writeLong(checkedStream.getChecksum().getValue());
+        }
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+    
+    /**
+     * Read cache items from index file.
+     *
+     * @param file     index file
+     * @param consumer consumer of read cache items
+     * @return watermark of index
+     * @throws IOException if reading failed or the file is corrupted
+     */
+    static long read(File file, Consumer<CacheItem> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < CHECKSUM_LENGTH || size > Integer.MAX_VALUE) {
+                throw new IOException("invalid size of config cache index: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            verifyChecksum(buffer, (int) size);
+            if (MAGIC != buffer.getInt() || VERSION != buffer.getInt()) {
+                throw new IOException("unknown format of config cache index");
+            }
+            long watermark = buffer.getLong();
+            int count = 0;
+            while (0 != buffer.get()) {
+                CacheItem item = new CacheItem(readString(buffer));
+                item.setMd5(readString(buffer));
+                item.setLastModifiedTs(buffer.getLong());
+                item.setType(readString(buffer));
+                item.setEncryptedDataKey(readString(buffer));
+                consumer.accept(item);
+                count++;
+            }
+            if (count != buffer.getInt()) {
+                throw new IOException("count of config cache index mismatched");
+            }
+            return watermark;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("config cache index is truncated", e);
+        }
+    }
+    
+    private static void verifyChecksum(ByteBuffer buffer, int size) throws IOException {
+        ByteBuffer content = buffer.duplicate();
+        content.limit(size - CHECKSUM_LENGTH);
+        CRC32 crc32 = new CRC32();
+        crc32.update(content);
+        if (crc32.getValue() != buffer.getLong(size - CHECKSUM_LENGTH)) {
+            throw new IOException("checksum of config cache index mismatched");
+        }
+    }
+    
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (null == value) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (NULL_LENGTH == length) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -22,6 +22,7 @@ import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigInfoBase;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigContentCache.ContentKey;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.config.server.utils.DiskUtil;
 import com.alibaba.nacos.config.server.utils.GroupKey;
@@ -32,6 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -68,6 +70,12 @@ public class ConfigCacheService {
      */
     private static final ConcurrentHashMap<String, CacheItem> CACHE = new ConcurrentHashMap<>();
     
+    /**
+     * Contents of hot configs, only used when not direct read. The contents are updated with md5 under write lock.
+     */
+    private static final ConfigContentCache CONTENT_CACHE = new ConfigContentCache(
+            PropertyUtil::getContentCacheMaxSize);
+    
     @Autowired
     private static PersistService persistService;
     
@@ -119,6 +127,7 @@ public class ConfigCacheService {
                 DiskUtil.saveToDisk(dataId, group, tenant, content);
             }
             updateMd5(groupKey, md5, lastModifiedTs, encryptedDataKey);
+            putContent(ContentKey.formal(groupKey), md5, content);
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-exception] save disk error. " + groupKey + ", " + ioe);
@@ -179,6 +188,7 @@ public class ConfigCacheService {
             String[] betaIpsArr = betaIps.split(",");
             
             updateBetaMd5(groupKey, md5, Arrays.asList(betaIpsArr), lastModifiedTs, encryptedDataKey);
+            putContent(ContentKey.beta(groupKey), md5, content);
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-beta-exception] save disk error. " + groupKey + ", " + ioe);
@@ -229,6 +239,7 @@ public class ConfigCacheService {
             }
             
             updateTagMd5(groupKey, tag, md5, lastModifiedTs, encryptedDataKey);
+            putContent(ContentKey.tag(groupKey, tag), md5, content);
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-tag-exception] save disk error. " + groupKey + ", " + ioe);
@@ -280,6 +291,7 @@ public class ConfigCacheService {
                 }
             }
             updateMd5(groupKey, md5, lastModifiedTs, encryptedDataKey);
+            putContent(ContentKey.formal(groupKey), md5, content);
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-exception] save disk error. " + groupKey + ", " + ioe);
@@ -379,6 +391,48 @@ public class ConfigCacheService {
         return diffList;
     }
     
+    /**
+     * Save md5 index of formal configs to disk, which is loaded at quick start instead of querying md5 of all configs
+     * from database.
+     *
+     * @return count of saved configs
+     * @throws IOException if saving failed
+     */
+    public static int saveCacheIndex() throws IOException {
+        long watermark = System.currentTimeMillis();
+        return ConfigCacheIndex.write(DiskUtil.cacheIndexFile(), watermark, CACHE.values());
+    }
+    
+    /**
+     * Load md5 index of formal configs saved by {@link #saveCacheIndex()}. The configs changed after the returned
+     * watermark should be caught up from database.
+     *
+     * @param minWatermark the index whose watermark is before it is ignored
+     * @return watermark of index, {@code -1} if there is no valid index
+     */
+    public static long loadCacheIndex(long minWatermark) {
+        File indexFile = DiskUtil.cacheIndexFile();
+        if (!indexFile.exists()) {
+            return -1L;
+        }
+        long startTime = System.currentTimeMillis();
+        Map<String, CacheItem> items = new HashMap<>(16);
+        try {
+            long watermark = ConfigCacheIndex.read(indexFile, item -> items.put(item.getGroupKey(), item));
+            if (watermark < minWatermark) {
+                DEFAULT_LOG.warn("config cache index is too old, ignore it. watermark:{}", watermark);
+                return -1L;
+            }
+            items.forEach(CACHE::putIfAbsent);
+            DEFAULT_LOG.warn("load config cache index done, count:{}, watermark:{}, cost:{}", items.size(), watermark,
+                    System.currentTimeMillis() - startTime);
+            return watermark;
+        } catch (IOException e) {
+            DEFAULT_LOG.error("load config cache index failed, ignore it.", e);
+            return -1L;
+        }
+    }
+    
     /**
      * Delete config file, and delete cache.
      *
@@ -407,6 +461,7 @@ public class ConfigCacheService {
             if (!PropertyUtil.isDirectRead()) {
                 DiskUtil.removeConfigInfo(dataId, group, tenant);
             }
+            removeContents(groupKey);
             CACHE.remove(groupKey);
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey));
             
@@ -444,6 +499,7 @@ public class ConfigCacheService {
             if (!PropertyUtil.isDirectRead()) {
                 DiskUtil.removeConfigInfo4Beta(dataId, group, tenant);
             }
+            CONTENT_CACHE.remove(ContentKey.beta(groupKey));
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey, true, CACHE.get(groupKey).getIps4Beta()));
             CACHE.get(groupKey).setBeta(false);
             CACHE.get(groupKey).setIps4Beta(null);
@@ -483,6 +539,7 @@ public class ConfigCacheService {
             if (!PropertyUtil.isDirectRead()) {
                 DiskUtil.removeConfigInfo4Tag(dataId, group, tenant, tag);
             }
+            CONTENT_CACHE.remove(ContentKey.tag(groupKey, tag));
             
             CacheItem ci = CACHE.get(groupKey);
             ci.tagMd5.remove(tag);
@@ -622,6 +679,57 @@ public class ConfigCacheService {
         return (null != item) ? item.getIps4Beta() : Collections.<String>emptyList();
     }
     
+    /**
+     * Get content from memory, the content is returned only if it is cached with the expected md5.
+     *
+     * @param groupKey groupKey string value.
+     * @param isBeta   whether to get beta content.
+     * @param tag      tag string value, blank for the content without tag.
+     * @param md5      md5 of the content expected.
+     * @return content, null if not in memory.
+     */
+    public static String getCachedContent(String groupKey, boolean isBeta, String tag, String md5) {
+        return CONTENT_CACHE.get(toContentKey(groupKey, isBeta, tag), md5);
+    }
+    
+    /**
+     * Cache content which is read from disk, should be called with the read lock of groupKey.
+     *
+     * @param groupKey groupKey string value.
+     * @param isBeta   whether the content is beta content.
+     * @param tag      tag string value, blank for the content without tag.
+     * @param md5      md5 of the content.
+     * @param content  content read from disk.
+     */
+    public static void cacheContent(String groupKey, boolean isBeta, String tag, String md5, String content) {
+        putContent(toContentKey(groupKey, isBeta, tag), md5, content);
+    }
+    
+    private static ContentKey toContentKey(String groupKey, boolean isBeta, String tag) {
+        if (isBeta) {
+            return ContentKey.beta(groupKey);
+        }
+        return StringUtils.isBlank(tag) ? ContentKey.formal(groupKey) : ContentKey.tag(groupKey, tag);
+    }
+    
+    private static void putContent(ContentKey key, String md5, String content) {
+        if (!PropertyUtil.isDirectRead()) {
+            CONTENT_CACHE.put(key, md5, content);
+        }
+    }
+    
+    private static void removeContents(String groupKey) {
+        CONTENT_CACHE.remove(ContentKey.formal(groupKey));
+        CONTENT_CACHE.remove(ContentKey.beta(groupKey));
+        CacheItem item = CACHE.get(groupKey);
+        Map<String, String> tagMd5 = null == item ? null : item.getTagMd5();
+        if (null != tagMd5) {
+            for (String each : tagMd5.keySet()) {
+                CONTENT_CACHE.remove(ContentKey.tag(groupKey, each));
+            }
+        }
+    }
+    
     /**
      * Get and return content cache.
      *
@@ -0,0 +1,205 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Size bounded memory cache of config contents.
+ *
+ * <p>Each content is cached with its md5, and it is returned only when the md5 is same with the expected one, so that
+ * the stale content will never be returned even if md5 in {@link com.alibaba.nacos.config.server.model.CacheItem}
+ * is updated without content.
+ *
+ * <p>Contents are evicted by CLOCK algorithm which approximates LRU: reading a content only marks it referenced
+ * without any lock, and the referenced contents get a second chance when evicting. Writing is guarded by the cache
+ * itself, which is rare compared to reading.
+ *
+ * @author xiweng.yy
+ */
+class ConfigContentCache {
+    
+    private final ConcurrentHashMap<ContentKey, ContentEntry> entries = new ConcurrentHashMap<>();
+    
+    /**
+     * Clock of entries, the head is the oldest one.
+     */
+    private final LinkedHashMap<ContentKey, ContentEntry> clock = new LinkedHashMap<>();
+    
+    private final LongSupplier maxSizeSupplier;
+    
+    private long size;
+    
+    ConfigContentCache(LongSupplier maxSizeSupplier) {
+        this.maxSizeSupplier = maxSizeSupplier;
+    }
+    
+    /**
+     * Get content if md5 of cached content is same with expected md5.
+     *
+     * @param key key of content
+     * @param md5 expected md5
+     * @return content, {@code null} if not cached or md5 is different
+     */
+    String get(ContentKey key, String md5) {
+        ContentEntry entry = entries.get(key);
+        if (null == entry || !entry.md5.equals(md5)) {
+            return null;
+        }
+        entry.referenced = true;
+        return entry.content;
+    }
+    
+    /**
+     * Cache content with its md5. The content which is larger than the max size will not be cached.
+     *
+     * @param key     key of content
+     * @param md5     md5 of content
+     * @param content content
+     */
+    synchronized void put(ContentKey key, String md5, String content) {
+        long maxSize = maxSizeSupplier.getAsLong();
+        long entrySize = estimateSize(content);
+        if (maxSize <= 0 || null == md5 || null == content || entrySize > maxSize) {
+            remove(key);
+            return;
+        }
+        ContentEntry entry = new ContentEntry(md5, content, entrySize);
+        removeEntry(key);
+        entries.put(key, entry);
+        clock.put(key, entry);
+        size += entrySize;
+        evict(maxSize);
+    }
+    
+    synchronized void remove(ContentKey key) {
+        removeEntry(key);
+    }
+    
+    synchronized long size() {
+        return size;
+    }
+    
+    int count() {
+        return entries.size();
+    }
+    
+    private void removeEntry(ContentKey key) {
+        ContentEntry entry = clock.remove(key);
+        if (null != entry) {
+            entries.remove(key);
+            size -= entry.size;
+        }
+    }
+    
+    private void evict(long maxSize) {
+        // Each entry is given at most one second chance, so the loop ends within two rounds.
+        int remainingChecks = clock.size() * 2;
+        while (size > maxSize && remainingChecks-- > 0) {
+            Iterator<Map.Entry<ContentKey, ContentEntry>> iterator = clock.entrySet().iterator();
+            Map.Entry<ContentKey, ContentEntry> eldest = iterator.next();
+            iterator.remove();
+            ContentEntry entry = eldest.getValue();
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.put(eldest.getKey(), entry);
+            } else {
+                entries.remove(eldest.getKey());
+                size -= entry.size;
+            }
+        }
+    }
+    
+    /**
+     * Estimate the heap size of content, the chars of string take two bytes at most.
+     *
+     * @param content content
+     * @return estimated size, unit for bytes
+     */
+    private static long estimateSize(String content) {
+        return null == content ? 0L : content.length() * 2L;
+    }
+    
+    private static class ContentEntry {
+        
+        private final String md5;
+        
+        private final String content;
+        
+        private final long size;
+        
+        private volatile boolean referenced;
+        
+        private ContentEntry(String md5, String content, long size) {
+            this.md5 = md5;
+            this.content = content;
+            this.size = size;
+        }
+    }
+    
+    /**
+     * Key of content, which distinguishes the formal, beta and tag contents of the same config.
+     */
+    static class ContentKey {
+        
+        private final String groupKey;
+        
+        private final boolean beta;
+        
+        private final String tag;
+        
+        private ContentKey(String groupKey, boolean beta, String tag) {
+            this.groupKey = groupKey;
+            this.beta = beta;
+            this.tag = tag;
+        }
+        
+        static ContentKey formal(String groupKey) {
+            return new ContentKey(groupKey, false, null);
+        }
+        
+        static ContentKey beta(String groupKey) {
+            return new ContentKey(groupKey, true, null);
+        }
+        
+        static ContentKey tag(String groupKey, String tag) {
+            return new ContentKey(groupKey, false, tag);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ContentKey that = (ContentKey) o;
+            return beta == that.beta && groupKey.equals(that.groupKey) && Objects.equals(tag, that.tag);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupKey, beta, tag);
+        }
+    }
+}
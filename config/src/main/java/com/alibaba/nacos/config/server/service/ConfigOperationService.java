@@ -22,11 +22,14 @@ import com.alibaba.nacos.api.model.v2.ErrorCode;
 import com.alibaba.nacos.common.utils.MapUtil;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ContinuationPage;
+import com.alibaba.nacos.config.server.model.Page;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
 import com.alibaba.nacos.config.server.model.form.ConfigForm;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
+import com.alibaba.nacos.config.server.utils.ContinuationTokenUtil;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.config.server.utils.TimeUtils;
 import com.alibaba.nacos.sys.utils.InetUtils;
@@ -87,8 +90,9 @@ public class ConfigOperationService {
                 persistService.insertOrUpdate(configRequestInfo.getSrcIp(), configForm.getSrcUser(), configInfo, time,
                         configAdvanceInfo, false);
                 ConfigChangePublisher.notifyConfigChange(
-                        new ConfigDataChangeEvent(false, configForm.getDataId(), configForm.getGroup(),
-                                configForm.getNamespaceId(), time.getTime()));
+                        new ConfigDataChangeEvent(configForm.getDataId(), configForm.getGroup(),
+                                configForm.getNamespaceId(), time.getTime(), configInfo.getContent(),
+                                configInfo.getType(), encryptedDataKey));
             } else {
                 persistService.insertOrUpdateTag(configInfo, configForm.getTag(), configRequestInfo.getSrcIp(),
                         configForm.getSrcUser(), time, false);
@@ -131,6 +135,25 @@ public class ConfigOperationService {
         return true;
     }
     
+    /**
+     * Query configs by keyset pagination, the configs are ordered by id.
+     *
+     * @param blur {@code true} to query by {@code LIKE} patterns, {@code false} to query by exact values
+     */
+    public ContinuationPage<ConfigInfo> scrollConfigInfo(String dataId, String group, String namespaceId,
+            String appName, boolean blur, long lastId, int pageSize) {
+        Page<ConfigInfo> page = blur ? persistService
+                .findConfigInfoLike4PageAfterId(lastId, pageSize, dataId, group, namespaceId, appName)
+                : persistService.findConfigInfo4PageAfterId(lastId, pageSize, dataId, group, namespaceId, appName);
+        ContinuationPage<ConfigInfo> result = new ContinuationPage<>();
+        result.setPageItems(page.getPageItems());
+        if (page.getPageItems().size() >= pageSize) {
+            long maxId = page.getPageItems().get(page.getPageItems().size() - 1).getId();
+            result.setContinuationToken(ContinuationTokenUtil.encode(maxId));
+        }
+        return result;
+    }
+    
     public Map<String, Object> getConfigAdvanceInfo(ConfigForm configForm) {
         Map<String, Object> configAdvanceInfo = new HashMap<>(10);
         MapUtil.putIfValNoNull(configAdvanceInfo, "config_tags", configForm.getConfigTags());
@@ -19,8 +19,10 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.common.utils.Pair;
 import com.alibaba.nacos.config.server.model.ConfigHistoryInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.ContinuationPage;
 import com.alibaba.nacos.config.server.model.Page;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.ContinuationTokenUtil;
 import com.alibaba.nacos.plugin.auth.exception.AccessException;
 import com.alibaba.nacos.plugin.encryption.handler.EncryptionHandler;
 import org.springframework.stereotype.Service;
@@ -51,6 +53,22 @@ public class HistoryService {
         return persistService.findConfigHistory(dataId, group, namespaceId, pageNo, pageSize);
     }
     
+    /**
+     * Query the list history config by keyset pagination, the history is ordered by nid desc.
+     */
+    public ContinuationPage<ConfigHistoryInfo> scrollConfigHistory(String dataId, String group, String namespaceId,
+            long lastNid, int pageSize) {
+        Page<ConfigHistoryInfo> page = persistService
+                .findConfigHistoryBeforeNid(dataId, group, namespaceId, lastNid, pageSize);
+        ContinuationPage<ConfigHistoryInfo> result = new ContinuationPage<>();
+        result.setPageItems(page.getPageItems());
+        if (page.getPageItems().size() >= pageSize) {
+            long minNid = page.getPageItems().get(page.getPageItems().size() - 1).getId();
+            result.setContinuationToken(ContinuationTokenUtil.encode(minNid));
+        }
+        return result;
+    }
+    
     /**
      * Query the detailed configuration history information.
      */
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.task.HierarchicalTimingWheel;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ExceptionUtil;
 import com.alibaba.nacos.config.server.model.SampleResult;
@@ -40,14 +41,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.config.server.utils.LogUtil.MEMORY_LOG;
@@ -69,6 +66,10 @@ public class LongPollingService {
     
     private static final String TRUE_STR = "true";
     
+    private static final long TIMEOUT_TICK_MS = 100L;
+    
+    private static final int TIMEOUT_WHEEL_SIZE = 128;
+    
     private Map<String, Long> retainIps = new ConcurrentHashMap<>();
     
     private static boolean isFixedPolling() {
@@ -98,10 +99,8 @@ public class LongPollingService {
         SampleResult sampleResult = new SampleResult();
         Map<String, String> lisentersGroupkeyStatus = new HashMap<>(50);
         
-        for (ClientLongPolling clientLongPolling : allSubs) {
-            if (clientLongPolling.clientMd5Map.containsKey(groupKey)) {
-                lisentersGroupkeyStatus.put(clientLongPolling.ip, clientLongPolling.clientMd5Map.get(groupKey));
-            }
+        for (ClientLongPolling clientLongPolling : groupKeySubs.getOrDefault(groupKey, Collections.emptySet())) {
+            lisentersGroupkeyStatus.put(clientLongPolling.ip, clientLongPolling.clientMd5Map.get(groupKey));
         }
         sampleResult.setLisentersGroupkeyStatus(lisentersGroupkeyStatus);
         return sampleResult;
@@ -283,10 +282,15 @@ public class LongPollingService {
     
     @SuppressWarnings("PMD.ThreadPoolCreationRule")
     public LongPollingService() {
-        allSubs = new ConcurrentLinkedQueue<>();
+        allSubs = ConcurrentHashMap.newKeySet();
+        groupKeySubs = new ConcurrentHashMap<>();
+        timeoutWheel = new HierarchicalTimingWheel<>(TIMEOUT_TICK_MS, TIMEOUT_WHEEL_SIZE, System.currentTimeMillis());
         
         ConfigExecutor.scheduleLongPolling(new StatTask(), 0L, 10L, TimeUnit.SECONDS);
         
+        ConfigExecutor.scheduleLongPolling(new TimeoutCheckTask(), TIMEOUT_TICK_MS, TIMEOUT_TICK_MS,
+                TimeUnit.MILLISECONDS);
+        
         // Register LocalDataChangeEvent to NotifyCenter.
         NotifyCenter.registerToPublisher(LocalDataChangeEvent.class, NotifyCenter.ringBufferSize);
         
@@ -320,7 +324,56 @@ public class LongPollingService {
     /**
      * ClientLongPolling subscibers.
      */
-    final Queue<ClientLongPolling> allSubs;
+    final Set<ClientLongPolling> allSubs;
+    
+    /**
+     * ClientLongPolling subscibers indexed by the groupKeys they listen, the reverse index is the clientMd5Map of each
+     * subscriber.
+     */
+    final Map<String, Set<ClientLongPolling>> groupKeySubs;
+    
+    /**
+     * Timeout of all subscribers, only accessed in long polling executor which is single thread.
+     */
+    private final HierarchicalTimingWheel<ClientLongPolling> timeoutWheel;
+    
+    /**
+     * Add subscriber and index it by the groupKeys it listens.
+     *
+     * @param clientSub subscriber
+     */
+    void addSubscriber(ClientLongPolling clientSub) {
+        allSubs.add(clientSub);
+        for (String groupKey : clientSub.clientMd5Map.keySet()) {
+            groupKeySubs.compute(groupKey, (key, subs) -> {
+                if (null == subs) {
+                    subs = ConcurrentHashMap.newKeySet();
+                }
+                subs.add(clientSub);
+                return subs;
+            });
+        }
+    }
+    
+    /**
+     * Remove subscriber and its index. Only the caller which removes the subscriber successfully should send response.
+     *
+     * @param clientSub subscriber
+     * @return {@code true} if subscriber is removed by this call, otherwise {@code false}
+     */
+    boolean removeSubscriber(ClientLongPolling clientSub) {
+        if (!allSubs.remove(clientSub)) {
+            return false;
+        }
+        clientSub.cancelTimeout();
+        for (String groupKey : clientSub.clientMd5Map.keySet()) {
+            groupKeySubs.computeIfPresent(groupKey, (key, subs) -> {
+                subs.remove(clientSub);
+                return subs.isEmpty() ? null : subs;
+            });
+        }
+        return true;
+    }
     
     class DataChangeTask implements Runnable {
         
@@ -328,28 +381,31 @@ public class LongPollingService {
         public void run() {
             try {
                 ConfigCacheService.getContentBetaMd5(groupKey);
-                for (Iterator<ClientLongPolling> iter = allSubs.iterator(); iter.hasNext(); ) {
-                    ClientLongPolling clientSub = iter.next();
-                    if (clientSub.clientMd5Map.containsKey(groupKey)) {
-                        // If published tag is not in the beta list, then it skipped.
-                        if (isBeta && !CollectionUtils.contains(betaIps, clientSub.ip)) {
-                            continue;
-                        }
-                        
-                        // If published tag is not in the tag list, then it skipped.
-                        if (StringUtils.isNotBlank(tag) && !tag.equals(clientSub.tag)) {
-                            continue;
-                        }
-                        
-                        getRetainIps().put(clientSub.ip, System.currentTimeMillis());
-                        iter.remove(); // Delete subscribers' relationships.
-                        LogUtil.CLIENT_LOG
-                                .info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime), "in-advance",
-                                        RequestUtil
-                                                .getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
-                                        "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
-                        clientSub.sendResponse(Arrays.asList(groupKey));
+                Set<ClientLongPolling> subs = groupKeySubs.get(groupKey);
+                if (null == subs) {
+                    return;
+                }
+                for (ClientLongPolling clientSub : new ArrayList<>(subs)) {
+                    // If published tag is not in the beta list, then it skipped.
+                    if (isBeta && !CollectionUtils.contains(betaIps, clientSub.ip)) {
+                        continue;
+                    }
+                    
+                    // If published tag is not in the tag list, then it skipped.
+                    if (StringUtils.isNotBlank(tag) && !tag.equals(clientSub.tag)) {
+                        continue;
+                    }
+                    
+                    // Delete subscribers' relationships.
+                    if (!removeSubscriber(clientSub)) {
+                        continue;
                     }
+                    getRetainIps().put(clientSub.ip, System.currentTimeMillis());
+                    LogUtil.CLIENT_LOG
+                            .info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime), "in-advance",
+                                    RequestUtil.getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
+                                    "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
+                    clientSub.sendResponse(Arrays.asList(groupKey));
                 }
                 
             } catch (Throwable t) {
@@ -388,56 +444,69 @@ public class LongPollingService {
         }
     }
     
+    /**
+     * Advance the timeout wheel and response the expired subscribers. The subscribers which have been responded by data
+     * change are cancelled from wheel when they are removed.
+     */
+    class TimeoutCheckTask implements Runnable {
+        
+        @Override
+        public void run() {
+            try {
+                timeoutWheel.advanceClock(System.currentTimeMillis(), (clientSub, expireTime) -> clientSub.timeout());
+            } catch (Throwable t) {
+                LogUtil.DEFAULT_LOG.error("long polling timeout check error: {}", ExceptionUtil.getStackTrace(t));
+            }
+        }
+    }
+    
     class ClientLongPolling implements Runnable {
         
         @Override
         public void run() {
-            asyncTimeoutFuture = ConfigExecutor.scheduleLongPolling(() -> {
-                try {
-                    getRetainIps().put(ClientLongPolling.this.ip, System.currentTimeMillis());
-                    
-                    // Delete subscriber's relations.
-                    boolean removeFlag = allSubs.remove(ClientLongPolling.this);
-                    
-                    if (removeFlag) {
-                        if (isFixedPolling()) {
-                            LogUtil.CLIENT_LOG
-                                    .info("{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - createTime), "fix",
-                                            RequestUtil.getRemoteIp((HttpServletRequest) asyncContext.getRequest()),
-                                            "polling", clientMd5Map.size(), probeRequestSize);
-                            List<String> changedGroups = MD5Util
-                                    .compareMd5((HttpServletRequest) asyncContext.getRequest(),
-                                            (HttpServletResponse) asyncContext.getResponse(), clientMd5Map);
-                            if (changedGroups.size() > 0) {
-                                sendResponse(changedGroups);
-                            } else {
-                                sendResponse(null);
-                            }
-                        } else {
-                            LogUtil.CLIENT_LOG
-                                    .info("{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - createTime), "timeout",
-                                            RequestUtil.getRemoteIp((HttpServletRequest) asyncContext.getRequest()),
-                                            "polling", clientMd5Map.size(), probeRequestSize);
-                            sendResponse(null);
-                        }
+            addSubscriber(this);
+            timeoutEntry = timeoutWheel.schedule(this, System.currentTimeMillis() + timeoutTime);
+        }
+        
+        /**
+         * Cancel the timeout of subscriber, so the responded subscriber and its async context are released from wheel.
+         */
+        void cancelTimeout() {
+            if (null != timeoutEntry) {
+                timeoutEntry.cancel();
+            }
+        }
+        
+        void timeout() {
+            try {
+                // Delete subscriber's relations, the subscriber has been responded if removed fail.
+                if (!removeSubscriber(this)) {
+                    return;
+                }
+                getRetainIps().put(ip, System.currentTimeMillis());
+                if (isFixedPolling()) {
+                    LogUtil.CLIENT_LOG.info("{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - createTime), "fix",
+                            RequestUtil.getRemoteIp((HttpServletRequest) asyncContext.getRequest()), "polling",
+                            clientMd5Map.size(), probeRequestSize);
+                    List<String> changedGroups = MD5Util.compareMd5((HttpServletRequest) asyncContext.getRequest(),
+                            (HttpServletResponse) asyncContext.getResponse(), clientMd5Map);
+                    if (changedGroups.size() > 0) {
+                        sendResponse(changedGroups);
                     } else {
-                        LogUtil.DEFAULT_LOG.warn("client subsciber's relations delete fail.");
+                        sendResponse(null);
                     }
-                } catch (Throwable t) {
-                    LogUtil.DEFAULT_LOG.error("long polling error:" + t.getMessage(), t.getCause());
+                } else {
+                    LogUtil.CLIENT_LOG.info("{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - createTime), "timeout",
+                            RequestUtil.getRemoteIp((HttpServletRequest) asyncContext.getRequest()), "polling",
+                            clientMd5Map.size(), probeRequestSize);
+                    sendResponse(null);
                 }
-                
-            }, timeoutTime, TimeUnit.MILLISECONDS);
-            
-            allSubs.add(this);
+            } catch (Throwable t) {
+                LogUtil.DEFAULT_LOG.error("long polling error:" + t.getMessage(), t.getCause());
+            }
         }
         
         void sendResponse(List<String> changedGroups) {
-            
-            // Cancel time out task.
-            if (null != asyncTimeoutFuture) {
-                asyncTimeoutFuture.cancel(false);
-            }
             generateResponse(changedGroups);
         }
         
@@ -495,7 +564,7 @@ public class LongPollingService {
         
         final long timeoutTime;
         
-        Future<?> asyncTimeoutFuture;
+        HierarchicalTimingWheel.TimerEntry<ClientLongPolling> timeoutEntry;
         
         @Override
         public String toString() {
@@ -34,13 +34,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StopWatch;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Capacity service.
  *
+ * <p>The usage of configs published and deleted by {@code CapacityManagementAspect} is counted in memory, which is
+ * seeded from database and enforces the quota locally. The deltas of usage are flushed to database in batches every
+ * {@link PropertyUtil#getCapacityUsageFlushInterval()} milliseconds, and the usage is corrected by the actual count of
+ * configs periodically, so the counters of different servers converge.
+ *
  * @author hexu.hxy
  * @date 2018/03/05
  */
@@ -62,6 +70,10 @@ public class CapacityService {
     @Autowired
     private PersistService persistService;
     
+    private final Map<String, CapacityUsageCounter> groupUsageCounters = new ConcurrentHashMap<>(16);
+    
+    private final Map<String, CapacityUsageCounter> tenantUsageCounters = new ConcurrentHashMap<>(16);
+    
     /**
      * Init.
      */
@@ -73,11 +85,24 @@ public class CapacityService {
             LOGGER.info("[capacityManagement] start correct usage");
             StopWatch watch = new StopWatch();
             watch.start();
+            // Flush, correct and refresh on the same single thread as flush task, so they never race with each other.
+            flushUsage();
             correctUsage();
+            refreshUsageCounters();
             watch.stop();
             LOGGER.info("[capacityManagement] end correct usage, cost: {}s", watch.getTotalTimeSeconds());
             
         }, PropertyUtil.getCorrectUsageDelay(), PropertyUtil.getCorrectUsageDelay(), TimeUnit.SECONDS);
+        ConfigExecutor.scheduleCorrectUsageTask(this::flushUsage, PropertyUtil.getCapacityUsageFlushInterval(),
+                PropertyUtil.getCapacityUsageFlushInterval(), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Flush the usage deltas in memory to database when shutdown.
+     */
+    @PreDestroy
+    public void destroy() {
+        flushUsage();
     }
     
     public void correctUsage() {
@@ -240,6 +265,153 @@ public class CapacityService {
         return groupCapacityPersistService.decrementUsage(groupCapacity);
     }
     
+    /**
+     * Update the usage of cluster in memory, the delta is flushed to database in batches.
+     *
+     * @param counterMode      increase or decrease mode.
+     * @param ignoreQuotaLimit ignoreQuotaLimit flag.
+     * @return operate successfully or not, {@code false} if the quota is reached when increasing.
+     */
+    public boolean updateClusterUsageInMemory(CounterMode counterMode, boolean ignoreQuotaLimit) {
+        return updateUsageInMemory(counterMode, GroupCapacityPersistService.CLUSTER, null, ignoreQuotaLimit);
+    }
+    
+    /**
+     * Update the usage of tenant, or group if tenant is blank, in memory. The delta is flushed to database in batches.
+     * If the capacity information does not exist, initialize the capacity information first.
+     *
+     * @param counterMode      increase or decrease mode.
+     * @param group            group string value.
+     * @param tenant           tenant string value.
+     * @param ignoreQuotaLimit ignoreQuotaLimit flag.
+     * @return operate successfully or not, {@code false} if the quota is reached when increasing.
+     */
+    public boolean updateUsageInMemory(CounterMode counterMode, String group, String tenant,
+            boolean ignoreQuotaLimit) {
+        CapacityUsageCounter counter = getUsageCounter(group, tenant);
+        if (CounterMode.INCREMENT != counterMode) {
+            return counter.decrement();
+        }
+        if (ignoreQuotaLimit) {
+            return counter.increment(-1);
+        }
+        int quota = counter.getQuota();
+        if (quota == 0) {
+            quota = getDefaultQuota(group, tenant);
+        }
+        return counter.increment(quota);
+    }
+    
+    /**
+     * Get the capacity of tenant, or group if tenant is blank, in memory. Only the usage, quota and max size are
+     * present, and 0 quota or max size means the default value.
+     *
+     * @param group  group string value.
+     * @param tenant tenant string value.
+     * @return capacity in memory.
+     */
+    public Capacity getCapacityInMemory(String group, String tenant) {
+        CapacityUsageCounter counter = getUsageCounter(group, tenant);
+        Capacity capacity = new Capacity();
+        capacity.setUsage(counter.getUsage());
+        capacity.setQuota(counter.getQuota());
+        capacity.setMaxSize(counter.getMaxSize());
+        return capacity;
+    }
+    
+    private CapacityUsageCounter getUsageCounter(String group, String tenant) {
+        boolean isTenant = StringUtils.isNotBlank(tenant);
+        String key = isTenant ? tenant : group;
+        Map<String, CapacityUsageCounter> counters = getUsageCounters(isTenant);
+        CapacityUsageCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        Capacity capacity = loadCapacity(key, isTenant);
+        if (capacity == null) {
+            initCapacity(group, tenant);
+            capacity = loadCapacity(key, isTenant);
+        }
+        if (capacity == null) {
+            throw new IllegalStateException("capacity not found, group: " + group + ", tenant: " + tenant);
+        }
+        counter = new CapacityUsageCounter(capacity);
+        CapacityUsageCounter previous = counters.putIfAbsent(key, counter);
+        return previous == null ? counter : previous;
+    }
+    
+    private Map<String, CapacityUsageCounter> getUsageCounters(boolean isTenant) {
+        return isTenant ? tenantUsageCounters : groupUsageCounters;
+    }
+    
+    private Capacity loadCapacity(String key, boolean isTenant) {
+        return isTenant ? getTenantCapacity(key) : getGroupCapacity(key);
+    }
+    
+    /**
+     * Flush the usage deltas in memory to database, and refresh the flushed counters from database so that the changes
+     * of other servers are visible.
+     */
+    void flushUsage() {
+        flushUsage(false);
+        flushUsage(true);
+    }
+    
+    private void flushUsage(boolean isTenant) {
+        Map<String, CapacityUsageCounter> counters = getUsageCounters(isTenant);
+        for (Map.Entry<String, CapacityUsageCounter> entry : counters.entrySet()) {
+            String key = entry.getKey();
+            CapacityUsageCounter counter = entry.getValue();
+            int delta = counter.drainDelta();
+            if (delta == 0) {
+                continue;
+            }
+            try {
+                final Timestamp now = TimeUtils.getCurrentTime();
+                boolean updated = isTenant ? tenantCapacityPersistService.updateUsageByDelta(key, delta, now)
+                        : groupCapacityPersistService.updateUsageByDelta(key, delta, now);
+                if (!updated) {
+                    LOGGER.warn("[capacityManagement] capacity not found when flush usage, key: {}, delta: {}", key,
+                            delta);
+                }
+            } catch (Exception e) {
+                counter.restoreDelta(delta);
+                LOGGER.error("[capacityManagement] flush usage failed, key: {}, delta: {}", key, delta, e);
+                continue;
+            }
+            refreshUsageCounter(key, counter, isTenant);
+        }
+    }
+    
+    /**
+     * Refresh all counters in memory from database.
+     */
+    void refreshUsageCounters() {
+        groupUsageCounters.forEach((key, counter) -> refreshUsageCounter(key, counter, false));
+        tenantUsageCounters.forEach((key, counter) -> refreshUsageCounter(key, counter, true));
+    }
+    
+    private void refreshUsageCounter(String key, CapacityUsageCounter counter, boolean isTenant) {
+        try {
+            Capacity capacity = loadCapacity(key, isTenant);
+            if (capacity == null) {
+                // Removed from database, it will be initialized again when it is used next time.
+                getUsageCounters(isTenant).remove(key, counter);
+                return;
+            }
+            counter.reset(capacity);
+        } catch (Exception e) {
+            LOGGER.error("[capacityManagement] refresh usage counter failed, key: {}", key, e);
+        }
+    }
+    
+    private void refreshUsageCounter(String key, boolean isTenant) {
+        CapacityUsageCounter counter = getUsageCounters(isTenant).get(key);
+        if (counter != null) {
+            refreshUsageCounter(key, counter, isTenant);
+        }
+    }
+    
     public GroupCapacity getGroupCapacity(String group) {
         return groupCapacityPersistService.getGroupCapacity(group);
     }
@@ -305,6 +477,16 @@ public class CapacityService {
         }
     }
     
+    private int getDefaultQuota(String group, String tenant) {
+        if (StringUtils.isNotBlank(tenant)) {
+            return PropertyUtil.getDefaultTenantQuota();
+        }
+        if (GroupCapacityPersistService.CLUSTER.equals(group)) {
+            return PropertyUtil.getDefaultClusterQuota();
+        }
+        return PropertyUtil.getDefaultGroupQuota();
+    }
+    
     private int getDefaultQuota(boolean isTenant) {
         if (isTenant) {
             return PropertyUtil.getDefaultTenantQuota();
@@ -525,17 +707,23 @@ public class CapacityService {
      */
     public boolean insertOrUpdateCapacity(String group, String tenant, Integer quota, Integer maxSize,
             Integer maxAggrCount, Integer maxAggrSize) {
+        boolean result;
         if (StringUtils.isNotBlank(tenant)) {
             Capacity capacity = tenantCapacityPersistService.getTenantCapacity(tenant);
             if (capacity == null) {
                 return initTenantCapacity(tenant, quota, maxSize, maxAggrCount, maxAggrSize);
             }
-            return tenantCapacityPersistService.updateTenantCapacity(tenant, quota, maxSize, maxAggrCount, maxAggrSize);
+            result = tenantCapacityPersistService.updateTenantCapacity(tenant, quota, maxSize, maxAggrCount,
+                    maxAggrSize);
+            refreshUsageCounter(tenant, true);
+            return result;
         }
         Capacity capacity = groupCapacityPersistService.getGroupCapacity(group);
         if (capacity == null) {
             return initGroupCapacity(group, quota, maxSize, maxAggrCount, maxAggrSize);
         }
-        return groupCapacityPersistService.updateGroupCapacity(group, quota, maxSize, maxAggrCount, maxAggrSize);
+        result = groupCapacityPersistService.updateGroupCapacity(group, quota, maxSize, maxAggrCount, maxAggrSize);
+        refreshUsageCounter(group, false);
+        return result;
     }
 }
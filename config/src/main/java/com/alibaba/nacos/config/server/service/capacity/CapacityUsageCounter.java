@@ -0,0 +1,138 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.capacity;
+
+import com.alibaba.nacos.config.server.model.capacity.Capacity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Usage counter of one capacity in memory, which is seeded from database. The changes of usage are accumulated as delta
+ * and flushed to database in batches by {@link CapacityService}.
+ *
+ * @author xiweng.yy
+ */
+class CapacityUsageCounter {
+    
+    private final AtomicInteger usage = new AtomicInteger();
+    
+    private final AtomicInteger delta = new AtomicInteger();
+    
+    private volatile int quota;
+    
+    private volatile int maxSize;
+    
+    CapacityUsageCounter(Capacity capacity) {
+        reset(capacity);
+    }
+    
+    /**
+     * Increase the usage by one if the usage does not reach the limit.
+     *
+     * @param limit limit of usage, negative means no limit
+     * @return {@code true} if increased, otherwise {@code false}
+     */
+    boolean increment(int limit) {
+        while (true) {
+            int current = usage.get();
+            if (limit >= 0 && current >= limit) {
+                return false;
+            }
+            if (usage.compareAndSet(current, current + 1)) {
+                delta.incrementAndGet();
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Decrease the usage by one if the usage is greater than zero.
+     *
+     * @return {@code true} if decreased, otherwise {@code false}
+     */
+    boolean decrement() {
+        while (true) {
+            int current = usage.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (usage.compareAndSet(current, current - 1)) {
+                delta.decrementAndGet();
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Take the delta which is not flushed yet and reset it to zero.
+     *
+     * @return delta of usage
+     */
+    int drainDelta() {
+        return delta.getAndSet(0);
+    }
+    
+    /**
+     * Give back the delta which failed to be flushed, it will be flushed next time.
+     *
+     * @param failedDelta delta of usage
+     */
+    void restoreDelta(int failedDelta) {
+        delta.addAndGet(failedDelta);
+    }
+    
+    /**
+     * Reset the counter by the capacity in database, the delta not flushed yet is kept on top of the usage in database.
+     *
+     * @param capacity capacity in database
+     */
+    void reset(Capacity capacity) {
+        usage.set(Math.max(0, valueOf(capacity.getUsage()) + delta.get()));
+        quota = valueOf(capacity.getQuota());
+        maxSize = valueOf(capacity.getMaxSize());
+    }
+    
+    private int valueOf(Integer value) {
+        return null == value ? 0 : value;
+    }
+    
+    int getUsage() {
+        return usage.get();
+    }
+    
+    int getDelta() {
+        return delta.get();
+    }
+    
+    /**
+     * Get the quota of capacity, 0 means the default quota.
+     *
+     * @return quota
+     */
+    int getQuota() {
+        return quota;
+    }
+    
+    /**
+     * Get the max size of capacity, 0 means the default max size.
+     *
+     * @return max size
+     */
+    int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -225,6 +225,25 @@ public class GroupCapacityPersistService {
         }
     }
     
+    /**
+     * Add delta to usage, the usage is not less than zero after adding.
+     *
+     * @param group       group string value.
+     * @param delta       delta of usage, negative for decrement.
+     * @param gmtModified gmtModified.
+     * @return operate result.
+     */
+    public boolean updateUsageByDelta(String group, int delta, Timestamp gmtModified) {
+        String sql = "UPDATE group_capacity SET `usage` = CASE WHEN `usage` + ? < 0 THEN 0 ELSE `usage` + ? END, "
+                + "gmt_modified = ? WHERE group_id = ?";
+        try {
+            return jdbcTemplate.update(sql, delta, delta, gmtModified, group) == 1;
+        } catch (CannotGetJdbcConnectionException e) {
+            FATAL_LOG.error("[db-error]", e);
+            throw e;
+        }
+    }
+    
     /**
      * Update GroupCapacity.
      *
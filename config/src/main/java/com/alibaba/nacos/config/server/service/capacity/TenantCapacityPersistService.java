@@ -193,6 +193,25 @@ public class TenantCapacityPersistService {
         }
     }
     
+    /**
+     * Add delta to usage, the usage is not less than zero after adding.
+     *
+     * @param tenant      tenant string value.
+     * @param delta       delta of usage, negative for decrement.
+     * @param gmtModified gmtModified.
+     * @return operate result.
+     */
+    public boolean updateUsageByDelta(String tenant, int delta, Timestamp gmtModified) {
+        String sql = "UPDATE tenant_capacity SET `usage` = CASE WHEN `usage` + ? < 0 THEN 0 ELSE `usage` + ? END, "
+                + "gmt_modified = ? WHERE tenant_id = ?";
+        try {
+            return jdbcTemplate.update(sql, delta, delta, gmtModified, tenant) == 1;
+        } catch (CannotGetJdbcConnectionException e) {
+            FATAL_LOG.error("[db-error]", e);
+            throw e;
+        }
+    }
+    
     /**
      * Update TenantCapacity.
      *
@@ -30,14 +30,17 @@ import com.alibaba.nacos.config.server.model.Page;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.datasource.DynamicDataSource;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpAllBetaProcessor;
+import com.alibaba.nacos.config.server.service.dump.processor.DumpAllParallelProcessor;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpAllProcessor;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpAllTagProcessor;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpChangeProcessor;
+import com.alibaba.nacos.config.server.service.dump.processor.DumpIncrementalProcessor;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpProcessor;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllBetaTask;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllTagTask;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
 import com.alibaba.nacos.config.server.service.dump.task.DumpChangeTask;
+import com.alibaba.nacos.config.server.service.dump.task.DumpIncrementalTask;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
 import com.alibaba.nacos.config.server.service.merge.MergeTaskProcessor;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
@@ -47,6 +50,7 @@ import com.alibaba.nacos.config.server.utils.DiskUtil;
 import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.config.server.utils.TimeUtils;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -84,10 +88,14 @@ public abstract class DumpService {
     
     protected DumpAllProcessor dumpAllProcessor;
     
+    protected DumpAllParallelProcessor dumpAllParallelProcessor;
+    
     protected DumpAllBetaProcessor dumpAllBetaProcessor;
     
     protected DumpAllTagProcessor dumpAllTagProcessor;
     
+    protected DumpIncrementalProcessor dumpIncrementalProcessor;
+    
     protected final PersistService persistService;
     
     protected final ServerMemberManager memberManager;
@@ -102,6 +110,11 @@ public abstract class DumpService {
      */
     static final int INITIAL_DELAY_IN_MINUTE = 6 * 60;
     
+    /**
+     * save cache index interval.
+     */
+    static final int CACHE_INDEX_INTERVAL_IN_MINUTE = 10;
+    
     private TaskManager dumpTaskMgr;
     
     private TaskManager dumpAllTaskMgr;
@@ -122,6 +135,11 @@ public abstract class DumpService {
     
     private int retentionDays = 30;
     
+    /**
+     * Whether all configs have been loaded to cache and disk at startup.
+     */
+    private volatile boolean startupDumpFinished = false;
+    
     /**
      * Here you inject the dependent objects constructively, ensuring that some of the dependent functionality is
      * initialized ahead of time.
@@ -134,17 +152,22 @@ public abstract class DumpService {
         this.memberManager = memberManager;
         this.processor = new DumpProcessor(this);
         this.dumpAllProcessor = new DumpAllProcessor(this);
+        this.dumpAllParallelProcessor = new DumpAllParallelProcessor(this);
         this.dumpAllBetaProcessor = new DumpAllBetaProcessor(this);
         this.dumpAllTagProcessor = new DumpAllTagProcessor(this);
-        this.dumpTaskMgr = new TaskManager("com.alibaba.nacos.server.DumpTaskManager");
+        this.dumpIncrementalProcessor = new DumpIncrementalProcessor(this, dumpAllProcessor);
+        this.dumpTaskMgr = new TaskManager("com.alibaba.nacos.server.DumpTaskManager",
+                PropertyUtil.isDumpTaskTimingWheelEnabled());
         this.dumpTaskMgr.setDefaultTaskProcessor(processor);
         
-        this.dumpAllTaskMgr = new TaskManager("com.alibaba.nacos.server.DumpAllTaskManager");
+        this.dumpAllTaskMgr = new TaskManager("com.alibaba.nacos.server.DumpAllTaskManager",
+                PropertyUtil.isDumpTaskTimingWheelEnabled());
         this.dumpAllTaskMgr.setDefaultTaskProcessor(dumpAllProcessor);
         
         this.dumpAllTaskMgr.addProcessor(DumpAllTask.TASK_ID, dumpAllProcessor);
         this.dumpAllTaskMgr.addProcessor(DumpAllBetaTask.TASK_ID, dumpAllBetaProcessor);
         this.dumpAllTaskMgr.addProcessor(DumpAllTagTask.TASK_ID, dumpAllTagProcessor);
+        this.dumpAllTaskMgr.addProcessor(DumpIncrementalTask.TASK_ID, dumpIncrementalProcessor);
         
         DynamicDataSource.getInstance().getDataSource();
     }
@@ -157,6 +180,15 @@ public abstract class DumpService {
         return memberManager;
     }
     
+    /**
+     * Whether all configs have been loaded to cache and disk at startup, the server should not be ready before it.
+     *
+     * @return {@code true} if startup dump finished
+     */
+    public boolean isStartupDumpFinished() {
+        return startupDumpFinished;
+    }
+    
     /**
      * initialize.
      *
@@ -171,7 +203,7 @@ public abstract class DumpService {
         try {
             LogUtil.DEFAULT_LOG.warn("DumpService start");
             
-            Runnable dumpAll = () -> dumpAllTaskMgr.addTask(DumpAllTask.TASK_ID, new DumpAllTask());
+            Runnable dumpAll = () -> dumpAllTaskMgr.addTask(DumpIncrementalTask.TASK_ID, new DumpIncrementalTask());
             
             Runnable dumpAllBeta = () -> dumpAllTaskMgr.addTask(DumpAllBetaTask.TASK_ID, new DumpAllBetaTask());
             
@@ -182,9 +214,8 @@ public abstract class DumpService {
                 if (canExecute()) {
                     try {
                         Timestamp startTime = getBeforeStamp(TimeUtils.getCurrentTime(), 24 * getRetentionDays());
-                        int pageSize = 1000;
-                        LOGGER.warn("clearConfigHistory, getBeforeStamp:{}, pageSize:{}", startTime, pageSize);
-                        persistService.removeConfigHistory(startTime, pageSize);
+                        LOGGER.warn("clearConfigHistory, getBeforeStamp:{}", startTime);
+                        clearConfigHistory(startTime);
                     } catch (Throwable e) {
                         LOGGER.error("clearConfigHistory error : {}", e.toString());
                     }
@@ -192,7 +223,7 @@ public abstract class DumpService {
             };
             
             try {
-                dumpConfigInfo(dumpAllProcessor);
+                dumpConfigInfo();
                 
                 // update Beta cache
                 LogUtil.DEFAULT_LOG.info("start clear all config-info-beta.");
@@ -218,6 +249,7 @@ public abstract class DumpService {
                     }
                     LOGGER.info("server start, schedule merge end.");
                 }
+                startupDumpFinished = true;
             } catch (Exception e) {
                 LogUtil.FATAL_LOG
                         .error("Nacos Server did not start because dumpservice bean construction failure :\n" + e);
@@ -238,6 +270,19 @@ public abstract class DumpService {
                 
                 ConfigExecutor.scheduleConfigTask(heartbeat, 0, 10, TimeUnit.SECONDS);
                 
+                if (isQuickStart()) {
+                    Runnable saveCacheIndex = () -> {
+                        try {
+                            int count = ConfigCacheService.saveCacheIndex();
+                            LogUtil.DEFAULT_LOG.info("save config cache index done, count:{}", count);
+                        } catch (IOException e) {
+                            LogUtil.FATAL_LOG.error("save config cache index fail" + e.getMessage());
+                        }
+                    };
+                    ConfigExecutor.scheduleConfigTask(saveCacheIndex, 0, CACHE_INDEX_INTERVAL_IN_MINUTE,
+                            TimeUnit.MINUTES);
+                }
+                
                 long initialDelay = new Random().nextInt(INITIAL_DELAY_IN_MINUTE) + 10;
                 LogUtil.DEFAULT_LOG.warn("initialDelay:{}", initialDelay);
                 
@@ -257,7 +302,7 @@ public abstract class DumpService {
         
     }
     
-    private void dumpConfigInfo(DumpAllProcessor dumpAllProcessor) throws IOException {
+    private void dumpConfigInfo() throws IOException {
         int timeStep = 6;
         boolean isAllDump = true;
         // initial dump all
@@ -279,11 +324,19 @@ public abstract class DumpService {
             if (isAllDump) {
                 LogUtil.DEFAULT_LOG.info("start clear all config-info.");
                 DiskUtil.clearAll();
-                dumpAllProcessor.process(new DumpAllTask());
+                long startTime = System.currentTimeMillis();
+                dumpAllParallelProcessor.process(new DumpAllTask());
+                dumpIncrementalProcessor.markFullDumped(startTime);
             } else {
                 Timestamp beforeTimeStamp = getBeforeStamp(heartheatLastStamp, timeStep);
+                long indexWatermark = loadCacheIndex();
+                boolean md5Loaded = indexWatermark > 0;
+                if (md5Loaded) {
+                    long indexBeforeStamp = indexWatermark - DumpIncrementalProcessor.WATERMARK_OVERLAP;
+                    beforeTimeStamp = new Timestamp(Math.min(beforeTimeStamp.getTime(), indexBeforeStamp));
+                }
                 DumpChangeProcessor dumpChangeProcessor = new DumpChangeProcessor(this, beforeTimeStamp,
-                        TimeUtils.getCurrentTime());
+                        TimeUtils.getCurrentTime(), md5Loaded);
                 dumpChangeProcessor.process(new DumpChangeTask());
                 Runnable checkMd5Task = () -> {
                     LogUtil.DEFAULT_LOG.error("start checkMd5Task");
@@ -315,6 +368,52 @@ public abstract class DumpService {
         }
     }
     
+    /**
+     * Load md5 of configs from cache index. The index older than the retention of history is ignored, because the
+     * configs deleted after it can not be found from history.
+     *
+     * @return watermark of index, {@code -1} if the index is not loaded
+     */
+    private long loadCacheIndex() {
+        long minWatermark = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(getRetentionDays());
+        return ConfigCacheService.loadCacheIndex(minWatermark);
+    }
+    
+    /**
+     * Remove the history modified before the time, bucket by bucket from the earliest one. Each bucket is a range of
+     * {@link PropertyUtil#getConfigHistoryRetentionBucketMinutes()} aligned to epoch, which deletes rows by the index
+     * of gmt_modified, or drops a whole partition if the table is partitioned by the same range.
+     *
+     * @param before the time before which history is removed
+     */
+    void clearConfigHistory(Timestamp before) {
+        long bucket = TimeUnit.MINUTES.toMillis(Math.max(1, PropertyUtil.getConfigHistoryRetentionBucketMinutes()));
+        clearConfigHistory(persistService, before, bucket);
+    }
+    
+    /**
+     * Remove the history modified before the time bucket by bucket. The earliest history is queried again after each
+     * bucket removed, so that the empty buckets between the history are skipped.
+     *
+     * @param persistService persist service
+     * @param before         the time before which history is removed
+     * @param bucket         time range of each bucket, unit for milliseconds
+     */
+    static void clearConfigHistory(PersistService persistService, Timestamp before, long bucket) {
+        long cutoff = before.getTime();
+        Timestamp earliest = persistService.findConfigHistoryMinModifiedTime();
+        while (null != earliest && earliest.getTime() < cutoff) {
+            long from = earliest.getTime() - earliest.getTime() % bucket;
+            long to = Math.min(from + bucket, cutoff);
+            persistService.removeConfigHistoryByTimeRange(new Timestamp(from), new Timestamp(to));
+            earliest = persistService.findConfigHistoryMinModifiedTime();
+            if (null != earliest && earliest.getTime() < to) {
+                LOGGER.warn("clearConfigHistory stopped, history before {} is not removed", new Timestamp(to));
+                return;
+            }
+        }
+    }
+    
     private Timestamp getBeforeStamp(Timestamp date, int step) {
         Calendar cal = Calendar.getInstance();
         cal.setTime(date);
@@ -375,6 +474,26 @@ public abstract class DumpService {
         DUMP_LOG.info("[dump-task] add task. groupKey={}, taskKey={}", groupKey, taskKey);
     }
     
+    /**
+     * Add formal DumpTask carrying the config content to TaskManager, it will execute asynchronously without reading
+     * the config from database.
+     *
+     * @param dataId       dataId
+     * @param group        group
+     * @param tenant       tenant
+     * @param lastModified last modified time of config
+     * @param handleIp     handle ip
+     * @param configInfo   config content, type and encrypted data key
+     */
+    public void dump(String dataId, String group, String tenant, long lastModified, String handleIp,
+            ConfigInfo configInfo) {
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        String taskKey = String.join("+", dataId, group, tenant, String.valueOf(false));
+        dumpTaskMgr.addTask(taskKey, new DumpTask(groupKey, lastModified, handleIp, configInfo.getContent(),
+                configInfo.getType(), configInfo.getEncryptedDataKey()));
+        DUMP_LOG.info("[dump-task] add task with content. groupKey={}, taskKey={}", groupKey, taskKey);
+    }
+    
     /**
      * Add DumpTask to TaskManager, it will execute asynchronously.
      */
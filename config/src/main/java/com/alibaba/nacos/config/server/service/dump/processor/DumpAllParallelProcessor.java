@@ -0,0 +1,202 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.task.NacosTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.Page;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Dump all processor which reads and writes configs in parallel, used to load all configs at startup.
+ *
+ * <p>The id range of configs is split to {@link PropertyUtil#getDumpAllReaderCount()} readers, each reader pages its
+ * range by id and puts the configs into the bounded queue of writers, so reading is blocked when writers fall behind.
+ * The configs are dispatched to {@link PropertyUtil#getDumpAllWriterCount()} writers by hash of group key, so the
+ * dumps of the same config are always executed by the same writer in order.
+ *
+ * <p>The progress is exposed by {@link MetricsMonitor#getDumpAllTotalMonitor()} and
+ * {@link MetricsMonitor#getDumpAllFinishedMonitor()}. Any failure of readers or writers fails the whole dump.
+ *
+ * @author xiweng.yy
+ */
+public class DumpAllParallelProcessor implements NacosTaskProcessor {
+    
+    static final int PAGE_SIZE = 1000;
+    
+    static final int QUEUE_CAPACITY = 2 * PAGE_SIZE;
+    
+    private static final int PROGRESS_LOG_STEP = 10 * PAGE_SIZE;
+    
+    /**
+     * Marks the end of queue, which is put after all readers finished.
+     */
+    private static final ConfigInfoWrapper END = new ConfigInfoWrapper();
+    
+    final PersistService persistService;
+    
+    public DumpAllParallelProcessor(DumpService dumpService) {
+        this.persistService = dumpService.getPersistService();
+    }
+    
+    @Override
+    public boolean process(NacosTask task) {
+        long maxId = persistService.findConfigMaxId();
+        int readerCount = Math.max(1, PropertyUtil.getDumpAllReaderCount());
+        int writerCount = Math.max(1, PropertyUtil.getDumpAllWriterCount());
+        int total = persistService.configInfoCount();
+        MetricsMonitor.getDumpAllTotalMonitor().set(total);
+        MetricsMonitor.getDumpAllFinishedMonitor().set(0);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long startTime = System.currentTimeMillis();
+        ExecutorService executor = ExecutorFactory.newFixedExecutorService(readerCount + writerCount,
+                new NameThreadFactory("com.alibaba.nacos.config.dump.all"));
+        try {
+            List<BlockingQueue<ConfigInfoWrapper>> queues = new ArrayList<>(writerCount);
+            List<Future<?>> writers = new ArrayList<>(writerCount);
+            for (int i = 0; i < writerCount; i++) {
+                BlockingQueue<ConfigInfoWrapper> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+                queues.add(queue);
+                writers.add(executor.submit(() -> write(queue, total, failure)));
+            }
+            List<Future<?>> readers = new ArrayList<>(readerCount);
+            long rangeSize = maxId / readerCount + 1;
+            for (long startId = 0; startId < maxId; startId += rangeSize) {
+                final long fromId = startId;
+                final long toId = Math.min(maxId, startId + rangeSize);
+                readers.add(executor.submit(() -> read(fromId, toId, queues, failure)));
+            }
+            waitFor(readers, failure);
+            for (BlockingQueue<ConfigInfoWrapper> each : queues) {
+                each.put(END);
+            }
+            waitFor(writers, failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (null != failure.get()) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "dump all configs failed", failure.get());
+        }
+        DEFAULT_LOG.info("[all-dump] done, dumped:{}, readers:{}, writers:{}, cost:{}ms",
+                MetricsMonitor.getDumpAllFinishedMonitor().get(), readerCount, writerCount,
+                System.currentTimeMillis() - startTime);
+        return true;
+    }
+    
+    /**
+     * Read configs whose id is in range (fromId, toId] page by page, and dispatch them to writers.
+     */
+    private void read(long fromId, long toId, List<BlockingQueue<ConfigInfoWrapper>> queues,
+            AtomicReference<Throwable> failure) {
+        long lastId = fromId;
+        try {
+            while (lastId < toId && null == failure.get()) {
+                Page<ConfigInfoWrapper> page = persistService.findAllConfigInfoFragment(lastId, PAGE_SIZE);
+                if (null == page || CollectionUtils.isEmpty(page.getPageItems())) {
+                    return;
+                }
+                for (ConfigInfoWrapper each : page.getPageItems()) {
+                    if (each.getId() > toId) {
+                        return;
+                    }
+                    lastId = each.getId();
+                    queues.get(writerIndex(each, queues.size())).put(each);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } catch (Throwable e) {
+            DEFAULT_LOG.error("[all-dump] read configs in ({}, {}] failed", fromId, toId, e);
+            failure.compareAndSet(null, e);
+        }
+    }
+    
+    /**
+     * Dump configs from queue until the end. The queue is drained even if dump failed, so readers are never blocked.
+     */
+    private void write(BlockingQueue<ConfigInfoWrapper> queue, int total, AtomicReference<Throwable> failure) {
+        try {
+            ConfigInfoWrapper cf;
+            while (END != (cf = queue.take())) {
+                if (null == failure.get()) {
+                    dump(cf, total, failure);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+    }
+    
+    private void dump(ConfigInfoWrapper cf, int total, AtomicReference<Throwable> failure) {
+        try {
+            DumpAllProcessor.dumpConfig(cf);
+            String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={}, md5={}", groupKey, cf.getLastModified(),
+                    cf.getContent().length(), ConfigCacheService.getContentMd5(groupKey));
+            int finished = MetricsMonitor.getDumpAllFinishedMonitor().incrementAndGet();
+            if (finished % PROGRESS_LOG_STEP == 0) {
+                DEFAULT_LOG.info("[all-dump] {} / {}", finished, total);
+            }
+        } catch (Throwable e) {
+            DEFAULT_LOG.error("[all-dump] dump config {} failed", cf.getDataId(), e);
+            failure.compareAndSet(null, e);
+        }
+    }
+    
+    private void waitFor(List<Future<?>> futures, AtomicReference<Throwable> failure) throws InterruptedException {
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (ExecutionException e) {
+                failure.compareAndSet(null, e.getCause());
+            }
+        }
+    }
+    
+    static int writerIndex(ConfigInfoWrapper cf, int writerCount) {
+        int hash = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant()).hashCode();
+        return (hash & Integer.MAX_VALUE) % writerCount;
+    }
+}
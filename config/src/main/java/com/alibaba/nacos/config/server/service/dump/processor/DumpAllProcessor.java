@@ -56,20 +56,7 @@ public class DumpAllProcessor implements NacosTaskProcessor {
                 for (ConfigInfoWrapper cf : page.getPageItems()) {
                     long id = cf.getId();
                     lastMaxId = Math.max(id, lastMaxId);
-                    if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
-                        AggrWhitelist.load(cf.getContent());
-                    }
-                    
-                    if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                        ClientIpWhiteList.load(cf.getContent());
-                    }
-                    
-                    if (cf.getDataId().equals(SwitchService.SWITCH_META_DATAID)) {
-                        SwitchService.load(cf.getContent());
-                    }
-    
-                    ConfigCacheService.dump(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getContent(),
-                            cf.getLastModified(), cf.getType(), cf.getEncryptedDataKey());
+                    dumpConfig(cf);
                     
                     final String content = cf.getContent();
                     final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
@@ -85,6 +72,29 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         return true;
     }
     
+    /**
+     * Dump config read from database, and reload the metadata if the config is.
+     *
+     * @param cf config read from database
+     * @return dump result
+     */
+    static boolean dumpConfig(ConfigInfoWrapper cf) {
+        if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
+            AggrWhitelist.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATAID)) {
+            SwitchService.load(cf.getContent());
+        }
+        
+        return ConfigCacheService.dump(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getContent(),
+                cf.getLastModified(), cf.getType(), cf.getEncryptedDataKey());
+    }
+    
     static final int PAGE_SIZE = 1000;
     
     final DumpService dumpService;
@@ -47,27 +47,29 @@ public class DumpChangeProcessor implements NacosTaskProcessor {
     
     final Timestamp endTime;
     
+    /**
+     * Whether md5 of all configs have been loaded from cache index, then md5 is not queried from database.
+     */
+    final boolean md5Loaded;
+    
     public DumpChangeProcessor(DumpService dumpService, Timestamp startTime, Timestamp endTime) {
+        this(dumpService, startTime, endTime, false);
+    }
+    
+    public DumpChangeProcessor(DumpService dumpService, Timestamp startTime, Timestamp endTime, boolean md5Loaded) {
         this.dumpService = dumpService;
         this.persistService = dumpService.getPersistService();
         this.startTime = startTime;
         this.endTime = endTime;
+        this.md5Loaded = md5Loaded;
     }
     
     @Override
     public boolean process(NacosTask task) {
         LogUtil.DEFAULT_LOG.warn("quick start; startTime:{},endTime:{}", startTime, endTime);
-        LogUtil.DEFAULT_LOG.warn("updateMd5 start");
-        long startUpdateMd5 = System.currentTimeMillis();
-        List<ConfigInfoWrapper> updateMd5List = persistService.listAllGroupKeyMd5();
-        LogUtil.DEFAULT_LOG.warn("updateMd5 count:{}", updateMd5List.size());
-        for (ConfigInfoWrapper config : updateMd5List) {
-            final String groupKey = GroupKey2.getKey(config.getDataId(), config.getGroup());
-            ConfigCacheService
-                    .updateMd5(groupKey, config.getMd5(), config.getLastModified(), config.getEncryptedDataKey());
+        if (!md5Loaded) {
+            updateAllMd5();
         }
-        long endUpdateMd5 = System.currentTimeMillis();
-        LogUtil.DEFAULT_LOG.warn("updateMd5 done,cost:{}", endUpdateMd5 - startUpdateMd5);
         
         LogUtil.DEFAULT_LOG.warn("deletedConfig start");
         long startDeletedConfigTime = System.currentTimeMillis();
@@ -102,4 +104,18 @@ public class DumpChangeProcessor implements NacosTaskProcessor {
         LogUtil.DEFAULT_LOG.warn("changeConfig done,cost:{}", endChangeConfigTime - startChangeConfigTime);
         return true;
     }
+    
+    private void updateAllMd5() {
+        LogUtil.DEFAULT_LOG.warn("updateMd5 start");
+        long startUpdateMd5 = System.currentTimeMillis();
+        List<ConfigInfoWrapper> updateMd5List = persistService.listAllGroupKeyMd5();
+        LogUtil.DEFAULT_LOG.warn("updateMd5 count:{}", updateMd5List.size());
+        for (ConfigInfoWrapper config : updateMd5List) {
+            final String groupKey = GroupKey2.getKey(config.getDataId(), config.getGroup());
+            ConfigCacheService
+                    .updateMd5(groupKey, config.getMd5(), config.getLastModified(), config.getEncryptedDataKey());
+        }
+        long endUpdateMd5 = System.currentTimeMillis();
+        LogUtil.DEFAULT_LOG.warn("updateMd5 done,cost:{}", endUpdateMd5 - startUpdateMd5);
+    }
 }
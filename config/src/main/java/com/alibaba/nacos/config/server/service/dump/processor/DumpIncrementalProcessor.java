@@ -0,0 +1,185 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.task.NacosTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
+import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Incremental dump processor.
+ *
+ * <p>Instead of rewriting all configs, only the configs modified or deleted since the watermark of last dump are
+ * dumped, and the md5 of other configs stored in database are compared with the md5 in cache, only the inconsistent
+ * configs are dumped again. The watermark is moved back a little to tolerate the clock difference between servers.
+ *
+ * <p>A full dump by {@link DumpAllProcessor} is still executed when there is no watermark, incremental dump is disabled
+ * or full dump has not been executed for {@link PropertyUtil#getDumpFullScanInterval()} hours.
+ *
+ * @author xiweng.yy
+ */
+public class DumpIncrementalProcessor implements NacosTaskProcessor {
+    
+    /**
+     * The changed configs are queried from the time before watermark, to tolerate the clock difference of servers.
+     */
+    public static final long WATERMARK_OVERLAP = TimeUnit.MINUTES.toMillis(10);
+    
+    static final int MD5_PAGE_SIZE = 10000;
+    
+    static final int MD5_CHECK_THREAD_COUNT = 4;
+    
+    final PersistService persistService;
+    
+    final DumpAllProcessor dumpAllProcessor;
+    
+    private volatile long watermark;
+    
+    private volatile long lastFullDumpTime;
+    
+    public DumpIncrementalProcessor(DumpService dumpService, DumpAllProcessor dumpAllProcessor) {
+        this.persistService = dumpService.getPersistService();
+        this.dumpAllProcessor = dumpAllProcessor;
+    }
+    
+    /**
+     * Mark all configs dumped, the next incremental dump will dump the configs changed after start time.
+     *
+     * @param startTime the time when full dump started
+     */
+    public void markFullDumped(long startTime) {
+        watermark = startTime;
+        lastFullDumpTime = startTime;
+    }
+    
+    @Override
+    public boolean process(NacosTask task) {
+        long startTime = System.currentTimeMillis();
+        if (isFullDumpRequired(startTime)) {
+            DEFAULT_LOG.info("[dump-incremental] full dump start, last full dump time:{}", lastFullDumpTime);
+            boolean result = dumpAllProcessor.process(new DumpAllTask());
+            markFullDumped(startTime);
+            return result;
+        }
+        Timestamp from = new Timestamp(watermark - WATERMARK_OVERLAP);
+        Timestamp to = new Timestamp(startTime);
+        int removedCount = removeDeletedConfigs(from, to);
+        int changedCount = dumpChangedConfigs(from, to);
+        int inconsistentCount = checkMd5();
+        watermark = startTime;
+        DEFAULT_LOG.info("[dump-incremental] done, from:{}, changed:{}, removed:{}, inconsistent:{}, cost:{}ms", from,
+                changedCount, removedCount, inconsistentCount, System.currentTimeMillis() - startTime);
+        return true;
+    }
+    
+    private boolean isFullDumpRequired(long currentTime) {
+        return !PropertyUtil.isDumpIncrementalEnabled() || watermark <= 0
+                || currentTime - lastFullDumpTime >= TimeUnit.HOURS.toMillis(PropertyUtil.getDumpFullScanInterval());
+    }
+    
+    private int removeDeletedConfigs(Timestamp from, Timestamp to) {
+        int result = 0;
+        for (ConfigInfo each : persistService.findDeletedConfig(from, to)) {
+            if (null == persistService.findConfigInfo(each.getDataId(), each.getGroup(), each.getTenant())) {
+                ConfigCacheService.remove(each.getDataId(), each.getGroup(), each.getTenant());
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private int dumpChangedConfigs(Timestamp from, Timestamp to) {
+        List<ConfigInfoWrapper> changedConfigs = persistService.findChangeConfig(from, to);
+        for (ConfigInfoWrapper each : changedConfigs) {
+            DumpAllProcessor.dumpConfig(each);
+            LogUtil.DUMP_LOG.info("[dump-incremental-ok] {}, {}, length={}",
+                    GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()), each.getLastModified(),
+                    each.getContent().length());
+        }
+        return changedConfigs.size();
+    }
+    
+    /**
+     * Compare the md5 stored in database with the md5 in cache, and dump the inconsistent configs. The pages of md5 are
+     * read from database in parallel, and compared in current thread.
+     *
+     * @return count of inconsistent configs
+     */
+    private int checkMd5() {
+        int pageCount = (int) Math.ceil(persistService.configInfoCount() * 1.0 / MD5_PAGE_SIZE);
+        int result = 0;
+        ExecutorService executor = ExecutorFactory.newFixedExecutorService(MD5_CHECK_THREAD_COUNT,
+                new NameThreadFactory("com.alibaba.nacos.config.dump.md5.reader"));
+        try {
+            List<Future<List<ConfigInfoWrapper>>> pages = new ArrayList<>(pageCount);
+            for (int pageNo = 1; pageNo <= pageCount; pageNo++) {
+                final int currentPageNo = pageNo;
+                pages.add(executor.submit(() -> persistService.listGroupKeyMd5ByPage(currentPageNo, MD5_PAGE_SIZE)));
+            }
+            for (Future<List<ConfigInfoWrapper>> each : pages) {
+                result += checkMd5(each.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DEFAULT_LOG.warn("[dump-incremental] check md5 interrupted");
+        } catch (ExecutionException e) {
+            DEFAULT_LOG.error("[dump-incremental] check md5 failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+    
+    private int checkMd5(List<ConfigInfoWrapper> page) {
+        int result = 0;
+        for (ConfigInfoWrapper each : page) {
+            String groupKey = GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant());
+            if (Objects.equals(each.getMd5(), ConfigCacheService.getContentMd5(groupKey))) {
+                continue;
+            }
+            ConfigInfoWrapper configInfo = persistService
+                    .queryConfigInfo(each.getDataId(), each.getGroup(), each.getTenant());
+            if (null != configInfo) {
+                DumpAllProcessor.dumpConfig(configInfo);
+                LogUtil.DUMP_LOG.warn("[dump-incremental] md5 inconsistent, dump again. {}", groupKey);
+                result++;
+            }
+        }
+        return result;
+    }
+}
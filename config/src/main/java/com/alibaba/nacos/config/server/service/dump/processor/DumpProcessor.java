@@ -22,6 +22,7 @@ import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfo4Beta;
 import com.alibaba.nacos.config.server.model.ConfigInfo4Tag;
 import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.dump.DumpConfigHandler;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
@@ -72,7 +73,16 @@ public class DumpProcessor implements NacosTaskProcessor {
             
             return DumpConfigHandler.configDump(build.build());
         }
-        if (StringUtils.isBlank(tag)) {
+        if (StringUtils.isBlank(tag) && null != dumpTask.getContent() && null != ConfigCacheService
+                .getContentCache(GroupKey2.getKey(dataId, group, tenant))) {
+            // the content is carried by the task, no need to read it from database again. If the config is not in
+            // cache, it may be removed after the content is carried, so the content is read from database instead,
+            // otherwise a late carried content would bring the removed config back.
+            build.remove(false);
+            build.content(dumpTask.getContent());
+            build.type(dumpTask.getType());
+            build.encryptedDataKey(dumpTask.getEncryptedDataKey());
+        } else if (StringUtils.isBlank(tag)) {
             ConfigInfo cf = persistService.findConfigInfo(dataId, group, tenant);
             
             build.remove(Objects.isNull(cf));
@@ -55,13 +55,38 @@ public class DumpTask extends AbstractDelayTask {
         setTaskInterval(1000L);
     }
     
+    /**
+     * Create a formal dump task carrying the config content, which is dumped without reading from database.
+     */
+    public DumpTask(String groupKey, long lastModified, String handleIp, String content, String type,
+            String encryptedDataKey) {
+        this(groupKey, lastModified, handleIp);
+        this.content = content;
+        this.type = type;
+        this.encryptedDataKey = encryptedDataKey;
+    }
+    
+    /**
+     * Keep the newer one of the pending task and this task, so that an older content will never overwrite a newer
+     * one. The content of an older task is dropped together with its last modified time.
+     */
     @Override
     public void merge(AbstractDelayTask task) {
+        if (!(task instanceof DumpTask)) {
+            return;
+        }
+        DumpTask oldTask = (DumpTask) task;
+        if (oldTask.lastModified > lastModified) {
+            lastModified = oldTask.lastModified;
+            content = oldTask.content;
+            type = oldTask.type;
+            encryptedDataKey = oldTask.encryptedDataKey;
+        }
     }
     
     final String groupKey;
     
-    final long lastModified;
+    long lastModified;
     
     final String handleIp;
     
@@ -69,6 +94,15 @@ public class DumpTask extends AbstractDelayTask {
     
     final String tag;
     
+    /**
+     * Content of config, {@code null} means the content should be read from database.
+     */
+    String content;
+    
+    String type;
+    
+    String encryptedDataKey;
+    
     public String getGroupKey() {
         return groupKey;
     }
@@ -89,5 +123,17 @@ public class DumpTask extends AbstractDelayTask {
         return tag;
     }
     
+    public String getContent() {
+        return content;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
 }
 
@@ -29,7 +29,9 @@ import com.alibaba.nacos.common.model.RestResult;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
@@ -37,6 +39,7 @@ import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.MemberUtil;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -50,6 +53,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -69,11 +73,11 @@ public class AsyncNotifyService {
     
     private final NacosAsyncRestTemplate nacosAsyncRestTemplate = HttpClientManager.getNacosAsyncRestTemplate();
     
-    private static final int MIN_RETRY_INTERVAL = 500;
+    static final int MIN_RETRY_INTERVAL = 500;
     
-    private static final int INCREASE_STEPS = 1000;
+    static final int INCREASE_STEPS = 1000;
     
-    private static final int MAX_COUNT = 6;
+    static final int MAX_COUNT = 6;
     
     @Autowired
     private DumpService dumpService;
@@ -81,6 +85,9 @@ public class AsyncNotifyService {
     @Autowired
     private ConfigClusterRpcClientProxy configClusterRpcClientProxy;
     
+    @Autowired
+    private ClusterSyncBatcher clusterSyncBatcher;
+    
     private ServerMemberManager memberManager;
     
     @Autowired
@@ -103,6 +110,7 @@ public class AsyncNotifyService {
                     String group = evt.group;
                     String tenant = evt.tenant;
                     String tag = evt.tag;
+                    ConfigInfo syncContent = buildSyncContent(evt);
                     
                     MetricsMonitor.incrementConfigChangeCount(tenant, group, dataId);
                     
@@ -118,7 +126,8 @@ public class AsyncNotifyService {
                                     evt.isBeta));
                         } else {
                             rpcQueue.add(
-                                    new NotifySingleRpcTask(dataId, group, tenant, tag, dumpTs, evt.isBeta, member));
+                                    new NotifySingleRpcTask(dataId, group, tenant, tag, dumpTs, evt.isBeta, member,
+                                            syncContent));
                         }
                     }
                     if (!httpQueue.isEmpty()) {
@@ -204,9 +213,18 @@ public class AsyncNotifyService {
                 syncRequest.setLastModified(task.getLastModified());
                 syncRequest.setTag(task.tag);
                 syncRequest.setTenant(task.getTenant());
+                if (null != task.syncContent) {
+                    syncRequest.setContent(task.syncContent.getContent());
+                    syncRequest.setMd5(task.syncContent.getMd5());
+                    syncRequest.setType(task.syncContent.getType());
+                    syncRequest.setEncryptedDataKey(task.syncContent.getEncryptedDataKey());
+                }
                 Member member = task.member;
                 if (memberManager.getSelf().equals(member)) {
-                    if (syncRequest.isBeta()) {
+                    if (null != task.syncContent) {
+                        dumpService.dump(syncRequest.getDataId(), syncRequest.getGroup(), syncRequest.getTenant(),
+                                syncRequest.getLastModified(), NetUtils.localIP(), task.syncContent);
+                    } else if (syncRequest.isBeta()) {
                         dumpService.dump(syncRequest.getDataId(), syncRequest.getGroup(), syncRequest.getTenant(),
                                 syncRequest.getLastModified(), NetUtils.localIP(), true);
                     } else {
@@ -216,6 +234,12 @@ public class AsyncNotifyService {
                     continue;
                 }
                 
+                if (memberManager.hasMember(member.getAddress()) && clusterSyncBatcher.isBatchSupported(member)) {
+                    // the batcher will check the health of member and retry the failed requests itself.
+                    clusterSyncBatcher.add(member, syncRequest);
+                    continue;
+                }
+                
                 if (memberManager.hasMember(member.getAddress())) {
                     // start the health check and there are ips that are not monitored, put them directly in the notification queue, otherwise notify
                     boolean unHealthNeedDelay = memberManager.isUnHealth(member.getAddress());
@@ -259,13 +283,48 @@ public class AsyncNotifyService {
         
         private String tag;
         
+        /**
+         * Content of changed config carried by sync request, {@code null} means the config should be read from
+         * database by the target member.
+         */
+        private ConfigInfo syncContent;
+        
         public NotifySingleRpcTask(String dataId, String group, String tenant, String tag, long lastModified,
                 boolean isBeta, Member member) {
+            this(dataId, group, tenant, tag, lastModified, isBeta, member, null);
+        }
+        
+        public NotifySingleRpcTask(String dataId, String group, String tenant, String tag, long lastModified,
+                boolean isBeta, Member member, ConfigInfo syncContent) {
             super(dataId, group, tenant, lastModified);
             this.member = member;
             this.isBeta = isBeta;
             this.tag = tag;
+            this.syncContent = syncContent;
+        }
+    }
+    
+    /**
+     * Build the content carried by sync requests once for each change, only the formal config whose content is not
+     * larger than {@link PropertyUtil#getClusterSyncContentMaxSize()} is carried.
+     *
+     * @param evt config data change event
+     * @return content to sync, {@code null} if the content should be read from database by the target member
+     */
+    private static ConfigInfo buildSyncContent(ConfigDataChangeEvent evt) {
+        if (null == evt.content || evt.isBeta || StringUtils.isNotBlank(evt.tag)) {
+            return null;
+        }
+        int maxSize = PropertyUtil.getClusterSyncContentMaxSize();
+        if (maxSize <= 0 || evt.content.length() > maxSize
+                || evt.content.getBytes(StandardCharsets.UTF_8).length > maxSize) {
+            return null;
         }
+        ConfigInfo result = new ConfigInfo(evt.dataId, evt.group, evt.tenant, null, evt.content);
+        result.setMd5(MD5Utils.md5Hex(evt.content, Constants.ENCODE));
+        result.setType(evt.type);
+        result.setEncryptedDataKey(evt.encryptedDataKey);
+        return result;
     }
     
     private void asyncTaskExecute(NotifySingleTask task) {
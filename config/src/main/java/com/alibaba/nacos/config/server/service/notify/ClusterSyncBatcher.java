@@ -0,0 +1,271 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.notify;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
+import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.sys.utils.InetUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.INCREASE_STEPS;
+import static com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.MAX_COUNT;
+import static com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.MIN_RETRY_INTERVAL;
+
+/**
+ * Coalesce config change sync requests to the same member into batch requests.
+ *
+ * <p>The requests added in {@link PropertyUtil#getClusterSyncBatchWindow()} are sent in one batch, and only the
+ * request with the latest last modified time is kept for each config. Each member has at most one batch in flight,
+ * and the failed requests are merged back to the pending ones and retried after a delay, so that an older change will
+ * never be synced after a newer one of the same config.
+ *
+ * @author xiweng.yy
+ */
+@Component
+public class ClusterSyncBatcher {
+    
+    private static final int MAX_BATCH_SIZE = 500;
+    
+    /**
+     * The max size of contents carried by one batch, unit for chars.
+     */
+    private static final long MAX_BATCH_CONTENT_SIZE = 4 * 1024 * 1024L;
+    
+    private static final long BATCH_TIMEOUT = 3000L;
+    
+    private final ConcurrentMap<String, MemberBatch> memberBatches = new ConcurrentHashMap<>();
+    
+    private final ServerMemberManager memberManager;
+    
+    private final ConfigClusterRpcClientProxy configClusterRpcClientProxy;
+    
+    public ClusterSyncBatcher(ServerMemberManager memberManager,
+            ConfigClusterRpcClientProxy configClusterRpcClientProxy) {
+        this.memberManager = memberManager;
+        this.configClusterRpcClientProxy = configClusterRpcClientProxy;
+    }
+    
+    /**
+     * Whether the sync requests to the member can be sent in batch.
+     *
+     * @param member target member
+     * @return {@code true} if batch is enabled and supported by member
+     */
+    public boolean isBatchSupported(Member member) {
+        return PropertyUtil.getClusterSyncBatchWindow() > 0 && null != member.getAbilities()
+                && null != member.getAbilities().getConfigAbility() && member.getAbilities().getConfigAbility()
+                .isSupportClusterSyncBatch();
+    }
+    
+    /**
+     * Add a sync request to the pending batch of member.
+     *
+     * @param member      target member
+     * @param syncRequest config change sync request
+     */
+    public void add(Member member, ConfigChangeClusterSyncRequest syncRequest) {
+        memberBatches.computeIfAbsent(member.getAddress(), MemberBatch::new).add(syncRequest);
+    }
+    
+    private static String buildKey(ConfigChangeClusterSyncRequest request) {
+        return String.join("+", request.getDataId(), request.getGroup(), request.getTenant(),
+                String.valueOf(request.isBeta()), request.getTag());
+    }
+    
+    private class MemberBatch {
+        
+        private final String address;
+        
+        private final LinkedHashMap<String, ConfigChangeClusterSyncRequest> pending = new LinkedHashMap<>();
+        
+        /**
+         * Whether a flush is scheduled or a batch is in flight.
+         */
+        private boolean running;
+        
+        private int failCount;
+        
+        private MemberBatch(String address) {
+            this.address = address;
+        }
+        
+        private synchronized void add(ConfigChangeClusterSyncRequest request) {
+            merge(request);
+            if (!running) {
+                running = true;
+                schedule(PropertyUtil.getClusterSyncBatchWindow());
+            }
+        }
+        
+        private void merge(ConfigChangeClusterSyncRequest request) {
+            pending.merge(buildKey(request), request,
+                    (older, newer) -> newer.getLastModified() >= older.getLastModified() ? newer : older);
+        }
+        
+        private void schedule(long delay) {
+            ConfigExecutor.scheduleAsyncNotify(this::flush, delay, TimeUnit.MILLISECONDS);
+        }
+        
+        private void flush() {
+            List<ConfigChangeClusterSyncRequest> batch;
+            Member member;
+            synchronized (this) {
+                member = memberManager.find(address);
+                if (null == member) {
+                    // member has offline, drop all pending requests.
+                    pending.clear();
+                    running = false;
+                    memberBatches.remove(address, this);
+                    return;
+                }
+                if (memberManager.isUnHealth(address)) {
+                    for (ConfigChangeClusterSyncRequest each : pending.values()) {
+                        ConfigTraceService.logNotifyEvent(each.getDataId(), each.getGroup(), each.getTenant(), null,
+                                each.getLastModified(), InetUtils.getSelfIP(),
+                                ConfigTraceService.NOTIFY_EVENT_UNHEALTH, 0, address);
+                    }
+                    schedule(nextRetryDelay());
+                    return;
+                }
+                batch = pollBatch();
+            }
+            ConfigChangeClusterSyncBatchRequest batchRequest = new ConfigChangeClusterSyncBatchRequest();
+            batchRequest.setSyncRequests(batch);
+            BatchCallBack callBack = new BatchCallBack(this, batch);
+            try {
+                configClusterRpcClientProxy.syncConfigChangeBatch(member, batchRequest, callBack);
+            } catch (Exception e) {
+                callBack.onException(e);
+            }
+        }
+        
+        private List<ConfigChangeClusterSyncRequest> pollBatch() {
+            List<ConfigChangeClusterSyncRequest> result = new ArrayList<>(Math.min(pending.size(), MAX_BATCH_SIZE));
+            long contentSize = 0L;
+            Iterator<Map.Entry<String, ConfigChangeClusterSyncRequest>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext() && result.size() < MAX_BATCH_SIZE) {
+                ConfigChangeClusterSyncRequest each = iterator.next().getValue();
+                contentSize += null == each.getContent() ? 0 : each.getContent().length();
+                if (!result.isEmpty() && contentSize > MAX_BATCH_CONTENT_SIZE) {
+                    break;
+                }
+                result.add(each);
+                iterator.remove();
+            }
+            return result;
+        }
+        
+        private synchronized void finish(List<ConfigChangeClusterSyncRequest> batch, boolean success) {
+            if (success) {
+                failCount = 0;
+            } else {
+                // the newer requests added during the batch in flight are kept.
+                for (ConfigChangeClusterSyncRequest each : batch) {
+                    merge(each);
+                }
+            }
+            if (pending.isEmpty()) {
+                running = false;
+                return;
+            }
+            schedule(success ? PropertyUtil.getClusterSyncBatchWindow() : nextRetryDelay());
+        }
+        
+        private int nextRetryDelay() {
+            int delay = MIN_RETRY_INTERVAL + failCount * failCount * INCREASE_STEPS;
+            if (failCount <= MAX_COUNT) {
+                failCount++;
+            }
+            return delay;
+        }
+    }
+    
+    private static class BatchCallBack implements RequestCallBack<Response> {
+        
+        private final MemberBatch memberBatch;
+        
+        private final List<ConfigChangeClusterSyncRequest> batch;
+        
+        private BatchCallBack(MemberBatch memberBatch, List<ConfigChangeClusterSyncRequest> batch) {
+            this.memberBatch = memberBatch;
+            this.batch = Collections.unmodifiableList(batch);
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return ConfigExecutor.getConfigSubServiceExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return BATCH_TIMEOUT;
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            if (response.isSuccess()) {
+                logNotifyEvent(ConfigTraceService.NOTIFY_EVENT_OK);
+                memberBatch.finish(batch, true);
+            } else {
+                LogUtil.NOTIFY_LOG.error("[notify-error] target:{} batch size:{} code:{}", memberBatch.address,
+                        batch.size(), response.getErrorCode());
+                logNotifyEvent(ConfigTraceService.NOTIFY_EVENT_ERROR);
+                MetricsMonitor.getConfigNotifyException().increment();
+                memberBatch.finish(batch, false);
+            }
+        }
+        
+        @Override
+        public void onException(Throwable ex) {
+            LogUtil.NOTIFY_LOG.error("[notify-exception] target:{} batch size:{} ex:{}", memberBatch.address,
+                    batch.size(), ex.toString());
+            logNotifyEvent(ConfigTraceService.NOTIFY_EVENT_EXCEPTION);
+            MetricsMonitor.getConfigNotifyException().increment();
+            memberBatch.finish(batch, false);
+        }
+        
+        private void logNotifyEvent(String type) {
+            long now = System.currentTimeMillis();
+            for (ConfigChangeClusterSyncRequest each : batch) {
+                ConfigTraceService.logNotifyEvent(each.getDataId(), each.getGroup(), each.getTenant(), null,
+                        each.getLastModified(), InetUtils.getSelfIP(), type, now - each.getLastModified(),
+                        memberBatch.address);
+            }
+        }
+    }
+}
@@ -405,6 +405,21 @@ public interface PersistService {
      */
     void removeConfigHistory(final Timestamp startTime, final int limitSize);
     
+    /**
+     * Delete history modified in the time range [startTime, endTime).
+     *
+     * @param startTime start time, inclusive
+     * @param endTime   end time, exclusive
+     */
+    void removeConfigHistoryByTimeRange(final Timestamp startTime, final Timestamp endTime);
+    
+    /**
+     * Get the earliest modified time of history.
+     *
+     * @return earliest modified time, {@code null} if there is no history
+     */
+    Timestamp findConfigHistoryMinModifiedTime();
+    
     /**
      * Get the number of configurations before the specified time.
      *
@@ -580,6 +595,21 @@ public interface PersistService {
     Page<ConfigInfo> findConfigInfo4Page(final int pageNo, final int pageSize, final String dataId, final String group,
             final String tenant, final Map<String, Object> configAdvanceInfo);
     
+    /**
+     * find config info after the last id in the order of id, which is the keyset pagination of
+     * {@link #findConfigInfo4Page}. The total count is not queried.
+     *
+     * @param lastId   the max id of previous page, 0 for the first page
+     * @param pageSize page size
+     * @param dataId   data id
+     * @param group    group
+     * @param tenant   tenant
+     * @param appName  app name
+     * @return {@link Page} with {@link ConfigInfo} generation
+     */
+    Page<ConfigInfo> findConfigInfo4PageAfterId(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final String appName);
+    
     /**
      * Query configuration information based on dataId.
      *
@@ -875,6 +905,21 @@ public interface PersistService {
     Page<ConfigInfo> findConfigInfoLike4Page(final int pageNo, final int pageSize, final String dataId,
             final String group, final String tenant, final Map<String, Object> configAdvanceInfo);
     
+    /**
+     * Query config info after the last id in the order of id, which is the keyset pagination of
+     * {@link #findConfigInfoLike4Page}. The total count is not queried.
+     *
+     * @param lastId   the max id of previous page, 0 for the first page
+     * @param pageSize page size
+     * @param dataId   data id
+     * @param group    group
+     * @param tenant   tenant
+     * @param appName  app name
+     * @return {@link Page} with {@link ConfigInfo} generation
+     */
+    Page<ConfigInfo> findConfigInfoLike4PageAfterId(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final String appName);
+    
     /**
      * Fuzzy query configuration information based on dataId and group.
      *
@@ -1149,6 +1194,20 @@ public interface PersistService {
      */
     Page<ConfigHistoryInfo> findConfigHistory(String dataId, String group, String tenant, int pageNo, int pageSize);
     
+    /**
+     * List configuration history change record before the last nid in the order of nid desc, which is the keyset
+     * pagination of {@link #findConfigHistory}. The total count is not queried.
+     *
+     * @param dataId   data Id
+     * @param group    group
+     * @param tenant   tenant
+     * @param lastNid  the min nid of previous page, {@link Long#MAX_VALUE} for the first page
+     * @param pageSize size
+     * @return {@link Page} with {@link ConfigHistoryInfo} generation
+     */
+    Page<ConfigHistoryInfo> findConfigHistoryBeforeNid(String dataId, String group, String tenant, long lastNid,
+            int pageSize);
+    
     /**
      * Increase configuration; database atomic operation, minimum sql action, no business encapsulation.
      *
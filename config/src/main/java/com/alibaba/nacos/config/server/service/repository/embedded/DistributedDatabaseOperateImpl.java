@@ -46,6 +46,7 @@ import com.alibaba.nacos.config.server.service.sql.QueryType;
 import com.alibaba.nacos.config.server.service.sql.SelectRequest;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
@@ -71,6 +72,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -78,6 +80,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -149,6 +152,11 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
      */
     private static final String DATA_IMPORT_KEY = "00--0-data_import-0--00";
     
+    /**
+     * Wait for 10 seconds, as long as possible, for the write to complete.
+     */
+    private static final long WRITE_TIMEOUT = 10_000L;
+    
     private ServerMemberManager memberManager;
     
     private CPProtocol protocol;
@@ -167,6 +175,8 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
     
     private ReentrantReadWriteLock.WriteLock writeLock = lock.writeLock();
     
+    private RaftWriteBatcher writeBatcher;
+    
     public DistributedDatabaseOperateImpl(ServerMemberManager memberManager, ProtocolManager protocolManager)
             throws Exception {
         this.memberManager = memberManager;
@@ -184,6 +194,8 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         
         this.jdbcTemplate = dataSourceService.getJdbcTemplate();
         this.transactionTemplate = dataSourceService.getTransactionTemplate();
+        this.writeBatcher = new RaftWriteBatcher(group(), PropertyUtil.getEmbeddedStorageGroupCommitWindow(),
+                PropertyUtil.getEmbeddedStorageGroupCommitMaxSize(), request -> protocol.writeAsync(request));
         
         // Registers a Derby Raft state machine failure event for node degradation processing
         NotifyCenter.registerToSharePublisher(RaftDbErrorEvent.class);
@@ -432,14 +444,14 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
                     .putAllExtendInfo(EmbeddedStorageContextUtils.getCurrentExtendInfo())
                     .setType(sqlContext.getClass().getCanonicalName()).build();
             if (Objects.isNull(consumer)) {
-                Response response = this.protocol.write(request);
+                Response response = writeBatcher.write(request).get(WRITE_TIMEOUT, TimeUnit.MILLISECONDS);
                 if (response.getSuccess()) {
                     return true;
                 }
                 LogUtil.DEFAULT_LOG.error("execute sql modify operation failed : {}", response.getErrMsg());
                 return false;
             } else {
-                this.protocol.writeAsync(request).whenComplete((BiConsumer<Response, Throwable>) (response, ex) -> {
+                writeBatcher.write(request).whenComplete((BiConsumer<Response, Throwable>) (response, ex) -> {
                     String errMsg = Objects.isNull(ex) ? response.getErrMsg() : ExceptionUtil.getCause(ex).getMessage();
                     consumer.accept(response.getSuccess(),
                             StringUtils.isBlank(errMsg) ? null : new NJdbcException(errMsg));
@@ -515,6 +527,9 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         LoggerUtils.printIfDebugEnabled(LogUtil.DEFAULT_LOG, "onApply info : log : {}", log);
         final ByteString byteString = log.getData();
         Preconditions.checkArgument(byteString != null, "Log.getData() must not null");
+        if (RaftWriteBatcher.isGroupCommit(log)) {
+            return onApplyGroupCommit(log);
+        }
         List<ModifyRequest> sqlContext = serializer.deserialize(byteString.toByteArray(), List.class);
         final Lock lock = readLock;
         lock.lock();
@@ -544,6 +559,77 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    /**
+     * Apply the writes grouped in one raft log in one transaction. Each write is isolated by savepoint, so that the
+     * failure of one write caused by sql error does not affect the others in the group.
+     *
+     * @param log raft log of group commit
+     * @return response which packs the response of each write in order
+     */
+    private Response onApplyGroupCommit(WriteRequest log) {
+        final List<WriteRequest> writes;
+        try {
+            writes = RaftWriteBatcher.unpackRequests(log.getData());
+        } catch (IOException e) {
+            LogUtil.FATAL_LOG.error("Unpack the writes of group commit failed, key : {}", log.getKey(), e);
+            return Response.newBuilder().setSuccess(false).setErrMsg(e.toString()).build();
+        }
+        final List<Response> responses = new ArrayList<>(writes.size());
+        final Lock lock = readLock;
+        lock.lock();
+        try {
+            transactionTemplate.execute(status -> {
+                for (WriteRequest each : writes) {
+                    List<ModifyRequest> sqlContext = serializer.deserialize(each.getData().toByteArray(), List.class);
+                    sqlContext.sort(Comparator.comparingInt(ModifyRequest::getExecuteNo));
+                    Object savepoint = status.createSavepoint();
+                    String errMsg = executeUpdate(sqlContext);
+                    if (null == errMsg) {
+                        status.releaseSavepoint(savepoint);
+                        responses.add(Response.newBuilder().setSuccess(true).build());
+                    } else {
+                        status.rollbackToSavepoint(savepoint);
+                        responses.add(Response.newBuilder().setSuccess(false).setErrMsg(errMsg).build());
+                    }
+                }
+                return null;
+            });
+            
+            // Same as the write not grouped, post process the extend info of each write after all of them are applied.
+            for (WriteRequest each : writes) {
+                ConfigExecutor.executeEmbeddedDump(() -> handleExtendInfo(each.getExtendInfoMap()));
+            }
+            return Response.newBuilder().setSuccess(true).setData(RaftWriteBatcher.pack(responses)).build();
+        } catch (DataAccessException e) {
+            throw new ConsistencyException(e.toString());
+        } catch (IOException e) {
+            throw new ConsistencyException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Execute the sql of one write without transaction.
+     *
+     * @param sqlContext sql of the write
+     * @return error message if failed by sql error, {@code null} if succeed
+     */
+    private String executeUpdate(List<ModifyRequest> sqlContext) {
+        ModifyRequest current = null;
+        try {
+            for (ModifyRequest each : sqlContext) {
+                current = each;
+                jdbcTemplate.update(each.getSql(), each.getArgs());
+            }
+            return null;
+        } catch (BadSqlGrammarException | DataIntegrityViolationException e) {
+            LogUtil.FATAL_LOG.error("[db-error] sql : {}, args : {}, error : {}", current.getSql(), current.getArgs(),
+                    e.toString());
+            return e.toString();
+        }
+    }
+    
     @Override
     public void onError(Throwable throwable) {
         // Trigger reversion strategy
@@ -798,6 +798,26 @@ public class EmbeddedStoragePersistServiceImpl implements PersistService {
         helper.updateLimit(sql, new Object[] {startTime, limitSize});
     }
     
+    @Override
+    public void removeConfigHistoryByTimeRange(final Timestamp startTime, final Timestamp endTime) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager
+                .findMapper(dataSource, TableConstant.HIS_CONFIG_INFO).get();
+        String sql = historyConfigInfoMapper.removeConfigHistoryByTimeRange();
+        EmbeddedStorageContextUtils.addSqlContext(sql, startTime, endTime);
+        try {
+            databaseOperate.update(EmbeddedStorageContextUtils.getCurrentSqlContext());
+        } finally {
+            EmbeddedStorageContextUtils.cleanAllContext();
+        }
+    }
+    
+    @Override
+    public Timestamp findConfigHistoryMinModifiedTime() {
+        HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager
+                .findMapper(dataSource, TableConstant.HIS_CONFIG_INFO).get();
+        return databaseOperate.queryOne(historyConfigInfoMapper.findConfigHistoryMinModifiedTime(), Timestamp.class);
+    }
+    
     @Override
     public int findConfigHistoryCountByTime(final Timestamp startTime) {
         HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager
@@ -1100,6 +1120,43 @@ public class EmbeddedStoragePersistServiceImpl implements PersistService {
         return page;
     }
     
+    @Override
+    public Page<ConfigInfo> findConfigInfo4PageAfterId(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final String appName) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        List<Object> paramList = new ArrayList<>();
+        paramList.add(tenantTmp);
+        Map<String, String> paramsMap = new HashMap<>(16);
+        if (StringUtils.isNotBlank(dataId)) {
+            paramList.add(dataId);
+            paramsMap.put(DATA_ID, DATA_ID);
+        }
+        if (StringUtils.isNotBlank(group)) {
+            paramList.add(group);
+            paramsMap.put(GROUP, GROUP);
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            paramList.add(appName);
+            paramsMap.put(APP_NAME, APP_NAME);
+        }
+        paramList.add(lastId);
+        ConfigInfoMapper configInfoMapper = (ConfigInfoMapper) mapperManager
+                .findMapper(dataSource, TableConstant.CONFIG_INFO).get();
+        String sql = configInfoMapper.findConfigInfo4PageFetchRowsAfterId(paramsMap, pageSize);
+        return fetchConfigInfoAfterId(sql, paramList, pageSize);
+    }
+    
+    private Page<ConfigInfo> fetchConfigInfoAfterId(String sql, List<Object> paramList, int pageSize) {
+        PaginationHelper<ConfigInfo> helper = createPaginationHelper();
+        Page<ConfigInfo> page = helper.fetchPageLimit(sql, paramList.toArray(), 1, pageSize, CONFIG_INFO_ROW_MAPPER);
+        for (ConfigInfo configInfo : page.getPageItems()) {
+            Pair<String, String> pair = EncryptionHandler
+                    .decryptHandler(configInfo.getDataId(), configInfo.getEncryptedDataKey(), configInfo.getContent());
+            configInfo.setContent(pair.getSecond());
+        }
+        return page;
+    }
+    
     @Override
     public Page<ConfigInfoBase> findConfigInfoBaseByDataId(final int pageNo, final int pageSize, final String dataId) {
         PaginationHelper<ConfigInfoBase> helper = createPaginationHelper();
@@ -1714,6 +1771,32 @@ public class EmbeddedStoragePersistServiceImpl implements PersistService {
         
     }
     
+    @Override
+    public Page<ConfigInfo> findConfigInfoLike4PageAfterId(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final String appName) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        Map<String, String> paramsMap = new HashMap<>(16);
+        List<Object> params = new ArrayList<>();
+        params.add(generateLikeArgument(tenantTmp));
+        if (!StringUtils.isBlank(dataId)) {
+            params.add(generateLikeArgument(dataId));
+            paramsMap.put(DATA_ID, DATA_ID);
+        }
+        if (!StringUtils.isBlank(group)) {
+            params.add(generateLikeArgument(group));
+            paramsMap.put(GROUP, GROUP);
+        }
+        if (!StringUtils.isBlank(appName)) {
+            params.add(appName);
+            paramsMap.put(APP_NAME, APP_NAME);
+        }
+        params.add(lastId);
+        ConfigInfoMapper configInfoMapper = (ConfigInfoMapper) mapperManager
+                .findMapper(dataSource, TableConstant.CONFIG_INFO).get();
+        String sqlFetchRows = configInfoMapper.findConfigInfoLike4PageFetchRowsAfterId(paramsMap, pageSize);
+        return fetchConfigInfoAfterId(sqlFetchRows, params, pageSize);
+    }
+    
     @Override
     public Page<ConfigInfoBase> findConfigInfoBaseLike(final int pageNo, final int pageSize, final String dataId,
             final String group, final String content) throws IOException {
@@ -2247,6 +2330,20 @@ public class EmbeddedStoragePersistServiceImpl implements PersistService {
                 HISTORY_LIST_ROW_MAPPER);
     }
     
+    @Override
+    public Page<ConfigHistoryInfo> findConfigHistoryBeforeNid(String dataId, String group, String tenant, long lastNid,
+            int pageSize) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        
+        HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager
+                .findMapper(dataSource, TableConstant.HIS_CONFIG_INFO).get();
+        String sqlFetchRows = historyConfigInfoMapper.findConfigHistoryFetchRowsBeforeNid(pageSize);
+        
+        PaginationHelper<ConfigHistoryInfo> helper = createPaginationHelper();
+        return helper.fetchPageLimit(sqlFetchRows, new Object[] {dataId, group, tenantTmp, lastNid}, 1, pageSize,
+                HISTORY_LIST_ROW_MAPPER);
+    }
+    
     @Override
     public void addConfigSubAtomic(final String dataId, final String group, final String appName,
             final Timestamp date) {
@@ -0,0 +1,235 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.repository.embedded;
+
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Group the writes of embedded storage submitted concurrently into one raft log.
+ *
+ * <p>The writes submitted in {@link PropertyUtil#getEmbeddedStorageGroupCommitWindow()} are packed into one {@link
+ * WriteRequest} marked by {@link #GROUP_COMMIT_KEY}, and the pack is submitted at once when the count reaches {@link
+ * PropertyUtil#getEmbeddedStorageGroupCommitMaxSize()}. The state machine applies the packed writes in one transaction
+ * and responds each of them in the same order, so that every caller gets the response of its own write.
+ *
+ * @author xiweng.yy
+ */
+class RaftWriteBatcher {
+    
+    /**
+     * The group commit operation is dedicated key, which ACTS as an identifier.
+     */
+    static final String GROUP_COMMIT_KEY = "00--0-group_commit-0--00";
+    
+    private final String group;
+    
+    private final long window;
+    
+    private final int maxSize;
+    
+    private final Function<WriteRequest, CompletableFuture<Response>> writer;
+    
+    private List<PendingWrite> pending = new ArrayList<>();
+    
+    /**
+     * Whether a flush of pending writes is scheduled.
+     */
+    private boolean scheduled;
+    
+    RaftWriteBatcher(String group, long window, int maxSize,
+            Function<WriteRequest, CompletableFuture<Response>> writer) {
+        this.group = group;
+        this.window = window;
+        this.maxSize = maxSize;
+        this.writer = writer;
+    }
+    
+    /**
+     * Submit the write, which is grouped with the other writes submitted in the window if group commit is enabled.
+     *
+     * @param request write request
+     * @return future of the response of this write
+     */
+    CompletableFuture<Response> write(WriteRequest request) {
+        if (window <= 0 || maxSize <= 1) {
+            return writer.apply(request);
+        }
+        PendingWrite write = new PendingWrite(request);
+        List<PendingWrite> fullBatch = null;
+        synchronized (this) {
+            pending.add(write);
+            if (pending.size() >= maxSize) {
+                fullBatch = takePending();
+            } else if (!scheduled) {
+                scheduled = true;
+                ConfigExecutor.scheduleEmbeddedGroupCommit(this::flush, window, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (null != fullBatch) {
+            submit(fullBatch);
+        }
+        return write.future;
+    }
+    
+    /**
+     * Submit all pending writes.
+     */
+    void flush() {
+        List<PendingWrite> batch;
+        synchronized (this) {
+            scheduled = false;
+            batch = takePending();
+        }
+        submit(batch);
+    }
+    
+    private List<PendingWrite> takePending() {
+        List<PendingWrite> result = pending;
+        pending = new ArrayList<>();
+        return result;
+    }
+    
+    private void submit(List<PendingWrite> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (1 == batch.size()) {
+                PendingWrite write = batch.get(0);
+                writer.apply(write.request).whenComplete(write::complete);
+                return;
+            }
+            List<WriteRequest> requests = new ArrayList<>(batch.size());
+            for (PendingWrite each : batch) {
+                requests.add(each.request);
+            }
+            WriteRequest request = WriteRequest.newBuilder().setGroup(group)
+                    .setKey(System.currentTimeMillis() + "-" + group + "-group_commit-" + batch.size())
+                    .setData(pack(requests)).putExtendInfo(GROUP_COMMIT_KEY, Boolean.TRUE.toString()).build();
+            writer.apply(request).whenComplete((response, ex) -> completeBatch(batch, response, ex));
+        } catch (Throwable e) {
+            completeBatch(batch, null, e);
+        }
+    }
+    
+    private void completeBatch(List<PendingWrite> batch, Response response, Throwable ex) {
+        if (null != ex || !response.getSuccess() || response.getData().isEmpty()) {
+            // The whole batch failed, such as no leader, the response of batch is the response of each write.
+            batch.forEach(each -> each.complete(response, ex));
+            return;
+        }
+        try {
+            List<Response> responses = unpackResponses(response.getData());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(responses.get(i), null);
+            }
+        } catch (Throwable e) {
+            batch.forEach(each -> each.complete(null, e));
+        }
+    }
+    
+    /**
+     * Whether the write request is a pack of writes.
+     *
+     * @param request write request
+     * @return {@code true} if the request is packed by group commit
+     */
+    static boolean isGroupCommit(WriteRequest request) {
+        return request.containsExtendInfo(GROUP_COMMIT_KEY);
+    }
+    
+    /**
+     * Pack the messages by the length delimited format.
+     *
+     * @param messages write requests or responses
+     * @return packed data
+     * @throws IOException if write failed
+     */
+    static ByteString pack(List<? extends Message> messages) throws IOException {
+        ByteString.Output output = ByteString.newOutput();
+        for (Message each : messages) {
+            each.writeDelimitedTo(output);
+        }
+        return output.toByteString();
+    }
+    
+    /**
+     * Unpack the write requests from the data of group commit request.
+     *
+     * @param data data of group commit request
+     * @return write requests in order of submitting
+     * @throws IOException if the data is malformed
+     */
+    static List<WriteRequest> unpackRequests(ByteString data) throws IOException {
+        List<WriteRequest> result = new ArrayList<>();
+        InputStream input = data.newInput();
+        WriteRequest each;
+        while (null != (each = WriteRequest.parseDelimitedFrom(input))) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Unpack the responses from the data of group commit response.
+     *
+     * @param data data of group commit response
+     * @return responses in order of write requests
+     * @throws IOException if the data is malformed
+     */
+    static List<Response> unpackResponses(ByteString data) throws IOException {
+        List<Response> result = new ArrayList<>();
+        InputStream input = data.newInput();
+        Response each;
+        while (null != (each = Response.parseDelimitedFrom(input))) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    private static class PendingWrite {
+    
+        private final WriteRequest request;
+    
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+    
+        private PendingWrite(WriteRequest request) {
+            this.request = request;
+        }
+    
+        private void complete(Response response, Throwable ex) {
+            if (null != ex) {
+                future.completeExceptionally(ex);
+            } else {
+                future.complete(response);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.repository.extrnal;
+
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.FATAL_LOG;
+
+/**
+ * Write rows of config history to database asynchronously by JDBC batch.
+ *
+ * <p>The rows are kept in a bounded buffer and written in order. The writer blocks when the buffer is full, so the
+ * history is never dropped but slows down the publishing when database can't keep up. The rows failed to write are
+ * retried before the following rows if database is unavailable, and the rows in buffer are written when server
+ * shutdown. Only the rows in buffer when server crashes are lost.
+ *
+ * @author xiweng.yy
+ */
+public class AsyncConfigHistoryWriter {
+    
+    static final int BATCH_SIZE = 500;
+    
+    static final long FLUSH_INTERVAL = 100L;
+    
+    private final JdbcTemplate jt;
+    
+    private final String sql;
+    
+    private final BlockingQueue<Object[]> buffer;
+    
+    private final List<Object[]> pending = new ArrayList<>(BATCH_SIZE);
+    
+    public AsyncConfigHistoryWriter(JdbcTemplate jt, String sql, int bufferSize) {
+        this.jt = jt;
+        this.sql = sql;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+    
+    /**
+     * Start to write the buffered rows in background.
+     */
+    public void start() {
+        ConfigExecutor.scheduleConfigHistoryWriter(this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Add the row to buffer, wait if the buffer is full.
+     *
+     * @param args arguments of insert sql
+     */
+    public void write(Object[] args) {
+        try {
+            buffer.put(args);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            FATAL_LOG.error("[config-history-writer] interrupted, drop config history of {}", args[1]);
+        }
+    }
+    
+    /**
+     * Write the buffered rows to database batch by batch, until the buffer is empty or writing fails.
+     */
+    public synchronized void flush() {
+        while (true) {
+            if (pending.isEmpty() && buffer.drainTo(pending, BATCH_SIZE) == 0) {
+                return;
+            }
+            try {
+                jt.batchUpdate(sql, pending);
+            } catch (CannotGetJdbcConnectionException | TransientDataAccessException e) {
+                FATAL_LOG.error("[db-error] write config history failed, will retry, count: {}", pending.size(), e);
+                return;
+            } catch (DataAccessException e) {
+                FATAL_LOG.error("[db-error] write config history by batch failed, write one by one", e);
+                writeOneByOne();
+            }
+            pending.clear();
+        }
+    }
+    
+    private void writeOneByOne() {
+        for (Object[] each : pending) {
+            try {
+                jt.update(sql, each);
+            } catch (DataAccessException e) {
+                FATAL_LOG.error("[db-error] write config history failed, drop config history of {}", each[1], e);
+            }
+        }
+    }
+    
+    int size() {
+        return pending.size() + buffer.size();
+    }
+}
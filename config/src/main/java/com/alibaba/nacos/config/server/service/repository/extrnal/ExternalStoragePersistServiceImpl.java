@@ -44,6 +44,7 @@ import com.alibaba.nacos.config.server.service.repository.PaginationHelper;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.plugin.datasource.MapperManager;
 import com.alibaba.nacos.plugin.datasource.constants.TableConstant;
 import com.alibaba.nacos.plugin.datasource.mapper.ConfigInfoAggrMapper;
@@ -72,9 +73,12 @@ import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.TransactionSystemException;
 import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -128,6 +132,8 @@ public class ExternalStoragePersistServiceImpl implements PersistService {
     
     private String dataSource;
     
+    private AsyncConfigHistoryWriter historyWriter;
+    
     private static final String DATASOURCE_PLATFORM_PROPERTY = "spring.datasource.platform";
     
     private static final String DEFAULT_DATASOURCE_PLATFORM = "mysql";
@@ -142,6 +148,8 @@ public class ExternalStoragePersistServiceImpl implements PersistService {
     
     private static final String TENANT = "tenant_id";
     
+    private static final String OP_TYPE_DELETE = "D";
+    
     /**
      * constant variables.
      */
@@ -158,6 +166,21 @@ public class ExternalStoragePersistServiceImpl implements PersistService {
         tjt = getTransactionTemplate();
         mapperManager = MapperManager.instance();
         dataSource = EnvUtil.getProperty(DATASOURCE_PLATFORM_PROPERTY, DEFAULT_DATASOURCE_PLATFORM);
+        if (PropertyUtil.isConfigHistoryAsyncWriteEnabled()) {
+            historyWriter = new AsyncConfigHistoryWriter(jt, getInsertConfigHistorySql(),
+                    PropertyUtil.getConfigHistoryBufferSize());
+            historyWriter.start();
+        }
+    }
+    
+    /**
+     * Write the buffered config history before shutdown.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (null != historyWriter) {
+            historyWriter.flush();
+        }
     }
     
     public boolean checkMasterWritable() {
@@ -672,6 +695,30 @@ public class ExternalStoragePersistServiceImpl implements PersistService {
         paginationHelper.updateLimit(sql, new Object[] {startTime, limitSize});
     }
     
+    @Override
+    public void removeConfigHistoryByTimeRange(final Timestamp startTime, final Timestamp endTime) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager
+                .findMapper(dataSource, TableConstant.HIS_CONFIG_INFO).get();
+        try {
+            jt.update(historyConfigInfoMapper.removeConfigHistoryByTimeRange(), startTime, endTime);
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e.toString(), e);
+            throw e;
+        }
+    }
+    
+    @Override
+    public Timestamp findConfigHistoryMinModifiedTime() {
+        HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager
+                .findMapper(dataSource, TableConstant.HIS_CONFIG_INFO).get();
+        try {
+            return jt.queryForObject(historyConfigInfoMapper.findConfigHistoryMinModifiedTime(), Timestamp.class);
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e.toString(), e);
+            throw e;
+        }
+    }
+    
     @Override
     public int findConfigHistoryCountByTime(final Timestamp startTime) {
         HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager.findMapper(dataSource, TableConstant.HIS_CONFIG_INFO).get();
@@ -1029,6 +1076,48 @@ public class ExternalStoragePersistServiceImpl implements PersistService {
         }
     }
     
+    @Override
+    public Page<ConfigInfo> findConfigInfo4PageAfterId(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final String appName) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        List<Object> paramList = new ArrayList<>();
+        paramList.add(tenantTmp);
+        Map<String, String> paramsMap = new HashMap<>(16);
+        if (StringUtils.isNotBlank(dataId)) {
+            paramList.add(dataId);
+            paramsMap.put(DATA_ID, DATA_ID);
+        }
+        if (StringUtils.isNotBlank(group)) {
+            paramList.add(group);
+            paramsMap.put(GROUP, GROUP);
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            paramList.add(appName);
+            paramsMap.put(APP_NAME, APP_NAME);
+        }
+        paramList.add(lastId);
+        ConfigInfoMapper configInfoMapper = (ConfigInfoMapper) mapperManager.findMapper(dataSource, TableConstant.CONFIG_INFO).get();
+        String sql = configInfoMapper.findConfigInfo4PageFetchRowsAfterId(paramsMap, pageSize);
+        return fetchConfigInfoAfterId(sql, paramList, pageSize);
+    }
+    
+    private Page<ConfigInfo> fetchConfigInfoAfterId(String sql, List<Object> paramList, int pageSize) {
+        PaginationHelper<ConfigInfo> helper = createPaginationHelper();
+        try {
+            Page<ConfigInfo> page = helper
+                    .fetchPageLimit(sql, paramList.toArray(), 1, pageSize, CONFIG_INFO_ROW_MAPPER);
+            for (ConfigInfo configInfo : page.getPageItems()) {
+                Pair<String, String> pair = EncryptionHandler.decryptHandler(configInfo.getDataId(),
+                        configInfo.getEncryptedDataKey(), configInfo.getContent());
+                configInfo.setContent(pair.getSecond());
+            }
+            return page;
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] ", e);
+            throw e;
+        }
+    }
+    
     @Override
     public Page<ConfigInfoBase> findConfigInfoBaseByDataId(final int pageNo, final int pageSize, final String dataId) {
         PaginationHelper<ConfigInfoBase> helper = createPaginationHelper();
@@ -1677,6 +1766,31 @@ public class ExternalStoragePersistServiceImpl implements PersistService {
         }
     }
     
+    @Override
+    public Page<ConfigInfo> findConfigInfoLike4PageAfterId(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final String appName) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        Map<String, String> paramsMap = new HashMap<>(16);
+        List<Object> params = new ArrayList<>();
+        params.add(generateLikeArgument(tenantTmp));
+        if (!StringUtils.isBlank(dataId)) {
+            params.add(generateLikeArgument(dataId));
+            paramsMap.put(DATA_ID, DATA_ID);
+        }
+        if (!StringUtils.isBlank(group)) {
+            params.add(generateLikeArgument(group));
+            paramsMap.put(GROUP, GROUP);
+        }
+        if (!StringUtils.isBlank(appName)) {
+            params.add(appName);
+            paramsMap.put(APP_NAME, APP_NAME);
+        }
+        params.add(lastId);
+        ConfigInfoMapper configInfoMapper = (ConfigInfoMapper) mapperManager.findMapper(dataSource, TableConstant.CONFIG_INFO).get();
+        String sqlFetchRows = configInfoMapper.findConfigInfoLike4PageFetchRowsAfterId(paramsMap, pageSize);
+        return fetchConfigInfoAfterId(sqlFetchRows, params, pageSize);
+    }
+    
     @Override
     public Page<ConfigInfoBase> findConfigInfoBaseLike(final int pageNo, final int pageSize, final String dataId,
             final String group, final String content) throws IOException {
@@ -2294,20 +2408,46 @@ public class ExternalStoragePersistServiceImpl implements PersistService {
         final String md5Tmp = MD5Utils.md5Hex(configInfo.getContent(), Constants.ENCODE);
         String encryptedDataKey = StringUtils.isBlank(configInfo.getEncryptedDataKey()) ? StringUtils.EMPTY
                 : configInfo.getEncryptedDataKey();
-
+        final Object[] args = new Object[] {id, configInfo.getDataId(), configInfo.getGroup(), tenantTmp, appNameTmp,
+                configInfo.getContent(), md5Tmp, srcIp, srcUser, time, ops, encryptedDataKey};
+        // The history of deletion is used to dump deleted configs incrementally, so keep writing it in transaction.
+        if (null != historyWriter && !OP_TYPE_DELETE.equals(ops)) {
+            writeConfigHistoryAfterCommit(args);
+            return;
+        }
         try {
-            HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager.findMapper(dataSource, TableConstant.HIS_CONFIG_INFO).get();
-            jt.update(
-                    historyConfigInfoMapper.insert(Arrays.asList("id", "data_id", "group_id", "tenant_id", "app_name", "content", "md5",
-                            "src_ip", "src_user", "gmt_modified", "op_type", "encrypted_data_key")),
-                    id, configInfo.getDataId(), configInfo.getGroup(), tenantTmp, appNameTmp,
-                    configInfo.getContent(), md5Tmp, srcIp, srcUser, time, ops, encryptedDataKey);
+            jt.update(getInsertConfigHistorySql(), args);
         } catch (DataAccessException e) {
             LogUtil.FATAL_LOG.error("[db-error] " + e.toString(), e);
             throw e;
         }
     }
     
+    private String getInsertConfigHistorySql() {
+        HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager
+                .findMapper(dataSource, TableConstant.HIS_CONFIG_INFO).get();
+        return historyConfigInfoMapper.insert(Arrays
+                .asList("id", "data_id", "group_id", "tenant_id", "app_name", "content", "md5", "src_ip", "src_user",
+                        "gmt_modified", "op_type", "encrypted_data_key"));
+    }
+    
+    /**
+     * Write the config history asynchronously after the transaction is committed, so that the history of rolled back
+     * changes is not recorded.
+     */
+    private void writeConfigHistoryAfterCommit(Object[] args) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            historyWriter.write(args);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                historyWriter.write(args);
+            }
+        });
+    }
+    
     @Override
     public Page<ConfigHistoryInfo> findConfigHistory(String dataId, String group, String tenant, int pageNo,
             int pageSize) {
@@ -2330,6 +2470,23 @@ public class ExternalStoragePersistServiceImpl implements PersistService {
         return page;
     }
     
+    @Override
+    public Page<ConfigHistoryInfo> findConfigHistoryBeforeNid(String dataId, String group, String tenant, long lastNid,
+            int pageSize) {
+        PaginationHelper<ConfigHistoryInfo> helper = createPaginationHelper();
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        HistoryConfigInfoMapper historyConfigInfoMapper = (HistoryConfigInfoMapper) mapperManager.findMapper(dataSource, TableConstant.HIS_CONFIG_INFO).get();
+        String sqlFetchRows = historyConfigInfoMapper.findConfigHistoryFetchRowsBeforeNid(pageSize);
+        try {
+            return helper.fetchPageLimit(sqlFetchRows, new Object[] {dataId, group, tenantTmp, lastNid}, 1, pageSize,
+                    HISTORY_LIST_ROW_MAPPER);
+        } catch (DataAccessException e) {
+            LogUtil.FATAL_LOG
+                    .error("[list-config-history] error, dataId:{}, group:{}", new Object[] {dataId, group}, e);
+            throw e;
+        }
+    }
+    
     @Override
     public void addConfigSubAtomic(final String dataId, final String group, final String appName,
             final Timestamp date) {
@@ -0,0 +1,392 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.search;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In memory trigram index of dataId and group of configs, which serves the fuzzy search of configs.
+ *
+ * <p>Each config is a document numbered by the order it is added, and the posting list of each trigram holds the
+ * numbers of documents containing it in ascending order. A search intersects the posting lists of trigrams in the
+ * literal fragments of patterns to find candidates, then verifies the candidates with the same semantics as SQL
+ * {@code LIKE}: {@code *} and {@code %} match any chars and {@code _} matches one char.
+ *
+ * <p>The dataId and group of a document never change, so the posting lists are append only. The removed documents
+ * are marked and skipped, and revived if the same config is added again. The index is rebuilt when the removed
+ * documents are more than the alive ones.
+ *
+ * @author xiweng.yy
+ */
+class ConfigSearchIndex {
+    
+    private static final int GRAM_SIZE = 3;
+    
+    private static final int MIN_COMPACT_SIZE = 1024;
+    
+    private static final Pattern WILDCARD_PATTERN = Pattern.compile("[*%_]");
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<String, Document> documents = new HashMap<>(16);
+    
+    private List<Document> documentList = new ArrayList<>();
+    
+    private Map<Long, PostingList> dataIdGrams = new HashMap<>(16);
+    
+    private Map<Long, PostingList> groupGrams = new HashMap<>(16);
+    
+    private int removedCount;
+    
+    /**
+     * Add or update config.
+     *
+     * @param id      id of config
+     * @param dataId  dataId of config
+     * @param group   group of config
+     * @param tenant  tenant of config
+     * @param appName appName of config
+     */
+    void put(long id, String dataId, String group, String tenant, String appName) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        String key = GroupKey2.getKey(dataId, group, tenantTmp);
+        lock.writeLock().lock();
+        try {
+            Document document = documents.get(key);
+            if (null == document) {
+                document = new Document(documentList.size(), dataId, group, tenantTmp);
+                documents.put(key, document);
+                documentList.add(document);
+                addGrams(document);
+            } else if (document.removed) {
+                document.removed = false;
+                removedCount--;
+            }
+            document.id = id;
+            document.appName = appName;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove config.
+     *
+     * @param dataId dataId of config
+     * @param group  group of config
+     * @param tenant tenant of config
+     */
+    void remove(String dataId, String group, String tenant) {
+        String key = GroupKey2.getKey(dataId, group, StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant);
+        lock.writeLock().lock();
+        try {
+            Document document = documents.get(key);
+            if (null == document || document.removed) {
+                return;
+            }
+            document.removed = true;
+            removedCount++;
+            if (removedCount >= MIN_COMPACT_SIZE && removedCount > documents.size() - removedCount) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Get count of configs in index.
+     *
+     * @return count of configs
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size() - removedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Search configs. The blank pattern of dataId or group and blank appName match all configs.
+     *
+     * @param dataIdPattern pattern of dataId
+     * @param groupPattern  pattern of group
+     * @param tenantPattern pattern of tenant
+     * @param appName       appName
+     * @return matched configs ordered by id
+     */
+    List<Document> search(String dataIdPattern, String groupPattern, String tenantPattern, String appName) {
+        List<Document> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int[] candidates = intersect(dataIdGrams, dataIdPattern, null);
+            candidates = intersect(groupGrams, groupPattern, candidates);
+            if (null == candidates) {
+                for (Document each : documentList) {
+                    addIfMatched(result, each, dataIdPattern, groupPattern, tenantPattern, appName);
+                }
+            } else {
+                for (int each : candidates) {
+                    addIfMatched(result, documentList.get(each), dataIdPattern, groupPattern, tenantPattern,
+                            appName);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(Comparator.comparingLong(Document::getId));
+        return result;
+    }
+    
+    private void addIfMatched(List<Document> result, Document document, String dataIdPattern, String groupPattern,
+            String tenantPattern, String appName) {
+        if (document.removed) {
+            return;
+        }
+        if (StringUtils.isNotBlank(dataIdPattern) && !like(document.dataId, dataIdPattern)) {
+            return;
+        }
+        if (StringUtils.isNotBlank(groupPattern) && !like(document.group, groupPattern)) {
+            return;
+        }
+        if (!like(document.tenant, tenantPattern)) {
+            return;
+        }
+        if (StringUtils.isNotBlank(appName) && !Objects.equals(appName, document.appName)) {
+            return;
+        }
+        result.add(document.copy());
+    }
+    
+    private void addGrams(Document document) {
+        for (long each : grams(document.dataId)) {
+            dataIdGrams.computeIfAbsent(each, key -> new PostingList()).add(document.number);
+        }
+        for (long each : grams(document.group)) {
+            groupGrams.computeIfAbsent(each, key -> new PostingList()).add(document.number);
+        }
+    }
+    
+    private void compact() {
+        List<Document> aliveDocuments = new ArrayList<>(documents.size() - removedCount);
+        documents.values().removeIf(each -> each.removed);
+        documentList.stream().filter(each -> !each.removed).forEach(aliveDocuments::add);
+        documentList = new ArrayList<>(aliveDocuments.size());
+        dataIdGrams = new HashMap<>(16);
+        groupGrams = new HashMap<>(16);
+        removedCount = 0;
+        for (Document each : aliveDocuments) {
+            each.number = documentList.size();
+            documentList.add(each);
+            addGrams(each);
+        }
+    }
+    
+    /**
+     * Intersect the candidates with the posting lists of grams in pattern.
+     *
+     * @return candidates, {@code null} means all documents are candidates
+     */
+    private int[] intersect(Map<Long, PostingList> grams, String pattern, int[] candidates) {
+        if (StringUtils.isBlank(pattern)) {
+            return candidates;
+        }
+        int[] result = candidates;
+        for (String fragment : WILDCARD_PATTERN.split(pattern)) {
+            for (long each : grams(fragment)) {
+                PostingList postingList = grams.get(each);
+                if (null == postingList) {
+                    return new int[0];
+                }
+                result = null == result ? postingList.toArray() : postingList.intersect(result);
+                if (0 == result.length) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Set<Long> grams(String value) {
+        Set<Long> result = new HashSet<>();
+        if (null == value) {
+            return result;
+        }
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            result.add(((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2));
+        }
+        return result;
+    }
+    
+    /**
+     * Match value with pattern by the semantics of SQL {@code LIKE}, {@code *} is treated as {@code %}.
+     *
+     * @param value   value
+     * @param pattern pattern
+     * @return {@code true} if matched
+     */
+    static boolean like(String value, String pattern) {
+        if (null == value) {
+            return false;
+        }
+        int valueIndex = 0;
+        int patternIndex = 0;
+        int lastWildcard = -1;
+        int lastMatched = 0;
+        while (valueIndex < value.length()) {
+            char current = patternIndex < pattern.length() ? pattern.charAt(patternIndex) : 0;
+            if (patternIndex < pattern.length() && isMultiWildcard(current)) {
+                lastWildcard = patternIndex++;
+                lastMatched = valueIndex;
+            } else if (matchesOne(pattern, patternIndex, value.charAt(valueIndex))) {
+                patternIndex++;
+                valueIndex++;
+            } else if (lastWildcard >= 0) {
+                patternIndex = lastWildcard + 1;
+                valueIndex = ++lastMatched;
+            } else {
+                return false;
+            }
+        }
+        while (patternIndex < pattern.length() && isMultiWildcard(pattern.charAt(patternIndex))) {
+            patternIndex++;
+        }
+        return patternIndex == pattern.length();
+    }
+    
+    private static boolean matchesOne(String pattern, int patternIndex, char c) {
+        if (patternIndex >= pattern.length()) {
+            return false;
+        }
+        char current = pattern.charAt(patternIndex);
+        return '_' == current || c == current;
+    }
+    
+    private static boolean isMultiWildcard(char c) {
+        return '*' == c || '%' == c;
+    }
+    
+    /**
+     * Indexed config.
+     */
+    static class Document {
+    
+        private int number;
+    
+        private long id;
+    
+        private final String dataId;
+    
+        private final String group;
+    
+        private final String tenant;
+    
+        private String appName;
+    
+        private boolean removed;
+    
+        private Document(int number, String dataId, String group, String tenant) {
+            this.number = number;
+            this.dataId = dataId;
+            this.group = group;
+            this.tenant = tenant;
+        }
+    
+        private Document copy() {
+            Document result = new Document(number, dataId, group, tenant);
+            result.id = id;
+            result.appName = appName;
+            return result;
+        }
+    
+        long getId() {
+            return id;
+        }
+    
+        String getDataId() {
+            return dataId;
+        }
+    
+        String getGroup() {
+            return group;
+        }
+    
+        String getTenant() {
+            return tenant;
+        }
+    
+        String getAppName() {
+            return appName;
+        }
+    }
+    
+    /**
+     * Ascending numbers of documents.
+     */
+    private static class PostingList {
+    
+        private int[] numbers = new int[4];
+    
+        private int size;
+    
+        private void add(int number) {
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+            }
+            numbers[size++] = number;
+        }
+    
+        private int[] toArray() {
+            return Arrays.copyOf(numbers, size);
+        }
+    
+        private int[] intersect(int[] sortedNumbers) {
+            int[] result = new int[Math.min(size, sortedNumbers.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < sortedNumbers.length) {
+                if (numbers[i] < sortedNumbers[j]) {
+                    i++;
+                } else if (numbers[i] > sortedNumbers[j]) {
+                    j++;
+                } else {
+                    result[count++] = numbers[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
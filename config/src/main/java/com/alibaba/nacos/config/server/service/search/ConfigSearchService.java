@@ -0,0 +1,232 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.search;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.common.utils.Pair;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.Page;
+import com.alibaba.nacos.config.server.model.event.ConfigDumpedEvent;
+import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.plugin.encryption.handler.EncryptionHandler;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Fuzzy search of configs served by in memory index instead of {@code LIKE} queries on database.
+ *
+ * <p>The index is built from database page by page in background at startup. The changes of configs are tracked by
+ * {@link ConfigDumpedEvent} and {@link LocalDataChangeEvent}, which are published on every server when the config is
+ * dumped or removed, and the changed configs are refreshed from database periodically. The configs of a result page
+ * are loaded from database in one query, and the loaded config which no longer matches the index is dropped from
+ * page and refreshed. The search falls back to database before the index is built, or the index is disabled by
+ * {@link PropertyUtil#isFuzzySearchIndexEnabled()}.
+ *
+ * @author xiweng.yy
+ */
+@Service
+public class ConfigSearchService extends SmartSubscriber {
+    
+    static final int BUILD_PAGE_SIZE = 1000;
+    
+    static final long REFRESH_INTERVAL = 1000L;
+    
+    private final PersistService persistService;
+    
+    private final Set<String> changedGroupKeys = ConcurrentHashMap.newKeySet();
+    
+    private volatile ConfigSearchIndex index;
+    
+    public ConfigSearchService(PersistService persistService) {
+        this.persistService = persistService;
+        if (PropertyUtil.isFuzzySearchIndexEnabled()) {
+            NotifyCenter.registerSubscriber(this);
+            ConfigExecutor.scheduleConfigTask(this::refresh, 0L, REFRESH_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Fuzzy search configs by index, the semantics of patterns is the same as
+     * {@link PersistService#findConfigInfoLike4Page(int, int, String, String, String, java.util.Map)}.
+     *
+     * @param pageNo   page number
+     * @param pageSize page size
+     * @param dataId   pattern of dataId
+     * @param group    pattern of group
+     * @param tenant   pattern of tenant
+     * @param appName  appName
+     * @return page of configs, {@code null} if the index is not available and database should be queried
+     */
+    public Page<ConfigInfo> search(int pageNo, int pageSize, String dataId, String group, String tenant,
+            String appName) {
+        ConfigSearchIndex currentIndex = index;
+        if (null == currentIndex) {
+            return null;
+        }
+        if (pageNo <= 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("pageNo and pageSize must be greater than zero");
+        }
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        List<ConfigSearchIndex.Document> matched = currentIndex.search(dataId, group, tenantTmp, appName);
+        int pageCount = (matched.size() + pageSize - 1) / pageSize;
+        Page<ConfigInfo> page = new Page<>();
+        page.setPageNumber(pageNo);
+        page.setPagesAvailable(pageCount);
+        page.setTotalCount(matched.size());
+        if (pageNo > pageCount) {
+            return page;
+        }
+        int startRow = (pageNo - 1) * pageSize;
+        List<ConfigSearchIndex.Document> pageDocuments = matched
+                .subList(startRow, Math.min(startRow + pageSize, matched.size()));
+        Map<Long, ConfigInfo> configInfos = findConfigInfos(pageDocuments);
+        for (ConfigSearchIndex.Document each : pageDocuments) {
+            ConfigInfo configInfo = configInfos.get(each.getId());
+            if (isMatched(each, configInfo, appName)) {
+                page.getPageItems().add(toConfigInfo(configInfo));
+            } else {
+                // The config is removed or changed after indexed, refresh it.
+                changedGroupKeys.add(GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+            }
+        }
+        return page;
+    }
+    
+    private Map<Long, ConfigInfo> findConfigInfos(List<ConfigSearchIndex.Document> documents) {
+        Map<Long, ConfigInfo> result = new HashMap<>(documents.size());
+        if (documents.isEmpty()) {
+            return result;
+        }
+        String ids = documents.stream().map(each -> String.valueOf(each.getId())).collect(Collectors.joining(","));
+        List<ConfigInfo> configInfos = persistService.findConfigInfosByIds(ids);
+        if (null != configInfos) {
+            for (ConfigInfo each : configInfos) {
+                result.put(each.getId(), each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isMatched(ConfigSearchIndex.Document document, ConfigInfo configInfo, String appName) {
+        if (null == configInfo || !isSameConfig(document, configInfo)) {
+            return false;
+        }
+        return StringUtils.isBlank(appName) || appName.equals(configInfo.getAppName());
+    }
+    
+    private boolean isSameConfig(ConfigSearchIndex.Document document, ConfigInfo configInfo) {
+        String tenant = StringUtils.isBlank(configInfo.getTenant()) ? StringUtils.EMPTY : configInfo.getTenant();
+        return Objects.equals(document.getDataId(), configInfo.getDataId()) && Objects
+                .equals(document.getGroup(), configInfo.getGroup()) && Objects.equals(document.getTenant(), tenant);
+    }
+    
+    private ConfigInfo toConfigInfo(ConfigInfo configInfo) {
+        Pair<String, String> pair = EncryptionHandler.decryptHandler(configInfo.getDataId(),
+                configInfo.getEncryptedDataKey(), configInfo.getContent());
+        ConfigInfo result = new ConfigInfo(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant(),
+                configInfo.getAppName(), pair.getSecond());
+        result.setId(configInfo.getId());
+        result.setEncryptedDataKey(configInfo.getEncryptedDataKey());
+        return result;
+    }
+    
+    private void refresh() {
+        try {
+            if (null == index) {
+                index = build();
+            }
+            refreshChangedConfigs();
+        } catch (Throwable e) {
+            DEFAULT_LOG.error("[config-search-index] refresh index failed", e);
+        }
+    }
+    
+    private ConfigSearchIndex build() {
+        long startTime = System.currentTimeMillis();
+        ConfigSearchIndex result = new ConfigSearchIndex();
+        long lastId = 0;
+        while (true) {
+            Page<ConfigInfoWrapper> page = persistService.findAllConfigInfoFragment(lastId, BUILD_PAGE_SIZE);
+            if (null == page || CollectionUtils.isEmpty(page.getPageItems())) {
+                break;
+            }
+            for (ConfigInfoWrapper each : page.getPageItems()) {
+                result.put(each.getId(), each.getDataId(), each.getGroup(), each.getTenant(), each.getAppName());
+                lastId = Math.max(lastId, each.getId());
+            }
+        }
+        DEFAULT_LOG.info("[config-search-index] build index done, count:{}, cost:{}ms", result.size(),
+                System.currentTimeMillis() - startTime);
+        return result;
+    }
+    
+    private void refreshChangedConfigs() {
+        Iterator<String> iterator = changedGroupKeys.iterator();
+        while (iterator.hasNext()) {
+            String groupKey = iterator.next();
+            iterator.remove();
+            String[] keys = GroupKey2.parseKey(groupKey);
+            try {
+                ConfigInfoWrapper configInfo = persistService.findConfigInfo(keys[0], keys[1], keys[2]);
+                if (null == configInfo) {
+                    index.remove(keys[0], keys[1], keys[2]);
+                } else {
+                    index.put(configInfo.getId(), configInfo.getDataId(), configInfo.getGroup(),
+                            configInfo.getTenant(), configInfo.getAppName());
+                }
+            } catch (Throwable e) {
+                changedGroupKeys.add(groupKey);
+                throw e;
+            }
+        }
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        return Arrays.asList(LocalDataChangeEvent.class, ConfigDumpedEvent.class);
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ConfigDumpedEvent) {
+            changedGroupKeys.add(((ConfigDumpedEvent) event).getGroupKey());
+        } else if (event instanceof LocalDataChangeEvent) {
+            changedGroupKeys.add(((LocalDataChangeEvent) event).groupKey);
+        }
+    }
+}
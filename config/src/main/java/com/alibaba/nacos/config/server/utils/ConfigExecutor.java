@@ -47,6 +47,14 @@ public final class ConfigExecutor {
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(Config.class),
                     new NameThreadFactory("com.alibaba.nacos.config.CapacityManagement"));
     
+    private static final ScheduledExecutorService CONFIG_HISTORY_WRITER_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(Config.class),
+                    new NameThreadFactory("com.alibaba.nacos.config.ConfigHistoryWriter"));
+    
+    private static final ScheduledExecutorService EMBEDDED_GROUP_COMMIT_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(Config.class),
+                    new NameThreadFactory("com.alibaba.nacos.config.embedded.groupCommit"));
+    
     private static final ScheduledExecutorService ASYNC_NOTIFY_EXECUTOR = ExecutorFactory.Managed
             .newScheduledExecutorService(ClassUtils.getCanonicalName(Config.class), 100,
                     new NameThreadFactory("com.alibaba.nacos.config.AsyncNotifyService"));
@@ -77,6 +85,14 @@ public final class ConfigExecutor {
         CAPACITY_MANAGEMENT_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
     }
     
+    public static void scheduleConfigHistoryWriter(Runnable runnable, long initialDelay, long delay, TimeUnit unit) {
+        CONFIG_HISTORY_WRITER_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
+    }
+    
+    public static void scheduleEmbeddedGroupCommit(Runnable runnable, long delay, TimeUnit unit) {
+        EMBEDDED_GROUP_COMMIT_EXECUTOR.schedule(runnable, delay, unit);
+    }
+    
     public static void executeAsyncNotify(Runnable runnable) {
         ASYNC_NOTIFY_EXECUTOR.execute(runnable);
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.utils;
+
+import com.alibaba.nacos.api.exception.api.NacosApiException;
+import com.alibaba.nacos.api.model.v2.ErrorCode;
+import com.alibaba.nacos.common.utils.StringUtils;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encode and decode the opaque continuation token of keyset pagination, which carries the boundary id of previous
+ * page.
+ *
+ * @author xiweng.yy
+ */
+public class ContinuationTokenUtil {
+    
+    private static final String PREFIX = "v1:";
+    
+    /**
+     * Encode the boundary id of page to continuation token.
+     *
+     * @param boundaryId boundary id of page
+     * @return continuation token
+     */
+    public static String encode(long boundaryId) {
+        byte[] bytes = (PREFIX + boundaryId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+    
+    /**
+     * Decode the boundary id from continuation token for [v2].
+     *
+     * @param continuationToken continuation token
+     * @param defaultValue      the boundary id for the first page if token is blank
+     * @return boundary id
+     * @throws NacosApiException if the token is invalid
+     */
+    public static long decode(String continuationToken, long defaultValue) throws NacosApiException {
+        if (StringUtils.isBlank(continuationToken)) {
+            return defaultValue;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+            if (value.startsWith(PREFIX)) {
+                long result = Long.parseLong(value.substring(PREFIX.length()));
+                if (result >= 0) {
+                    return result;
+                }
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through to throw invalid token
+        }
+        throw new NacosApiException(HttpStatus.BAD_REQUEST.value(), ErrorCode.PARAMETER_VALIDATE_ERROR,
+                "invalid continuationToken : " + continuationToken);
+    }
+}
@@ -172,6 +172,10 @@ public class DiskUtil {
         return new File(EnvUtil.getNacosHome(), "status" + File.separator + "heartBeat.txt");
     }
     
+    public static File cacheIndexFile() {
+        return new File(EnvUtil.getNacosHome(), "status" + File.separator + "configCacheIndex.bin");
+    }
+    
     public static String relativePath(String dataId, String group) {
         return BASE_DIR + "/" + dataId + "/" + group;
     }
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.utils;
 
+import com.alibaba.nacos.common.utils.ThreadUtils;
 import com.alibaba.nacos.config.server.constant.PropertiesConstant;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.slf4j.Logger;
@@ -102,6 +103,90 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static boolean embeddedStorage = EnvUtil.getStandaloneMode();
     
+    /**
+     * Whether schedule dump tasks by timing wheel, only take effect when server starting.
+     */
+    private static boolean dumpTaskTimingWheelEnabled = false;
+    
+    /**
+     * Whether the periodic dump all only dumps the configs changed since last dump and verifies the others by md5.
+     */
+    private static boolean dumpIncrementalEnabled = true;
+    
+    /**
+     * The interval of full scan dump when incremental dump enabled, unit for hours.
+     */
+    private static int dumpFullScanInterval = 24;
+    
+    /**
+     * The count of threads reading configs from database when dumping all configs at startup.
+     */
+    private static int dumpAllReaderCount = 4;
+    
+    /**
+     * The count of threads writing configs to cache and disk when dumping all configs at startup.
+     */
+    private static int dumpAllWriterCount = ThreadUtils.getSuitableThreadCount(1);
+    
+    /**
+     * The max size of config contents cached in memory, unit for bytes. The contents are not cached if it is 0.
+     */
+    private static long contentCacheMaxSize = 64 * 1024 * 1024;
+    
+    /**
+     * The max size of config contents pushed to rpc clients with change notification, unit for bytes. The contents are
+     * not pushed if it is 0.
+     */
+    private static int contentPushMaxSize = 8 * 1024;
+    
+    /**
+     * The max size of config contents carried by cluster sync requests, unit for bytes. The contents are not carried if
+     * it is 0.
+     */
+    private static int clusterSyncContentMaxSize = 64 * 1024;
+    
+    /**
+     * The window to coalesce config change sync requests to the same member into one batch, unit for milliseconds.
+     * The requests are sent one by one if it is 0.
+     */
+    private static int clusterSyncBatchWindow = 50;
+    
+    /**
+     * Whether fuzzy search configs by in memory index instead of querying database.
+     */
+    private static boolean fuzzySearchIndexEnabled = true;
+    
+    /**
+     * The interval of flushing capacity usage deltas in memory to database, unit for milliseconds.
+     */
+    private static int capacityUsageFlushInterval = 1000;
+    
+    /**
+     * Whether write config history asynchronously by batch, instead of in the transaction of publishing.
+     */
+    private static boolean configHistoryAsyncWriteEnabled = false;
+    
+    /**
+     * The max count of config history buffered in memory when writing asynchronously.
+     */
+    private static int configHistoryBufferSize = 10000;
+    
+    /**
+     * The time range of each deletion when removing expired config history, unit for minutes.
+     */
+    private static int configHistoryRetentionBucketMinutes = 60;
+    
+    /**
+     * The time window to group the writes of embedded storage into one raft log, unit for milliseconds, 0 means
+     * disabled.
+     */
+    private static int embeddedStorageGroupCommitWindow = 0;
+    
+    /**
+     * The max count of writes grouped into one raft log of embedded storage.
+     */
+    private static int embeddedStorageGroupCommitMaxSize = 64;
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -250,6 +335,134 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.embeddedStorage = embeddedStorage;
     }
     
+    public static boolean isDumpTaskTimingWheelEnabled() {
+        return dumpTaskTimingWheelEnabled;
+    }
+    
+    public static void setDumpTaskTimingWheelEnabled(boolean dumpTaskTimingWheelEnabled) {
+        PropertyUtil.dumpTaskTimingWheelEnabled = dumpTaskTimingWheelEnabled;
+    }
+    
+    public static boolean isDumpIncrementalEnabled() {
+        return dumpIncrementalEnabled;
+    }
+    
+    public static void setDumpIncrementalEnabled(boolean dumpIncrementalEnabled) {
+        PropertyUtil.dumpIncrementalEnabled = dumpIncrementalEnabled;
+    }
+    
+    public static int getDumpFullScanInterval() {
+        return dumpFullScanInterval;
+    }
+    
+    public static void setDumpFullScanInterval(int dumpFullScanInterval) {
+        PropertyUtil.dumpFullScanInterval = dumpFullScanInterval;
+    }
+    
+    public static int getDumpAllReaderCount() {
+        return dumpAllReaderCount;
+    }
+    
+    public static void setDumpAllReaderCount(int dumpAllReaderCount) {
+        PropertyUtil.dumpAllReaderCount = dumpAllReaderCount;
+    }
+    
+    public static int getDumpAllWriterCount() {
+        return dumpAllWriterCount;
+    }
+    
+    public static void setDumpAllWriterCount(int dumpAllWriterCount) {
+        PropertyUtil.dumpAllWriterCount = dumpAllWriterCount;
+    }
+    
+    public static long getContentCacheMaxSize() {
+        return contentCacheMaxSize;
+    }
+    
+    public static void setContentCacheMaxSize(long contentCacheMaxSize) {
+        PropertyUtil.contentCacheMaxSize = contentCacheMaxSize;
+    }
+    
+    public static int getContentPushMaxSize() {
+        return contentPushMaxSize;
+    }
+    
+    public static void setContentPushMaxSize(int contentPushMaxSize) {
+        PropertyUtil.contentPushMaxSize = contentPushMaxSize;
+    }
+    
+    public static int getClusterSyncContentMaxSize() {
+        return clusterSyncContentMaxSize;
+    }
+    
+    public static void setClusterSyncContentMaxSize(int clusterSyncContentMaxSize) {
+        PropertyUtil.clusterSyncContentMaxSize = clusterSyncContentMaxSize;
+    }
+    
+    public static int getClusterSyncBatchWindow() {
+        return clusterSyncBatchWindow;
+    }
+    
+    public static void setClusterSyncBatchWindow(int clusterSyncBatchWindow) {
+        PropertyUtil.clusterSyncBatchWindow = clusterSyncBatchWindow;
+    }
+    
+    public static boolean isFuzzySearchIndexEnabled() {
+        return fuzzySearchIndexEnabled;
+    }
+    
+    public static void setFuzzySearchIndexEnabled(boolean fuzzySearchIndexEnabled) {
+        PropertyUtil.fuzzySearchIndexEnabled = fuzzySearchIndexEnabled;
+    }
+    
+    public static int getCapacityUsageFlushInterval() {
+        return capacityUsageFlushInterval;
+    }
+    
+    public static void setCapacityUsageFlushInterval(int capacityUsageFlushInterval) {
+        PropertyUtil.capacityUsageFlushInterval = capacityUsageFlushInterval;
+    }
+    
+    public static boolean isConfigHistoryAsyncWriteEnabled() {
+        return configHistoryAsyncWriteEnabled;
+    }
+    
+    public static void setConfigHistoryAsyncWriteEnabled(boolean configHistoryAsyncWriteEnabled) {
+        PropertyUtil.configHistoryAsyncWriteEnabled = configHistoryAsyncWriteEnabled;
+    }
+    
+    public static int getConfigHistoryBufferSize() {
+        return configHistoryBufferSize;
+    }
+    
+    public static void setConfigHistoryBufferSize(int configHistoryBufferSize) {
+        PropertyUtil.configHistoryBufferSize = configHistoryBufferSize;
+    }
+    
+    public static int getConfigHistoryRetentionBucketMinutes() {
+        return configHistoryRetentionBucketMinutes;
+    }
+    
+    public static void setConfigHistoryRetentionBucketMinutes(int configHistoryRetentionBucketMinutes) {
+        PropertyUtil.configHistoryRetentionBucketMinutes = configHistoryRetentionBucketMinutes;
+    }
+    
+    public static int getEmbeddedStorageGroupCommitWindow() {
+        return embeddedStorageGroupCommitWindow;
+    }
+    
+    public static void setEmbeddedStorageGroupCommitWindow(int embeddedStorageGroupCommitWindow) {
+        PropertyUtil.embeddedStorageGroupCommitWindow = embeddedStorageGroupCommitWindow;
+    }
+    
+    public static int getEmbeddedStorageGroupCommitMaxSize() {
+        return embeddedStorageGroupCommitMaxSize;
+    }
+    
+    public static void setEmbeddedStorageGroupCommitMaxSize(int embeddedStorageGroupCommitMaxSize) {
+        PropertyUtil.embeddedStorageGroupCommitMaxSize = embeddedStorageGroupCommitMaxSize;
+    }
+    
     private void loadSetting() {
         try {
             setNotifyConnectTimeout(Integer.parseInt(EnvUtil.getProperty(PropertiesConstant.NOTIFY_CONNECT_TIMEOUT,
@@ -279,6 +492,30 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDefaultMaxAggrSize(getInt(PropertiesConstant.DEFAULT_MAX_AGGR_SIZE, defaultMaxAggrSize));
             setCorrectUsageDelay(getInt(PropertiesConstant.CORRECT_USAGE_DELAY, correctUsageDelay));
             setInitialExpansionPercent(getInt(PropertiesConstant.INITIAL_EXPANSION_PERCENT, initialExpansionPercent));
+            setDumpTaskTimingWheelEnabled(
+                    getBoolean(PropertiesConstant.DUMP_TASK_TIMING_WHEEL_ENABLED, dumpTaskTimingWheelEnabled));
+            setDumpIncrementalEnabled(getBoolean(PropertiesConstant.DUMP_INCREMENTAL_ENABLED, dumpIncrementalEnabled));
+            setDumpFullScanInterval(getInt(PropertiesConstant.DUMP_FULL_SCAN_INTERVAL, dumpFullScanInterval));
+            setDumpAllReaderCount(getInt(PropertiesConstant.DUMP_ALL_READER_COUNT, dumpAllReaderCount));
+            setDumpAllWriterCount(getInt(PropertiesConstant.DUMP_ALL_WRITER_COUNT, dumpAllWriterCount));
+            setContentCacheMaxSize(getLong(PropertiesConstant.CONTENT_CACHE_MAX_SIZE, contentCacheMaxSize));
+            setContentPushMaxSize(getInt(PropertiesConstant.CONTENT_PUSH_MAX_SIZE, contentPushMaxSize));
+            setClusterSyncContentMaxSize(
+                    getInt(PropertiesConstant.CLUSTER_SYNC_CONTENT_MAX_SIZE, clusterSyncContentMaxSize));
+            setClusterSyncBatchWindow(getInt(PropertiesConstant.CLUSTER_SYNC_BATCH_WINDOW, clusterSyncBatchWindow));
+            setFuzzySearchIndexEnabled(
+                    getBoolean(PropertiesConstant.FUZZY_SEARCH_INDEX_ENABLED, fuzzySearchIndexEnabled));
+            setCapacityUsageFlushInterval(
+                    getInt(PropertiesConstant.CAPACITY_USAGE_FLUSH_INTERVAL, capacityUsageFlushInterval));
+            setConfigHistoryAsyncWriteEnabled(
+                    getBoolean(PropertiesConstant.CONFIG_HISTORY_ASYNC_WRITE_ENABLED, configHistoryAsyncWriteEnabled));
+            setConfigHistoryBufferSize(getInt(PropertiesConstant.CONFIG_HISTORY_BUFFER_SIZE, configHistoryBufferSize));
+            setConfigHistoryRetentionBucketMinutes(getInt(PropertiesConstant.CONFIG_HISTORY_RETENTION_BUCKET_MINUTES,
+                    configHistoryRetentionBucketMinutes));
+            setEmbeddedStorageGroupCommitWindow(
+                    getInt(PropertiesConstant.EMBEDDED_STORAGE_GROUP_COMMIT_WINDOW, embeddedStorageGroupCommitWindow));
+            setEmbeddedStorageGroupCommitMaxSize(getInt(PropertiesConstant.EMBEDDED_STORAGE_GROUP_COMMIT_MAX_SIZE,
+                    embeddedStorageGroupCommitMaxSize));
             // External data sources are used by default in cluster mode
             setUseExternalDB(PropertiesConstant.MYSQL
                     .equalsIgnoreCase(getString(PropertiesConstant.SPRING_DATASOURCE_PLATFORM, "")));
@@ -315,6 +552,10 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         return Integer.parseInt(getString(key, String.valueOf(defaultValue)));
     }
     
+    private long getLong(String key, long defaultValue) {
+        return Long.parseLong(getString(key, String.valueOf(defaultValue)));
+    }
+    
     private String getString(String key, String defaultValue) {
         String value = getProperty(key);
         if (value == null) {
@@ -30,6 +30,7 @@ import com.alibaba.nacos.config.server.model.SampleResult;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
 import com.alibaba.nacos.config.server.service.ConfigSubService;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.service.search.ConfigSearchService;
 import com.alibaba.nacos.config.server.utils.ZipUtils;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -61,6 +62,7 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -90,6 +92,9 @@ public class ConfigControllerTest {
     @Mock
     private ConfigSubService configSubService;
     
+    @Mock
+    private ConfigSearchService configSearchService;
+    
     @Before
     public void setUp() {
         EnvUtil.setEnvironment(new StandardEnvironment());
@@ -98,6 +103,7 @@ public class ConfigControllerTest {
         ReflectionTestUtils.setField(configController, "persistService", persistService);
         ReflectionTestUtils.setField(configController, "configOperationService", configOperationService);
         ReflectionTestUtils.setField(configController, "inner", inner);
+        ReflectionTestUtils.setField(configController, "configSearchService", configSearchService);
         mockmvc = MockMvcBuilders.standaloneSetup(configController).build();
     }
     
@@ -320,6 +326,35 @@ public class ConfigControllerTest {
         
     }
     
+    @Test
+    public void testFuzzySearchConfigByIndex() throws Exception {
+        
+        List<ConfigInfo> configInfoList = new ArrayList<>();
+        ConfigInfo configInfo = new ConfigInfo("test", "test", "test");
+        configInfoList.add(configInfo);
+        
+        Page<ConfigInfo> page = new Page<>();
+        page.setTotalCount(1);
+        page.setPageNumber(1);
+        page.setPagesAvailable(1);
+        page.setPageItems(configInfoList);
+        
+        when(configSearchService.search(1, 10, "*test*", "test", "", "")).thenReturn(page);
+        
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.CONFIG_CONTROLLER_PATH)
+                .param("search", "blur").param("dataId", "*test*")
+                .param("group", "test").param("appName", "")
+                .param("tenant", "").param("config_tags", "")
+                .param("pageNo", "1").param("pageSize", "10");
+        
+        String actualValue = mockmvc.perform(builder).andReturn().getResponse().getContentAsString();
+        
+        ConfigInfo resConfigInfo = JacksonUtils.toObj(JacksonUtils.toObj(actualValue).get("pageItems").get(0).toString(), ConfigInfo.class);
+        Assert.assertEquals(configInfo.getDataId(), resConfigInfo.getDataId());
+        Mockito.verify(persistService, Mockito.never())
+                .findConfigInfoLike4Page(anyInt(), anyInt(), any(), any(), any(), any());
+    }
+    
     @Test
     public void testStopBeta() throws Exception {
         
@@ -25,6 +25,7 @@ import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.LongPollingService;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.config.server.utils.DiskUtil;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.MD5Util;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -47,14 +48,19 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static com.alibaba.nacos.config.server.utils.RequestUtil.CLIENT_APPNAME_HEADER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -240,6 +246,98 @@ public class ConfigServletInnerTest {
         propertyUtilMockedStatic.close();
     }
     
+    @Test
+    public void testDoGetConfigTransferLargeFile() throws Exception {
+        
+        final MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito.mockStatic(ConfigCacheService.class);
+        final MockedStatic<DiskUtil> diskUtilMockedStatic = Mockito.mockStatic(DiskUtil.class);
+        final MockedStatic<PropertyUtil> propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
+        
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryReadLock(anyString())).thenReturn(1);
+        CacheItem cacheItem = new CacheItem("test");
+        cacheItem.setIps4Beta(new ArrayList<>());
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(anyString())).thenReturn(cacheItem);
+        propertyUtilMockedStatic.when(PropertyUtil::isDirectRead).thenReturn(false);
+        
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 128 * 1024) {
+            content.append("large.content.key=value\n");
+        }
+        File file = tempFolder.newFile("large.txt");
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+        diskUtilMockedStatic.when(() -> DiskUtil.targetFile(anyString(), anyString(), anyString())).thenReturn(file);
+        
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("localhost:8080");
+        request.addHeader(CLIENT_APPNAME_HEADER, "test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String actualValue = configServletInner.doGetConfig(request, response, "test", "test", "test", "", "true", "localhost");
+        Assert.assertEquals(HttpServletResponse.SC_OK + "", actualValue);
+        Assert.assertEquals(file.length(), response.getContentLengthLong());
+        Assert.assertEquals(content.toString(), response.getContentAsString(StandardCharsets.UTF_8));
+        // large content transferred directly should not be cached in memory.
+        configCacheServiceMockedStatic.verify(
+                () -> ConfigCacheService.cacheContent(anyString(), anyBoolean(), any(), any(), anyString()), never());
+        
+        // content dumped with encrypted data key may need decryption, so it is read as string.
+        cacheItem.setEncryptedDataKey("encryptedDataKey");
+        response = new MockHttpServletResponse();
+        actualValue = configServletInner.doGetConfig(request, response, "test", "test", "test", "", "true", "localhost");
+        Assert.assertEquals(HttpServletResponse.SC_OK + "", actualValue);
+        Assert.assertEquals(content.toString(), response.getContentAsString(StandardCharsets.UTF_8));
+        configCacheServiceMockedStatic.verify(
+                () -> ConfigCacheService.cacheContent(anyString(), anyBoolean(), any(), any(), anyString()));
+        
+        configCacheServiceMockedStatic.close();
+        diskUtilMockedStatic.close();
+        propertyUtilMockedStatic.close();
+    }
+    
+    @Test
+    public void testDoGetConfigFromContentCache() throws Exception {
+        
+        final MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito
+                .mockStatic(ConfigCacheService.class, Mockito.CALLS_REAL_METHODS);
+        final MockedStatic<DiskUtil> diskUtilMockedStatic = Mockito.mockStatic(DiskUtil.class);
+        final MockedStatic<PropertyUtil> propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
+        
+        final String groupKey = GroupKey2.getKey("cachedDataId", "test", "test");
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryReadLock(groupKey)).thenReturn(1);
+        CacheItem cacheItem = new CacheItem(groupKey);
+        cacheItem.setMd5("md5-1");
+        cacheItem.setIps4Beta(new ArrayList<>());
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(groupKey)).thenReturn(cacheItem);
+        propertyUtilMockedStatic.when(PropertyUtil::isDirectRead).thenReturn(false);
+        propertyUtilMockedStatic.when(PropertyUtil::getContentCacheMaxSize).thenReturn(1024L);
+        File file = tempFolder.newFile("cached.txt");
+        Files.write(file.toPath(), "disk content".getBytes(StandardCharsets.UTF_8));
+        diskUtilMockedStatic.when(() -> DiskUtil.targetFile(anyString(), anyString(), anyString())).thenReturn(file);
+        ConfigCacheService.cacheContent(groupKey, false, null, "md5-1", "cached content");
+        
+        // md5 of cached content matches, content is served from memory instead of the file.
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("localhost:8080");
+        request.addHeader(CLIENT_APPNAME_HEADER, "test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String actualValue = configServletInner
+                .doGetConfig(request, response, "cachedDataId", "test", "test", "", "true", "localhost");
+        Assert.assertEquals(HttpServletResponse.SC_OK + "", actualValue);
+        Assert.assertEquals("cached content", response.getContentAsString());
+        
+        // md5 of cached content mismatches, content is read from the file and cached with the new md5.
+        cacheItem.setMd5("md5-2");
+        response = new MockHttpServletResponse();
+        actualValue = configServletInner
+                .doGetConfig(request, response, "cachedDataId", "test", "test", "", "true", "localhost");
+        Assert.assertEquals(HttpServletResponse.SC_OK + "", actualValue);
+        Assert.assertEquals("disk content", response.getContentAsString());
+        Assert.assertEquals("disk content", ConfigCacheService.getCachedContent(groupKey, false, null, "md5-2"));
+        
+        configCacheServiceMockedStatic.close();
+        diskUtilMockedStatic.close();
+        propertyUtilMockedStatic.close();
+    }
+    
     @Test
     public void testDoGetConfigV3() throws Exception {
     
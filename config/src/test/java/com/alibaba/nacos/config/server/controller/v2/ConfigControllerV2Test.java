@@ -16,13 +16,17 @@
 
 package com.alibaba.nacos.config.server.controller.v2;
 
+import com.alibaba.nacos.api.exception.api.NacosApiException;
 import com.alibaba.nacos.api.model.v2.ErrorCode;
 import com.alibaba.nacos.api.model.v2.Result;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.config.server.controller.ConfigServletInner;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
+import com.alibaba.nacos.config.server.model.ContinuationPage;
 import com.alibaba.nacos.config.server.model.form.ConfigForm;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
+import com.alibaba.nacos.config.server.utils.ContinuationTokenUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.Before;
 import org.junit.Test;
@@ -34,6 +38,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -97,6 +102,29 @@ public class ConfigControllerV2Test {
         assertEquals(TEST_CONTENT, actContent);
     }
     
+    @Test
+    public void testScrollConfig() throws Exception {
+        ConfigInfo configInfo = new ConfigInfo(TEST_DATA_ID, TEST_GROUP, TEST_CONTENT);
+        ContinuationPage<ConfigInfo> page = new ContinuationPage<>();
+        page.setPageItems(Collections.singletonList(configInfo));
+        page.setContinuationToken(ContinuationTokenUtil.encode(1L));
+        when(configOperationService.scrollConfigInfo("*test*", TEST_GROUP, TEST_NAMESPACE_ID, null, true, 1L, 1))
+                .thenReturn(page);
+        
+        Result<ContinuationPage<ConfigInfo>> result = configControllerV2
+                .scrollConfig("*test*", TEST_GROUP, TEST_NAMESPACE_ID, null, "blur", ContinuationTokenUtil.encode(1L),
+                        1);
+        
+        assertEquals(ErrorCode.SUCCESS.getCode(), result.getCode());
+        assertEquals(TEST_DATA_ID, result.getData().getPageItems().get(0).getDataId());
+        assertEquals(page.getContinuationToken(), result.getData().getContinuationToken());
+    }
+    
+    @Test(expected = NacosApiException.class)
+    public void testScrollConfigWithInvalidToken() throws Exception {
+        configControllerV2.scrollConfig(TEST_DATA_ID, TEST_GROUP, TEST_NAMESPACE_ID, null, "accurate", "invalid", 10);
+    }
+    
     @Test
     public void testPublishConfig() throws Exception {
         
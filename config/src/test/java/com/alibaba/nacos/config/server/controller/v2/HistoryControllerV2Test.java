@@ -21,8 +21,10 @@ import com.alibaba.nacos.api.model.v2.ErrorCode;
 import com.alibaba.nacos.api.model.v2.Result;
 import com.alibaba.nacos.config.server.model.ConfigHistoryInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.ContinuationPage;
 import com.alibaba.nacos.config.server.model.Page;
 import com.alibaba.nacos.config.server.service.HistoryService;
+import com.alibaba.nacos.config.server.utils.ContinuationTokenUtil;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -36,6 +38,7 @@ import java.util.Date;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -103,6 +106,28 @@ public class HistoryControllerV2Test {
         
     }
     
+    @Test
+    public void testScrollConfigHistory() throws Exception {
+        ContinuationPage<ConfigHistoryInfo> page = new ContinuationPage<>();
+        page.setPageItems(Collections.singletonList(new ConfigHistoryInfo()));
+        page.setContinuationToken(ContinuationTokenUtil.encode(10L));
+        when(historyService.scrollConfigHistory(TEST_DATA_ID, TEST_GROUP, TEST_NAMESPACE_ID, Long.MAX_VALUE, 10))
+                .thenReturn(page);
+        when(historyService.scrollConfigHistory(TEST_DATA_ID, TEST_GROUP, TEST_NAMESPACE_ID, 10L, 500))
+                .thenReturn(new ContinuationPage<>());
+        
+        Result<ContinuationPage<ConfigHistoryInfo>> firstResult = historyControllerV2
+                .scrollConfigHistory(TEST_DATA_ID, TEST_GROUP, TEST_NAMESPACE_ID, null, 10);
+        assertEquals(ErrorCode.SUCCESS.getCode(), firstResult.getCode());
+        assertEquals(1, firstResult.getData().getPageItems().size());
+        
+        Result<ContinuationPage<ConfigHistoryInfo>> nextResult = historyControllerV2
+                .scrollConfigHistory(TEST_DATA_ID, TEST_GROUP, TEST_NAMESPACE_ID,
+                        firstResult.getData().getContinuationToken(), 1000);
+        assertEquals(0, nextResult.getData().getPageItems().size());
+        assertNull(nextResult.getData().getContinuationToken());
+    }
+    
     @Test
     public void testGetConfigHistoryInfo() throws Exception {
         
@@ -21,16 +21,25 @@ import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterS
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import junit.framework.TestCase;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigChangeClusterSyncRequestHandlerTest extends TestCase {
 
@@ -57,4 +66,38 @@ public class ConfigChangeClusterSyncRequestHandlerTest extends TestCase {
         ConfigChangeClusterSyncResponse configChangeClusterSyncResponse = configChangeClusterSyncRequestHandler.handle(configChangeSyncRequest, meta);
         assertEquals(configChangeClusterSyncResponse.getResultCode(), ResponseCode.SUCCESS.getCode());
     }
+    
+    @Test
+    public void testHandleWithContent() throws NacosException {
+        ConfigChangeClusterSyncRequest configChangeSyncRequest = new ConfigChangeClusterSyncRequest();
+        configChangeSyncRequest.setDataId("dataId");
+        configChangeSyncRequest.setGroup("group");
+        configChangeSyncRequest.setLastModified(1L);
+        configChangeSyncRequest.setContent("content");
+        configChangeSyncRequest.setMd5(MD5Utils.md5Hex("content", Constants.ENCODE));
+        configChangeSyncRequest.setType("text");
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        configChangeClusterSyncRequestHandler.handle(configChangeSyncRequest, meta);
+        ArgumentCaptor<ConfigInfo> captor = ArgumentCaptor.forClass(ConfigInfo.class);
+        Mockito.verify(dumpService).dump(eq("dataId"), eq("group"), any(), eq(1L), eq("1.1.1.1"), captor.capture());
+        assertEquals("content", captor.getValue().getContent());
+        assertEquals("text", captor.getValue().getType());
+    }
+    
+    @Test
+    public void testHandleWithMismatchedContent() throws NacosException {
+        ConfigChangeClusterSyncRequest configChangeSyncRequest = new ConfigChangeClusterSyncRequest();
+        configChangeSyncRequest.setDataId("dataId");
+        configChangeSyncRequest.setGroup("group");
+        configChangeSyncRequest.setLastModified(1L);
+        configChangeSyncRequest.setContent("content");
+        configChangeSyncRequest.setMd5("wrongMd5");
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        configChangeClusterSyncRequestHandler.handle(configChangeSyncRequest, meta);
+        Mockito.verify(dumpService).dump("dataId", "group", null, 1L, "1.1.1.1");
+        Mockito.verify(dumpService, Mockito.never())
+                .dump(any(), any(), any(), anyLong(), any(), any(ConfigInfo.class));
+    }
 }
\ No newline at end of file
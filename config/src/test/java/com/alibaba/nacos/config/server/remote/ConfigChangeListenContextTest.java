@@ -67,6 +67,21 @@ public class ConfigChangeListenContextTest {
         Assert.assertNull(connectionIdAfter);
     }
 
+    @Test
+    public void testClearContextForConnectionIdRemovesListeners() {
+        configChangeListenContext.addListen("groupKey1", "md5", "connectionId1");
+        configChangeListenContext.addListen("groupKey2", "md5", "connectionId1");
+        configChangeListenContext.addListen("groupKey2", "md5", "connectionId2");
+        Set<String> listeners = configChangeListenContext.getListeners("groupKey2");
+        Assert.assertTrue(listeners.contains("connectionId1"));
+        configChangeListenContext.clearContextForConnectionId("connectionId1");
+        Assert.assertNull(configChangeListenContext.getListeners("groupKey1"));
+        Assert.assertEquals(1, configChangeListenContext.getListeners("groupKey2").size());
+        Assert.assertTrue(listeners.contains("connectionId2"));
+        Assert.assertFalse(listeners.contains("connectionId1"));
+        Assert.assertEquals(1, configChangeListenContext.getConnectionCount());
+    }
+
     @Test
     public void testGetListenKeys() {
         configChangeListenContext.addListen("groupKey", "md5", "connectionId");
@@ -44,6 +44,7 @@ import java.io.File;
 import java.io.IOException;
 
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -99,4 +100,51 @@ public class ConfigQueryRequestHandlerTest {
         propertyUtilMockedStatic.close();
     }
     
-}
\ No newline at end of file
+    @Test
+    public void testHandleFromContentCache() throws NacosException {
+        final MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito
+                .mockStatic(ConfigCacheService.class, Mockito.CALLS_REAL_METHODS);
+        final MockedStatic<FileUtils> fileUtilsMockedStatic = Mockito.mockStatic(FileUtils.class);
+        final MockedStatic<DiskUtil> diskUtilMockedStatic = Mockito.mockStatic(DiskUtil.class);
+        MockedStatic<PropertyUtil> propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
+        
+        propertyUtilMockedStatic.when(PropertyUtil::isDirectRead).thenReturn(false);
+        propertyUtilMockedStatic.when(PropertyUtil::getContentCacheMaxSize).thenReturn(1024L);
+        
+        ReflectionTestUtils.setField(configQueryRequestHandler, "persistService", persistService);
+        final String groupKey = GroupKey2.getKey("cachedDataId", "group", "");
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryReadLock(groupKey)).thenReturn(1);
+        diskUtilMockedStatic.when(() -> DiskUtil.targetFile(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(file);
+        CacheItem cacheItem = new CacheItem(groupKey);
+        cacheItem.setMd5("md5-1");
+        cacheItem.setLastModifiedTs(1L);
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(groupKey)).thenReturn(cacheItem);
+        ConfigCacheService.cacheContent(groupKey, false, null, "md5-1", "cached content");
+        
+        ConfigQueryRequest configQueryRequest = new ConfigQueryRequest();
+        configQueryRequest.setDataId("cachedDataId");
+        configQueryRequest.setGroup("group");
+        RequestMeta requestMeta = new RequestMeta();
+        requestMeta.setClientIp("127.0.0.1");
+        
+        // md5 of cached content matches, content is served from memory without reading the file.
+        ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        Assert.assertEquals("cached content", response.getContent());
+        fileUtilsMockedStatic.verify(() -> FileUtils.readFileToString(file, ENCODE), never());
+        
+        // md5 of cached content mismatches, content is read from the file and cached with the new md5.
+        cacheItem.setMd5("md5-2");
+        when(file.exists()).thenReturn(true);
+        fileUtilsMockedStatic.when(() -> FileUtils.readFileToString(file, ENCODE)).thenReturn("disk content");
+        response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        Assert.assertEquals("disk content", response.getContent());
+        Assert.assertEquals("disk content", ConfigCacheService.getCachedContent(groupKey, false, null, "md5-2"));
+        Assert.assertNull(ConfigCacheService.getCachedContent(groupKey, false, null, "md5-1"));
+        
+        configCacheServiceMockedStatic.close();
+        fileUtilsMockedStatic.close();
+        diskUtilMockedStatic.close();
+        propertyUtilMockedStatic.close();
+    }
+}
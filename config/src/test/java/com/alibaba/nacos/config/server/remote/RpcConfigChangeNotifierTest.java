@@ -16,20 +16,43 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.core.remote.control.TpsMonitorManager;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RpcConfigChangeNotifierTest {
@@ -68,4 +91,132 @@ public class RpcConfigChangeNotifierTest {
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey, true, betaIps));
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(limitGroupKey));
     }
+    
+    @Test
+    public void testPushWithContent() {
+        final String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        final String content = "content";
+        final String md5 = MD5Utils.md5Hex(content, "UTF-8");
+        CacheItem cacheItem = new CacheItem(groupKey);
+        cacheItem.setMd5(md5);
+        cacheItem.setType("text");
+        when(configChangeListenContext.getListeners(groupKey)).thenReturn(Collections.singleton("connectionId"));
+        Connection connection = Mockito.mock(Connection.class);
+        when(connection.getMetaInfo()).thenReturn(Mockito.mock(ConnectionMeta.class));
+        ClientAbilities abilities = new ClientAbilities();
+        abilities.getConfigAbility().setSupportContentPush(true);
+        when(connection.getAbilities()).thenReturn(abilities);
+        when(connectionManager.getConnection("connectionId")).thenReturn(connection);
+        when(tpsMonitorManager.applyTpsForClientIp(anyString(), anyString(), any())).thenReturn(true);
+        
+        try (MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito
+                .mockStatic(ConfigCacheService.class);
+                MockedStatic<PropertyUtil> propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class)) {
+            propertyUtilMockedStatic.when(PropertyUtil::getContentPushMaxSize).thenReturn(1024);
+            configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryReadLock(groupKey)).thenReturn(1);
+            configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(groupKey))
+                    .thenReturn(cacheItem);
+            configCacheServiceMockedStatic
+                    .when(() -> ConfigCacheService.getCachedContent(groupKey, false, null, md5)).thenReturn(content);
+            rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey));
+            
+            ArgumentCaptor<ConfigChangeNotifyRequest> captor = ArgumentCaptor.forClass(ConfigChangeNotifyRequest.class);
+            verify(rpcPushService, timeout(3000L)).pushWithCallback(eq("connectionId"), captor.capture(), any(), any());
+            ConfigChangeNotifyRequest request = captor.getValue();
+            Assert.assertEquals("dataId", request.getDataId());
+            Assert.assertEquals(content, request.getContent());
+            Assert.assertEquals(md5, request.getMd5());
+            Assert.assertEquals("text", request.getContentType());
+            configCacheServiceMockedStatic.verify(() -> ConfigCacheService.releaseReadLock(groupKey));
+        }
+    }
+    
+    @Test
+    public void testPushWithoutContentForUnsupportedClient() {
+        final String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        when(configChangeListenContext.getListeners(groupKey)).thenReturn(Collections.singleton("connectionId"));
+        Connection connection = Mockito.mock(Connection.class);
+        when(connection.getMetaInfo()).thenReturn(Mockito.mock(ConnectionMeta.class));
+        when(connection.getAbilities()).thenReturn(new ClientAbilities());
+        when(connectionManager.getConnection("connectionId")).thenReturn(connection);
+        when(tpsMonitorManager.applyTpsForClientIp(anyString(), anyString(), any())).thenReturn(true);
+        
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey));
+        
+        ArgumentCaptor<ConfigChangeNotifyRequest> captor = ArgumentCaptor.forClass(ConfigChangeNotifyRequest.class);
+        verify(rpcPushService, timeout(3000L)).pushWithCallback(eq("connectionId"), captor.capture(), any(), any());
+        Assert.assertNull(captor.getValue().getContent());
+        Assert.assertNull(captor.getValue().getMd5());
+    }
+    
+    @Test
+    public void testPushWithoutContentForBetaClient() {
+        ConnectionMeta betaMeta = Mockito.mock(ConnectionMeta.class);
+        when(betaMeta.getClientIp()).thenReturn("1.1.1.1");
+        ConnectionMeta formalMeta = Mockito.mock(ConnectionMeta.class);
+        when(formalMeta.getClientIp()).thenReturn("2.2.2.2");
+        CacheItem cacheItem = new CacheItem(GroupKey2.getKey("dataId", "group", "tenant"));
+        cacheItem.setBeta(true);
+        cacheItem.setIps4Beta(Collections.singletonList("1.1.1.1"));
+        
+        Map<String, ConfigChangeNotifyRequest> requests = pushFormalChange(cacheItem, betaMeta, formalMeta);
+        // the beta client will query the beta content, so it should not be pushed the formal content.
+        Assert.assertNull(requests.get("connectionId0").getContent());
+        Assert.assertEquals("content", requests.get("connectionId1").getContent());
+    }
+    
+    @Test
+    public void testPushWithoutContentForTagClient() {
+        ConnectionMeta tagMeta = Mockito.mock(ConnectionMeta.class);
+        when(tagMeta.getTag()).thenReturn("tag");
+        ConnectionMeta otherTagMeta = Mockito.mock(ConnectionMeta.class);
+        when(otherTagMeta.getTag()).thenReturn("otherTag");
+        CacheItem cacheItem = new CacheItem(GroupKey2.getKey("dataId", "group", "tenant"));
+        cacheItem.setTagMd5(Collections.singletonMap("tag", "tagMd5"));
+        
+        Map<String, ConfigChangeNotifyRequest> requests = pushFormalChange(cacheItem, tagMeta, otherTagMeta);
+        // the client whose tag has tag content will query the tag content, so it should not be pushed the formal one.
+        Assert.assertNull(requests.get("connectionId0").getContent());
+        Assert.assertEquals("content", requests.get("connectionId1").getContent());
+    }
+    
+    private Map<String, ConfigChangeNotifyRequest> pushFormalChange(CacheItem cacheItem, ConnectionMeta... metas) {
+        final String groupKey = cacheItem.getGroupKey();
+        final String md5 = MD5Utils.md5Hex("content", "UTF-8");
+        cacheItem.setMd5(md5);
+        List<String> connectionIds = new ArrayList<>(metas.length);
+        ClientAbilities abilities = new ClientAbilities();
+        abilities.getConfigAbility().setSupportContentPush(true);
+        for (int i = 0; i < metas.length; i++) {
+            Connection connection = Mockito.mock(Connection.class);
+            when(connection.getMetaInfo()).thenReturn(metas[i]);
+            when(connection.getAbilities()).thenReturn(abilities);
+            when(connectionManager.getConnection("connectionId" + i)).thenReturn(connection);
+            connectionIds.add("connectionId" + i);
+        }
+        when(configChangeListenContext.getListeners(groupKey)).thenReturn(new HashSet<>(connectionIds));
+        when(tpsMonitorManager.applyTpsForClientIp(anyString(), anyString(), any())).thenReturn(true);
+        
+        try (MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito
+                .mockStatic(ConfigCacheService.class);
+                MockedStatic<PropertyUtil> propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class)) {
+            propertyUtilMockedStatic.when(PropertyUtil::getContentPushMaxSize).thenReturn(1024);
+            configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryReadLock(groupKey)).thenReturn(1);
+            configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(groupKey))
+                    .thenReturn(cacheItem);
+            configCacheServiceMockedStatic
+                    .when(() -> ConfigCacheService.getCachedContent(groupKey, false, null, md5)).thenReturn("content");
+            rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey));
+            
+            ArgumentCaptor<String> connectionCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<ConfigChangeNotifyRequest> captor = ArgumentCaptor.forClass(ConfigChangeNotifyRequest.class);
+            verify(rpcPushService, timeout(3000L).times(metas.length))
+                    .pushWithCallback(connectionCaptor.capture(), captor.capture(), any(), any());
+            Map<String, ConfigChangeNotifyRequest> result = new HashMap<>(metas.length);
+            for (int i = 0; i < metas.length; i++) {
+                result.put(connectionCaptor.getAllValues().get(i), captor.getAllValues().get(i));
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ConfigCacheIndexTest {
+    
+    private File indexFile;
+    
+    @Before
+    public void setUp() throws IOException {
+        indexFile = File.createTempFile("configCacheIndexTest", "bin");
+    }
+    
+    @After
+    public void tearDown() {
+        indexFile.delete();
+    }
+    
+    @Test
+    public void testWriteAndRead() throws IOException {
+        CacheItem formal = buildItem("dataId+group", "md5", "yaml", "key");
+        CacheItem withoutType = buildItem("dataId+group+tenant", "md5", null, null);
+        CacheItem withoutFormal = buildItem("betaOnly+group", Constants.NULL, null, null);
+        assertEquals(2, ConfigCacheIndex.write(indexFile, 100L, Arrays.asList(formal, withoutType, withoutFormal)));
+    
+        List<CacheItem> items = new ArrayList<>();
+        assertEquals(100L, ConfigCacheIndex.read(indexFile, items::add));
+        assertEquals(2, items.size());
+        assertEquals("dataId+group", items.get(0).getGroupKey());
+        assertEquals("md5", items.get(0).getMd5());
+        assertEquals(1L, items.get(0).getLastModifiedTs());
+        assertEquals("yaml", items.get(0).getType());
+        assertEquals("key", items.get(0).getEncryptedDataKey());
+        assertEquals("dataId+group+tenant", items.get(1).getGroupKey());
+        assertNull(items.get(1).getType());
+        assertNull(items.get(1).getEncryptedDataKey());
+    }
+    
+    @Test(expected = IOException.class)
+    public void testReadCorruptedIndex() throws IOException {
+        ConfigCacheIndex.write(indexFile, 100L, Arrays.asList(buildItem("dataId+group", "md5", "text", "")));
+        try (RandomAccessFile file = new RandomAccessFile(indexFile, "rw")) {
+            file.seek(20);
+            file.write(0xFF);
+        }
+        ConfigCacheIndex.read(indexFile, item -> { });
+    }
+    
+    @Test(expected = IOException.class)
+    public void testReadTruncatedIndex() throws IOException {
+        ConfigCacheIndex.write(indexFile, 100L, Arrays.asList(buildItem("dataId+group", "md5", "text", "")));
+        try (RandomAccessFile file = new RandomAccessFile(indexFile, "rw")) {
+            file.setLength(file.length() - 1);
+        }
+        ConfigCacheIndex.read(indexFile, item -> { });
+    }
+    
+    private CacheItem buildItem(String groupKey, String md5, String type, String encryptedDataKey) {
+        CacheItem result = new CacheItem(groupKey);
+        result.setMd5(md5);
+        result.setLastModifiedTs(1L);
+        result.setType(type);
+        result.setEncryptedDataKey(encryptedDataKey);
+        return result;
+    }
+}
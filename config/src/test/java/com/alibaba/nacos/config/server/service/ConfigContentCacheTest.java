@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.service.ConfigContentCache.ContentKey;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ConfigContentCacheTest {
+    
+    private static final String GROUP_KEY = "dataId+group";
+    
+    private ConfigContentCache contentCache;
+    
+    @Before
+    public void setUp() {
+        // Each content of 10 chars takes 20 bytes, so at most 3 contents are cached.
+        contentCache = new ConfigContentCache(() -> 60L);
+    }
+    
+    @Test
+    public void testGetWithMd5() {
+        contentCache.put(ContentKey.formal(GROUP_KEY), "md5", "content");
+        assertEquals("content", contentCache.get(ContentKey.formal(GROUP_KEY), "md5"));
+        assertNull(contentCache.get(ContentKey.formal(GROUP_KEY), "otherMd5"));
+        assertNull(contentCache.get(ContentKey.beta(GROUP_KEY), "md5"));
+        assertNull(contentCache.get(ContentKey.tag(GROUP_KEY, "tag"), "md5"));
+    }
+    
+    @Test
+    public void testPutReplaceAndRemove() {
+        contentCache.put(ContentKey.tag(GROUP_KEY, "tag"), "md5", "content");
+        contentCache.put(ContentKey.tag(GROUP_KEY, "tag"), "newMd5", "newContent");
+        assertNull(contentCache.get(ContentKey.tag(GROUP_KEY, "tag"), "md5"));
+        assertEquals("newContent", contentCache.get(ContentKey.tag(GROUP_KEY, "tag"), "newMd5"));
+        assertEquals(20L, contentCache.size());
+        contentCache.remove(ContentKey.tag(GROUP_KEY, "tag"));
+        assertNull(contentCache.get(ContentKey.tag(GROUP_KEY, "tag"), "newMd5"));
+        assertEquals(0L, contentCache.size());
+    }
+    
+    @Test
+    public void testEvictUnreferencedContent() {
+        contentCache.put(ContentKey.formal("a"), "md5", "0123456789");
+        contentCache.put(ContentKey.formal("b"), "md5", "0123456789");
+        contentCache.put(ContentKey.formal("c"), "md5", "0123456789");
+        // a is referenced and gets a second chance, so b is evicted.
+        contentCache.get(ContentKey.formal("a"), "md5");
+        contentCache.put(ContentKey.formal("d"), "md5", "0123456789");
+        assertEquals(3, contentCache.count());
+        assertEquals(60L, contentCache.size());
+        assertEquals("0123456789", contentCache.get(ContentKey.formal("a"), "md5"));
+        assertNull(contentCache.get(ContentKey.formal("b"), "md5"));
+        assertEquals("0123456789", contentCache.get(ContentKey.formal("c"), "md5"));
+        assertEquals("0123456789", contentCache.get(ContentKey.formal("d"), "md5"));
+    }
+    
+    @Test
+    public void testNotCacheTooLargeContent() {
+        contentCache.put(ContentKey.formal(GROUP_KEY), "md5", "content");
+        contentCache.put(ContentKey.formal(GROUP_KEY), "newMd5", "0123456789012345678901234567890123456789");
+        assertNull(contentCache.get(ContentKey.formal(GROUP_KEY), "md5"));
+        assertNull(contentCache.get(ContentKey.formal(GROUP_KEY), "newMd5"));
+        assertEquals(0L, contentCache.size());
+    }
+}
@@ -18,8 +18,10 @@ package com.alibaba.nacos.config.server.service;
 
 import com.alibaba.nacos.config.server.model.ConfigHistoryInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.ContinuationPage;
 import com.alibaba.nacos.config.server.model.Page;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.ContinuationTokenUtil;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,6 +35,7 @@ import java.util.Date;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,6 +99,33 @@ public class HistoryServiceTest {
         assertEquals(configHistoryInfo.getContent(), resConfigHistoryInfo.getContent());
     }
     
+    @Test
+    public void testScrollConfigHistory() throws Exception {
+        List<ConfigHistoryInfo> fullPage = new ArrayList<>();
+        for (long nid = 10; nid > 8; nid--) {
+            ConfigHistoryInfo configHistoryInfo = new ConfigHistoryInfo();
+            configHistoryInfo.setId(nid);
+            fullPage.add(configHistoryInfo);
+        }
+        Page<ConfigHistoryInfo> page = new Page<>();
+        page.setPageItems(fullPage);
+        when(persistService.findConfigHistoryBeforeNid(TEST_DATA_ID, TEST_GROUP, TEST_TENANT, Long.MAX_VALUE, 2))
+                .thenReturn(page);
+        when(persistService.findConfigHistoryBeforeNid(TEST_DATA_ID, TEST_GROUP, TEST_TENANT, 9L, 2))
+                .thenReturn(new Page<>());
+        
+        ContinuationPage<ConfigHistoryInfo> first = historyService
+                .scrollConfigHistory(TEST_DATA_ID, TEST_GROUP, TEST_TENANT, Long.MAX_VALUE, 2);
+        assertEquals(2, first.getPageItems().size());
+        long lastNid = ContinuationTokenUtil.decode(first.getContinuationToken(), Long.MAX_VALUE);
+        assertEquals(9L, lastNid);
+        
+        ContinuationPage<ConfigHistoryInfo> next = historyService
+                .scrollConfigHistory(TEST_DATA_ID, TEST_GROUP, TEST_TENANT, lastNid, 2);
+        assertEquals(0, next.getPageItems().size());
+        assertNull(next.getContinuationToken());
+    }
+    
     @Test
     public void testGetConfigHistoryInfo() throws Exception {
         
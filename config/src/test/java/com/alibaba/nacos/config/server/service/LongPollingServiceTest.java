@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.AsyncContext;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LongPollingServiceTest {
+    
+    private static final String GROUP_KEY_A = GroupKey2.getKey("dataIdA", "group");
+    
+    private static final String GROUP_KEY_B = GroupKey2.getKey("dataIdB", "group");
+    
+    @Mock
+    private AsyncContext asyncContextA;
+    
+    @Mock
+    private AsyncContext asyncContextB;
+    
+    private LongPollingService longPollingService;
+    
+    @Before
+    public void setUp() {
+        longPollingService = new LongPollingService();
+    }
+    
+    @Test
+    public void testAddAndRemoveSubscriber() {
+        LongPollingService.ClientLongPolling clientSub = newClientLongPolling(asyncContextA, GROUP_KEY_A, GROUP_KEY_B);
+        longPollingService.addSubscriber(clientSub);
+        assertEquals(1, longPollingService.getSubscriberCount());
+        assertTrue(longPollingService.groupKeySubs.get(GROUP_KEY_A).contains(clientSub));
+        assertTrue(longPollingService.groupKeySubs.get(GROUP_KEY_B).contains(clientSub));
+        assertEquals("md5", longPollingService.getSubscribleInfo("dataIdA", "group", null).getLisentersGroupkeyStatus()
+                .get("127.0.0.1"));
+        
+        assertTrue(longPollingService.removeSubscriber(clientSub));
+        assertFalse(longPollingService.removeSubscriber(clientSub));
+        assertEquals(0, longPollingService.getSubscriberCount());
+        assertNull(longPollingService.groupKeySubs.get(GROUP_KEY_A));
+        assertNull(longPollingService.groupKeySubs.get(GROUP_KEY_B));
+    }
+    
+    @Test
+    public void testDataChangeOnlyWakeListeners() {
+        when(asyncContextA.getRequest()).thenReturn(new MockHttpServletRequest());
+        when(asyncContextA.getResponse()).thenReturn(new MockHttpServletResponse());
+        LongPollingService.ClientLongPolling clientSubA = newClientLongPolling(asyncContextA, GROUP_KEY_A);
+        LongPollingService.ClientLongPolling clientSubB = newClientLongPolling(asyncContextB, GROUP_KEY_B);
+        longPollingService.addSubscriber(clientSubA);
+        longPollingService.addSubscriber(clientSubB);
+        
+        longPollingService.new DataChangeTask(GROUP_KEY_A, false, null).run();
+        // The removed subscriber should not be responded again.
+        longPollingService.new DataChangeTask(GROUP_KEY_A, false, null).run();
+        verify(asyncContextA, times(1)).complete();
+        verify(asyncContextB, never()).complete();
+        assertEquals(1, longPollingService.getSubscriberCount());
+        assertTrue(longPollingService.groupKeySubs.get(GROUP_KEY_B).contains(clientSubB));
+        
+        clientSubA.timeout();
+        verify(asyncContextA, times(1)).complete();
+    }
+    
+    @Test
+    public void testDataChangeCancelTimeout() {
+        when(asyncContextA.getRequest()).thenReturn(new MockHttpServletRequest());
+        when(asyncContextA.getResponse()).thenReturn(new MockHttpServletResponse());
+        LongPollingService.ClientLongPolling clientSub = newClientLongPolling(asyncContextA, GROUP_KEY_A);
+        clientSub.run();
+        assertFalse(clientSub.timeoutEntry.isCancelled());
+        
+        longPollingService.new DataChangeTask(GROUP_KEY_A, false, null).run();
+        verify(asyncContextA).complete();
+        // The responded subscriber should be released from timeout wheel.
+        assertTrue(clientSub.timeoutEntry.isCancelled());
+    }
+    
+    @Test
+    public void testTimeout() {
+        when(asyncContextA.getRequest()).thenReturn(new MockHttpServletRequest());
+        LongPollingService.ClientLongPolling clientSub = newClientLongPolling(asyncContextA, GROUP_KEY_A);
+        longPollingService.addSubscriber(clientSub);
+        
+        clientSub.timeout();
+        verify(asyncContextA).complete();
+        assertEquals(0, longPollingService.getSubscriberCount());
+        assertNull(longPollingService.groupKeySubs.get(GROUP_KEY_A));
+    }
+    
+    private LongPollingService.ClientLongPolling newClientLongPolling(AsyncContext asyncContext, String... groupKeys) {
+        Map<String, String> clientMd5Map = new HashMap<>(groupKeys.length);
+        for (String each : groupKeys) {
+            clientMd5Map.put(each, "md5");
+        }
+        return longPollingService.new ClientLongPolling(asyncContext, Collections.unmodifiableMap(clientMd5Map),
+                "127.0.0.1", groupKeys.length, 30000L, "app", null);
+    }
+}
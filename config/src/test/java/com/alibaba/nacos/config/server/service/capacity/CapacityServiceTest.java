@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
@@ -447,4 +448,64 @@ public class CapacityServiceTest {
         Mockito.verify(tenantCapacityPersistService, times(1)).insertTenantCapacity(any());
     }
     
+    @Test
+    public void testUpdateUsageInMemoryAndFlush() {
+        GroupCapacity groupCapacity = new GroupCapacity();
+        groupCapacity.setGroup("testGroup");
+        groupCapacity.setUsage(1);
+        groupCapacity.setQuota(2);
+        groupCapacity.setMaxSize(0);
+        when(groupCapacityPersistService.getGroupCapacity(eq("testGroup"))).thenReturn(groupCapacity);
+        Assert.assertTrue(service.updateUsageInMemory(CounterMode.INCREMENT, "testGroup", null, false));
+        Assert.assertFalse(service.updateUsageInMemory(CounterMode.INCREMENT, "testGroup", null, false));
+        Assert.assertTrue(service.updateUsageInMemory(CounterMode.INCREMENT, "testGroup", null, true));
+        Assert.assertEquals(3, service.getCapacityInMemory("testGroup", null).getUsage().intValue());
+        Mockito.verify(groupCapacityPersistService, times(1)).getGroupCapacity(eq("testGroup"));
+        
+        when(groupCapacityPersistService.updateUsageByDelta(eq("testGroup"), eq(2), any())).thenReturn(true);
+        service.flushUsage();
+        Mockito.verify(groupCapacityPersistService, times(1)).updateUsageByDelta(eq("testGroup"), eq(2), any());
+        // Refreshed by the usage in database after flush.
+        Assert.assertEquals(1, service.getCapacityInMemory("testGroup", null).getUsage().intValue());
+        service.flushUsage();
+        Mockito.verify(groupCapacityPersistService, times(1)).updateUsageByDelta(anyString(), anyInt(), any());
+    }
+    
+    @Test
+    public void testUpdateUsageInMemoryWithInit() {
+        TenantCapacity tenantCapacity = new TenantCapacity();
+        tenantCapacity.setTenant("testTenant");
+        tenantCapacity.setUsage(0);
+        tenantCapacity.setQuota(0);
+        tenantCapacity.setMaxSize(0);
+        when(tenantCapacityPersistService.getTenantCapacity(eq("testTenant"))).thenReturn(null, tenantCapacity);
+        when(tenantCapacityPersistService.insertTenantCapacity(any())).thenReturn(true);
+        Assert.assertFalse(service.updateUsageInMemory(CounterMode.DECREMENT, null, "testTenant", false));
+        Mockito.verify(tenantCapacityPersistService, times(1)).insertTenantCapacity(any());
+        Assert.assertTrue(service.updateUsageInMemory(CounterMode.INCREMENT, null, "testTenant", false));
+        
+        when(tenantCapacityPersistService.updateUsageByDelta(eq("testTenant"), eq(1), any()))
+                .thenThrow(new RuntimeException("test"));
+        service.flushUsage();
+        // Failed delta is kept and flushed next time.
+        Mockito.reset(tenantCapacityPersistService);
+        when(tenantCapacityPersistService.updateUsageByDelta(eq("testTenant"), eq(1), any())).thenReturn(true);
+        service.flushUsage();
+        Mockito.verify(tenantCapacityPersistService, times(1)).updateUsageByDelta(eq("testTenant"), eq(1), any());
+    }
+    
+    @Test
+    public void testUpdateClusterUsageInMemory() {
+        GroupCapacity clusterCapacity = new GroupCapacity();
+        clusterCapacity.setGroup(GroupCapacityPersistService.CLUSTER);
+        clusterCapacity.setUsage(PropertyUtil.getDefaultClusterQuota());
+        clusterCapacity.setQuota(0);
+        clusterCapacity.setMaxSize(0);
+        when(groupCapacityPersistService.getGroupCapacity(eq(GroupCapacityPersistService.CLUSTER)))
+                .thenReturn(clusterCapacity);
+        Assert.assertFalse(service.updateClusterUsageInMemory(CounterMode.INCREMENT, false));
+        Assert.assertTrue(service.updateClusterUsageInMemory(CounterMode.DECREMENT, false));
+        Assert.assertTrue(service.updateClusterUsageInMemory(CounterMode.INCREMENT, false));
+    }
+    
 }
\ No newline at end of file
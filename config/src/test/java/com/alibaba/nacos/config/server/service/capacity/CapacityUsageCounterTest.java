@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.capacity;
+
+import com.alibaba.nacos.config.server.model.capacity.Capacity;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CapacityUsageCounterTest {
+    
+    private CapacityUsageCounter counter;
+    
+    @Before
+    public void setUp() {
+        counter = new CapacityUsageCounter(capacity(1, 10, 100));
+    }
+    
+    @Test
+    public void testIncrementWithLimit() {
+        assertTrue(counter.increment(2));
+        assertFalse(counter.increment(2));
+        assertTrue(counter.increment(-1));
+        assertEquals(3, counter.getUsage());
+        assertEquals(2, counter.getDelta());
+    }
+    
+    @Test
+    public void testDecrementNotBelowZero() {
+        assertTrue(counter.decrement());
+        assertFalse(counter.decrement());
+        assertEquals(0, counter.getUsage());
+        assertEquals(-1, counter.getDelta());
+    }
+    
+    @Test
+    public void testDrainAndRestoreDelta() {
+        counter.increment(-1);
+        counter.increment(-1);
+        assertEquals(2, counter.drainDelta());
+        assertEquals(0, counter.getDelta());
+        counter.increment(-1);
+        counter.restoreDelta(2);
+        assertEquals(3, counter.drainDelta());
+    }
+    
+    @Test
+    public void testResetKeepsPendingDelta() {
+        counter.increment(-1);
+        counter.reset(capacity(5, 20, 200));
+        assertEquals(6, counter.getUsage());
+        assertEquals(1, counter.getDelta());
+        assertEquals(20, counter.getQuota());
+        assertEquals(200, counter.getMaxSize());
+    }
+    
+    private Capacity capacity(int usage, int quota, int maxSize) {
+        Capacity result = new Capacity();
+        result.setUsage(usage);
+        result.setQuota(quota);
+        result.setMaxSize(maxSize);
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import com.alibaba.nacos.config.server.service.repository.PersistService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DumpServiceClearConfigHistoryTest {
+    
+    private static final long BUCKET = TimeUnit.HOURS.toMillis(1);
+    
+    private static final long BASE = 1000 * BUCKET;
+    
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    
+    @Mock
+    private PersistService persistService;
+    
+    @Test
+    public void testClearWithoutHistory() {
+        Mockito.when(persistService.findConfigHistoryMinModifiedTime()).thenReturn(null);
+        DumpService.clearConfigHistory(persistService, new Timestamp(BASE), BUCKET);
+        Mockito.verify(persistService, Mockito.never()).removeConfigHistoryByTimeRange(any(), any());
+    }
+    
+    @Test
+    public void testClearAlignedBucketsAndSkipEmptyBuckets() {
+        Mockito.when(persistService.findConfigHistoryMinModifiedTime())
+                .thenReturn(new Timestamp(BASE + 20 * MINUTE), new Timestamp(BASE + 5 * BUCKET + 5 * MINUTE), null);
+        DumpService.clearConfigHistory(persistService, new Timestamp(BASE + 6 * BUCKET + 30 * MINUTE), BUCKET);
+        InOrder inOrder = Mockito.inOrder(persistService);
+        inOrder.verify(persistService)
+                .removeConfigHistoryByTimeRange(new Timestamp(BASE), new Timestamp(BASE + BUCKET));
+        inOrder.verify(persistService)
+                .removeConfigHistoryByTimeRange(new Timestamp(BASE + 5 * BUCKET), new Timestamp(BASE + 6 * BUCKET));
+        Mockito.verify(persistService, Mockito.times(2)).removeConfigHistoryByTimeRange(any(), any());
+    }
+    
+    @Test
+    public void testClearBucketEndsAtCutoff() {
+        Mockito.when(persistService.findConfigHistoryMinModifiedTime())
+                .thenReturn(new Timestamp(BASE + 10 * MINUTE), new Timestamp(BASE + 40 * MINUTE));
+        DumpService.clearConfigHistory(persistService, new Timestamp(BASE + 30 * MINUTE), BUCKET);
+        Mockito.verify(persistService)
+                .removeConfigHistoryByTimeRange(new Timestamp(BASE), new Timestamp(BASE + 30 * MINUTE));
+        Mockito.verify(persistService, Mockito.times(1)).removeConfigHistoryByTimeRange(any(), any());
+    }
+    
+    @Test
+    public void testClearNothingAfterCutoff() {
+        Mockito.when(persistService.findConfigHistoryMinModifiedTime()).thenReturn(new Timestamp(BASE + BUCKET));
+        DumpService.clearConfigHistory(persistService, new Timestamp(BASE + BUCKET), BUCKET);
+        Mockito.verify(persistService, Mockito.never()).removeConfigHistoryByTimeRange(any(), any());
+    }
+    
+    @Test
+    public void testStopWhenHistoryNotRemoved() {
+        Mockito.when(persistService.findConfigHistoryMinModifiedTime()).thenReturn(new Timestamp(BASE + MINUTE));
+        DumpService.clearConfigHistory(persistService, new Timestamp(BASE + 3 * BUCKET), BUCKET);
+        Mockito.verify(persistService, Mockito.times(1)).removeConfigHistoryByTimeRange(any(), any());
+    }
+}
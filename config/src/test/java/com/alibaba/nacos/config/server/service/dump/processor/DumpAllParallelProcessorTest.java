@@ -0,0 +1,88 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
+import com.alibaba.nacos.config.server.service.repository.PersistService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DumpAllParallelProcessorTest {
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @Mock
+    private PersistService persistService;
+    
+    private DumpAllParallelProcessor dumpAllParallelProcessor;
+    
+    @Before
+    public void setUp() {
+        Mockito.when(dumpService.getPersistService()).thenReturn(persistService);
+        dumpAllParallelProcessor = new DumpAllParallelProcessor(dumpService);
+    }
+    
+    @Test
+    public void testProcessWithoutConfig() {
+        MetricsMonitor.getDumpAllFinishedMonitor().set(1);
+        assertTrue(dumpAllParallelProcessor.process(new DumpAllTask()));
+        assertEquals(0, MetricsMonitor.getDumpAllTotalMonitor().get());
+        assertEquals(0, MetricsMonitor.getDumpAllFinishedMonitor().get());
+        Mockito.verify(persistService, Mockito.never()).findAllConfigInfoFragment(anyLong(), anyInt());
+    }
+    
+    @Test(expected = NacosRuntimeException.class)
+    public void testProcessWithReadFailure() {
+        Mockito.when(persistService.findConfigMaxId()).thenReturn(10L);
+        Mockito.when(persistService.findAllConfigInfoFragment(anyLong(), anyInt()))
+                .thenThrow(new RuntimeException("test"));
+        dumpAllParallelProcessor.process(new DumpAllTask());
+    }
+    
+    @Test
+    public void testWriterIndexOfSameConfig() {
+        ConfigInfoWrapper config = buildConfig(1L);
+        ConfigInfoWrapper newerConfig = buildConfig(2L);
+        int writerIndex = DumpAllParallelProcessor.writerIndex(config, 8);
+        assertEquals(writerIndex, DumpAllParallelProcessor.writerIndex(newerConfig, 8));
+        assertTrue(writerIndex >= 0 && writerIndex < 8);
+    }
+    
+    private ConfigInfoWrapper buildConfig(long id) {
+        ConfigInfoWrapper result = new ConfigInfoWrapper();
+        result.setId(id);
+        result.setDataId("dataId");
+        result.setGroup("group");
+        result.setTenant("");
+        return result;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.config.server.service.dump.task.DumpIncrementalTask;
+import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DumpIncrementalProcessorTest {
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @Mock
+    private PersistService persistService;
+    
+    @Mock
+    private DumpAllProcessor dumpAllProcessor;
+    
+    private MockedStatic<ConfigCacheService> configCacheServiceMockedStatic;
+    
+    private MockedStatic<PropertyUtil> propertyUtilMockedStatic;
+    
+    private DumpIncrementalProcessor dumpIncrementalProcessor;
+    
+    @Before
+    public void setUp() {
+        configCacheServiceMockedStatic = Mockito.mockStatic(ConfigCacheService.class);
+        propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
+        Mockito.when(dumpService.getPersistService()).thenReturn(persistService);
+        dumpIncrementalProcessor = new DumpIncrementalProcessor(dumpService, dumpAllProcessor);
+    }
+    
+    @After
+    public void tearDown() {
+        configCacheServiceMockedStatic.close();
+        propertyUtilMockedStatic.close();
+    }
+    
+    @Test
+    public void testFullDumpWithoutWatermark() {
+        propertyUtilMockedStatic.when(PropertyUtil::isDumpIncrementalEnabled).thenReturn(true);
+        dumpIncrementalProcessor.process(new DumpIncrementalTask());
+        Mockito.verify(dumpAllProcessor).process(any());
+        Mockito.verify(persistService, Mockito.never()).findChangeConfig(any(), any());
+    }
+    
+    @Test
+    public void testFullDumpWhenIncrementalDisabled() {
+        dumpIncrementalProcessor.markFullDumped(System.currentTimeMillis());
+        propertyUtilMockedStatic.when(PropertyUtil::isDumpIncrementalEnabled).thenReturn(false);
+        dumpIncrementalProcessor.process(new DumpIncrementalTask());
+        Mockito.verify(dumpAllProcessor).process(any());
+    }
+    
+    @Test
+    public void testIncrementalDump() {
+        propertyUtilMockedStatic.when(PropertyUtil::isDumpIncrementalEnabled).thenReturn(true);
+        propertyUtilMockedStatic.when(PropertyUtil::getDumpFullScanInterval).thenReturn(24);
+        dumpIncrementalProcessor.markFullDumped(System.currentTimeMillis());
+        ConfigInfoWrapper changed = buildConfig("changed", "content", "md5");
+        Mockito.when(persistService.findChangeConfig(any(), any())).thenReturn(Collections.singletonList(changed));
+        ConfigInfo deleted = new ConfigInfo("deleted", "group", "content");
+        Mockito.when(persistService.findDeletedConfig(any(), any())).thenReturn(Collections.singletonList(deleted));
+        Mockito.when(persistService.configInfoCount()).thenReturn(2);
+        ConfigInfoWrapper consistent = buildConfig("consistent", null, "md5");
+        ConfigInfoWrapper inconsistent = buildConfig("inconsistent", null, "newMd5");
+        Mockito.when(persistService.listGroupKeyMd5ByPage(1, DumpIncrementalProcessor.MD5_PAGE_SIZE))
+                .thenReturn(Arrays.asList(consistent, inconsistent));
+        configCacheServiceMockedStatic
+                .when(() -> ConfigCacheService.getContentMd5(GroupKey2.getKey("consistent", "group", "")))
+                .thenReturn("md5");
+        configCacheServiceMockedStatic
+                .when(() -> ConfigCacheService.getContentMd5(GroupKey2.getKey("inconsistent", "group", "")))
+                .thenReturn("oldMd5");
+        ConfigInfoWrapper inconsistentContent = buildConfig("inconsistent", "newContent", "newMd5");
+        Mockito.when(persistService.queryConfigInfo("inconsistent", "group", "")).thenReturn(inconsistentContent);
+    
+        dumpIncrementalProcessor.process(new DumpIncrementalTask());
+    
+        Mockito.verify(dumpAllProcessor, Mockito.never()).process(any());
+        configCacheServiceMockedStatic.verify(() -> ConfigCacheService.remove("deleted", "group", null));
+        configCacheServiceMockedStatic.verify(
+                () -> ConfigCacheService.dump(eq("changed"), eq("group"), eq(""), eq("content"), anyLong(), any(),
+                        any()));
+        configCacheServiceMockedStatic.verify(
+                () -> ConfigCacheService.dump(eq("inconsistent"), eq("group"), eq(""), eq("newContent"), anyLong(),
+                        any(), any()));
+        configCacheServiceMockedStatic.verify(
+                () -> ConfigCacheService.dump(eq("consistent"), any(), any(), any(), anyLong(), any(), any()),
+                Mockito.never());
+        Mockito.verify(persistService, Mockito.never()).queryConfigInfo(eq("consistent"), any(), any());
+        Mockito.verify(persistService, Mockito.times(1)).listGroupKeyMd5ByPage(anyInt(), anyInt());
+    }
+    
+    private ConfigInfoWrapper buildConfig(String dataId, String content, String md5) {
+        ConfigInfoWrapper result = new ConfigInfoWrapper();
+        result.setDataId(dataId);
+        result.setGroup("group");
+        result.setTenant("");
+        result.setContent(content);
+        result.setMd5(md5);
+        result.setLastModified(1L);
+        return result;
+    }
+}
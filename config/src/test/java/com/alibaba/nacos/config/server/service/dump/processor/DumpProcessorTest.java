@@ -0,0 +1,102 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.DumpConfigHandler;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
+import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DumpProcessorTest {
+    
+    private static final String GROUP_KEY = GroupKey2.getKey("dataId", "group", "");
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @Mock
+    private PersistService persistService;
+    
+    private MockedStatic<ConfigCacheService> configCacheServiceMockedStatic;
+    
+    private MockedStatic<DumpConfigHandler> dumpConfigHandlerMockedStatic;
+    
+    private DumpProcessor dumpProcessor;
+    
+    @Before
+    public void setUp() {
+        configCacheServiceMockedStatic = Mockito.mockStatic(ConfigCacheService.class);
+        dumpConfigHandlerMockedStatic = Mockito.mockStatic(DumpConfigHandler.class);
+        Mockito.when(dumpService.getPersistService()).thenReturn(persistService);
+        dumpProcessor = new DumpProcessor(dumpService);
+    }
+    
+    @After
+    public void tearDown() {
+        configCacheServiceMockedStatic.close();
+        dumpConfigHandlerMockedStatic.close();
+    }
+    
+    @Test
+    public void testDumpCarriedContent() {
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(GROUP_KEY))
+                .thenReturn(new CacheItem(GROUP_KEY));
+        dumpProcessor.process(new DumpTask(GROUP_KEY, 2L, "127.0.0.1", "content", "text", ""));
+        ConfigDumpEvent event = captureDumpEvent();
+        assertFalse(event.isRemove());
+        assertEquals("content", event.getContent());
+        Mockito.verify(persistService, Mockito.never()).findConfigInfo(any(), any(), any());
+    }
+    
+    @Test
+    public void testLateCarriedContentAfterRemoved() {
+        // the config has been removed from cache by the deletion before the late carried content arrives.
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(GROUP_KEY)).thenReturn(null);
+        Mockito.when(persistService.findConfigInfo("dataId", "group", null)).thenReturn(null);
+        dumpProcessor.process(new DumpTask(GROUP_KEY, 1L, "127.0.0.1", "content", "text", ""));
+        ConfigDumpEvent event = captureDumpEvent();
+        assertTrue(event.isRemove());
+        assertNull(event.getContent());
+        Mockito.verify(persistService).findConfigInfo("dataId", "group", null);
+    }
+    
+    private ConfigDumpEvent captureDumpEvent() {
+        ArgumentCaptor<ConfigDumpEvent> captor = ArgumentCaptor.forClass(ConfigDumpEvent.class);
+        dumpConfigHandlerMockedStatic.verify(() -> DumpConfigHandler.configDump(captor.capture()));
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.notify;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncBatchResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClusterSyncBatcherTest {
+    
+    @Mock
+    private ServerMemberManager memberManager;
+    
+    @Mock
+    private ConfigClusterRpcClientProxy configClusterRpcClientProxy;
+    
+    private MockedStatic<ConfigExecutor> configExecutorMockedStatic;
+    
+    private Member member;
+    
+    private ClusterSyncBatcher clusterSyncBatcher;
+    
+    @Before
+    public void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
+        member = Member.builder().ip("1.1.1.1").port(8848).build();
+        member.getAbilities().getConfigAbility().setSupportClusterSyncBatch(true);
+        clusterSyncBatcher = new ClusterSyncBatcher(memberManager, configClusterRpcClientProxy);
+    }
+    
+    @After
+    public void tearDown() {
+        configExecutorMockedStatic.close();
+    }
+    
+    @Test
+    public void testIsBatchSupported() {
+        assertTrue(clusterSyncBatcher.isBatchSupported(member));
+        member.getAbilities().getConfigAbility().setSupportClusterSyncBatch(false);
+        assertFalse(clusterSyncBatcher.isBatchSupported(member));
+    }
+    
+    @Test
+    public void testCoalesceLatestChange() throws NacosException {
+        clusterSyncBatcher.add(member, buildRequest("dataId1", 2L));
+        clusterSyncBatcher.add(member, buildRequest("dataId1", 1L));
+        clusterSyncBatcher.add(member, buildRequest("dataId2", 1L));
+        clusterSyncBatcher.add(member, buildRequest("dataId1", 3L));
+    
+        List<ConfigChangeClusterSyncRequest> batch = flushAndCaptureBatch(1).getSyncRequests();
+        assertEquals(2, batch.size());
+        assertEquals("dataId1", batch.get(0).getDataId());
+        assertEquals(3L, batch.get(0).getLastModified());
+        assertEquals("dataId2", batch.get(1).getDataId());
+    }
+    
+    @Test
+    public void testRetryFailedBatchWithNewerChange() throws NacosException {
+        clusterSyncBatcher.add(member, buildRequest("dataId1", 1L));
+        clusterSyncBatcher.add(member, buildRequest("dataId2", 1L));
+        flushAndCaptureBatch(1);
+        RequestCallBack callBack = captureCallBack();
+        // no more flush is scheduled for the newer change until the batch in flight finished.
+        clusterSyncBatcher.add(member, buildRequest("dataId1", 2L));
+        configExecutorMockedStatic.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)));
+    
+        callBack.onException(new RuntimeException("test"));
+        List<ConfigChangeClusterSyncRequest> batch = flushAndCaptureBatch(2).getSyncRequests();
+        assertEquals(2, batch.size());
+        assertEquals("dataId1", batch.get(0).getDataId());
+        assertEquals(2L, batch.get(0).getLastModified());
+        assertEquals("dataId2", batch.get(1).getDataId());
+    }
+    
+    @Test
+    public void testNewWindowAfterSuccessfulBatch() throws NacosException {
+        clusterSyncBatcher.add(member, buildRequest("dataId1", 1L));
+        flushAndCaptureBatch(1);
+        captureCallBack().onResponse(new ConfigChangeClusterSyncBatchResponse());
+    
+        clusterSyncBatcher.add(member, buildRequest("dataId2", 1L));
+        List<ConfigChangeClusterSyncRequest> batch = flushAndCaptureBatch(2).getSyncRequests();
+        assertEquals(1, batch.size());
+        assertEquals("dataId2", batch.get(0).getDataId());
+    }
+    
+    @Test
+    public void testDropPendingForOfflineMember() throws NacosException {
+        clusterSyncBatcher.add(member, buildRequest("dataId1", 1L));
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        configExecutorMockedStatic.verify(() -> ConfigExecutor
+                .scheduleAsyncNotify(flushCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS)));
+        flushCaptor.getValue().run();
+        Mockito.verify(configClusterRpcClientProxy, Mockito.never())
+                .syncConfigChangeBatch(any(), any(), any());
+    }
+    
+    private ConfigChangeClusterSyncBatchRequest flushAndCaptureBatch(int times) throws NacosException {
+        Mockito.when(memberManager.find(member.getAddress())).thenReturn(member);
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        configExecutorMockedStatic.verify(() -> ConfigExecutor
+                        .scheduleAsyncNotify(flushCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS)),
+                Mockito.times(times));
+        flushCaptor.getValue().run();
+        ArgumentCaptor<ConfigChangeClusterSyncBatchRequest> requestCaptor = ArgumentCaptor
+                .forClass(ConfigChangeClusterSyncBatchRequest.class);
+        Mockito.verify(configClusterRpcClientProxy, Mockito.times(times))
+                .syncConfigChangeBatch(eq(member), requestCaptor.capture(), any(RequestCallBack.class));
+        return requestCaptor.getValue();
+    }
+    
+    private RequestCallBack captureCallBack() throws NacosException {
+        ArgumentCaptor<RequestCallBack> callBackCaptor = ArgumentCaptor.forClass(RequestCallBack.class);
+        Mockito.verify(configClusterRpcClientProxy)
+                .syncConfigChangeBatch(eq(member), any(ConfigChangeClusterSyncBatchRequest.class),
+                        callBackCaptor.capture());
+        return callBackCaptor.getValue();
+    }
+    
+    private ConfigChangeClusterSyncRequest buildRequest(String dataId, long lastModified) {
+        ConfigChangeClusterSyncRequest result = new ConfigChangeClusterSyncRequest();
+        result.setDataId(dataId);
+        result.setGroup("group");
+        result.setTenant("");
+        result.setLastModified(lastModified);
+        return result;
+    }
+}
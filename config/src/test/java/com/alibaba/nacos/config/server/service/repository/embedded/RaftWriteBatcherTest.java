@@ -0,0 +1,140 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.repository.embedded;
+
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.google.protobuf.ByteString;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RaftWriteBatcherTest {
+    
+    private static final String GROUP = "nacos_config";
+    
+    private final List<WriteRequest> submitted = new ArrayList<>();
+    
+    private final List<CompletableFuture<Response>> results = new ArrayList<>();
+    
+    private CompletableFuture<Response> submit(WriteRequest request) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        submitted.add(request);
+        results.add(result);
+        return result;
+    }
+    
+    private WriteRequest buildRequest(String key) {
+        return WriteRequest.newBuilder().setGroup(GROUP).setKey(key).setData(ByteString.copyFromUtf8(key))
+                .putExtendInfo("key", key).build();
+    }
+    
+    @Test
+    public void testWriteWithoutGroupCommit() throws Exception {
+        RaftWriteBatcher batcher = new RaftWriteBatcher(GROUP, 0L, 64, this::submit);
+        WriteRequest request = buildRequest("a");
+        CompletableFuture<Response> future = batcher.write(request);
+        assertFalse(future.isDone());
+        assertEquals(1, submitted.size());
+        assertSame(request, submitted.get(0));
+        Response response = Response.newBuilder().setSuccess(true).build();
+        results.get(0).complete(response);
+        assertSame(response, future.get());
+    }
+    
+    @Test
+    public void testFlushSingleWrite() throws Exception {
+        RaftWriteBatcher batcher = new RaftWriteBatcher(GROUP, 60_000L, 64, this::submit);
+        WriteRequest request = buildRequest("a");
+        CompletableFuture<Response> future = batcher.write(request);
+        assertFalse(future.isDone());
+        assertTrue(submitted.isEmpty());
+        batcher.flush();
+        assertEquals(1, submitted.size());
+        assertSame(request, submitted.get(0));
+        Response response = Response.newBuilder().setSuccess(true).build();
+        results.get(0).complete(response);
+        assertSame(response, future.get());
+        batcher.flush();
+        assertEquals(1, submitted.size());
+    }
+    
+    @Test
+    public void testSubmitWhenReachMaxSize() throws Exception {
+        RaftWriteBatcher batcher = new RaftWriteBatcher(GROUP, 60_000L, 3, this::submit);
+        CompletableFuture<Response> first = batcher.write(buildRequest("a"));
+        assertFalse(first.isDone());
+        CompletableFuture<Response> second = batcher.write(buildRequest("b"));
+        assertFalse(second.isDone());
+        assertTrue(submitted.isEmpty());
+        CompletableFuture<Response> third = batcher.write(buildRequest("c"));
+        assertFalse(third.isDone());
+        assertEquals(1, submitted.size());
+        WriteRequest groupCommit = submitted.get(0);
+        assertTrue(RaftWriteBatcher.isGroupCommit(groupCommit));
+        assertEquals(GROUP, groupCommit.getGroup());
+        List<WriteRequest> writes = RaftWriteBatcher.unpackRequests(groupCommit.getData());
+        assertEquals(Arrays.asList(buildRequest("a"), buildRequest("b"), buildRequest("c")), writes);
+    
+        List<Response> responses = Arrays.asList(Response.newBuilder().setSuccess(true).build(),
+                Response.newBuilder().setSuccess(false).build(), Response.newBuilder().setSuccess(true).build());
+        results.get(0).complete(Response.newBuilder().setSuccess(true).setData(RaftWriteBatcher.pack(responses))
+                .build());
+        assertTrue(first.get().getSuccess());
+        assertFalse(second.get().getSuccess());
+        assertTrue(third.get().getSuccess());
+    }
+    
+    @Test
+    public void testGroupCommitFailed() throws IOException, InterruptedException {
+        RaftWriteBatcher batcher = new RaftWriteBatcher(GROUP, 60_000L, 64, this::submit);
+        CompletableFuture<Response> first = batcher.write(buildRequest("a"));
+        assertFalse(first.isDone());
+        CompletableFuture<Response> second = batcher.write(buildRequest("b"));
+        assertFalse(second.isDone());
+        batcher.flush();
+        assertEquals(1, submitted.size());
+        assertEquals(2, RaftWriteBatcher.unpackRequests(submitted.get(0).getData()).size());
+        IllegalStateException exception = new IllegalStateException("no leader");
+        results.get(0).completeExceptionally(exception);
+        for (CompletableFuture<Response> each : Arrays.asList(first, second)) {
+            try {
+                each.get();
+                fail("the write should be failed with the group commit");
+            } catch (ExecutionException e) {
+                assertSame(exception, e.getCause());
+            }
+        }
+    }
+    
+    @Test
+    public void testUnpackEmpty() throws IOException {
+        assertTrue(RaftWriteBatcher.unpackRequests(ByteString.EMPTY).isEmpty());
+        assertTrue(RaftWriteBatcher.unpackResponses(ByteString.EMPTY).isEmpty());
+    }
+}
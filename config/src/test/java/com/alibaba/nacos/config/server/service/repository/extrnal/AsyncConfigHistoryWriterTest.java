@@ -0,0 +1,109 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.repository.extrnal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncConfigHistoryWriterTest {
+    
+    private static final String SQL = "INSERT INTO his_config_info";
+    
+    @Mock
+    private JdbcTemplate jt;
+    
+    private AsyncConfigHistoryWriter writer;
+    
+    @Before
+    public void setUp() {
+        writer = new AsyncConfigHistoryWriter(jt, SQL, 1000);
+    }
+    
+    @Test
+    public void testFlushByBatch() {
+        for (int i = 0; i < AsyncConfigHistoryWriter.BATCH_SIZE + 1; i++) {
+            writer.write(row(i));
+        }
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jt.batchUpdate(eq(SQL), anyList())).thenAnswer(invocation -> {
+            batchSizes.add(invocation.<List<?>>getArgument(1).size());
+            return new int[0];
+        });
+        writer.flush();
+        assertEquals(0, writer.size());
+        assertEquals(2, batchSizes.size());
+        assertEquals(AsyncConfigHistoryWriter.BATCH_SIZE, batchSizes.get(0).intValue());
+        assertEquals(1, batchSizes.get(1).intValue());
+    }
+    
+    @Test
+    public void testRetryWhenDatabaseUnavailable() {
+        writer.write(row(0));
+        when(jt.batchUpdate(eq(SQL), anyList())).thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[] {1});
+        writer.flush();
+        assertEquals(1, writer.size());
+        writer.flush();
+        assertEquals(0, writer.size());
+        verify(jt, times(2)).batchUpdate(eq(SQL), anyList());
+    }
+    
+    @Test
+    public void testWriteOneByOneWhenBatchFails() {
+        writer.write(row(0));
+        writer.write(row(1));
+        when(jt.batchUpdate(eq(SQL), anyList())).thenThrow(new DataIntegrityViolationException("too long"));
+        doThrow(new DataIntegrityViolationException("too long")).when(jt)
+                .update(eq(SQL), eq(0L), eq("dataId0"), eq("DEFAULT_GROUP"));
+        writer.flush();
+        assertEquals(0, writer.size());
+        verify(jt).update(eq(SQL), eq(0L), eq("dataId1"), eq("DEFAULT_GROUP"));
+    }
+    
+    @Test
+    public void testFlushEmptyBuffer() {
+        writer.flush();
+        verify(jt, never()).batchUpdate(eq(SQL), anyList());
+    }
+    
+    private Object[] row(int index) {
+        List<Object> result = new ArrayList<>();
+        result.add(0L);
+        result.add("dataId" + index);
+        result.add("DEFAULT_GROUP");
+        return result.toArray();
+    }
+}
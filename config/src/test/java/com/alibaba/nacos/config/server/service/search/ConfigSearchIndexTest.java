@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.search;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigSearchIndexTest {
+    
+    private ConfigSearchIndex index;
+    
+    @Before
+    public void setUp() {
+        index = new ConfigSearchIndex();
+        index.put(3L, "order-service.yaml", "DEFAULT_GROUP", "", "order");
+        index.put(1L, "user-service.yaml", "DEFAULT_GROUP", "", "user");
+        index.put(2L, "user-service.properties", "USER_GROUP", "dev", "user");
+    }
+    
+    @Test
+    public void testLike() {
+        assertTrue(ConfigSearchIndex.like("user-service.yaml", "user-service.yaml"));
+        assertTrue(ConfigSearchIndex.like("user-service.yaml", "*service*"));
+        assertTrue(ConfigSearchIndex.like("user-service.yaml", "user%yaml"));
+        assertTrue(ConfigSearchIndex.like("user-service.yaml", "user_service.*"));
+        assertTrue(ConfigSearchIndex.like("", ""));
+        assertFalse(ConfigSearchIndex.like("user-service.yaml", "service*"));
+        assertFalse(ConfigSearchIndex.like("user-service.yaml", "User*"));
+        assertFalse(ConfigSearchIndex.like("dev", ""));
+    }
+    
+    @Test
+    public void testSearchOrderedById() {
+        assertEquals("1,3", ids(index.search("*service*", null, "", null)));
+        assertEquals("1,3", ids(index.search(null, "DEFAULT_GROUP", "", null)));
+        assertEquals("2", ids(index.search("user*", "*GROUP*", "dev", "")));
+        assertEquals("1,2", ids(index.search("user*", null, "*", null)));
+        assertEquals("1", ids(index.search("*service*", null, "", "user")));
+    }
+    
+    @Test
+    public void testSearchByShortOrMissingFragment() {
+        assertEquals("1,3", ids(index.search("*.y*", null, "", null)));
+        assertEquals("", ids(index.search("*gateway*", null, "", null)));
+    }
+    
+    @Test
+    public void testPutAndRemove() {
+        index.put(4L, "user-service.yaml", "DEFAULT_GROUP", "", "account");
+        assertEquals(3, index.size());
+        assertEquals("4", ids(index.search("user*", null, "", "account")));
+    
+        index.remove("user-service.yaml", "DEFAULT_GROUP", "");
+        assertEquals(2, index.size());
+        assertEquals("3", ids(index.search("*service*", null, "", null)));
+    
+        index.put(5L, "user-service.yaml", "DEFAULT_GROUP", null, "user");
+        assertEquals("3,5", ids(index.search("*service*", null, "", null)));
+    }
+    
+    @Test
+    public void testCompact() {
+        for (int i = 0; i < 2048; i++) {
+            index.put(100L + i, "removed-" + i, "DEFAULT_GROUP", "", null);
+        }
+        for (int i = 0; i < 2048; i++) {
+            index.remove("removed-" + i, "DEFAULT_GROUP", "");
+        }
+        assertEquals(3, index.size());
+        assertEquals("", ids(index.search("removed*", null, "", null)));
+        assertEquals("1,3", ids(index.search("*service*", null, "", null)));
+    }
+    
+    private String ids(List<ConfigSearchIndex.Document> documents) {
+        return documents.stream().map(each -> String.valueOf(each.getId())).collect(Collectors.joining(","));
+    }
+}
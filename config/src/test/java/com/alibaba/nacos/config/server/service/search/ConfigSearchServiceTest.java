@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.search;
+
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.Page;
+import com.alibaba.nacos.config.server.model.event.ConfigDumpedEvent;
+import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigSearchServiceTest {
+    
+    @Mock
+    private PersistService persistService;
+    
+    private ConfigSearchService configSearchService;
+    
+    private ConfigSearchIndex index;
+    
+    @Before
+    public void setUp() {
+        configSearchService = new ConfigSearchService(persistService);
+        index = new ConfigSearchIndex();
+        index.put(1L, "user-service.yaml", "DEFAULT_GROUP", "", "user");
+        index.put(2L, "order-service.yaml", "DEFAULT_GROUP", "", "order");
+        ReflectionTestUtils.setField(configSearchService, "index", index);
+    }
+    
+    @Test
+    public void testSearchLoadPageInOneQuery() {
+        when(persistService.findConfigInfosByIds("1,2")).thenReturn(
+                Arrays.asList(configInfo(1L, "user-service.yaml", "user"),
+                        configInfo(2L, "order-service.yaml", "order")));
+        Page<ConfigInfo> page = configSearchService.search(1, 10, "*service*", null, null, null);
+        assertEquals(2, page.getTotalCount());
+        assertEquals(2, page.getPageItems().size());
+        assertEquals("user-service.yaml", page.getPageItems().get(0).getDataId());
+        assertEquals("content", page.getPageItems().get(0).getContent());
+        assertEquals("order-service.yaml", page.getPageItems().get(1).getDataId());
+        verify(persistService, times(1)).findConfigInfosByIds(anyString());
+    }
+    
+    @Test
+    public void testSearchDropStaleAppNameAndRefresh() {
+        when(persistService.findConfigInfosByIds("1"))
+                .thenReturn(Collections.singletonList(configInfo(1L, "user-service.yaml", "account")));
+        Page<ConfigInfo> page = configSearchService.search(1, 10, "*service*", null, null, "user");
+        assertEquals(0, page.getPageItems().size());
+        ConfigInfoWrapper changed = new ConfigInfoWrapper();
+        changed.setId(1L);
+        changed.setDataId("user-service.yaml");
+        changed.setGroup("DEFAULT_GROUP");
+        changed.setTenant("");
+        changed.setAppName("account");
+        when(persistService.findConfigInfo("user-service.yaml", "DEFAULT_GROUP", null)).thenReturn(changed);
+        ReflectionTestUtils.invokeMethod(configSearchService, "refresh");
+        assertEquals(0, index.search("*service*", null, "", "user").size());
+        assertEquals(1, index.search("*service*", null, "", "account").size());
+    }
+    
+    @Test
+    public void testRefreshOnConfigDumped() {
+        ConfigInfoWrapper changed = new ConfigInfoWrapper();
+        changed.setId(2L);
+        changed.setDataId("order-service.yaml");
+        changed.setGroup("DEFAULT_GROUP");
+        changed.setTenant("");
+        changed.setAppName("trade");
+        when(persistService.findConfigInfo("order-service.yaml", "DEFAULT_GROUP", null)).thenReturn(changed);
+        configSearchService
+                .onEvent(new ConfigDumpedEvent(GroupKey2.getKey("order-service.yaml", "DEFAULT_GROUP", "")));
+        ReflectionTestUtils.invokeMethod(configSearchService, "refresh");
+        assertEquals(0, index.search("*service*", null, "", "order").size());
+        assertEquals(1, index.search("*service*", null, "", "trade").size());
+    }
+    
+    private ConfigInfo configInfo(long id, String dataId, String appName) {
+        ConfigInfo result = new ConfigInfo(dataId, "DEFAULT_GROUP", "", appName, "content");
+        result.setId(id);
+        return result;
+    }
+}
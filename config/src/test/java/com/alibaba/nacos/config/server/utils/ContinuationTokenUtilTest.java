@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.utils;
+
+import com.alibaba.nacos.api.exception.api.NacosApiException;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.Assert.assertEquals;
+
+public class ContinuationTokenUtilTest {
+    
+    @Test
+    public void testEncodeAndDecode() throws NacosApiException {
+        assertEquals(0L, ContinuationTokenUtil.decode(ContinuationTokenUtil.encode(0L), 100L));
+        assertEquals(12345L, ContinuationTokenUtil.decode(ContinuationTokenUtil.encode(12345L), 0L));
+        assertEquals(Long.MAX_VALUE, ContinuationTokenUtil.decode(ContinuationTokenUtil.encode(Long.MAX_VALUE), 0L));
+    }
+    
+    @Test
+    public void testDecodeBlankToken() throws NacosApiException {
+        assertEquals(100L, ContinuationTokenUtil.decode(null, 100L));
+        assertEquals(100L, ContinuationTokenUtil.decode("", 100L));
+    }
+    
+    @Test(expected = NacosApiException.class)
+    public void testDecodeIllegalBase64() throws NacosApiException {
+        ContinuationTokenUtil.decode("!!!", 0L);
+    }
+    
+    @Test(expected = NacosApiException.class)
+    public void testDecodeUnknownToken() throws NacosApiException {
+        ContinuationTokenUtil.decode(Base64.getUrlEncoder().encodeToString("123".getBytes(StandardCharsets.UTF_8)), 0L);
+    }
+    
+    @Test(expected = NacosApiException.class)
+    public void testDecodeNegativeId() throws NacosApiException {
+        ContinuationTokenUtil.decode(ContinuationTokenUtil.encode(-1L), 0L);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.console.controller;
 
+import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.naming.controllers.OperatorController;
 import org.slf4j.Logger;
@@ -44,10 +45,13 @@ public class HealthController {
     
     private final OperatorController apiCommands;
     
+    private final DumpService dumpService;
+    
     @Autowired
-    public HealthController(PersistService persistService, OperatorController apiCommands) {
+    public HealthController(PersistService persistService, OperatorController apiCommands, DumpService dumpService) {
         this.persistService = persistService;
         this.apiCommands = apiCommands;
+        this.dumpService = dumpService;
     }
     
     /**
@@ -88,6 +92,11 @@ public class HealthController {
     }
     
     private boolean isConfigReadiness() {
+        // check all configs loaded
+        if (!dumpService.isStartupDumpFinished()) {
+            LOGGER.warn("Config health check fail, configs are still being loaded.");
+            return false;
+        }
         // check db
         try {
             persistService.configInfoCount("");
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.console.controller;
 
 import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.naming.controllers.OperatorController;
 import org.junit.Assert;
@@ -54,6 +55,9 @@ public class HealthControllerTest {
     @Mock
     private OperatorController apiCommands;
     
+    @Mock
+    private DumpService dumpService;
+    
     private MockMvc mockmvc;
     
     @Before
@@ -72,6 +76,7 @@ public class HealthControllerTest {
     public void testReadiness() throws Exception {
         String url = "/v1/console/health/readiness";
         
+        Mockito.when(dumpService.isStartupDumpFinished()).thenReturn(true);
         Mockito.when(persistService.configInfoCount(any(String.class))).thenReturn(0);
         Mockito.when(apiCommands.metrics(any(HttpServletRequest.class))).thenReturn(JacksonUtils.createEmptyJsonNode());
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(url);
@@ -104,4 +109,15 @@ public class HealthControllerTest {
         Assert.assertEquals(500, response.getStatus());
         Assert.assertEquals("Naming is not in readiness", response.getContentAsString());
     }
+    
+    @Test
+    public void testReadinessBeforeStartupDumpFinished() throws Exception {
+        String url = "/v1/console/health/readiness";
+        Mockito.when(dumpService.isStartupDumpFinished()).thenReturn(false);
+        Mockito.when(apiCommands.metrics(any(HttpServletRequest.class))).thenReturn(JacksonUtils.createEmptyJsonNode());
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(url);
+        MockHttpServletResponse response = mockmvc.perform(builder).andReturn().getResponse();
+        Assert.assertEquals(500, response.getStatus());
+        Assert.assertEquals("Config is not in readiness", response.getContentAsString());
+    }
 }
@@ -112,6 +112,17 @@ public class ServerLoaderController {
         return ResponseEntity.ok().body(stringConnectionMap);
     }
     
+    /**
+     * Get push backlog of the current clients which have pending or in-flight pushes.
+     *
+     * @return connection id -> push backlog.
+     */
+    @Secured(resource = Commons.NACOS_CORE_CONTEXT_V2 + "/loader", action = ActionTypes.READ)
+    @GetMapping("/pushBacklog")
+    public ResponseEntity<Map<String, Map<String, Integer>>> currentPushBacklogs() {
+        return ResponseEntity.ok().body(connectionManager.currentPushBacklogs());
+    }
+    
     /**
      * Get server state of current server.
      *
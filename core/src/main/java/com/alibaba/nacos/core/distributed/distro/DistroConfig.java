@@ -32,6 +32,8 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long syncDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_DELAY_MILLISECONDS;
     
+    private boolean syncTimingWheelEnabled = DistroConstants.DEFAULT_DATA_SYNC_TIMING_WHEEL_ENABLED;
+    
     private long syncTimeoutMillis = DistroConstants.DEFAULT_DATA_SYNC_TIMEOUT_MILLISECONDS;
     
     private long syncRetryDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS;
@@ -53,6 +55,8 @@ public class DistroConfig extends AbstractDynamicConfig {
     protected void getConfigFromEnv() {
         syncDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_SYNC_DELAY_MILLISECONDS);
+        syncTimingWheelEnabled = EnvUtil.getProperty(DistroConstants.DATA_SYNC_TIMING_WHEEL_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_SYNC_TIMING_WHEEL_ENABLED);
         syncTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_SYNC_TIMEOUT_MILLISECONDS);
         syncRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS, Long.class,
@@ -79,6 +83,14 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.syncDelayMillis = syncDelayMillis;
     }
     
+    public boolean isSyncTimingWheelEnabled() {
+        return syncTimingWheelEnabled;
+    }
+    
+    public void setSyncTimingWheelEnabled(boolean syncTimingWheelEnabled) {
+        this.syncTimingWheelEnabled = syncTimingWheelEnabled;
+    }
+    
     public long getSyncTimeoutMillis() {
         return syncTimeoutMillis;
     }
@@ -129,9 +141,9 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     @Override
     protected String printConfig() {
-        return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
-                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis="
-                + loadDataRetryDelayMillis + '}';
+        return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimingWheelEnabled="
+                + syncTimingWheelEnabled + ", syncTimeoutMillis=" + syncTimeoutMillis + ", syncRetryDelayMillis="
+                + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis + ", verifyTimeoutMillis="
+                + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis + '}';
     }
 }
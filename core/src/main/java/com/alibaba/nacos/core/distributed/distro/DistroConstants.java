@@ -27,6 +27,11 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_SYNC_DELAY_MILLISECONDS = 1000L;
     
+    public static final String DATA_SYNC_TIMING_WHEEL_ENABLED =
+            "nacos.core.protocol.distro.data.sync.timingWheelEnabled";
+    
+    public static final boolean DEFAULT_DATA_SYNC_TIMING_WHEEL_ENABLED = false;
+    
     public static final String DATA_SYNC_TIMEOUT_MILLISECONDS = "nacos.core.protocol.distro.data.sync.timeoutMs";
     
     public static final long DEFAULT_DATA_SYNC_TIMEOUT_MILLISECONDS = 3000L;
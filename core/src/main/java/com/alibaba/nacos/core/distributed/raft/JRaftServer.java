@@ -65,9 +65,11 @@ import com.alipay.sofa.jraft.rpc.RpcServer;
 import com.alipay.sofa.jraft.rpc.impl.cli.CliClientServiceImpl;
 import com.alipay.sofa.jraft.util.BytesUtil;
 import com.alipay.sofa.jraft.util.Endpoint;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Message;
 import org.springframework.util.CollectionUtils;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Paths;
 import java.util.Collection;
@@ -104,6 +106,11 @@ import java.util.function.BiConsumer;
 @SuppressWarnings("all")
 public class JRaftServer {
     
+    /**
+     * The length of request type field at the head of task data.
+     */
+    private static final int REQUEST_TYPE_FIELD_LENGTH = 2;
+    
     // Existential life cycle
     
     private RpcServer rpcServer;
@@ -403,18 +410,24 @@ public class JRaftServer {
             closure.run(nacosStatus);
         }));
         
-        // add request type field at the head of task data.
-        byte[] requestTypeFieldBytes = new byte[2];
-        requestTypeFieldBytes[0] = ProtoMessageUtil.REQUEST_TYPE_FIELD_TAG;
+        // add request type field at the head of task data, and serialize the data just behind it, so that the data
+        // is copied only once for each task.
+        final int dataSize = data.getSerializedSize();
+        byte[] taskData = new byte[REQUEST_TYPE_FIELD_LENGTH + dataSize];
+        taskData[0] = ProtoMessageUtil.REQUEST_TYPE_FIELD_TAG;
         if (data instanceof ReadRequest) {
-            requestTypeFieldBytes[1] = ProtoMessageUtil.REQUEST_TYPE_READ;
+            taskData[1] = ProtoMessageUtil.REQUEST_TYPE_READ;
         } else {
-            requestTypeFieldBytes[1] = ProtoMessageUtil.REQUEST_TYPE_WRITE;
+            taskData[1] = ProtoMessageUtil.REQUEST_TYPE_WRITE;
         }
-        
-        byte[] dataBytes = data.toByteArray();
-        task.setData((ByteBuffer) ByteBuffer.allocate(requestTypeFieldBytes.length + dataBytes.length)
-                .put(requestTypeFieldBytes).put(dataBytes).position(0));
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(taskData, REQUEST_TYPE_FIELD_LENGTH, dataSize);
+            data.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new ConsistencyException("Serialize raft task data failed", e);
+        }
+        task.setData(ByteBuffer.wrap(taskData));
         node.apply(task);
     }
     
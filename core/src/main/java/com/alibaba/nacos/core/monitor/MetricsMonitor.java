@@ -44,6 +44,10 @@ public final class MetricsMonitor {
     
     private static AtomicInteger longConnection = new AtomicInteger();
     
+    private static AtomicInteger pushInFlight = new AtomicInteger();
+    
+    private static AtomicInteger pushPending = new AtomicInteger();
+    
     static {
         ImmutableTag immutableTag = new ImmutableTag("module", "core");
         List<Tag> tags = new ArrayList<>();
@@ -71,12 +75,30 @@ public final class MetricsMonitor {
         tags.add(new ImmutableTag("name", "longConnection"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, longConnection);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "pushInFlight"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, pushInFlight);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "pushPending"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, pushPending);
+        
     }
     
     public static AtomicInteger getLongConnectionMonitor() {
         return longConnection;
     }
     
+    public static AtomicInteger getPushInFlightMonitor() {
+        return pushInFlight;
+    }
+    
+    public static AtomicInteger getPushPendingMonitor() {
+        return pushPending;
+    }
+    
     public static void raftReadIndexFailed() {
         RAFT_READ_INDEX_FAILED.record(1);
     }
@@ -17,6 +17,8 @@
 package com.alibaba.nacos.core.remote;
 
 import com.alibaba.nacos.api.ability.ClientAbilities;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.Requester;
 
 import java.util.Map;
@@ -36,6 +38,8 @@ public abstract class Connection implements Requester {
     
     private final ConnectionMeta metaInfo;
     
+    private final ConnectionPushWindow pushWindow = new ConnectionPushWindow();
+    
     public Connection(ConnectionMeta metaInfo) {
         this.metaInfo = metaInfo;
     }
@@ -77,6 +81,32 @@ public abstract class Connection implements Requester {
      */
     public abstract boolean isConnected();
     
+    /**
+     * Whether the connection can send more data without buffering. Sub class can override it with the signal of
+     * transport.
+     *
+     * @return {@code true} if writable, otherwise {@code false}
+     */
+    public boolean isWritable() {
+        return true;
+    }
+    
+    public ConnectionPushWindow getPushWindow() {
+        return pushWindow;
+    }
+    
+    /**
+     * Send request with encoded body async. The default implementation sends the original request, sub class can
+     * override it to reuse the encoded body.
+     *
+     * @param request         encoded request.
+     * @param requestCallBack callback of request.
+     * @throws NacosException exception throw.
+     */
+    public void asyncRequest(EncodedServerRequest request, RequestCallBack requestCallBack) throws NacosException {
+        asyncRequest(request.getRequest(), requestCallBack);
+    }
+    
     /**
      * Update last Active Time to now.
      */
@@ -73,6 +73,10 @@ public class ConnectionManager extends Subscriber<ConnectionLimitRuleChangeEvent
     
     public static final String RULE_FILE_NAME = "limitRule";
     
+    public static final String PUSH_BACKLOG_PENDING = "pending";
+    
+    public static final String PUSH_BACKLOG_IN_FLIGHT = "inFlight";
+    
     /**
      * 4 times of client keep alive.
      */
@@ -572,6 +576,27 @@ public class ConnectionManager extends Subscriber<ConnectionLimitRuleChangeEvent
         return connections;
     }
     
+    /**
+     * Get the push backlog of each connection which has pending or in-flight pushes, used to find the slow clients.
+     *
+     * @return connection id -> {pending: count of pending pushes, inFlight: count of in-flight pushes}
+     */
+    public Map<String, Map<String, Integer>> currentPushBacklogs() {
+        Map<String, Map<String, Integer>> result = new HashMap<>(16);
+        for (Map.Entry<String, Connection> entry : connections.entrySet()) {
+            ConnectionPushWindow pushWindow = entry.getValue().getPushWindow();
+            int pendingCount = pushWindow.getPendingCount();
+            int inFlightCount = pushWindow.getInFlightCount();
+            if (pendingCount > 0 || inFlightCount > 0) {
+                Map<String, Integer> backlog = new HashMap<>(4);
+                backlog.put(PUSH_BACKLOG_PENDING, pendingCount);
+                backlog.put(PUSH_BACKLOG_IN_FLIGHT, inFlightCount);
+                result.put(entry.getKey(), backlog);
+            }
+        }
+        return result;
+    }
+    
     /**
      * check if over limit.
      *
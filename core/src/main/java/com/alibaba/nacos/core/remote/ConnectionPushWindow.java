@@ -0,0 +1,155 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Push window of connection.
+ *
+ * <p>Limits the count of in-flight pushes for one connection. The pushes which can't be sent now are kept in pending
+ * slots by push key, and a newer push with same key replaces the pending one, so only the latest state of each key
+ * waits for sending.
+ *
+ * @author xiweng.yy
+ */
+public class ConnectionPushWindow {
+    
+    private final LinkedHashMap<String, PendingPush> pendingPushes = new LinkedHashMap<>();
+    
+    private int inFlightCount;
+    
+    /**
+     * Try to acquire an in-flight slot for a new push. Only succeed when no push is pending, to keep the order of
+     * pushes.
+     *
+     * @param maxInFlight max count of in-flight pushes
+     * @return {@code true} if acquired, otherwise {@code false}
+     */
+    public synchronized boolean tryAcquire(int maxInFlight) {
+        if (!pendingPushes.isEmpty() || inFlightCount >= maxInFlight) {
+            return false;
+        }
+        inFlightCount++;
+        MetricsMonitor.getPushInFlightMonitor().incrementAndGet();
+        return true;
+    }
+    
+    /**
+     * Release an in-flight slot after the push finished.
+     */
+    public synchronized void release() {
+        if (inFlightCount > 0) {
+            inFlightCount--;
+            MetricsMonitor.getPushInFlightMonitor().decrementAndGet();
+        }
+    }
+    
+    /**
+     * Add push into pending slot of the key.
+     *
+     * @param pushKey key of push
+     * @param push    pending push
+     * @return the replaced pending push with same key, {@code null} if no pending push for the key
+     */
+    public synchronized PendingPush addPending(String pushKey, PendingPush push) {
+        PendingPush replaced = pendingPushes.put(pushKey, push);
+        if (null == replaced) {
+            MetricsMonitor.getPushPendingMonitor().incrementAndGet();
+        }
+        return replaced;
+    }
+    
+    /**
+     * Poll the eldest pending push and acquire an in-flight slot for it.
+     *
+     * @param maxInFlight max count of in-flight pushes
+     * @return the eldest pending push, {@code null} if no pending push or no in-flight slot
+     */
+    public synchronized PendingPush pollPending(int maxInFlight) {
+        if (pendingPushes.isEmpty() || inFlightCount >= maxInFlight) {
+            return null;
+        }
+        inFlightCount++;
+        MetricsMonitor.getPushPendingMonitor().decrementAndGet();
+        MetricsMonitor.getPushInFlightMonitor().incrementAndGet();
+        Iterator<Map.Entry<String, PendingPush>> iterator = pendingPushes.entrySet().iterator();
+        PendingPush result = iterator.next().getValue();
+        iterator.remove();
+        return result;
+    }
+    
+    /**
+     * Clear all pending pushes and in-flight slots, used when connection closed.
+     *
+     * @return the cleared pending pushes
+     */
+    public synchronized List<PendingPush> clear() {
+        MetricsMonitor.getPushPendingMonitor().addAndGet(-pendingPushes.size());
+        MetricsMonitor.getPushInFlightMonitor().addAndGet(-inFlightCount);
+        inFlightCount = 0;
+        List<PendingPush> result = new ArrayList<>(pendingPushes.values());
+        pendingPushes.clear();
+        return result;
+    }
+    
+    public synchronized int getInFlightCount() {
+        return inFlightCount;
+    }
+    
+    public synchronized int getPendingCount() {
+        return pendingPushes.size();
+    }
+    
+    /**
+     * Push waiting for in-flight slot.
+     */
+    public static class PendingPush {
+        
+        private final Runnable sendAction;
+        
+        private final Consumer<Throwable> discardAction;
+        
+        public PendingPush(Runnable sendAction, Consumer<Throwable> discardAction) {
+            this.sendAction = sendAction;
+            this.discardAction = discardAction;
+        }
+        
+        /**
+         * Send this push.
+         */
+        public void send() {
+            sendAction.run();
+        }
+        
+        /**
+         * Discard this push without sending.
+         *
+         * @param reason reason of discarding, such as replaced by newer push or connection closed
+         */
+        public void discard(Throwable reason) {
+            discardAction.accept(reason);
+        }
+    }
+}
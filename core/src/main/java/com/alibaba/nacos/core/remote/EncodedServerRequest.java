@@ -0,0 +1,48 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+
+/**
+ * Server request with encoded body.
+ *
+ * <p>The body is encoded only once without request id, so the same request can be pushed to multiple connections
+ * without encoding again. The wrapped request should not be modified after encoded.
+ *
+ * @author xiweng.yy
+ */
+public class EncodedServerRequest {
+    
+    private final ServerRequest request;
+    
+    private final byte[] encodedBody;
+    
+    public EncodedServerRequest(ServerRequest request) {
+        this.request = request;
+        this.encodedBody = GrpcUtils.encodeRequestBody(request);
+    }
+    
+    public ServerRequest getRequest() {
+        return request;
+    }
+    
+    public byte[] getEncodedBody() {
+        return encodedBody;
+    }
+}
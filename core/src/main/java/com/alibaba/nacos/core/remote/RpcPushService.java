@@ -20,13 +20,17 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.AbstractRequestCallBack;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.core.utils.RemoteUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * push response  to clients.
@@ -40,6 +44,8 @@ public class RpcPushService {
     @Autowired
     private ConnectionManager connectionManager;
     
+    private final int maxInFlight = RemoteUtils.getRemotePushMaxInFlight();
+    
     /**
      * push response with no ack.
      *
@@ -49,10 +55,95 @@ public class RpcPushService {
      */
     public void pushWithCallback(String connectionId, ServerRequest request, PushCallBack requestCallBack,
             Executor executor) {
+        doPushWithCallback(connectionId, request,
+                (connection, callBack) -> connection.asyncRequest(request, callBack), requestCallBack, executor);
+    }
+    
+    /**
+     * push encoded request with callback, the encoded body will be reused.
+     *
+     * @param connectionId    connectionId.
+     * @param request         encoded request.
+     * @param requestCallBack requestCallBack.
+     */
+    public void pushWithCallback(String connectionId, EncodedServerRequest request, PushCallBack requestCallBack,
+            Executor executor) {
+        doPushWithCallback(connectionId, request.getRequest(),
+                (connection, callBack) -> connection.asyncRequest(request, callBack), requestCallBack, executor);
+    }
+    
+    /**
+     * push encoded request with callback under the flow control of connection push window.
+     *
+     * <p>If the connection is not writable or the in-flight pushes of connection reach the limit, the push will wait
+     * in the pending slot of push key. A newer push with same key replaces the pending one, and the replaced push will
+     * fail with {@link ConnectionBusyException}.
+     *
+     * @param connectionId    connectionId.
+     * @param pushKey         key of push, such as the resource which the push is about.
+     * @param request         encoded request.
+     * @param requestCallBack requestCallBack.
+     */
+    public void pushWithCallback(String connectionId, String pushKey, EncodedServerRequest request,
+            PushCallBack requestCallBack, Executor executor) {
+        Connection connection = connectionManager.getConnection(connectionId);
+        if (connection == null) {
+            requestCallBack.onSuccess();
+            return;
+        }
+        ConnectionPushWindow pushWindow = connection.getPushWindow();
+        PushCallBack releaseCallBack = new WindowReleasePushCallBack(connectionId, pushWindow, requestCallBack);
+        if (connection.isWritable() && pushWindow.tryAcquire(maxInFlight)) {
+            pushWithCallback(connectionId, request, releaseCallBack, executor);
+            return;
+        }
+        ConnectionPushWindow.PendingPush replaced = pushWindow.addPending(pushKey,
+                new ConnectionPushWindow.PendingPush(
+                        () -> pushWithCallback(connectionId, request, releaseCallBack, executor),
+                        requestCallBack::onFail));
+        if (replaced != null) {
+            replaced.discard(new ConnectionBusyException("Push replaced by newer push."));
+        }
+        drainPendingPushes(connectionId);
+    }
+    
+    /**
+     * Send the pending pushes of connection while the connection is writable and in-flight slots are available.
+     *
+     * @param connectionId connectionId.
+     */
+    public void drainPendingPushes(String connectionId) {
+        Connection connection = connectionManager.getConnection(connectionId);
+        if (connection == null) {
+            return;
+        }
+        while (connection.isWritable()) {
+            ConnectionPushWindow.PendingPush pendingPush = connection.getPushWindow().pollPending(maxInFlight);
+            if (pendingPush == null) {
+                return;
+            }
+            pendingPush.send();
+        }
+    }
+    
+    /**
+     * Discard the pending pushes of closed connection, the discarded pushes fail with {@link
+     * ConnectionAlreadyClosedException} to be told from the replaced ones.
+     *
+     * @param connection closed connection.
+     */
+    public void clearPendingPushes(Connection connection) {
+        for (ConnectionPushWindow.PendingPush each : connection.getPushWindow().clear()) {
+            each.discard(new ConnectionAlreadyClosedException("Connection closed, pending push discarded."));
+        }
+    }
+    
+    private void doPushWithCallback(String connectionId, ServerRequest request, AsyncRequestSender sender,
+            PushCallBack requestCallBack, Executor executor) {
         Connection connection = connectionManager.getConnection(connectionId);
         if (connection != null) {
             try {
-                connection.asyncRequest(request, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
+                sender.send(connection, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
                     
                     @Override
                     public Executor getExecutor() {
@@ -62,7 +153,7 @@ public class RpcPushService {
                     @Override
                     public void onResponse(Response response) {
                         if (response.isSuccess()) {
-                            requestCallBack.onSuccess();
+                            requestCallBack.onSuccess(response);
                         } else {
                             requestCallBack.onFail(new NacosException(response.getErrorCode(), response.getMessage()));
                         }
@@ -108,4 +199,69 @@ public class RpcPushService {
         }
     }
     
+    /**
+     * Push callback which releases the in-flight slot of push window and sends the pending pushes when push finished.
+     */
+    private class WindowReleasePushCallBack implements PushCallBack {
+        
+        private final String connectionId;
+        
+        private final ConnectionPushWindow pushWindow;
+        
+        private final PushCallBack delegate;
+        
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        
+        private WindowReleasePushCallBack(String connectionId, ConnectionPushWindow pushWindow,
+                PushCallBack delegate) {
+            this.connectionId = connectionId;
+            this.pushWindow = pushWindow;
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+        
+        @Override
+        public void onSuccess() {
+            release();
+            delegate.onSuccess();
+            drainPendingPushes(connectionId);
+        }
+        
+        @Override
+        public void onSuccess(Response response) {
+            release();
+            delegate.onSuccess(response);
+            drainPendingPushes(connectionId);
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            release();
+            delegate.onFail(e);
+            drainPendingPushes(connectionId);
+        }
+        
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                pushWindow.release();
+            }
+        }
+    }
+    
+    @FunctionalInterface
+    private interface AsyncRequestSender {
+        
+        /**
+         * Send request to connection async.
+         *
+         * @param connection connection
+         * @param callBack   callback of request
+         * @throws NacosException exception during sending
+         */
+        void send(Connection connection, RequestCallBack callBack) throws NacosException;
+    }
 }
@@ -28,6 +28,7 @@ import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
+import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import io.grpc.stub.ServerCallStreamObserver;
@@ -55,6 +56,9 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
     @Autowired
     ConnectionManager connectionManager;
     
+    @Autowired
+    RpcPushService rpcPushService;
+    
     private void traceDetailIfNecessary(Payload grpcRequest) {
         String clientIp = grpcRequest.getMetadata().getClientIp();
         String connectionId = CONTEXT_KEY_CONN_ID.get();
@@ -197,6 +201,13 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
             }
         };
         
+        if (responseObserver instanceof ServerCallStreamObserver) {
+            // Send the pending pushes of connection once the stream becomes writable again.
+            final String connectionId = CONTEXT_KEY_CONN_ID.get();
+            ((ServerCallStreamObserver) responseObserver)
+                    .setOnReadyHandler(() -> rpcPushService.drainPendingPushes(connectionId));
+        }
+        
         return streamObserver;
     }
     
@@ -27,6 +27,7 @@ import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
+import com.alibaba.nacos.core.remote.EncodedServerRequest;
 import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
 import com.alibaba.nacos.core.utils.Loggers;
 import io.grpc.StatusRuntimeException;
@@ -34,6 +35,8 @@ import io.grpc.netty.shaded.io.netty.channel.Channel;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
+import java.util.function.Supplier;
+
 /**
  * grpc connection.
  *
@@ -53,11 +56,15 @@ public class GrpcConnection extends Connection {
     }
     
     private void sendRequestNoAck(Request request) throws NacosException {
+        sendPayloadNoAck(() -> GrpcUtils.convert(request));
+    }
+    
+    private void sendPayloadNoAck(Supplier<Payload> payloadSupplier) throws NacosException {
         try {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 
-                Payload payload = GrpcUtils.convert(request);
+                Payload payload = payloadSupplier.get();
                 traceIfNecessary(payload);
                 streamObserver.onNext(payload);
             }
@@ -87,11 +94,16 @@ public class GrpcConnection extends Connection {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
+        DefaultRequestFuture defaultPushFuture = syncCallback(requestId, callBack);
+        sendRequestNoAck(request);
+        return defaultPushFuture;
+    }
+    
+    private DefaultRequestFuture syncCallback(String requestId, RequestCallBack callBack) throws NacosException {
         DefaultRequestFuture defaultPushFuture = new DefaultRequestFuture(getMetaInfo().getConnectionId(), requestId,
                 callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
         
         RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
-        sendRequestNoAck(request);
         return defaultPushFuture;
     }
     
@@ -117,6 +129,14 @@ public class GrpcConnection extends Connection {
         sendRequestInner(request, requestCallBack);
     }
     
+    @Override
+    public void asyncRequest(EncodedServerRequest request, RequestCallBack requestCallBack) throws NacosException {
+        // The encoded request might be shared by multiple connections, so the request id should not be set into it.
+        final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
+        syncCallback(requestId, requestCallBack);
+        sendPayloadNoAck(() -> GrpcUtils.convert(request.getRequest(), requestId, request.getEncodedBody()));
+    }
+    
     @Override
     public void close() {
         String connectionId = null;
@@ -145,6 +165,14 @@ public class GrpcConnection extends Connection {
         }
     }
     
+    @Override
+    public boolean isWritable() {
+        if (streamObserver instanceof ServerCallStreamObserver) {
+            return ((ServerCallStreamObserver) streamObserver).isReady();
+        }
+        return true;
+    }
+    
     @Override
     public boolean isConnected() {
         return channel != null && channel.isOpen() && channel.isActive();
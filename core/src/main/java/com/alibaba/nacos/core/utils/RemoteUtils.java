@@ -38,6 +38,11 @@ public class RemoteUtils {
      */
     private static final int REMOTE_EXECUTOR_QUEUE_SIZE = 1 << 14;
     
+    /**
+     * Default max in-flight pushes for each connection: 32.
+     */
+    private static final int REMOTE_PUSH_MAX_IN_FLIGHT = 1 << 5;
+    
     /**
      * get remote executors thread times of processors,default is 64. see the usage of this method for detail.
      *
@@ -62,4 +67,19 @@ public class RemoteUtils {
             return REMOTE_EXECUTOR_QUEUE_SIZE;
         }
     }
+    
+    /**
+     * get max in-flight pushes for each connection, the pushes over it will wait and be merged by push key.
+     *
+     * @return max in-flight pushes for each connection.
+     */
+    public static int getRemotePushMaxInFlight() {
+        String maxInFlightString = System.getProperty("remote.push.max.in.flight");
+        if (NumberUtils.isDigits(maxInFlightString)) {
+            int maxInFlight = Integer.parseInt(maxInFlightString);
+            return maxInFlight > 0 ? maxInFlight : REMOTE_PUSH_MAX_IN_FLIGHT;
+        } else {
+            return REMOTE_PUSH_MAX_IN_FLIGHT;
+        }
+    }
 }
@@ -79,6 +79,16 @@ public class ServerLoaderControllerTest {
         Assert.assertEquals(0, result.getBody().size());
     }
     
+    @Test
+    public void testCurrentPushBacklogs() {
+        Map<String, Map<String, Integer>> backlogs = new HashMap<>();
+        backlogs.put("111", new HashMap<>());
+        Mockito.when(connectionManager.currentPushBacklogs()).thenReturn(backlogs);
+        
+        ResponseEntity<Map<String, Map<String, Integer>>> result = serverLoaderController.currentPushBacklogs();
+        Assert.assertEquals(backlogs, result.getBody());
+    }
+    
     @Test
     public void testReloadCount() {
         ResponseEntity<String> result = serverLoaderController.reloadCount(1, "1.1.1.1");
@@ -155,6 +155,23 @@ public class ConnectionManagerTest {
         Assert.assertEquals(1, connectionManager.currentSdkClientCount());
     }
     
+    @Test
+    public void testCurrentPushBacklogs() {
+        Assert.assertTrue(connectionManager.currentPushBacklogs().isEmpty());
+        ConnectionPushWindow pushWindow = connection.getPushWindow();
+        try {
+            Assert.assertTrue(pushWindow.tryAcquire(1));
+            pushWindow.addPending("key", new ConnectionPushWindow.PendingPush(() -> { }, reason -> { }));
+            Map<String, Map<String, Integer>> backlogs = connectionManager.currentPushBacklogs();
+            Assert.assertEquals(1, backlogs.size());
+            Assert.assertEquals(1, (int) backlogs.get(connectId).get(ConnectionManager.PUSH_BACKLOG_PENDING));
+            Assert.assertEquals(1, (int) backlogs.get(connectId).get(ConnectionManager.PUSH_BACKLOG_IN_FLIGHT));
+        } finally {
+            pushWindow.clear();
+        }
+        Assert.assertTrue(connectionManager.currentPushBacklogs().isEmpty());
+    }
+    
     @Test
     public void testOnEvent() {
         try {
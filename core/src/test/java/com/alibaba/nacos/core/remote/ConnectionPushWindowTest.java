@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectionPushWindowTest {
+    
+    private ConnectionPushWindow pushWindow;
+    
+    @Before
+    public void setUp() {
+        pushWindow = new ConnectionPushWindow();
+    }
+    
+    @Test
+    public void testTryAcquireAndRelease() {
+        assertTrue(pushWindow.tryAcquire(2));
+        assertTrue(pushWindow.tryAcquire(2));
+        assertFalse(pushWindow.tryAcquire(2));
+        assertEquals(2, pushWindow.getInFlightCount());
+        pushWindow.release();
+        assertTrue(pushWindow.tryAcquire(2));
+        pushWindow.release();
+        pushWindow.release();
+        pushWindow.release();
+        assertEquals(0, pushWindow.getInFlightCount());
+    }
+    
+    @Test
+    public void testPendingReplacedByNewerPush() {
+        ConnectionPushWindow.PendingPush first = newPendingPush();
+        ConnectionPushWindow.PendingPush second = newPendingPush();
+        ConnectionPushWindow.PendingPush other = newPendingPush();
+        assertNull(pushWindow.addPending("a", first));
+        assertNull(pushWindow.addPending("b", other));
+        assertSame(first, pushWindow.addPending("a", second));
+        assertEquals(2, pushWindow.getPendingCount());
+        // acquire is refused while pushes pending to keep order.
+        assertFalse(pushWindow.tryAcquire(2));
+        assertSame(second, pushWindow.pollPending(2));
+        assertSame(other, pushWindow.pollPending(2));
+        assertNull(pushWindow.pollPending(2));
+        assertEquals(2, pushWindow.getInFlightCount());
+    }
+    
+    @Test
+    public void testPollPendingLimitedByInFlight() {
+        assertTrue(pushWindow.tryAcquire(1));
+        pushWindow.addPending("a", newPendingPush());
+        assertNull(pushWindow.pollPending(1));
+        pushWindow.release();
+        assertEquals(1, pushWindow.getPendingCount());
+        assertNotNull(pushWindow.pollPending(1));
+        assertEquals(0, pushWindow.getPendingCount());
+    }
+    
+    @Test
+    public void testClear() {
+        pushWindow.tryAcquire(2);
+        pushWindow.addPending("a", newPendingPush());
+        pushWindow.addPending("b", newPendingPush());
+        List<ConnectionPushWindow.PendingPush> cleared = pushWindow.clear();
+        assertEquals(2, cleared.size());
+        assertEquals(0, pushWindow.getPendingCount());
+        assertEquals(0, pushWindow.getInFlightCount());
+    }
+    
+    private ConnectionPushWindow.PendingPush newPendingPush() {
+        return new ConnectionPushWindow.PendingPush(() -> {
+        }, reason -> {
+        });
+    }
+}
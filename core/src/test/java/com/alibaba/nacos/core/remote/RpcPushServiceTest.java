@@ -19,7 +19,10 @@ package com.alibaba.nacos.core.remote;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.core.remote.grpc.GrpcConnection;
 import org.junit.Assert;
 import org.junit.Test;
@@ -55,7 +58,7 @@ public class RpcPushServiceTest {
     public void testPushWithCallback() {
         try {
             Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(null);
-            rpcPushService.pushWithCallback(connectId, null, new PushCallBack() {
+            rpcPushService.pushWithCallback(connectId, (ServerRequest) null, new PushCallBack() {
                 @Override
                 public long getTimeout() {
                     return 0;
@@ -78,6 +81,58 @@ public class RpcPushServiceTest {
         }
     }
     
+    @Test
+    public void testPushEncodedRequestWithCallback() throws NacosException {
+        Mockito.when(connectionManager.getConnection(connectId)).thenReturn(grpcConnection);
+        EncodedServerRequest request = Mockito.mock(EncodedServerRequest.class);
+        PushCallBack pushCallBack = Mockito.mock(PushCallBack.class);
+        rpcPushService.pushWithCallback(connectId, request, pushCallBack, null);
+        Mockito.verify(grpcConnection)
+                .asyncRequest(Mockito.eq(request), Mockito.any(RequestCallBack.class));
+        Mockito.verify(pushCallBack, Mockito.never()).onFail(Mockito.any());
+    }
+    
+    @Test
+    public void testPushWithKeyReplacedWhenNotWritable() throws NacosException {
+        Mockito.when(connectionManager.getConnection(connectId)).thenReturn(grpcConnection);
+        Mockito.when(grpcConnection.getPushWindow()).thenReturn(new ConnectionPushWindow());
+        Mockito.when(grpcConnection.isWritable()).thenReturn(false);
+        EncodedServerRequest oldRequest = Mockito.mock(EncodedServerRequest.class);
+        EncodedServerRequest newRequest = Mockito.mock(EncodedServerRequest.class);
+        PushCallBack oldCallBack = Mockito.mock(PushCallBack.class);
+        PushCallBack newCallBack = Mockito.mock(PushCallBack.class);
+        rpcPushService.pushWithCallback(connectId, "key", oldRequest, oldCallBack, null);
+        rpcPushService.pushWithCallback(connectId, "key", newRequest, newCallBack, null);
+        Mockito.verify(grpcConnection, Mockito.never())
+                .asyncRequest(Mockito.any(EncodedServerRequest.class), Mockito.any(RequestCallBack.class));
+        Mockito.verify(oldCallBack).onFail(Mockito.any(ConnectionBusyException.class));
+        Assert.assertEquals(1, grpcConnection.getPushWindow().getPendingCount());
+        
+        Mockito.when(grpcConnection.isWritable()).thenReturn(true);
+        rpcPushService.drainPendingPushes(connectId);
+        Mockito.verify(grpcConnection).asyncRequest(Mockito.eq(newRequest), Mockito.any(RequestCallBack.class));
+        Mockito.verify(grpcConnection, Mockito.never())
+                .asyncRequest(Mockito.eq(oldRequest), Mockito.any(RequestCallBack.class));
+        Assert.assertEquals(0, grpcConnection.getPushWindow().getPendingCount());
+        Assert.assertEquals(1, grpcConnection.getPushWindow().getInFlightCount());
+        Mockito.verify(newCallBack, Mockito.never()).onFail(Mockito.any());
+    }
+    
+    @Test
+    public void testClearPendingPushesWhenConnectionClosed() throws NacosException {
+        Mockito.when(connectionManager.getConnection(connectId)).thenReturn(grpcConnection);
+        Mockito.when(grpcConnection.getPushWindow()).thenReturn(new ConnectionPushWindow());
+        Mockito.when(grpcConnection.isWritable()).thenReturn(false);
+        PushCallBack pushCallBack = Mockito.mock(PushCallBack.class);
+        rpcPushService.pushWithCallback(connectId, "key", Mockito.mock(EncodedServerRequest.class), pushCallBack, null);
+        rpcPushService.clearPendingPushes(grpcConnection);
+        Mockito.verify(pushCallBack).onFail(Mockito.any(ConnectionAlreadyClosedException.class));
+        Mockito.verify(pushCallBack, Mockito.never()).onFail(Mockito.any(ConnectionBusyException.class));
+        Mockito.verify(grpcConnection, Mockito.never())
+                .asyncRequest(Mockito.any(EncodedServerRequest.class), Mockito.any(RequestCallBack.class));
+        Assert.assertEquals(0, grpcConnection.getPushWindow().getPendingCount());
+    }
+    
     @Test
     public void testPushWithoutAck() {
         Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(grpcConnection);
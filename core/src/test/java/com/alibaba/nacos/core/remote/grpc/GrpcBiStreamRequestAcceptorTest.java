@@ -26,6 +26,7 @@ import com.alibaba.nacos.api.remote.response.ConnectResetResponse;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
 import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.RpcPushService;
 import io.grpc.Context;
 import io.grpc.Contexts;
 import io.grpc.Metadata;
@@ -72,6 +73,9 @@ public class GrpcBiStreamRequestAcceptorTest {
     @Mock
     private ConnectionManager connectionManager;
     
+    @Mock
+    private RpcPushService rpcPushService;
+    
     @InjectMocks
     private GrpcBiStreamRequestAcceptor acceptor;
     
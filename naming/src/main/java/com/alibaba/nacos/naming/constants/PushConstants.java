@@ -43,4 +43,48 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether naming push only send changed instances to the subscribers which support delta push.
+     */
+    public static final String DELTA_PUSH_ENABLED = "nacos.naming.push.deltaPushEnabled";
+    
+    public static final boolean DEFAULT_DELTA_PUSH_ENABLED = true;
+    
+    /**
+     * The count of history revisions kept for each service to generate delta push. If the revision acknowledged by
+     * subscriber is out of the history, the full service info will be pushed.
+     */
+    public static final String DELTA_PUSH_HISTORY_SIZE = "nacos.naming.push.deltaPushHistorySize";
+    
+    public static final int DEFAULT_DELTA_PUSH_HISTORY_SIZE = 4;
+    
+    /**
+     * Whether schedule push delay tasks by timing wheel, only take effect when server starting.
+     */
+    public static final String PUSH_TASK_TIMING_WHEEL_ENABLED = "nacos.naming.push.timingWheelEnabled";
+    
+    public static final boolean DEFAULT_PUSH_TASK_TIMING_WHEEL_ENABLED = false;
+    
+    /**
+     * Whether merge the pushes to one subscriber within a short window into one batch push, only take effect for the
+     * subscribers which support batch push.
+     */
+    public static final String BATCH_PUSH_ENABLED = "nacos.naming.push.batchPushEnabled";
+    
+    public static final boolean DEFAULT_BATCH_PUSH_ENABLED = true;
+    
+    /**
+     * The window to collect pushes of one subscriber into a batch push, unit: milliseconds.
+     */
+    public static final String BATCH_PUSH_WINDOW = "nacos.naming.push.batchPushWindow";
+    
+    public static final long DEFAULT_BATCH_PUSH_WINDOW = 20L;
+    
+    /**
+     * The max count of services in one batch push, the batch is sent immediately when reaching this count.
+     */
+    public static final String BATCH_PUSH_MAX_SIZE = "nacos.naming.push.batchPushMaxSize";
+    
+    public static final int DEFAULT_BATCH_PUSH_MAX_SIZE = 200;
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client.manager.impl;
+
+import com.alibaba.nacos.common.task.HierarchicalTimingWheel;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Expiry index of clients ordered by the earliest time they may expire.
+ *
+ * <p>Renewing a client only updates its own timestamp and does not touch this index. The cleaner polls the clients
+ * whose candidate time has passed, drops the ones which have been removed or replaced in client manager, and checks
+ * or reschedules the others by their current timestamp. So each run only touches the candidate clients instead of
+ * all clients.
+ *
+ * @param <C> type of client
+ * @author xiweng.yy
+ */
+class ClientExpiryIndex<C extends Client> {
+    
+    private static final long TICK_MS = 1000L;
+    
+    private static final int WHEEL_SIZE = 64;
+    
+    private final HierarchicalTimingWheel<C> timingWheel;
+    
+    ClientExpiryIndex() {
+        this(System.currentTimeMillis());
+    }
+    
+    ClientExpiryIndex(long startTime) {
+        this.timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, startTime);
+    }
+    
+    /**
+     * Schedule client to be polled at candidate time.
+     *
+     * @param client        client
+     * @param candidateTime the earliest time the client may expire
+     */
+    synchronized void schedule(C client, long candidateTime) {
+        timingWheel.schedule(client, candidateTime);
+    }
+    
+    /**
+     * Poll the clients whose candidate time has passed, the polled clients are removed from index.
+     *
+     * @param currentTime current time
+     * @return clients whose candidate time has passed
+     */
+    synchronized List<C> pollCandidates(long currentTime) {
+        List<C> result = new LinkedList<>();
+        timingWheel.advanceClock(currentTime, (client, candidateTime) -> result.add(client));
+        return result;
+    }
+}
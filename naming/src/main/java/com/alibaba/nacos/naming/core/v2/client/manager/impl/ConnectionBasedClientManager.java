@@ -30,6 +30,7 @@ import com.alibaba.nacos.naming.core.v2.client.factory.ClientFactoryHolder;
 import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.misc.ClientConfig;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import org.springframework.stereotype.Component;
@@ -49,6 +50,11 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     
     private final ConcurrentMap<String, ConnectionBasedClient> clients = new ConcurrentHashMap<>();
     
+    /**
+     * Only the clients synced from other server will expire, so only them are indexed.
+     */
+    private final ClientExpiryIndex<ConnectionBasedClient> expiryIndex = new ClientExpiryIndex<>();
+    
     public ConnectionBasedClientManager() {
         GlobalExecutor
                 .scheduleExpiredClientCleaner(new ExpiredClientCleaner(this), 0, Constants.DEFAULT_HEART_BEAT_INTERVAL,
@@ -77,7 +83,11 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     public boolean clientConnected(final Client client) {
         clients.computeIfAbsent(client.getClientId(), s -> {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
-            return (ConnectionBasedClient) client;
+            ConnectionBasedClient connectionBasedClient = (ConnectionBasedClient) client;
+            if (!connectionBasedClient.isNative()) {
+                expiryIndex.schedule(connectionBasedClient, getExpireCandidateTime(connectionBasedClient));
+            }
+            return connectionBasedClient;
         });
         return true;
     }
@@ -142,6 +152,10 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
         return false;
     }
     
+    private long getExpireCandidateTime(ConnectionBasedClient client) {
+        return client.getLastRenewTime() + ClientConfig.getInstance().getClientExpiredTime();
+    }
+    
     private static class ExpiredClientCleaner implements Runnable {
         
         private final ConnectionBasedClientManager clientManager;
@@ -153,10 +167,15 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
         @Override
         public void run() {
             long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
-                ConnectionBasedClient client = (ConnectionBasedClient) clientManager.getClient(each);
-                if (null != client && client.isExpire(currentTime)) {
-                    clientManager.clientDisconnected(each);
+            for (ConnectionBasedClient each : clientManager.expiryIndex.pollCandidates(currentTime)) {
+                String clientId = each.getClientId();
+                if (clientManager.getClient(clientId) != each) {
+                    continue;
+                }
+                if (each.isExpire(currentTime)) {
+                    clientManager.clientDisconnected(clientId);
+                } else {
+                    clientManager.expiryIndex.schedule(each, clientManager.getExpireCandidateTime(each));
                 }
             }
         }
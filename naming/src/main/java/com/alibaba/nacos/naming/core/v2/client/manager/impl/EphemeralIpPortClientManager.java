@@ -57,6 +57,8 @@ public class EphemeralIpPortClientManager implements ClientManager {
     
     private final ClientFactory<IpPortBasedClient> clientFactory;
     
+    private final ClientExpiryIndex<IpPortBasedClient> expiryIndex = new ClientExpiryIndex<>();
+    
     public EphemeralIpPortClientManager(DistroMapper distroMapper, SwitchDomain switchDomain) {
         this.distroMapper = distroMapper;
         GlobalExecutor.scheduleExpiredClientCleaner(new ExpiredClientCleaner(this, switchDomain), 0,
@@ -75,6 +77,7 @@ public class EphemeralIpPortClientManager implements ClientManager {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
             IpPortBasedClient ipPortBasedClient = (IpPortBasedClient) client;
             ipPortBasedClient.init();
+            expiryIndex.schedule(ipPortBasedClient, getExpireCandidateTime(ipPortBasedClient));
             return ipPortBasedClient;
         });
         return true;
@@ -138,6 +141,18 @@ public class EphemeralIpPortClientManager implements ClientManager {
         return false;
     }
     
+    /**
+     * Get the earliest time the client may expire, which is decided by its last updated time and the smaller one of ip
+     * delete timeout and client expired time.
+     *
+     * @param client client
+     * @return the earliest time the client may expire
+     */
+    private long getExpireCandidateTime(IpPortBasedClient client) {
+        return client.getLastUpdatedTime() + Math
+                .min(Constants.DEFAULT_IP_DELETE_TIMEOUT, ClientConfig.getInstance().getClientExpiredTime());
+    }
+    
     private static class ExpiredClientCleaner implements Runnable {
         
         private final EphemeralIpPortClientManager clientManager;
@@ -152,14 +167,32 @@ public class EphemeralIpPortClientManager implements ClientManager {
         @Override
         public void run() {
             long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
-                IpPortBasedClient client = (IpPortBasedClient) clientManager.getClient(each);
-                if (null != client && isExpireClient(currentTime, client)) {
-                    clientManager.clientDisconnected(each);
+            for (IpPortBasedClient each : clientManager.expiryIndex.pollCandidates(currentTime)) {
+                String clientId = each.getClientId();
+                if (clientManager.getClient(clientId) != each) {
+                    continue;
+                }
+                if (isExpireClient(currentTime, each)) {
+                    clientManager.clientDisconnected(clientId);
+                } else {
+                    clientManager.expiryIndex.schedule(each, getNextCandidateTime(currentTime, each));
                 }
             }
         }
         
+        /**
+         * If the client is still renewed, recheck it by the new last updated time. Otherwise the client is kept by its
+         * published instances or subscribers, which might change without renewing, so recheck it in next interval.
+         *
+         * @param currentTime current time
+         * @param client      client which is not expired
+         * @return next time to check the client
+         */
+        private long getNextCandidateTime(long currentTime, IpPortBasedClient client) {
+            long candidateTime = clientManager.getExpireCandidateTime(client);
+            return candidateTime > currentTime ? candidateTime : currentTime + Constants.DEFAULT_HEART_BEAT_INTERVAL;
+        }
+        
         private boolean isExpireClient(long currentTime, IpPortBasedClient client) {
             long noUpdatedTime = currentTime - client.getLastUpdatedTime();
             return client.isEphemeral() && (
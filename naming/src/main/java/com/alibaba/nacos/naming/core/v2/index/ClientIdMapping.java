@@ -0,0 +1,129 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Mapping between client id and dense int id, so the indexes can store clients by int id.
+ *
+ * <p>The int id of client is reference counted by the indexes which contain it. When the client is removed from all
+ * indexes, the int id is released and will be reused by other clients, which keeps the int ids dense.
+ *
+ * @author xiweng.yy
+ */
+class ClientIdMapping {
+    
+    static final int NOT_FOUND = -1;
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final ConcurrentMap<String, IdHolder> ids = new ConcurrentHashMap<>();
+    
+    private volatile String[] clientIds = new String[INITIAL_CAPACITY];
+    
+    private int[] freeIds = new int[INITIAL_CAPACITY];
+    
+    private int freeCount;
+    
+    private int nextId;
+    
+    /**
+     * Acquire the int id of client and increase its reference count.
+     *
+     * @param clientId client id
+     * @return int id of client
+     */
+    int acquire(String clientId) {
+        return ids.compute(clientId, (key, holder) -> {
+            IdHolder result = null == holder ? new IdHolder(allocate(key)) : holder;
+            result.refCount++;
+            return result;
+        }).id;
+    }
+    
+    /**
+     * Decrease the reference count of int id, the id will be released when it is not referenced.
+     *
+     * @param id int id of client
+     */
+    void release(int id) {
+        String clientId = getClientId(id);
+        if (null == clientId) {
+            return;
+        }
+        ids.computeIfPresent(clientId, (key, holder) -> {
+            if (holder.id != id || --holder.refCount > 0) {
+                return holder;
+            }
+            free(id);
+            return null;
+        });
+    }
+    
+    int getId(String clientId) {
+        IdHolder holder = ids.get(clientId);
+        return null == holder ? NOT_FOUND : holder.id;
+    }
+    
+    /**
+     * Get client id of int id. The caller should make sure the int id is referenced during get.
+     *
+     * @param id int id of client
+     * @return client id, {@code null} if the int id is not allocated
+     */
+    String getClientId(int id) {
+        String[] snapshot = clientIds;
+        return id >= 0 && id < snapshot.length ? snapshot[id] : null;
+    }
+    
+    int size() {
+        return ids.size();
+    }
+    
+    private synchronized int allocate(String clientId) {
+        int id = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+        String[] current = clientIds;
+        if (id >= current.length) {
+            current = Arrays.copyOf(current, current.length << 1);
+        }
+        current[id] = clientId;
+        clientIds = current;
+        return id;
+    }
+    
+    private synchronized void free(int id) {
+        clientIds[id] = null;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length << 1);
+        }
+        freeIds[freeCount++] = id;
+    }
+    
+    private static class IdHolder {
+        
+        private final int id;
+        
+        private int refCount;
+        
+        private IdHolder(int id) {
+            this.id = id;
+        }
+    }
+}
@@ -21,7 +21,6 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.common.trace.DeregisterInstanceReason;
 import com.alibaba.nacos.common.trace.event.naming.DeregisterInstanceTraceEvent;
-import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
@@ -31,35 +30,41 @@ import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Client and service index manager.
  *
+ * <p>Clients are stored in indexes by the dense int id mapped from client id, to reduce the memory cost of indexes
+ * when there are lots of clients.
+ *
  * @author xiweng.yy
  */
 @Component
 public class ClientServiceIndexesManager extends SmartSubscriber {
     
-    private final ConcurrentMap<Service, Set<String>> publisherIndexes = new ConcurrentHashMap<>();
+    private final ClientIdMapping clientIdMapping = new ClientIdMapping();
+    
+    private final ConcurrentMap<Service, IntHashSet> publisherIndexes = new ConcurrentHashMap<>();
     
-    private final ConcurrentMap<Service, Set<String>> subscriberIndexes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Service, IntHashSet> subscriberIndexes = new ConcurrentHashMap<>();
     
     public ClientServiceIndexesManager() {
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
     public Collection<String> getAllClientsRegisteredService(Service service) {
-        return publisherIndexes.containsKey(service) ? publisherIndexes.get(service) : new ConcurrentHashSet<>();
+        return getClientIds(publisherIndexes.get(service));
     }
     
     public Collection<String> getAllClientsSubscribeService(Service service) {
-        return subscriberIndexes.containsKey(service) ? subscriberIndexes.get(service) : new ConcurrentHashSet<>();
+        return getClientIds(subscriberIndexes.get(service));
     }
     
     public Collection<Service> getSubscribedService() {
@@ -72,8 +77,21 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
      * @param service The service of the Nacos.
      */
     public void removePublisherIndexesByEmptyService(Service service) {
-        if (publisherIndexes.containsKey(service) && publisherIndexes.get(service).isEmpty()) {
-            publisherIndexes.remove(service);
+        publisherIndexes.computeIfPresent(service, (s, ids) -> {
+            synchronized (ids) {
+                return ids.isEmpty() ? null : ids;
+            }
+        });
+    }
+    
+    private Collection<String> getClientIds(IntHashSet ids) {
+        if (null == ids) {
+            return new ArrayList<>(0);
+        }
+        synchronized (ids) {
+            List<String> result = new ArrayList<>(ids.size());
+            ids.forEach(each -> result.add(clientIdMapping.getClientId(each)));
+            return result;
         }
     }
     
@@ -129,34 +147,69 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     }
     
     private void addPublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfAbsent(service, (key) -> new ConcurrentHashSet<>());
-        publisherIndexes.get(service).add(clientId);
+        addIndexes(publisherIndexes, service, clientId);
         NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
     }
     
     private void removePublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfPresent(service, (s, ids) -> {
-            ids.remove(clientId);
+        if (removeIndexes(publisherIndexes, service, clientId)) {
             NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
-            return ids.isEmpty() ? null : ids;
-        });
+        }
     }
     
     private void addSubscriberIndexes(Service service, String clientId) {
-        subscriberIndexes.computeIfAbsent(service, (key) -> new ConcurrentHashSet<>());
         // Fix #5404, Only first time add need notify event.
-        if (subscriberIndexes.get(service).add(clientId)) {
+        if (addIndexes(subscriberIndexes, service, clientId)) {
             NotifyCenter.publishEvent(new ServiceEvent.ServiceSubscribedEvent(service, clientId));
         }
     }
     
     private void removeSubscriberIndexes(Service service, String clientId) {
-        if (!subscriberIndexes.containsKey(service)) {
-            return;
-        }
-        subscriberIndexes.get(service).remove(clientId);
-        if (subscriberIndexes.get(service).isEmpty()) {
-            subscriberIndexes.remove(service);
-        }
+        removeIndexes(subscriberIndexes, service, clientId);
+    }
+    
+    /**
+     * Add client into the indexes of service.
+     *
+     * @return {@code true} if the client is not in the indexes of service before
+     */
+    private boolean addIndexes(ConcurrentMap<Service, IntHashSet> indexes, Service service, String clientId) {
+        AtomicBoolean added = new AtomicBoolean(false);
+        indexes.compute(service, (s, ids) -> {
+            IntHashSet result = null == ids ? new IntHashSet() : ids;
+            int id = clientIdMapping.acquire(clientId);
+            synchronized (result) {
+                added.set(result.add(id));
+            }
+            if (!added.get()) {
+                clientIdMapping.release(id);
+            }
+            return result;
+        });
+        return added.get();
+    }
+    
+    /**
+     * Remove client from the indexes of service, and remove the indexes of service if no client in it.
+     *
+     * @return {@code true} if the indexes of service exist before
+     */
+    private boolean removeIndexes(ConcurrentMap<Service, IntHashSet> indexes, Service service, String clientId) {
+        AtomicBoolean present = new AtomicBoolean(false);
+        indexes.computeIfPresent(service, (s, ids) -> {
+            present.set(true);
+            int id = clientIdMapping.getId(clientId);
+            boolean removed;
+            boolean empty;
+            synchronized (ids) {
+                removed = ClientIdMapping.NOT_FOUND != id && ids.remove(id);
+                empty = ids.isEmpty();
+            }
+            if (removed) {
+                clientIdMapping.release(id);
+            }
+            return empty ? null : ids;
+        });
+        return present.get();
     }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of non-negative int values backed by an open addressing int array.
+ *
+ * <p>Each value costs 4 to 8 bytes, which is much less than the boxed elements in hash set. This class is not thread
+ * safe, the caller should synchronize the access to it.
+ *
+ * @author xiweng.yy
+ */
+class IntHashSet {
+    
+    private static final int EMPTY = -1;
+    
+    private static final int MIN_CAPACITY = 4;
+    
+    /**
+     * The table is doubled when the size exceeds this ratio of capacity.
+     */
+    private static final float LOAD_FACTOR = 0.75F;
+    
+    /**
+     * The table is halved when the size falls below this ratio of capacity.
+     */
+    private static final float SHRINK_LOAD_FACTOR = 0.125F;
+    
+    private int[] table;
+    
+    private int size;
+    
+    private int growThreshold;
+    
+    private int shrinkThreshold;
+    
+    IntHashSet() {
+        initTable(MIN_CAPACITY);
+    }
+    
+    /**
+     * Add value into set.
+     *
+     * @param value non-negative value
+     * @return {@code true} if the value is not in set before
+     */
+    boolean add(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value of IntHashSet should be non-negative, but " + value);
+        }
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size > growThreshold) {
+            resize(table.length << 1);
+        }
+        return true;
+    }
+    
+    /**
+     * Remove value from set.
+     *
+     * @param value value
+     * @return {@code true} if the value is in set before
+     */
+    boolean remove(int value) {
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                deleteAt(index);
+                if (--size < shrinkThreshold && table.length > MIN_CAPACITY) {
+                    resize(table.length >> 1);
+                }
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+    
+    boolean contains(int value) {
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    void forEach(IntConsumer action) {
+        for (int each : table) {
+            if (each != EMPTY) {
+                action.accept(each);
+            }
+        }
+    }
+    
+    /**
+     * Delete the value at index and shift the following values in the same probe sequence backward, so no tombstone is
+     * needed.
+     */
+    private void deleteAt(int index) {
+        int mask = table.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (table[next] != EMPTY) {
+            int ideal = hash(table[next]) & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[hole] = EMPTY;
+    }
+    
+    private void resize(int capacity) {
+        int[] oldTable = table;
+        initTable(capacity);
+        int mask = capacity - 1;
+        for (int each : oldTable) {
+            if (each == EMPTY) {
+                continue;
+            }
+            int index = hash(each) & mask;
+            while (table[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            table[index] = each;
+        }
+    }
+    
+    private void initTable(int capacity) {
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        growThreshold = (int) (capacity * LOAD_FACTOR);
+        shrinkThreshold = (int) (capacity * SHRINK_LOAD_FACTOR);
+    }
+    
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -32,9 +32,11 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -43,6 +45,9 @@ import java.util.concurrent.ConcurrentMap;
 /**
  * Service storage.
  *
+ * <p>Instances of each service are kept in an instance view of parsed instances of each client, so that getting push
+ * data only parses the changed clients instead of all clients registered the service.
+ *
  * @author xiweng.yy
  */
 @Component
@@ -60,6 +65,8 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceInstanceView> serviceInstanceViews;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +75,7 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceInstanceViews = new ConcurrentHashMap<>();
     }
     
     public Set<String> getClusters(Service service) {
@@ -84,14 +92,42 @@ public class ServiceStorage {
             return result;
         }
         Service singleton = ServiceManager.getInstance().getSingleton(service);
-        result.setHosts(getAllInstancesFromIndex(singleton));
+        result.setHosts(getAllInstancesFromView(singleton));
         serviceDataIndexes.put(singleton, result);
         return result;
     }
     
+    /**
+     * Remove the data and instance view of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceInstanceViews.remove(service);
+    }
+    
+    /**
+     * Invalidate the instance view of service, all instances will be re-parsed when next getting push data.
+     *
+     * <p>Instance metadata changes don't change the instance publish info of client, so the view should be
+     * invalidated by the caller.
+     *
+     * @param service service
+     */
+    public void invalidateInstanceView(Service service) {
+        ServiceInstanceView view = serviceInstanceViews.get(service);
+        if (null != view) {
+            view.invalidate();
+        }
+    }
+    
+    /**
+     * Invalidate the instance views of all services, such as after loading the snapshot of instance metadata.
+     */
+    public void invalidateAllInstanceViews() {
+        serviceInstanceViews.values().forEach(ServiceInstanceView::invalidate);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -103,28 +139,61 @@ public class ServiceStorage {
         return result;
     }
     
-    private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
-        Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
-            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
+    /**
+     * Get all instances of service from the view.
+     *
+     * <p>The clients in index and in view are checked on each read, like parsing all clients before, so the result is
+     * never older than the index when the push is triggered. Only the clients whose instance publish info changed are
+     * parsed again, and the cached instance list is returned directly if no client changed.
+     */
+    private List<Instance> getAllInstancesFromView(Service service) {
+        ServiceInstanceView view = serviceInstanceViews.computeIfAbsent(service, s -> new ServiceInstanceView());
+        synchronized (view) {
+            Set<String> clientIds = new HashSet<>(view.clientInstances.keySet());
+            clientIds.addAll(serviceIndexesManager.getAllClientsRegisteredService(service));
+            for (String each : clientIds) {
+                refreshClientInstances(service, view, each);
+            }
+            if (view.dirty) {
+                Set<Instance> result = new HashSet<>();
+                Set<String> clusters = new HashSet<>();
+                for (ClientInstances each : view.clientInstances.values()) {
+                    for (Instance instance : each.instances) {
+                        result.add(instance);
+                        clusters.add(instance.getClusterName());
+                    }
                 }
+                view.instances = Collections.unmodifiableList(new ArrayList<>(result));
+                view.dirty = false;
+                // cache clusters of this service
+                serviceClusterIndex.put(service, clusters);
             }
+            return view.instances;
         }
-        // cache clusters of this service
-        serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+    }
+    
+    /**
+     * Re-parse the instances published by client to the view if changed. Must be called with the lock of view.
+     */
+    private void refreshClientInstances(Service service, ServiceInstanceView view, String clientId) {
+        Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(clientId, service);
+        if (!instancePublishInfo.isPresent()) {
+            if (null != view.clientInstances.remove(clientId)) {
+                view.dirty = true;
+            }
+            return;
+        }
+        InstancePublishInfo publishInfo = instancePublishInfo.get();
+        ClientInstances current = view.clientInstances.get(clientId);
+        if (null != current && current.isSameAs(publishInfo)) {
+            return;
+        }
+        //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
+        List<Instance> instances = publishInfo instanceof BatchInstancePublishInfo
+                ? parseBatchInstance(service, (BatchInstancePublishInfo) publishInfo)
+                : Collections.singletonList(parseInstance(service, publishInfo));
+        view.clientInstances.put(clientId, new ClientInstances(publishInfo, instances));
+        view.dirty = true;
     }
     
     /**
@@ -133,13 +202,11 @@ public class ServiceStorage {
      * @param batchInstancePublishInfo batchInstancePublishInfo
      * @return batch instance list
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
+    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo) {
         List<Instance> resultInstanceList = new ArrayList<>();
         List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
         for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+            resultInstanceList.add(parseInstance(service, instancePublishInfo));
         }
         return resultInstanceList;
     }
@@ -159,4 +226,43 @@ public class ServiceStorage {
         metadata.ifPresent(instanceMetadata -> InstanceUtil.updateInstanceMetadata(result, instanceMetadata));
         return result;
     }
+    
+    /**
+     * Instance view of service, all fields are guarded by the view itself.
+     */
+    private static class ServiceInstanceView {
+        
+        private final Map<String, ClientInstances> clientInstances = new HashMap<>();
+        
+        private boolean dirty = true;
+        
+        private List<Instance> instances = Collections.emptyList();
+        
+        private synchronized void invalidate() {
+            clientInstances.clear();
+            dirty = true;
+        }
+    }
+    
+    /**
+     * Parsed instances published by one client.
+     */
+    private static class ClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final boolean healthy;
+        
+        private final List<Instance> instances;
+        
+        private ClientInstances(InstancePublishInfo publishInfo, List<Instance> instances) {
+            this.publishInfo = publishInfo;
+            this.healthy = publishInfo.isHealthy();
+            this.instances = instances;
+        }
+        
+        private boolean isSameAs(InstancePublishInfo publishInfo) {
+            return this.publishInfo == publishInfo && healthy == publishInfo.isHealthy();
+        }
+    }
 }
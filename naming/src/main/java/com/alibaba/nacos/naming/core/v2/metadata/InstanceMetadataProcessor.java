@@ -29,6 +29,7 @@ import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.constants.Constants;
 import org.springframework.stereotype.Component;
@@ -48,6 +49,8 @@ public class InstanceMetadataProcessor extends RequestProcessor4CP {
     
     private final NamingMetadataManager namingMetadataManager;
     
+    private final ServiceStorage serviceStorage;
+    
     private final Serializer serializer;
     
     private final Type processType;
@@ -57,8 +60,10 @@ public class InstanceMetadataProcessor extends RequestProcessor4CP {
     private final ReentrantReadWriteLock.ReadLock readLock;
     
     @SuppressWarnings("unchecked")
-    public InstanceMetadataProcessor(NamingMetadataManager namingMetadataManager, ProtocolManager protocolManager) {
+    public InstanceMetadataProcessor(NamingMetadataManager namingMetadataManager, ProtocolManager protocolManager,
+            ServiceStorage serviceStorage) {
         this.namingMetadataManager = namingMetadataManager;
+        this.serviceStorage = serviceStorage;
         this.serializer = SerializeFactory.getDefault();
         this.processType = TypeUtils.parameterize(MetadataOperation.class, InstanceMetadata.class);
         this.lock = new ReentrantReadWriteLock();
@@ -68,7 +73,8 @@ public class InstanceMetadataProcessor extends RequestProcessor4CP {
     
     @Override
     public List<SnapshotOperation> loadSnapshotOperate() {
-        return Collections.singletonList(new InstanceMetadataSnapshotOperation(namingMetadataManager, lock));
+        return Collections
+                .singletonList(new InstanceMetadataSnapshotOperation(namingMetadataManager, serviceStorage, lock));
     }
     
     @Override
@@ -105,6 +111,7 @@ public class InstanceMetadataProcessor extends RequestProcessor4CP {
         Service service = Service.newService(op.getNamespace(), op.getGroup(), op.getServiceName());
         service = ServiceManager.getInstance().getSingleton(service);
         namingMetadataManager.updateInstanceMetadata(service, op.getTag(), op.getMetadata());
+        serviceStorage.invalidateInstanceView(service);
         NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
     }
     
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.core.v2.metadata;
 
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 import java.io.ByteArrayInputStream;
@@ -41,11 +42,15 @@ public class InstanceMetadataSnapshotOperation extends AbstractMetadataSnapshotO
     
     private final NamingMetadataManager metadataManager;
     
+    private final ServiceStorage serviceStorage;
+    
     private final Serializer serializer;
     
-    public InstanceMetadataSnapshotOperation(NamingMetadataManager metadataManager, ReentrantReadWriteLock lock) {
+    public InstanceMetadataSnapshotOperation(NamingMetadataManager metadataManager, ServiceStorage serviceStorage,
+            ReentrantReadWriteLock lock) {
         super(lock);
         this.metadataManager = metadataManager;
+        this.serviceStorage = serviceStorage;
         this.serializer = SerializeFactory.getDefault();
     }
     
@@ -58,6 +63,7 @@ public class InstanceMetadataSnapshotOperation extends AbstractMetadataSnapshotO
     @Override
     protected void loadSnapshot(byte[] snapshotBytes) {
         metadataManager.loadInstanceMetadataSnapshot(serializer.deserialize(snapshotBytes));
+        serviceStorage.invalidateAllInstanceViews();
     }
     
     @Override
@@ -0,0 +1,140 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import com.alibaba.nacos.common.task.HierarchicalTimingWheel;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Beat check engine based on timing wheel.
+ *
+ * <p>Each beat check task is scheduled in timing wheel at check interval after the earliest last beat time of its
+ * instances. When the task expires, it will be executed only if no beat received during the check interval, otherwise
+ * it will be rescheduled by the new earliest last beat time. So beat processing only updates the last beat time of
+ * instance, and only the tasks in expired buckets are inspected.
+ *
+ * @author xiweng.yy
+ */
+public class BeatCheckEngine {
+    
+    private static final long CHECK_INTERVAL = 5000L;
+    
+    private static final long TICK_MS = 500L;
+    
+    private static final int WHEEL_SIZE = 64;
+    
+    private static final BeatCheckEngine INSTANCE = new BeatCheckEngine();
+    
+    private final long checkInterval;
+    
+    private final ConcurrentMap<String, BeatCheckEntry> entries = new ConcurrentHashMap<>();
+    
+    private final HierarchicalTimingWheel<BeatCheckEntry> timingWheel;
+    
+    private BeatCheckEngine() {
+        this(CHECK_INTERVAL);
+        GlobalExecutor.scheduleBeatCheck(() -> advanceClock(System.currentTimeMillis()), TICK_MS, TICK_MS,
+                TimeUnit.MILLISECONDS);
+    }
+    
+    BeatCheckEngine(long checkInterval) {
+        this.checkInterval = checkInterval;
+        this.timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+    }
+    
+    public static BeatCheckEngine getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Add beat check task, the task will be checked after check interval.
+     *
+     * @param task   beat check task
+     * @param runner runner to execute the task, such as the task wrapped by interceptors
+     */
+    public void addTask(BeatCheckTask task, Runnable runner) {
+        BeatCheckEntry entry = new BeatCheckEntry(task, runner);
+        if (null == entries.putIfAbsent(task.taskKey(), entry)) {
+            schedule(entry, System.currentTimeMillis() + checkInterval);
+        }
+    }
+    
+    /**
+     * Remove beat check task, the removed task will be dropped when it expires.
+     *
+     * @param task beat check task
+     */
+    public void removeTask(BeatCheckTask task) {
+        entries.computeIfPresent(task.taskKey(), (key, entry) -> entry.task == task ? null : entry);
+    }
+    
+    public int getTaskCount() {
+        return entries.size();
+    }
+    
+    void advanceClock(long currentTime) {
+        try {
+            List<BeatCheckEntry> expiredEntries = new LinkedList<>();
+            synchronized (timingWheel) {
+                timingWheel.advanceClock(currentTime, (entry, expiration) -> expiredEntries.add(entry));
+            }
+            for (BeatCheckEntry each : expiredEntries) {
+                checkExpiredEntry(each, currentTime);
+            }
+        } catch (Throwable e) {
+            Loggers.SRV_LOG.error("[BEAT-CHECK] advance beat check timing wheel failed.", e);
+        }
+    }
+    
+    private void checkExpiredEntry(BeatCheckEntry entry, long currentTime) {
+        if (entries.get(entry.task.taskKey()) != entry) {
+            return;
+        }
+        long nextCheckTime = entry.task.getEarliestBeatTime() + checkInterval;
+        if (nextCheckTime > currentTime) {
+            schedule(entry, nextCheckTime);
+            return;
+        }
+        GlobalExecutor.scheduleNamingHealth(entry.runner, 0, TimeUnit.MILLISECONDS);
+        schedule(entry, currentTime + checkInterval);
+    }
+    
+    private void schedule(BeatCheckEntry entry, long expiration) {
+        synchronized (timingWheel) {
+            timingWheel.schedule(entry, expiration);
+        }
+    }
+    
+    private static class BeatCheckEntry {
+        
+        private final BeatCheckTask task;
+        
+        private final Runnable runner;
+        
+        private BeatCheckEntry(BeatCheckTask task, Runnable runner) {
+            this.task = task;
+            this.runner = runner;
+        }
+    }
+}
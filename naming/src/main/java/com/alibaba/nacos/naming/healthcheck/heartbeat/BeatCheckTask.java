@@ -30,4 +30,11 @@ public interface BeatCheckTask extends Runnable {
      */
     String taskKey();
     
+    /**
+     * The earliest last beat time of the instances checked by this task. No instance can be timeout before beat
+     * check interval passed since this time.
+     *
+     * @return earliest last beat time, unit millisecond
+     */
+    long getEarliestBeatTime();
 }
@@ -20,6 +20,7 @@ import com.alibaba.nacos.common.task.AbstractExecuteTask;
 import com.alibaba.nacos.naming.consistency.KeyBuilder;
 import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
 import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.healthcheck.NacosHealthCheckTask;
 import com.alibaba.nacos.naming.misc.GlobalConfig;
@@ -61,6 +62,18 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
         return taskId;
     }
     
+    @Override
+    public long getEarliestBeatTime() {
+        long result = System.currentTimeMillis();
+        for (Service each : client.getAllPublishedService()) {
+            InstancePublishInfo instance = client.getInstancePublishInfo(each);
+            if (instance instanceof HealthCheckInstancePublishInfo) {
+                result = Math.min(result, ((HealthCheckInstancePublishInfo) instance).getLastHeartBeatTime());
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void doHealthCheck() {
         try {
@@ -17,6 +17,11 @@
 package com.alibaba.nacos.naming.healthcheck.v2.processor;
 
 import com.alibaba.nacos.api.naming.pojo.healthcheck.HealthCheckType;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.task.HierarchicalTimingWheel;
+import com.alibaba.nacos.core.utils.ClassUtils;
+import com.alibaba.nacos.naming.NamingApp;
 import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
@@ -26,24 +31,25 @@ import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.sys.env.EnvUtil;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
-import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Callable;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
 
@@ -52,10 +58,14 @@ import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
  *
  * <p>Current health check logic is same as v1.x. TODO refactor health check for v2.x.
  *
+ * <p>Instances are hashed to several shards, each shard connects, selects and times out its probes in its own thread
+ * with its own selector, and the connect timeouts are managed by a timing wheel of the shard. The results of probes
+ * are handled by super sense executor because changing health status might be slow.
+ *
  * @author xiweng.yy
  */
 @Component
-public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable {
+public class TcpHealthCheckProcessor implements HealthCheckProcessorV2 {
     
     public static final String TYPE = HealthCheckType.TCP.name();
     
@@ -71,22 +81,37 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
      */
     private static final long TCP_KEEP_ALIVE_MILLIS = 0;
     
+    private static final int MAX_WAIT_TIME_MILLISECONDS = 500;
+    
+    private static final long TIMEOUT_TICK_MS = 50L;
+    
+    private static final int TIMEOUT_WHEEL_SIZE = 64;
+    
+    /**
+     * Max probes started in one loop of shard, so that the selected keys and timeouts are not delayed too long.
+     */
+    private static final int MAX_CONNECT_PER_LOOP = 1024;
+    
     private final HealthCheckCommonV2 healthCheckCommon;
     
     private final SwitchDomain switchDomain;
     
     private final Map<String, BeatKey> keyMap = new ConcurrentHashMap<>();
     
-    private final BlockingQueue<Beat> taskQueue = new LinkedBlockingQueue<>();
-    
-    private final Selector selector;
+    private final TcpCheckShard[] shards;
     
     public TcpHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain) {
         this.healthCheckCommon = healthCheckCommon;
         this.switchDomain = switchDomain;
+        this.shards = new TcpCheckShard[NIO_THREAD_COUNT];
         try {
-            selector = Selector.open();
-            GlobalExecutor.submitTcpCheck(this);
+            ExecutorService shardExecutor = ExecutorFactory.Managed
+                    .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), shards.length,
+                            new NameThreadFactory("com.alibaba.nacos.naming.tcp.check.worker"));
+            for (int i = 0; i < shards.length; i++) {
+                shards[i] = new TcpCheckShard(i);
+                shardExecutor.submit(shards[i]);
+            }
         } catch (Exception e) {
             throw new IllegalStateException("Error while initializing SuperSense(TM).");
         }
@@ -107,7 +132,8 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                     .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getTcpHealthParams());
             return;
         }
-        taskQueue.add(new Beat(task, service, metadata, instance));
+        Beat beat = new Beat(task, service, metadata, instance);
+        shards[Math.abs(beat.hashCode() % shards.length)].addBeat(beat);
         MetricsMonitor.getTcpHealthCheckMonitor().incrementAndGet();
     }
     
@@ -116,56 +142,136 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         return TYPE;
     }
     
-    private void processTask() throws Exception {
-        Collection<Callable<Void>> tasks = new LinkedList<>();
-        do {
-            Beat beat = taskQueue.poll(CONNECT_TIMEOUT_MS / 2, TimeUnit.MILLISECONDS);
-            if (beat == null) {
-                return;
+    private class TcpCheckShard implements Runnable {
+        
+        private final Selector selector;
+        
+        private final Queue<Beat> taskQueue = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicBoolean wakenUp = new AtomicBoolean();
+        
+        /**
+         * Connect timeouts of probes, only accessed by the thread of shard.
+         */
+        private final HierarchicalTimingWheel<SelectionKey> timeoutWheel;
+        
+        private final AtomicInteger backlog = new AtomicInteger();
+        
+        private final Timer probeLatencyTimer;
+        
+        private TcpCheckShard(int index) throws IOException {
+            this.selector = Selector.open();
+            this.timeoutWheel = new HierarchicalTimingWheel<>(TIMEOUT_TICK_MS, TIMEOUT_WHEEL_SIZE,
+                    System.currentTimeMillis());
+            this.probeLatencyTimer = MetricsMonitor.registerTcpHealthCheckShard(index, backlog);
+        }
+        
+        private void addBeat(Beat beat) {
+            backlog.incrementAndGet();
+            taskQueue.add(beat);
+            if (wakenUp.compareAndSet(false, true)) {
+                selector.wakeup();
             }
-            
-            tasks.add(new TaskProcessor(beat));
-        } while (taskQueue.size() > 0 && tasks.size() < NIO_THREAD_COUNT * 64);
+        }
         
-        for (Future<?> f : GlobalExecutor.invokeAllTcpSuperSenseTask(tasks)) {
-            f.get();
+        @Override
+        public void run() {
+            while (true) {
+                try {
+                    wakenUp.set(false);
+                    if (processTask()) {
+                        selector.selectNow();
+                    } else {
+                        selector.select(TIMEOUT_TICK_MS);
+                    }
+                    processSelectedKeys();
+                    timeoutWheel.advanceClock(System.currentTimeMillis(), (key, expiration) -> processTimeout(key));
+                } catch (Throwable e) {
+                    SRV_LOG.error("[HEALTH-CHECK-V2] error while processing NIO task", e);
+                }
+            }
         }
-    }
-    
-    @Override
-    public void run() {
-        while (true) {
+        
+        /**
+         * Start the waiting probes.
+         *
+         * @return {@code true} if there are still probes waiting
+         */
+        private boolean processTask() {
+            for (int i = 0; i < MAX_CONNECT_PER_LOOP; i++) {
+                Beat beat = taskQueue.poll();
+                if (null == beat) {
+                    return false;
+                }
+                backlog.decrementAndGet();
+                connect(beat);
+            }
+            return !taskQueue.isEmpty();
+        }
+        
+        private void connect(Beat beat) {
+            long waited = System.currentTimeMillis() - beat.getStartTime();
+            if (waited > MAX_WAIT_TIME_MILLISECONDS) {
+                Loggers.SRV_LOG.warn("beat task waited too long: " + waited + "ms");
+            }
+            
+            SocketChannel channel = null;
             try {
-                processTask();
+                HealthCheckInstancePublishInfo instance = beat.getInstance();
                 
-                int readyCount = selector.selectNow();
-                if (readyCount <= 0) {
-                    continue;
+                BeatKey beatKey = keyMap.get(beat.toString());
+                if (beatKey != null && beatKey.key.isValid()) {
+                    if (System.currentTimeMillis() - beatKey.birthTime < TCP_KEEP_ALIVE_MILLIS) {
+                        instance.finishCheck();
+                        return;
+                    }
+                    
+                    beatKey.key.cancel();
+                    beatKey.key.channel().close();
                 }
                 
-                Iterator<SelectionKey> iter = selector.selectedKeys().iterator();
-                while (iter.hasNext()) {
-                    SelectionKey key = iter.next();
-                    iter.remove();
-                    
-                    GlobalExecutor.executeTcpSuperSense(new PostProcessor(key));
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                // only by setting this can we make the socket close event asynchronous
+                channel.socket().setSoLinger(false, -1);
+                channel.socket().setReuseAddress(true);
+                channel.socket().setKeepAlive(true);
+                channel.socket().setTcpNoDelay(true);
+                
+                ClusterMetadata cluster = beat.getMetadata();
+                int port = cluster.isUseInstancePortForCheck() ? instance.getPort() : cluster.getHealthyCheckPort();
+                channel.connect(new InetSocketAddress(instance.getIp(), port));
+                
+                SelectionKey key = channel.register(selector, SelectionKey.OP_CONNECT | SelectionKey.OP_READ);
+                key.attach(beat);
+                keyMap.put(beat.toString(), new BeatKey(key));
+                
+                beat.setStartTime(System.currentTimeMillis());
+                
+                timeoutWheel.schedule(key, beat.getStartTime() + CONNECT_TIMEOUT_MS);
+            } catch (Exception e) {
+                beat.finishCheckAsync(false, false, switchDomain.getTcpHealthParams().getMax(),
+                        "tcp:error:" + e.getMessage());
+                
+                if (channel != null) {
+                    try {
+                        channel.close();
+                    } catch (Exception ignore) {
+                    }
                 }
-            } catch (Throwable e) {
-                SRV_LOG.error("[HEALTH-CHECK-V2] error while processing NIO task", e);
             }
         }
-    }
-    
-    public class PostProcessor implements Runnable {
-        
-        SelectionKey key;
         
-        public PostProcessor(SelectionKey key) {
-            this.key = key;
+        private void processSelectedKeys() {
+            Iterator<SelectionKey> iter = selector.selectedKeys().iterator();
+            while (iter.hasNext()) {
+                SelectionKey key = iter.next();
+                iter.remove();
+                processSelectedKey(key);
+            }
         }
         
-        @Override
-        public void run() {
+        private void processSelectedKey(SelectionKey key) {
             Beat beat = (Beat) key.attachment();
             SocketChannel channel = (SocketChannel) key.channel();
             try {
@@ -181,8 +287,9 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                 if (key.isValid() && key.isConnectable()) {
                     //connected
                     channel.finishConnect();
-                    beat.finishCheck(true, false, System.currentTimeMillis() - beat.getTask().getStartTime(),
-                            "tcp:ok+");
+                    long rt = System.currentTimeMillis() - beat.getTask().getStartTime();
+                    probeLatencyTimer.record(System.currentTimeMillis() - beat.getStartTime(), TimeUnit.MILLISECONDS);
+                    beat.finishCheckAsync(true, false, rt, "tcp:ok+");
                 }
                 
                 if (key.isValid() && key.isReadable()) {
@@ -199,17 +306,41 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                 }
             } catch (ConnectException e) {
                 // unable to connect, possibly port not opened
-                beat.finishCheck(false, true, switchDomain.getTcpHealthParams().getMax(),
+                beat.finishCheckAsync(false, true, switchDomain.getTcpHealthParams().getMax(),
                         "tcp:unable2connect:" + e.getMessage());
+                closeQuietly(key);
             } catch (Exception e) {
-                beat.finishCheck(false, false, switchDomain.getTcpHealthParams().getMax(),
+                beat.finishCheckAsync(false, false, switchDomain.getTcpHealthParams().getMax(),
                         "tcp:error:" + e.getMessage());
-                
-                try {
-                    key.cancel();
-                    key.channel().close();
-                } catch (Exception ignore) {
-                }
+                closeQuietly(key);
+            }
+        }
+        
+        private void processTimeout(SelectionKey key) {
+            if (!key.isValid()) {
+                return;
+            }
+            SocketChannel channel = (SocketChannel) key.channel();
+            Beat beat = (Beat) key.attachment();
+            
+            if (channel.isConnected()) {
+                return;
+            }
+            
+            try {
+                channel.finishConnect();
+            } catch (Exception ignore) {
+            }
+            
+            beat.finishCheckAsync(false, false, beat.getTask().getCheckRtNormalized() * 2, "tcp:timeout");
+            closeQuietly(key);
+        }
+        
+        private void closeQuietly(SelectionKey key) {
+            try {
+                key.cancel();
+                key.channel().close();
+            } catch (Exception ignore) {
             }
         }
     }
@@ -285,6 +416,13 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
             healthCheckCommon.reEvaluateCheckRT(rt, task, switchDomain.getTcpHealthParams());
         }
         
+        /**
+         * finish check in super sense executor, changing health status might be slow and should not block the shard.
+         */
+        public void finishCheckAsync(boolean success, boolean now, long rt, String msg) {
+            GlobalExecutor.executeTcpSuperSense(() -> finishCheck(success, now, rt, msg));
+        }
+        
         @Override
         public String toString() {
             return service.getGroupedServiceName() + ":" + instance.getCluster() + ":" + instance.getIp() + ":"
@@ -317,105 +455,4 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
             this.birthTime = System.currentTimeMillis();
         }
     }
-    
-    private static class TimeOutTask implements Runnable {
-        
-        SelectionKey key;
-        
-        public TimeOutTask(SelectionKey key) {
-            this.key = key;
-        }
-        
-        @Override
-        public void run() {
-            if (key != null && key.isValid()) {
-                SocketChannel channel = (SocketChannel) key.channel();
-                Beat beat = (Beat) key.attachment();
-                
-                if (channel.isConnected()) {
-                    return;
-                }
-                
-                try {
-                    channel.finishConnect();
-                } catch (Exception ignore) {
-                }
-                
-                try {
-                    beat.finishCheck(false, false, beat.getTask().getCheckRtNormalized() * 2, "tcp:timeout");
-                    key.cancel();
-                    key.channel().close();
-                } catch (Exception ignore) {
-                }
-            }
-        }
-    }
-    
-    private class TaskProcessor implements Callable<Void> {
-        
-        private static final int MAX_WAIT_TIME_MILLISECONDS = 500;
-        
-        Beat beat;
-        
-        public TaskProcessor(Beat beat) {
-            this.beat = beat;
-        }
-        
-        @Override
-        public Void call() {
-            long waited = System.currentTimeMillis() - beat.getStartTime();
-            if (waited > MAX_WAIT_TIME_MILLISECONDS) {
-                Loggers.SRV_LOG.warn("beat task waited too long: " + waited + "ms");
-            }
-            
-            SocketChannel channel = null;
-            try {
-                HealthCheckInstancePublishInfo instance = beat.getInstance();
-                
-                BeatKey beatKey = keyMap.get(beat.toString());
-                if (beatKey != null && beatKey.key.isValid()) {
-                    if (System.currentTimeMillis() - beatKey.birthTime < TCP_KEEP_ALIVE_MILLIS) {
-                        instance.finishCheck();
-                        return null;
-                    }
-                    
-                    beatKey.key.cancel();
-                    beatKey.key.channel().close();
-                }
-                
-                channel = SocketChannel.open();
-                channel.configureBlocking(false);
-                // only by setting this can we make the socket close event asynchronous
-                channel.socket().setSoLinger(false, -1);
-                channel.socket().setReuseAddress(true);
-                channel.socket().setKeepAlive(true);
-                channel.socket().setTcpNoDelay(true);
-                
-                ClusterMetadata cluster = beat.getMetadata();
-                int port = cluster.isUseInstancePortForCheck() ? instance.getPort() : cluster.getHealthyCheckPort();
-                channel.connect(new InetSocketAddress(instance.getIp(), port));
-                
-                SelectionKey key = channel.register(selector, SelectionKey.OP_CONNECT | SelectionKey.OP_READ);
-                key.attach(beat);
-                keyMap.put(beat.toString(), new BeatKey(key));
-                
-                beat.setStartTime(System.currentTimeMillis());
-                
-                GlobalExecutor
-                        .scheduleTcpSuperSenseTask(new TimeOutTask(key), CONNECT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-            } catch (Exception e) {
-                beat.finishCheck(false, false, switchDomain.getTcpHealthParams().getMax(),
-                        "tcp:error:" + e.getMessage());
-                
-                if (channel != null) {
-                    try {
-                        channel.close();
-                    } catch (Exception ignore) {
-                    }
-                }
-            }
-            
-            return null;
-        }
-    }
 }
@@ -22,11 +22,7 @@ import com.alibaba.nacos.core.utils.ClassUtils;
 import com.alibaba.nacos.naming.NamingApp;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -55,10 +51,6 @@ public class GlobalExecutor {
             .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class), DEFAULT_THREAD_COUNT,
                     new NameThreadFactory("com.alibaba.nacos.naming.supersense.checker"));
     
-    private static final ExecutorService TCP_CHECK_EXECUTOR = ExecutorFactory.Managed
-            .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), 2,
-                    new NameThreadFactory("com.alibaba.nacos.naming.tcp.check.worker"));
-    
     private static final ScheduledExecutorService NAMING_HEALTH_EXECUTOR = ExecutorFactory.Managed
             .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     Integer.max(Integer.getInteger("com.alibaba.nacos.naming.health.thread.num", DEFAULT_THREAD_COUNT),
@@ -80,6 +72,14 @@ public class GlobalExecutor {
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     new NameThreadFactory("com.alibaba.nacos.naming.remote-connection-manager"));
     
+    private static final ScheduledExecutorService BEAT_CHECK_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
+                    new NameThreadFactory("com.alibaba.nacos.naming.beat.check"));
+    
+    private static final ScheduledExecutorService BATCH_PUSH_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
+                    new NameThreadFactory("com.alibaba.nacos.naming.push.batch"));
+    
     private static final ExecutorService PUSH_CALLBACK_EXECUTOR = ExecutorFactory.Managed
             .newSingleExecutorService("Push", new NameThreadFactory("com.alibaba.nacos.naming.push.callback"));
     
@@ -91,23 +91,10 @@ public class GlobalExecutor {
         MYSQL_CHECK_EXECUTOR.execute(runnable);
     }
     
-    public static void submitTcpCheck(Runnable runnable) {
-        TCP_CHECK_EXECUTOR.submit(runnable);
-    }
-    
-    public static <T> List<Future<T>> invokeAllTcpSuperSenseTask(Collection<? extends Callable<T>> tasks)
-            throws InterruptedException {
-        return TCP_SUPER_SENSE_EXECUTOR.invokeAll(tasks);
-    }
-    
     public static void executeTcpSuperSense(Runnable runnable) {
         TCP_SUPER_SENSE_EXECUTOR.execute(runnable);
     }
     
-    public static void scheduleTcpSuperSenseTask(Runnable runnable, long delay, TimeUnit unit) {
-        TCP_SUPER_SENSE_EXECUTOR.schedule(runnable, delay, unit);
-    }
-    
     public static ScheduledFuture<?> scheduleNamingHealth(Runnable command, long delay, TimeUnit unit) {
         return NAMING_HEALTH_EXECUTOR.schedule(command, delay, unit);
     }
@@ -117,6 +104,10 @@ public class GlobalExecutor {
         return NAMING_HEALTH_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
     
+    public static void scheduleBeatCheck(Runnable runnable, long initialDelay, long delay, TimeUnit unit) {
+        BEAT_CHECK_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
+    }
+    
     public static void scheduleRetransmitter(Runnable runnable, long delay, TimeUnit unit) {
         RETRANSMITTER_EXECUTOR.schedule(runnable, delay, unit);
     }
@@ -137,6 +128,10 @@ public class GlobalExecutor {
         EXPIRED_CLIENT_CLEANER_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
     }
     
+    public static void scheduleBatchPush(Runnable runnable, long delay, TimeUnit unit) {
+        BATCH_PUSH_EXECUTOR.schedule(runnable, delay, unit);
+    }
+    
     public static ExecutorService getCallbackExecutor() {
         return PUSH_CALLBACK_EXECUTOR;
     }
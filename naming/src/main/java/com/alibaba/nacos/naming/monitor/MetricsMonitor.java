@@ -24,6 +24,7 @@ import com.alibaba.nacos.naming.misc.Loggers;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -255,6 +256,21 @@ public class MetricsMonitor {
         INSTANCE.serviceChangeCount.increment(namespace + "@" + group + "@" + name);
     }
     
+    /**
+     * Register metrics of tcp health check shard.
+     *
+     * @param shard   index of shard
+     * @param backlog count of probes waiting to start in shard
+     * @return timer of successful probe latency in shard, which publishes the count, total and max in window
+     */
+    public static Timer registerTcpHealthCheckShard(int shard, AtomicInteger backlog) {
+        // Not registered to nacos_monitor, because prometheus requires the same tag keys for the meters of same name.
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("shard", String.valueOf(shard)));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_tcp_health_check_backlog", tags, backlog);
+        return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_naming_tcp_health_check_latency", tags);
+    }
+    
     public static Counter getDiskException() {
         return NacosMeterRegistryCenter.counter(METER_REGISTRY, "nacos_exception", "module", "naming", "name", "disk");
     }
@@ -37,6 +37,18 @@ public class PushConfig extends AbstractDynamicConfig {
     
     private long pushTaskRetryDelay = PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY;
     
+    private boolean deltaPushEnabled = PushConstants.DEFAULT_DELTA_PUSH_ENABLED;
+    
+    private int deltaPushHistorySize = PushConstants.DEFAULT_DELTA_PUSH_HISTORY_SIZE;
+    
+    private boolean pushTaskTimingWheelEnabled = PushConstants.DEFAULT_PUSH_TASK_TIMING_WHEEL_ENABLED;
+    
+    private boolean batchPushEnabled = PushConstants.DEFAULT_BATCH_PUSH_ENABLED;
+    
+    private long batchPushWindow = PushConstants.DEFAULT_BATCH_PUSH_WINDOW;
+    
+    private int batchPushMaxSize = PushConstants.DEFAULT_BATCH_PUSH_MAX_SIZE;
+    
     private PushConfig() {
         super(PUSH);
         resetConfig();
@@ -50,12 +62,27 @@ public class PushConfig extends AbstractDynamicConfig {
                 .getProperty(PushConstants.PUSH_TASK_TIMEOUT, Long.class, PushConstants.DEFAULT_PUSH_TASK_TIMEOUT);
         pushTaskRetryDelay = EnvUtil.getProperty(PushConstants.PUSH_TASK_RETRY_DELAY, Long.class,
                 PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY);
+        deltaPushEnabled = EnvUtil.getProperty(PushConstants.DELTA_PUSH_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_DELTA_PUSH_ENABLED);
+        deltaPushHistorySize = EnvUtil.getProperty(PushConstants.DELTA_PUSH_HISTORY_SIZE, Integer.class,
+                PushConstants.DEFAULT_DELTA_PUSH_HISTORY_SIZE);
+        pushTaskTimingWheelEnabled = EnvUtil.getProperty(PushConstants.PUSH_TASK_TIMING_WHEEL_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_PUSH_TASK_TIMING_WHEEL_ENABLED);
+        batchPushEnabled = EnvUtil.getProperty(PushConstants.BATCH_PUSH_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_BATCH_PUSH_ENABLED);
+        batchPushWindow = EnvUtil.getProperty(PushConstants.BATCH_PUSH_WINDOW, Long.class,
+                PushConstants.DEFAULT_BATCH_PUSH_WINDOW);
+        batchPushMaxSize = EnvUtil.getProperty(PushConstants.BATCH_PUSH_MAX_SIZE, Integer.class,
+                PushConstants.DEFAULT_BATCH_PUSH_MAX_SIZE);
     }
     
     @Override
     protected String printConfig() {
         return "PushConfig{" + "pushTaskDelay=" + pushTaskDelay + ", pushTaskTimeout=" + pushTaskTimeout
-                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + '}';
+                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + ", deltaPushEnabled=" + deltaPushEnabled
+                + ", deltaPushHistorySize=" + deltaPushHistorySize + ", pushTaskTimingWheelEnabled="
+                + pushTaskTimingWheelEnabled + ", batchPushEnabled=" + batchPushEnabled + ", batchPushWindow="
+                + batchPushWindow + ", batchPushMaxSize=" + batchPushMaxSize + '}';
     }
     
     public static PushConfig getInstance() {
@@ -73,4 +100,28 @@ public class PushConfig extends AbstractDynamicConfig {
     public long getPushTaskRetryDelay() {
         return pushTaskRetryDelay;
     }
+    
+    public boolean isDeltaPushEnabled() {
+        return deltaPushEnabled;
+    }
+    
+    public int getDeltaPushHistorySize() {
+        return deltaPushHistorySize;
+    }
+    
+    public boolean isPushTaskTimingWheelEnabled() {
+        return pushTaskTimingWheelEnabled;
+    }
+    
+    public boolean isBatchPushEnabled() {
+        return batchPushEnabled;
+    }
+    
+    public long getBatchPushWindow() {
+        return batchPushWindow;
+    }
+    
+    public int getBatchPushMaxSize() {
+        return batchPushMaxSize;
+    }
 }
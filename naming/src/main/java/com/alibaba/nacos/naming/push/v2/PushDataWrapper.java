@@ -18,10 +18,11 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Nacos push data wrapper.
@@ -36,10 +37,19 @@ public class PushDataWrapper {
     
     private final Map<String, Object> processedDatum;
     
+    private Service service;
+    
+    private long revision = PushRevisionManager.NO_REVISION;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
-        processedDatum = new HashMap<>(1);
+        processedDatum = new ConcurrentHashMap<>(4);
+    }
+    
+    public PushDataWrapper(Service service, ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(serviceMetadata, originalData);
+        this.service = service;
     }
     
     public ServiceInfo getOriginalData() {
@@ -50,6 +60,18 @@ public class PushDataWrapper {
         return serviceMetadata;
     }
     
+    public Service getService() {
+        return service;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
     public <T> Optional<T> getProcessedPushData(String key) {
         return Optional.ofNullable((T) processedDatum.get(key));
     }
@@ -57,4 +79,8 @@ public class PushDataWrapper {
     public void addProcessedPushData(String key, Object processedData) {
         processedDatum.put(key, processedData);
     }
+    
+    public void clearProcessedPushData() {
+        processedDatum.clear();
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Push revision manager.
+ *
+ * <p>Records the revision of push data for each service and the revision acknowledged by each subscriber, which are
+ * used to generate delta push.
+ *
+ * <p>The revisions are generated by one counter for all services, so that the revisions of a service removed and
+ * created again never repeat the revisions acknowledged by subscribers before, and the delta push is never based on
+ * the revisions out of the current history.
+ *
+ * @author xiweng.yy
+ */
+@Component
+public class PushRevisionManager extends SmartSubscriber {
+    
+    /**
+     * Revision which means no revision recorded.
+     */
+    public static final long NO_REVISION = 0L;
+    
+    private final AtomicLong revisionGenerator = new AtomicLong(NO_REVISION);
+    
+    private final ConcurrentMap<Service, RevisionHistory> revisionHistories = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<String, ConcurrentMap<Service, Long>> ackedRevisions = new ConcurrentHashMap<>();
+    
+    public PushRevisionManager() {
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
+    }
+    
+    /**
+     * Record a new revision of push data for service.
+     *
+     * @param service  service
+     * @param pushData push data of new revision
+     * @return new revision, {@link #NO_REVISION} if delta push disabled
+     */
+    public long recordRevision(Service service, PushDataWrapper pushData) {
+        if (!PushConfig.getInstance().isDeltaPushEnabled()) {
+            return NO_REVISION;
+        }
+        return revisionHistories.computeIfAbsent(service, s -> new RevisionHistory())
+                .record(revisionGenerator, pushData);
+    }
+    
+    /**
+     * Get push data of the revision for service.
+     *
+     * @param service  service
+     * @param revision revision
+     * @return push data of the revision, empty if revision is out of history
+     */
+    public Optional<PushDataWrapper> getRevisionData(Service service, long revision) {
+        RevisionHistory history = revisionHistories.get(service);
+        if (NO_REVISION == revision || null == history) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(history.get(revision));
+    }
+    
+    public long getAckedRevision(String clientId, Service service) {
+        Map<Service, Long> revisions = ackedRevisions.get(clientId);
+        return null == revisions ? NO_REVISION : revisions.getOrDefault(service, NO_REVISION);
+    }
+    
+    /**
+     * Record the revision acknowledged by client. Only the client subscribing services will be recorded.
+     *
+     * @param clientId client id
+     * @param service  service
+     * @param revision acknowledged revision
+     */
+    public void ackRevision(String clientId, Service service, long revision) {
+        ackedRevisions.computeIfPresent(clientId, (id, revisions) -> {
+            revisions.merge(service, revision, Math::max);
+            return revisions;
+        });
+    }
+    
+    /**
+     * Clean the revision acknowledged by client, the next push to this client will push full data.
+     *
+     * @param clientId client id
+     * @param service  service
+     */
+    public void resetRevision(String clientId, Service service) {
+        Map<Service, Long> revisions = ackedRevisions.get(clientId);
+        if (null != revisions) {
+            revisions.remove(service);
+        }
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ClientOperationEvent.ClientSubscribeServiceEvent.class);
+        result.add(ClientOperationEvent.ClientUnsubscribeServiceEvent.class);
+        result.add(ClientEvent.ClientDisconnectEvent.class);
+        result.add(MetadataEvent.ServiceMetadataEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ClientOperationEvent.ClientSubscribeServiceEvent) {
+            ClientOperationEvent operationEvent = (ClientOperationEvent) event;
+            ackedRevisions.computeIfAbsent(operationEvent.getClientId(), id -> new ConcurrentHashMap<>(4))
+                    .remove(operationEvent.getService());
+        } else if (event instanceof ClientOperationEvent.ClientUnsubscribeServiceEvent) {
+            ClientOperationEvent operationEvent = (ClientOperationEvent) event;
+            resetRevision(operationEvent.getClientId(), operationEvent.getService());
+        } else if (event instanceof ClientEvent.ClientDisconnectEvent) {
+            ackedRevisions.remove(((ClientEvent.ClientDisconnectEvent) event).getClient().getClientId());
+        } else if (event instanceof MetadataEvent.ServiceMetadataEvent) {
+            MetadataEvent.ServiceMetadataEvent metadataEvent = (MetadataEvent.ServiceMetadataEvent) event;
+            if (metadataEvent.isExpired()) {
+                revisionHistories.remove(metadataEvent.getService());
+            }
+        }
+    }
+    
+    private static class RevisionHistory {
+        
+        private final LinkedHashMap<Long, PushDataWrapper> histories = new LinkedHashMap<Long, PushDataWrapper>() {
+            
+            private static final long serialVersionUID = -2410283390423471224L;
+            
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PushDataWrapper> eldest) {
+                return size() > PushConfig.getInstance().getDeltaPushHistorySize();
+            }
+        };
+        
+        private synchronized long record(AtomicLong revisionGenerator, PushDataWrapper pushData) {
+            long revision = revisionGenerator.incrementAndGet();
+            histories.put(revision, pushData);
+            return revision;
+        }
+        
+        private synchronized PushDataWrapper get(long revision) {
+            return histories.get(revision);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchNotifySubscriberResponse;
+import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+import com.alibaba.nacos.core.remote.EncodedServerRequest;
+import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collect the pushes to one client within batch push window, and send them to client in one batch push request.
+ *
+ * @author xiweng.yy
+ */
+class BatchPushCollector {
+    
+    private static final String BATCH_PUSH_KEY_PREFIX = "batch@";
+    
+    private final RpcPushService pushService;
+    
+    private final ConcurrentMap<String, PushBatch> batches = new ConcurrentHashMap<>();
+    
+    private final AtomicLong batchSequence = new AtomicLong();
+    
+    BatchPushCollector(RpcPushService pushService) {
+        this.pushService = pushService;
+    }
+    
+    /**
+     * Add push into the collecting batch of client. The batch will be sent after batch push window, or immediately
+     * when the count of services in batch reaches the max size.
+     *
+     * @param clientId client id
+     * @param pushKey  key of push, the collecting push with same key will be replaced
+     * @param request  push request
+     * @param callBack push callback
+     */
+    void addPush(String clientId, String pushKey, NotifySubscriberRequest request, PushCallBack callBack) {
+        PushItem item = new PushItem(request, callBack);
+        PushBatch batch;
+        do {
+            batch = batches.computeIfAbsent(clientId, this::createBatch);
+        } while (!batch.add(pushKey, item));
+        if (batch.size() >= PushConfig.getInstance().getBatchPushMaxSize()) {
+            flush(clientId, batch);
+        }
+    }
+    
+    private PushBatch createBatch(String clientId) {
+        PushBatch result = new PushBatch();
+        GlobalExecutor.scheduleBatchPush(() -> flush(clientId, result), PushConfig.getInstance().getBatchPushWindow(),
+                TimeUnit.MILLISECONDS);
+        return result;
+    }
+    
+    private void flush(String clientId, PushBatch batch) {
+        batches.remove(clientId, batch);
+        Collection<PushItem> items = batch.close();
+        if (items.isEmpty()) {
+            return;
+        }
+        List<NotifySubscriberRequest> requests = new ArrayList<>(items.size());
+        for (PushItem each : items) {
+            requests.add(each.request);
+        }
+        EncodedServerRequest request = new EncodedServerRequest(new BatchNotifySubscriberRequest(requests));
+        // Each batch is different, so it should not be replaced by other batch in connection push window.
+        pushService.pushWithCallback(clientId, BATCH_PUSH_KEY_PREFIX + batchSequence.incrementAndGet(), request,
+                new BatchPushCallback(items), GlobalExecutor.getCallbackExecutor());
+    }
+    
+    private static class PushItem {
+        
+        private final NotifySubscriberRequest request;
+        
+        private final PushCallBack callBack;
+        
+        private PushItem(NotifySubscriberRequest request, PushCallBack callBack) {
+            this.request = request;
+            this.callBack = callBack;
+        }
+    }
+    
+    private static class PushBatch {
+        
+        private final Map<String, PushItem> items = new LinkedHashMap<>();
+        
+        private boolean closed;
+        
+        private synchronized boolean add(String pushKey, PushItem item) {
+            if (closed) {
+                return false;
+            }
+            PushItem replaced = items.put(pushKey, item);
+            if (null != replaced) {
+                replaced.callBack.onFail(new ConnectionBusyException("Push replaced by newer push."));
+            }
+            return true;
+        }
+        
+        private synchronized int size() {
+            return items.size();
+        }
+        
+        /**
+         * Close the batch and return the collected pushes, return empty if the batch has been closed.
+         */
+        private synchronized Collection<PushItem> close() {
+            if (closed) {
+                return Collections.emptyList();
+            }
+            closed = true;
+            return items.values();
+        }
+    }
+    
+    private static class BatchPushCallback implements PushCallBack {
+        
+        private final Collection<PushItem> items;
+        
+        private BatchPushCallback(Collection<PushItem> items) {
+            this.items = items;
+        }
+        
+        @Override
+        public long getTimeout() {
+            long result = 0L;
+            for (PushItem each : items) {
+                result = Math.max(result, each.callBack.getTimeout());
+            }
+            return result;
+        }
+        
+        @Override
+        public void onSuccess() {
+            for (PushItem each : items) {
+                each.callBack.onSuccess();
+            }
+        }
+        
+        /**
+         * Only the pushes rejected by client are failed, so that only the rejected services will be re-pushed.
+         *
+         * @param response response of client
+         */
+        @Override
+        public void onSuccess(Response response) {
+            if (!(response instanceof BatchNotifySubscriberResponse)) {
+                onSuccess();
+                return;
+            }
+            List<Integer> rejectedIndexes = ((BatchNotifySubscriberResponse) response).getRejectedIndexes();
+            Set<Integer> rejected = null == rejectedIndexes ? Collections.emptySet() : new HashSet<>(rejectedIndexes);
+            int index = 0;
+            for (PushItem each : items) {
+                if (rejected.contains(index++)) {
+                    each.callBack.onFail(new NacosException(NacosException.RESOURCE_NOT_FOUND,
+                            "Base revision of delta push not found"));
+                } else {
+                    each.callBack.onSuccess();
+                }
+            }
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            for (PushItem each : items) {
+                each.callBack.onFail(e);
+            }
+        }
+    }
+}
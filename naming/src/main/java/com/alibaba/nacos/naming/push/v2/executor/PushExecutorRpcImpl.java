@@ -16,16 +16,37 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.naming.ability.ClientNamingAbility;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.EncodedServerRequest;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.PushRevisionManager;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
 /**
  * Push execute service for rpc.
  *
@@ -34,10 +55,32 @@ import org.springframework.stereotype.Component;
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    private static final String SERVICE_INFO_KEY_PREFIX = "serviceInfo:";
+    
+    private static final String BASE_SERVICE_INFO_KEY_PREFIX = "baseServiceInfo:";
+    
+    private static final String REQUEST_KEY_PREFIX = "request:";
+    
+    private static final String ENCODED_REQUEST_KEY_PREFIX = "encodedRequest:";
+    
+    private static final String FULL_PUSH_KEY = "full";
+    
+    private static final String REVISION_PUSH_KEY = "revision@";
+    
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    private final PushRevisionManager revisionManager;
+    
+    private final BatchPushCollector batchPushCollector;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager,
+            PushRevisionManager revisionManager) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
+        this.revisionManager = revisionManager;
+        this.batchPushCollector = new BatchPushCollector(pushService);
     }
     
     @Override
@@ -51,13 +94,209 @@ public class PushExecutorRpcImpl implements PushExecutor {
             NamingPushCallback callBack) {
         ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
         callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        ClientNamingAbility namingAbility = getNamingAbility(clientId);
+        if (!isSupportDeltaPush(namingAbility, data)) {
+            pushWithCallback(clientId, namingAbility, subscriber, data, FULL_PUSH_KEY,
+                    () -> NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo), callBack);
+            return;
+        }
+        long ackedRevision = revisionManager.getAckedRevision(clientId, data.getService());
+        pushWithCallback(clientId, namingAbility, subscriber, data, REVISION_PUSH_KEY + ackedRevision,
+                () -> buildRevisionPushRequest(ackedRevision, subscriber, data, actualServiceInfo),
+                new RevisionPushCallback(clientId, data, callBack));
+    }
+    
+    /**
+     * Push the request to client, the request will be merged into batch push if the client supports batch push.
+     */
+    private void pushWithCallback(String clientId, ClientNamingAbility namingAbility, Subscriber subscriber,
+            PushDataWrapper data, String requestKey, Supplier<NotifySubscriberRequest> requestBuilder,
+            PushCallBack callBack) {
+        String pushKey = getPushKey(subscriber);
+        if (isSupportBatchPush(namingAbility)) {
+            batchPushCollector.addPush(clientId, pushKey, getRequest(data, subscriber, requestKey, requestBuilder),
+                    callBack);
+            return;
+        }
+        EncodedServerRequest request = getSharedPushData(data, subscriber, ENCODED_REQUEST_KEY_PREFIX + requestKey,
+                () -> new EncodedServerRequest(getRequest(data, subscriber, requestKey, requestBuilder)));
+        pushService.pushWithCallback(clientId, pushKey, request, callBack, GlobalExecutor.getCallbackExecutor());
+    }
+    
+    /**
+     * The key of push in connection push window, the pending push of same service will be replaced by newer one.
+     */
+    private String getPushKey(Subscriber subscriber) {
+        return subscriber.getNamespaceId() + Constants.SERVICE_INFO_SPLITER + subscriber.getServiceName();
+    }
+    
+    private ClientNamingAbility getNamingAbility(String clientId) {
+        Connection connection = connectionManager.getConnection(clientId);
+        if (null == connection || null == connection.getAbilities()) {
+            return null;
+        }
+        return connection.getAbilities().getNamingAbility();
+    }
+    
+    private boolean isSupportDeltaPush(ClientNamingAbility namingAbility, PushDataWrapper data) {
+        if (PushRevisionManager.NO_REVISION == data.getRevision() || null == data.getService()) {
+            return false;
+        }
+        return null != namingAbility && namingAbility.isSupportDeltaPush();
+    }
+    
+    private boolean isSupportBatchPush(ClientNamingAbility namingAbility) {
+        return PushConfig.getInstance().isBatchPushEnabled() && null != namingAbility && namingAbility
+                .isSupportBatchPush();
+    }
+    
+    /**
+     * Build push request with revision for client which supports delta push.
+     *
+     * <p>Only when the base revision acknowledged by client is still in history, the pushed data is generated from
+     * the same service metadata and the changed hosts are fewer than all hosts, a delta push request will be built.
+     * Otherwise, the full service info will be pushed.
+     */
+    private NotifySubscriberRequest buildRevisionPushRequest(long ackedRevision, Subscriber subscriber,
+            PushDataWrapper data, ServiceInfo actualServiceInfo) {
+        Optional<PushDataWrapper> baseData = revisionManager.getRevisionData(data.getService(), ackedRevision);
+        if (!baseData.isPresent() || baseData.get().getServiceMetadata() != data.getServiceMetadata()) {
+            return NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo, data.getRevision());
+        }
+        // Shared in the data of this push instead of the historical data, which is retained until out of history.
+        ServiceInfo baseServiceInfo = getSharedPushData(data, subscriber, BASE_SERVICE_INFO_KEY_PREFIX + ackedRevision,
+                () -> selectServiceInfo(baseData.get(), subscriber));
+        Map<String, Instance> baseHosts = new HashMap<>(baseServiceInfo.getHosts().size());
+        for (Instance each : baseServiceInfo.getHosts()) {
+            baseHosts.put(NamingUtils.getInstanceKey(each), each);
+        }
+        List<Instance> updatedHosts = new LinkedList<>();
+        for (Instance each : actualServiceInfo.getHosts()) {
+            Instance baseHost = baseHosts.remove(NamingUtils.getInstanceKey(each));
+            if (null == baseHost || !baseHost.equals(each)) {
+                updatedHosts.add(each);
+            }
+        }
+        List<Instance> removedHosts = new LinkedList<>(baseHosts.values());
+        if (updatedHosts.size() + removedHosts.size() >= actualServiceInfo.getHosts().size()) {
+            return NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo, data.getRevision());
+        }
+        return NotifySubscriberRequest
+                .buildDeltaNotifySubscriberRequest(withoutHosts(actualServiceInfo), ackedRevision, data.getRevision(),
+                        updatedHosts, removedHosts);
     }
     
+    private ServiceInfo withoutHosts(ServiceInfo serviceInfo) {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setClusters(serviceInfo.getClusters());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setAllIPs(serviceInfo.isAllIPs());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        return result;
+    }
+    
+    /**
+     * Get the service info selected for subscriber.
+     *
+     * <p>If the selector of service doesn't depend on subscriber, the selected result only depends on the clusters of
+     * subscriber, so it will be shared by the subscribers with same clusters in one push.
+     */
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
+        if (!isSharedForSubscribers(data)) {
+            return selectServiceInfo(data, subscriber);
+        }
+        String key = SERVICE_INFO_KEY_PREFIX + subscriber.getCluster();
+        Optional<ServiceInfo> result = data.getProcessedPushData(key);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        ServiceInfo serviceInfo = selectServiceInfo(data, subscriber);
+        data.addProcessedPushData(key, serviceInfo);
+        return serviceInfo;
+    }
+    
+    private ServiceInfo selectServiceInfo(PushDataWrapper data, Subscriber subscriber) {
         return ServiceUtil
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
     }
+    
+    /**
+     * Get the push request, the request will be shared by the subscribers with same selected service info and same
+     * request type in one push.
+     */
+    private NotifySubscriberRequest getRequest(PushDataWrapper data, Subscriber subscriber, String requestKey,
+            Supplier<NotifySubscriberRequest> requestBuilder) {
+        return getSharedPushData(data, subscriber, REQUEST_KEY_PREFIX + requestKey, requestBuilder);
+    }
+    
+    /**
+     * Get the push data shared by the subscribers with same selected service info in one push, such as the encoded
+     * push request, so the push request is only encoded once.
+     */
+    private <T> T getSharedPushData(PushDataWrapper data, Subscriber subscriber, String dataKey,
+            Supplier<T> dataBuilder) {
+        if (!isSharedForSubscribers(data)) {
+            return dataBuilder.get();
+        }
+        String key = dataKey + Constants.COLON + subscriber.getCluster();
+        Optional<T> result = data.getProcessedPushData(key);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        T sharedData = dataBuilder.get();
+        data.addProcessedPushData(key, sharedData);
+        return sharedData;
+    }
+    
+    private boolean isSharedForSubscribers(PushDataWrapper data) {
+        ServiceMetadata serviceMetadata = data.getServiceMetadata();
+        return null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector;
+    }
+    
+    /**
+     * Push callback which records the revision acknowledged by client.
+     */
+    private class RevisionPushCallback implements PushCallBack {
+        
+        private final String clientId;
+        
+        private final Service service;
+        
+        private final long revision;
+        
+        private final PushCallBack delegate;
+        
+        private RevisionPushCallback(String clientId, PushDataWrapper data, PushCallBack delegate) {
+            this.clientId = clientId;
+            this.service = data.getService();
+            this.revision = data.getRevision();
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+        
+        @Override
+        public void onSuccess() {
+            revisionManager.ackRevision(clientId, service, revision);
+            delegate.onSuccess();
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            // Replaced push is never sent, so the acknowledged revision is still valid.
+            if (!(e instanceof ConnectionBusyException)) {
+                revisionManager.resetRevision(clientId, service);
+            }
+            delegate.onFail(e);
+        }
+    }
 }
@@ -27,6 +27,8 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.NamingExecuteTaskDispatcher;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
+import com.alibaba.nacos.naming.push.v2.PushRevisionManager;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 
 /**
@@ -48,16 +50,21 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     
     private final SwitchDomain switchDomain;
     
+    private final PushRevisionManager revisionManager;
+    
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
-                                      PushExecutor pushExecutor, SwitchDomain switchDomain) {
-        super(PushDelayTaskExecuteEngine.class.getSimpleName(), Loggers.PUSH);
+                                      PushExecutor pushExecutor, SwitchDomain switchDomain,
+                                      PushRevisionManager revisionManager) {
+        super(PushDelayTaskExecuteEngine.class.getSimpleName(), Loggers.PUSH, 100L,
+                PushConfig.getInstance().isPushTaskTimingWheelEnabled());
         this.clientManager = clientManager;
         this.indexesManager = indexesManager;
         this.serviceStorage = serviceStorage;
         this.metadataManager = metadataManager;
         this.pushExecutor = pushExecutor;
         this.switchDomain = switchDomain;
+        this.revisionManager = revisionManager;
         setDefaultTaskProcessor(new PushDelayTaskProcessor(this));
     }
     
@@ -81,6 +88,10 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         return pushExecutor;
     }
     
+    public PushRevisionManager getRevisionManager() {
+        return revisionManager;
+    }
+    
     @Override
     protected void processTasks() {
         if (!switchDomain.isPushEnabled()) {
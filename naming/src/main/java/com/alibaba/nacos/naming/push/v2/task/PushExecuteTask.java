@@ -18,6 +18,8 @@ package com.alibaba.nacos.naming.push.v2.task;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
 import com.alibaba.nacos.common.trace.event.naming.PushServiceTraceEvent;
 import com.alibaba.nacos.naming.core.v2.client.Client;
@@ -68,6 +70,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
                 delayTaskEngine.getPushExecutor().doPushWithCallback(each, subscriber, wrapper,
                         new ServicePushCallback(each, subscriber, wrapper.getOriginalData(), delayTask.isPushToAll()));
             }
+            // the processed data such as encoded requests is only shared in this push, release them.
+            wrapper.clearProcessedPushData();
         } catch (Exception e) {
             Loggers.PUSH.error("Push task for service" + service.getGroupedServiceName() + " execute failed ", e);
             delayTaskEngine.addTask(service, new PushDelayTask(service, 1000L));
@@ -77,7 +81,9 @@ public class PushExecuteTask extends AbstractExecuteTask {
     private PushDataWrapper generatePushData() {
         ServiceInfo serviceInfo = delayTaskEngine.getServiceStorage().getPushData(service);
         ServiceMetadata serviceMetadata = delayTaskEngine.getMetadataManager().getServiceMetadata(service).orElse(null);
-        return new PushDataWrapper(serviceMetadata, serviceInfo);
+        PushDataWrapper result = new PushDataWrapper(service, serviceMetadata, serviceInfo);
+        result.setRevision(delayTaskEngine.getRevisionManager().recordRevision(service, result));
+        return result;
     }
     
     private Collection<String> getTargetClientIds() {
@@ -148,6 +154,17 @@ public class PushExecuteTask extends AbstractExecuteTask {
         @Override
         public void onFail(Throwable e) {
             long pushCostTime = System.currentTimeMillis() - executeStartTime;
+            if (e instanceof ConnectionBusyException) {
+                // Replaced by newer push of same service in push window, no need to retry.
+                Loggers.PUSH.info("[PUSH-REPLACED] {}ms, {}, target={}", pushCostTime, service, subscriber.getIp());
+                return;
+            }
+            if (e instanceof ConnectionAlreadyClosedException) {
+                // Discarded from push window since connection closed, the subscriber will be removed with the client.
+                Loggers.PUSH.info("[PUSH-DISCARDED] {}ms, {}, connection closed, target={}", pushCostTime, service,
+                        subscriber.getIp());
+                return;
+            }
             Loggers.PUSH.error("[PUSH-FAIL] {}ms, {}, reason={}, target={}", pushCostTime, service, e.getMessage(),
                     subscriber.getIp());
             if (!(e instanceof NoRequiredRetryException)) {
@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client.manager.impl;
+
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClientExpiryIndexTest {
+    
+    private static final long START_TIME = 1000000L;
+    
+    private ClientExpiryIndex<IpPortBasedClient> expiryIndex;
+    
+    private IpPortBasedClient client1;
+    
+    private IpPortBasedClient client2;
+    
+    @Before
+    public void setUp() {
+        expiryIndex = new ClientExpiryIndex<>(START_TIME);
+        client1 = new IpPortBasedClient("127.0.0.1:8848#true", true);
+        client2 = new IpPortBasedClient("127.0.0.1:8849#true", true);
+    }
+    
+    @Test
+    public void testPollCandidatesByCandidateTime() {
+        expiryIndex.schedule(client1, START_TIME + 5000L);
+        expiryIndex.schedule(client2, START_TIME + 30000L);
+        assertTrue(expiryIndex.pollCandidates(START_TIME + 3000L).isEmpty());
+        List<IpPortBasedClient> candidates = expiryIndex.pollCandidates(START_TIME + 10000L);
+        assertEquals(1, candidates.size());
+        assertEquals(client1, candidates.get(0));
+        assertTrue(expiryIndex.pollCandidates(START_TIME + 20000L).isEmpty());
+        candidates = expiryIndex.pollCandidates(START_TIME + 40000L);
+        assertEquals(1, candidates.size());
+        assertEquals(client2, candidates.get(0));
+    }
+    
+    @Test
+    public void testPollCandidatesWithPassedTime() {
+        expiryIndex.schedule(client1, START_TIME - 5000L);
+        List<IpPortBasedClient> candidates = expiryIndex.pollCandidates(START_TIME);
+        assertEquals(1, candidates.size());
+        assertEquals(client1, candidates.get(0));
+        assertTrue(expiryIndex.pollCandidates(START_TIME + 1000L).isEmpty());
+    }
+    
+    @Test
+    public void testPollCandidatesLongTimeLater() {
+        expiryIndex.schedule(client1, START_TIME + 180000L);
+        assertTrue(expiryIndex.pollCandidates(START_TIME + 170000L).isEmpty());
+        List<IpPortBasedClient> candidates = expiryIndex.pollCandidates(START_TIME + 182000L);
+        assertEquals(1, candidates.size());
+        assertEquals(client1, candidates.get(0));
+    }
+}
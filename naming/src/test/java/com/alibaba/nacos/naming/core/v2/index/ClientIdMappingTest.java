@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ClientIdMappingTest {
+    
+    @Test
+    public void testAcquireAndRelease() {
+        ClientIdMapping mapping = new ClientIdMapping();
+        int id1 = mapping.acquire("client1");
+        int id2 = mapping.acquire("client2");
+        assertEquals(id1, mapping.acquire("client1"));
+        assertEquals("client1", mapping.getClientId(id1));
+        assertEquals(id2, mapping.getId("client2"));
+        assertEquals(2, mapping.size());
+        
+        mapping.release(id1);
+        assertEquals(id1, mapping.getId("client1"));
+        mapping.release(id1);
+        assertEquals(ClientIdMapping.NOT_FOUND, mapping.getId("client1"));
+        assertNull(mapping.getClientId(id1));
+        assertEquals(1, mapping.size());
+    }
+    
+    @Test
+    public void testReuseReleasedId() {
+        ClientIdMapping mapping = new ClientIdMapping();
+        for (int i = 0; i < 100; i++) {
+            mapping.acquire("client" + i);
+        }
+        int id = mapping.getId("client50");
+        mapping.release(id);
+        assertEquals(id, mapping.acquire("newClient"));
+        assertEquals("newClient", mapping.getClientId(id));
+        assertEquals(100, mapping.acquire("client100"));
+    }
+}
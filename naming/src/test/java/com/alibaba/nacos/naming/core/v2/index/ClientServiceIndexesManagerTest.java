@@ -33,10 +33,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -59,21 +56,19 @@ public class ClientServiceIndexesManagerTest {
     private static final String NACOS = "nacos";
     
     @Before
-    public void setUp() throws NoSuchFieldException, IllegalAccessException {
+    public void setUp() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         clientServiceIndexesManager = new ClientServiceIndexesManager();
         
         Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
-        Field publisherIndexesField = clientServiceIndexesManagerClass.getDeclaredField("publisherIndexes");
-        publisherIndexesField.setAccessible(true);
-        ConcurrentMap<Service, Set<String>> publisherIndexes = (ConcurrentMap<Service, Set<String>>) publisherIndexesField
-                .get(clientServiceIndexesManager);
-        publisherIndexes.put(service, new HashSet<>(Collections.singletonList(NACOS)));
+        Method addPublisherIndexes = clientServiceIndexesManagerClass
+                .getDeclaredMethod("addPublisherIndexes", Service.class, String.class);
+        addPublisherIndexes.setAccessible(true);
+        addPublisherIndexes.invoke(clientServiceIndexesManager, service, NACOS);
         
-        Field subscriberIndexesField = clientServiceIndexesManagerClass.getDeclaredField("subscriberIndexes");
-        subscriberIndexesField.setAccessible(true);
-        ConcurrentMap<Service, Set<String>> subscriberIndexes = (ConcurrentMap<Service, Set<String>>) subscriberIndexesField
-                .get(clientServiceIndexesManager);
-        subscriberIndexes.put(service, new HashSet<>(Collections.singletonList(NACOS)));
+        Method addSubscriberIndexes = clientServiceIndexesManagerClass
+                .getDeclaredMethod("addSubscriberIndexes", Service.class, String.class);
+        addSubscriberIndexes.setAccessible(true);
+        addSubscriberIndexes.invoke(clientServiceIndexesManager, service, NACOS);
     }
     
     @Test
@@ -110,7 +105,7 @@ public class ClientServiceIndexesManagerTest {
         Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
         Field publisherIndexesField = clientServiceIndexesManagerClass.getDeclaredField("publisherIndexes");
         publisherIndexesField.setAccessible(true);
-        ConcurrentMap<Service, Set<String>> publisherIndexes = (ConcurrentMap<Service, Set<String>>) publisherIndexesField
+        ConcurrentMap<Service, ?> publisherIndexes = (ConcurrentMap<Service, ?>) publisherIndexesField
                 .get(clientServiceIndexesManager);
         
         Assert.assertEquals(publisherIndexes.size(), 1);
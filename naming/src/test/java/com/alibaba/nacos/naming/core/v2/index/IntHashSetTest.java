@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntHashSetTest {
+    
+    @Test
+    public void testAddAndRemove() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(1));
+        assertFalse(set.add(1));
+        assertTrue(set.add(0));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.remove(1));
+        assertFalse(set.remove(1));
+        assertFalse(set.contains(1));
+        assertEquals(1, set.size());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNegativeValue() {
+        new IntHashSet().add(-1);
+    }
+    
+    @Test
+    public void testRandomOperationsSameAsHashSet() {
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            int value = random.nextInt(2048);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (int i = 0; i < 2048; i++) {
+            assertEquals(expected.contains(i), set.contains(i));
+        }
+        Set<Integer> actual = new HashSet<>();
+        set.forEach(actual::add);
+        assertEquals(expected, actual);
+        for (int each : expected) {
+            assertTrue(set.remove(each));
+        }
+        assertTrue(set.isEmpty());
+    }
+}
@@ -18,6 +18,8 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
@@ -34,6 +36,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -62,6 +65,9 @@ public class ServiceStorageTest {
     @Mock
     private InstancePublishInfo instancePublishInfo;
     
+    @Mock
+    private Client client;
+    
     private ServiceStorage serviceStorage;
     
     private static final Service SERVICE = Service.newService("namespaceId", "groupName", "serviceName");
@@ -130,17 +136,103 @@ public class ServiceStorageTest {
     }
     
     @Test
-    public void testGetAllInstancesFromIndex()
+    public void testGetAllInstancesFromView()
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
-        Method getAllInstancesFromIndex = serviceStorageClass
-                .getDeclaredMethod("getAllInstancesFromIndex", Service.class);
-        getAllInstancesFromIndex.setAccessible(true);
-        List<Instance> list = (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        Method getAllInstancesFromView = serviceStorageClass
+                .getDeclaredMethod("getAllInstancesFromView", Service.class);
+        getAllInstancesFromView.setAccessible(true);
+        List<Instance> list = (List<Instance>) getAllInstancesFromView.invoke(serviceStorage, SERVICE);
         
         Assert.assertNotNull(list);
     }
     
+    @Test
+    public void testGetPushDataIncrementally() {
+        ServiceManager.getInstance().getSingleton(SERVICE);
+        try {
+            InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+            publishInfo.setHealthy(true);
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                    .thenReturn(Collections.singletonList(NACOS));
+            Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+            Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(publishInfo);
+            
+            ServiceInfo first = serviceStorage.getPushData(SERVICE);
+            Assert.assertEquals(1, first.getHosts().size());
+            Assert.assertTrue(first.getHosts().get(0).isHealthy());
+            // No change, read the view directly without parsing again.
+            ServiceInfo second = serviceStorage.getPushData(SERVICE);
+            Assert.assertEquals(first.getHosts(), second.getHosts());
+            Mockito.verify(namingMetadataManager, Mockito.times(1))
+                    .getInstanceMetadata(Mockito.eq(SERVICE), Mockito.anyString());
+            
+            publishInfo.setHealthy(false);
+            ServiceInfo third = serviceStorage.getPushData(SERVICE);
+            Assert.assertEquals(1, third.getHosts().size());
+            Assert.assertFalse(third.getHosts().get(0).isHealthy());
+            
+            Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(null);
+            Assert.assertTrue(serviceStorage.getPushData(SERVICE).getHosts().isEmpty());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(SERVICE);
+        }
+    }
+    
+    @Test
+    public void testGetPushDataRightAfterIndexChanged() {
+        ServiceManager.getInstance().getSingleton(SERVICE);
+        try {
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                    .thenReturn(Collections.singletonList(NACOS));
+            Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+            Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(new InstancePublishInfo("1.1.1.1", 8848));
+            Assert.assertEquals(1, serviceStorage.getPushData(SERVICE).getHosts().size());
+            
+            // The push triggered by index is built before any client event handled, the new client is still included.
+            String newClientId = "newClient";
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                    .thenReturn(Arrays.asList(NACOS, newClientId));
+            Client newClient = Mockito.mock(Client.class);
+            Mockito.when(clientManagerDelegate.getClient(newClientId)).thenReturn(newClient);
+            Mockito.when(newClient.getInstancePublishInfo(SERVICE))
+                    .thenReturn(new InstancePublishInfo("1.1.1.2", 8848));
+            Assert.assertEquals(2, serviceStorage.getPushData(SERVICE).getHosts().size());
+            // Only the new client is parsed.
+            Mockito.verify(namingMetadataManager, Mockito.times(2))
+                    .getInstanceMetadata(Mockito.eq(SERVICE), Mockito.anyString());
+            
+            // Instance of client updated.
+            Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(new InstancePublishInfo("1.1.1.3", 8848));
+            Set<String> ips = new HashSet<>();
+            serviceStorage.getPushData(SERVICE).getHosts().forEach(each -> ips.add(each.getIp()));
+            Assert.assertEquals(new HashSet<>(Arrays.asList("1.1.1.2", "1.1.1.3")), ips);
+        } finally {
+            ServiceManager.getInstance().removeSingleton(SERVICE);
+        }
+    }
+    
+    @Test
+    public void testInvalidateInstanceView() {
+        ServiceManager.getInstance().getSingleton(SERVICE);
+        try {
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                    .thenReturn(Collections.singletonList(NACOS));
+            Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+            Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(new InstancePublishInfo("1.1.1.1", 8848));
+            
+            ServiceInfo first = serviceStorage.getPushData(SERVICE);
+            serviceStorage.invalidateInstanceView(SERVICE);
+            ServiceInfo second = serviceStorage.getPushData(SERVICE);
+            
+            Assert.assertEquals(first.getHosts(), second.getHosts());
+            Mockito.verify(namingMetadataManager, Mockito.times(2))
+                    .getInstanceMetadata(Mockito.eq(SERVICE), Mockito.anyString());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(SERVICE);
+        }
+    }
+    
     @Test
     public void testGetInstanceInfo() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BeatCheckEngineTest {
+    
+    private static final long CHECK_INTERVAL = 5000L;
+    
+    @Mock
+    private BeatCheckTask task;
+    
+    private BeatCheckEngine engine;
+    
+    @Before
+    public void setUp() {
+        // The executors used by engine are initialized from environment.
+        EnvUtil.setEnvironment(new MockEnvironment());
+        engine = new BeatCheckEngine(CHECK_INTERVAL);
+        when(task.taskKey()).thenReturn("taskKey");
+    }
+    
+    @Test
+    public void testExecuteTimeoutTask() throws InterruptedException {
+        long start = System.currentTimeMillis();
+        when(task.getEarliestBeatTime()).thenReturn(start - CHECK_INTERVAL);
+        CountDownLatch latch = new CountDownLatch(1);
+        engine.addTask(task, latch::countDown);
+        engine.advanceClock(start + CHECK_INTERVAL / 2);
+        assertEquals(1, latch.getCount());
+        engine.advanceClock(start + CHECK_INTERVAL * 2);
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void testRescheduleTaskWithNewBeat() throws InterruptedException {
+        long start = System.currentTimeMillis();
+        CountDownLatch latch = new CountDownLatch(1);
+        engine.addTask(task, latch::countDown);
+        // Beat received during the check interval, so the task is only rescheduled.
+        when(task.getEarliestBeatTime()).thenReturn(start + CHECK_INTERVAL);
+        engine.advanceClock(start + CHECK_INTERVAL * 3 / 2);
+        engine.advanceClock(start + CHECK_INTERVAL * 3 / 2 + 1000L);
+        assertFalse(latch.await(200L, TimeUnit.MILLISECONDS));
+        // No more beat, the task is executed after check interval since last beat.
+        engine.advanceClock(start + CHECK_INTERVAL * 3);
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void testRemoveTask() throws InterruptedException {
+        AtomicInteger executeCount = new AtomicInteger();
+        engine.addTask(task, executeCount::incrementAndGet);
+        assertEquals(1, engine.getTaskCount());
+        engine.removeTask(task);
+        assertEquals(0, engine.getTaskCount());
+        long start = System.currentTimeMillis();
+        engine.advanceClock(start + CHECK_INTERVAL * 2);
+        TimeUnit.MILLISECONDS.sleep(200L);
+        assertEquals(0, executeCount.get());
+    }
+}
@@ -91,6 +91,14 @@ public class ClientBeatCheckTaskV2Test {
         assertEquals(KeyBuilder.buildServiceMetaKey(CLIENT_ID, "true"), beatCheckTask.taskKey());
     }
     
+    @Test
+    public void testGetEarliestBeatTime() {
+        long beforeTime = System.currentTimeMillis();
+        assertTrue(beatCheckTask.getEarliestBeatTime() >= beforeTime);
+        injectInstance(true, 100L);
+        assertEquals(100L, beatCheckTask.getEarliestBeatTime());
+    }
+    
     @Test
     public void testRunUnhealthyInstanceWithoutExpire() {
         injectInstance(false, 0);
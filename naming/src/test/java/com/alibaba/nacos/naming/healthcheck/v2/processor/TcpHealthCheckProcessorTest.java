@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.api.naming.pojo.healthcheck.HealthCheckType;
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TcpHealthCheckProcessorTest {
+    
+    private static final String LOCALHOST = "127.0.0.1";
+    
+    @Mock
+    private HealthCheckCommonV2 healthCheckCommon;
+    
+    @Mock
+    private SwitchDomain switchDomain;
+    
+    @Mock
+    private HealthCheckTaskV2 healthCheckTaskV2;
+    
+    @Mock
+    private IpPortBasedClient ipPortBasedClient;
+    
+    @Mock
+    private HealthCheckInstancePublishInfo instance;
+    
+    private Service service;
+    
+    private ClusterMetadata clusterMetadata;
+    
+    private TcpHealthCheckProcessor tcpHealthCheckProcessor;
+    
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+    }
+    
+    @Before
+    public void setUp() {
+        service = Service.newService("A", "B", "C");
+        clusterMetadata = new ClusterMetadata();
+        tcpHealthCheckProcessor = new TcpHealthCheckProcessor(healthCheckCommon, switchDomain);
+    }
+    
+    @Test
+    public void testGetType() {
+        Assert.assertEquals(HealthCheckType.TCP.name(), tcpHealthCheckProcessor.getType());
+    }
+    
+    @Test
+    public void testProcessConnected() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+            mockInstance(serverSocket.getLocalPort());
+            tcpHealthCheckProcessor.process(healthCheckTaskV2, service, clusterMetadata);
+            verify(healthCheckCommon, timeout(3000)).checkOk(eq(healthCheckTaskV2), eq(service), eq("tcp:ok+"));
+        }
+    }
+    
+    @Test
+    public void testProcessUnableToConnect() throws IOException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+            port = serverSocket.getLocalPort();
+        }
+        mockInstance(port);
+        when(switchDomain.getTcpHealthParams()).thenReturn(new SwitchDomain.TcpHealthParams());
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, clusterMetadata);
+        verify(healthCheckCommon, timeout(3000))
+                .checkFailNow(eq(healthCheckTaskV2), eq(service), startsWith("tcp:unable2connect:"));
+    }
+    
+    private void mockInstance(int port) {
+        when(healthCheckTaskV2.getClient()).thenReturn(ipPortBasedClient);
+        when(ipPortBasedClient.getInstancePublishInfo(service)).thenReturn(instance);
+        when(instance.tryStartCheck()).thenReturn(true);
+        when(instance.getIp()).thenReturn(LOCALHOST);
+        when(instance.getPort()).thenReturn(port);
+    }
+}
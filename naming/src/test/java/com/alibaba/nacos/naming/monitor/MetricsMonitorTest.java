@@ -18,7 +18,11 @@ package com.alibaba.nacos.naming.monitor;
 
 import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,7 +31,11 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
@@ -58,4 +66,35 @@ public class MetricsMonitorTest {
         assertEquals(0, MetricsMonitor.getFailedPushMonitor().get());
         assertEquals(1, MetricsMonitor.getFailedPushMonitor().incrementAndGet());
     }
+    
+    @Test
+    public void testRegisterTcpHealthCheckShardWithPrometheus() {
+        PrometheusMeterRegistry prometheusMeterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        CompositeMeterRegistry registry = NacosMeterRegistryCenter
+                .getMeterRegistry(NacosMeterRegistryCenter.NAMING_STABLE_REGISTRY);
+        registry.add(prometheusMeterRegistry);
+        try {
+            // Use shard not created by TcpHealthCheckProcessor, whose gauges may be registered by other tests first.
+            int shard = Integer.MAX_VALUE;
+            AtomicInteger backlog = new AtomicInteger(3);
+            Timer probeLatencyTimer = MetricsMonitor.registerTcpHealthCheckShard(shard, backlog);
+            probeLatencyTimer.record(15L, TimeUnit.MILLISECONDS);
+            probeLatencyTimer.record(5L, TimeUnit.MILLISECONDS);
+            
+            Gauge totalPush = prometheusMeterRegistry.find("nacos_monitor").tag("name", "totalPush").gauge();
+            assertNotNull(totalPush);
+            Gauge backlogGauge = prometheusMeterRegistry.find("nacos_naming_tcp_health_check_backlog")
+                    .tag("shard", String.valueOf(shard)).gauge();
+            assertNotNull(backlogGauge);
+            assertEquals(3D, backlogGauge.value(), 0D);
+            Timer latencyTimer = prometheusMeterRegistry.find("nacos_naming_tcp_health_check_latency")
+                    .tag("shard", String.valueOf(shard)).timer();
+            assertNotNull(latencyTimer);
+            assertEquals(2L, latencyTimer.count());
+            assertEquals(10D, latencyTimer.mean(TimeUnit.MILLISECONDS), 0D);
+            assertEquals(15D, latencyTimer.max(TimeUnit.MILLISECONDS), 0D);
+        } finally {
+            registry.remove(prometheusMeterRegistry);
+        }
+    }
 }
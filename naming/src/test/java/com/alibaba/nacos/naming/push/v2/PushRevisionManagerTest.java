@@ -0,0 +1,88 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PushRevisionManagerTest {
+    
+    private static final String CLIENT_ID = "1.1.1.1:8848#true";
+    
+    private final Service service = Service.newService("n", "g", "s");
+    
+    private PushRevisionManager revisionManager;
+    
+    @Before
+    public void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        revisionManager = new PushRevisionManager();
+        revisionManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service, CLIENT_ID));
+    }
+    
+    @After
+    public void tearDown() {
+        NotifyCenter.deregisterSubscriber(revisionManager);
+    }
+    
+    private PushDataWrapper buildPushData() {
+        return new PushDataWrapper(service, new ServiceMetadata(), new ServiceInfo("g@@s"));
+    }
+    
+    @Test
+    public void testRecordAndAckRevision() {
+        PushDataWrapper pushData = buildPushData();
+        long revision = revisionManager.recordRevision(service, pushData);
+        assertTrue(revision > PushRevisionManager.NO_REVISION);
+        assertSame(pushData, revisionManager.getRevisionData(service, revision).orElse(null));
+        revisionManager.ackRevision(CLIENT_ID, service, revision);
+        assertEquals(revision, revisionManager.getAckedRevision(CLIENT_ID, service));
+        assertTrue(revisionManager.recordRevision(service, buildPushData()) > revision);
+    }
+    
+    @Test
+    public void testPushAfterServiceExpiredAndRegisteredAgain() {
+        long oldRevision = revisionManager.recordRevision(service, buildPushData());
+        revisionManager.ackRevision(CLIENT_ID, service, oldRevision);
+        
+        revisionManager.onEvent(new MetadataEvent.ServiceMetadataEvent(service, true));
+        long newRevision = revisionManager.recordRevision(service, buildPushData());
+        
+        // the revision of service registered again should not repeat the revision held by client.
+        assertNotEquals(oldRevision, newRevision);
+        assertTrue(newRevision > oldRevision);
+        // the revision acked by client is out of history, so the next push should be full push.
+        long ackedRevision = revisionManager.getAckedRevision(CLIENT_ID, service);
+        assertEquals(oldRevision, ackedRevision);
+        assertFalse(revisionManager.getRevisionData(service, ackedRevision).isPresent());
+    }
+}
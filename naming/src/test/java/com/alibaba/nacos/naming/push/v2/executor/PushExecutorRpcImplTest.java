@@ -16,15 +16,25 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchNotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.EncodedServerRequest;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.PushRevisionManager;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -32,6 +42,7 @@ import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -39,13 +50,25 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -69,6 +92,15 @@ public class PushExecutorRpcImplTest {
     @Mock
     private ConfigurableApplicationContext context;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    @Mock
+    private PushRevisionManager revisionManager;
+    
+    @Mock
+    private Connection connection;
+    
     private PushDataWrapper pushData;
     
     private PushExecutorRpcImpl pushExecutor;
@@ -80,11 +112,11 @@ public class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager, revisionManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         doAnswer(new CallbackAnswer()).when(pushService)
-                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
-                        eq(GlobalExecutor.getCallbackExecutor()));
+                .pushWithCallback(eq(rpcClientId), anyString(), any(EncodedServerRequest.class),
+                        any(PushCallBack.class), eq(GlobalExecutor.getCallbackExecutor()));
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
         when(selectorManager.select(any(), any(), any()))
@@ -103,13 +135,138 @@ public class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    public void testDoDeltaPushWithCallback() {
+        Service service = Service.newService("N", "G", "S");
+        ServiceInfo baseServiceInfo = new ServiceInfo("G@@S");
+        baseServiceInfo.setHosts(buildHosts(1, 2, 3));
+        PushDataWrapper baseData = spy(new PushDataWrapper(service, serviceMetadata, baseServiceInfo));
+        baseData.setRevision(1L);
+        ServiceInfo newServiceInfo = new ServiceInfo("G@@S");
+        newServiceInfo.setHosts(buildHosts(1, 2, 4));
+        pushData = new PushDataWrapper(service, serviceMetadata, newServiceInfo);
+        pushData.setRevision(2L);
+        ClientAbilities abilities = new ClientAbilities();
+        abilities.getNamingAbility().setSupportDeltaPush(true);
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(connection.getAbilities()).thenReturn(abilities);
+        when(revisionManager.getAckedRevision(rpcClientId, service)).thenReturn(1L);
+        when(revisionManager.getRevisionData(service, 1L)).thenReturn(Optional.of(baseData));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        ArgumentCaptor<EncodedServerRequest> captor = ArgumentCaptor.forClass(EncodedServerRequest.class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), anyString(), captor.capture(), any(PushCallBack.class),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        NotifySubscriberRequest request = (NotifySubscriberRequest) captor.getValue().getRequest();
+        assertTrue(request.isDeltaPush());
+        assertEquals(1L, request.getBaseRevision());
+        assertEquals(2L, request.getRevision());
+        assertTrue(request.getServiceInfo().getHosts().isEmpty());
+        assertEquals(1, request.getUpdatedHosts().size());
+        assertEquals("1.1.1.4", request.getUpdatedHosts().get(0).getIp());
+        assertEquals(1, request.getRemovedHosts().size());
+        assertEquals("1.1.1.3", request.getRemovedHosts().get(0).getIp());
+        verify(revisionManager).ackRevision(rpcClientId, service, 2L);
+        verify(pushCallBack).onSuccess();
+        // the historical data is retained by revision manager, nothing should be cached into it.
+        verify(baseData, never()).addProcessedPushData(anyString(), any());
+    }
+    
+    @Test
+    public void testDoPushWithCallbackWithoutDeltaAbility() {
+        Service service = Service.newService("N", "G", "S");
+        pushData = new PushDataWrapper(service, serviceMetadata, new ServiceInfo("G@@S"));
+        pushData.setRevision(2L);
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(connection.getAbilities()).thenReturn(new ClientAbilities());
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        ArgumentCaptor<EncodedServerRequest> captor = ArgumentCaptor.forClass(EncodedServerRequest.class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), anyString(), captor.capture(), eq(pushCallBack),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        NotifySubscriberRequest request = (NotifySubscriberRequest) captor.getValue().getRequest();
+        assertFalse(request.isDeltaPush());
+        assertEquals(0L, request.getRevision());
+    }
+    
+    @Test
+    public void testDoPushWithCallbackShareEncodedRequest() {
+        Subscriber anotherSubscriber = new Subscriber("1.1.1.1:1111", "", "", "1.1.1.1", "N", "G@@S", 0);
+        Subscriber thirdSubscriber = new Subscriber("1.1.1.2:1111", "", "", "1.1.1.2", "N", "G@@S", 0);
+        pushExecutor.doPushWithCallback(rpcClientId, anotherSubscriber, pushData, pushCallBack);
+        pushExecutor.doPushWithCallback(rpcClientId, thirdSubscriber, pushData, pushCallBack);
+        ArgumentCaptor<EncodedServerRequest> captor = ArgumentCaptor.forClass(EncodedServerRequest.class);
+        verify(pushService, times(2))
+                .pushWithCallback(eq(rpcClientId), anyString(), captor.capture(), eq(pushCallBack),
+                        eq(GlobalExecutor.getCallbackExecutor()));
+        assertSame(captor.getAllValues().get(0), captor.getAllValues().get(1));
+    }
+    
+    @Test
+    public void testDoBatchPushWithCallback() {
+        String batchClientId = UUID.randomUUID().toString();
+        ClientAbilities abilities = new ClientAbilities();
+        abilities.getNamingAbility().setSupportBatchPush(true);
+        when(connectionManager.getConnection(batchClientId)).thenReturn(connection);
+        when(connection.getAbilities()).thenReturn(abilities);
+        Subscriber subscriber1 = new Subscriber("1.1.1.1:1111", "", "", "1.1.1.1", "N", "G@@S", 0);
+        Subscriber subscriber2 = new Subscriber("1.1.1.1:1111", "", "", "1.1.1.1", "N", "G@@S2", 0);
+        PushDataWrapper pushData2 = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S2"));
+        pushExecutor.doPushWithCallback(batchClientId, subscriber1, pushData, pushCallBack);
+        pushExecutor.doPushWithCallback(batchClientId, subscriber2, pushData2, pushCallBack);
+        pushExecutor.doPushWithCallback(batchClientId, subscriber1, pushData, pushCallBack);
+        ArgumentCaptor<EncodedServerRequest> captor = ArgumentCaptor.forClass(EncodedServerRequest.class);
+        verify(pushService, timeout(3000))
+                .pushWithCallback(eq(batchClientId), anyString(), captor.capture(), any(PushCallBack.class),
+                        eq(GlobalExecutor.getCallbackExecutor()));
+        BatchNotifySubscriberRequest request = (BatchNotifySubscriberRequest) captor.getValue().getRequest();
+        assertEquals(2, request.getNotifyRequests().size());
+        verify(pushCallBack).onFail(any(ConnectionBusyException.class));
+    }
+    
+    @Test
+    public void testDoBatchPushWithRejectedPush() {
+        String batchClientId = UUID.randomUUID().toString();
+        ClientAbilities abilities = new ClientAbilities();
+        abilities.getNamingAbility().setSupportBatchPush(true);
+        when(connectionManager.getConnection(batchClientId)).thenReturn(connection);
+        when(connection.getAbilities()).thenReturn(abilities);
+        Subscriber subscriber1 = new Subscriber("1.1.1.1:1111", "", "", "1.1.1.1", "N", "G@@S", 0);
+        Subscriber subscriber2 = new Subscriber("1.1.1.1:1111", "", "", "1.1.1.1", "N", "G@@S2", 0);
+        PushDataWrapper pushData2 = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S2"));
+        NamingPushCallback pushCallBack2 = mock(NamingPushCallback.class);
+        pushExecutor.doPushWithCallback(batchClientId, subscriber1, pushData, pushCallBack);
+        pushExecutor.doPushWithCallback(batchClientId, subscriber2, pushData2, pushCallBack2);
+        ArgumentCaptor<PushCallBack> captor = ArgumentCaptor.forClass(PushCallBack.class);
+        verify(pushService, timeout(3000))
+                .pushWithCallback(eq(batchClientId), anyString(), any(EncodedServerRequest.class), captor.capture(),
+                        eq(GlobalExecutor.getCallbackExecutor()));
+        // only the second push of batch is rejected by client, the first one should not be re-pushed.
+        captor.getValue().onSuccess(new BatchNotifySubscriberResponse(Collections.singletonList(1)));
+        verify(pushCallBack).onSuccess();
+        verify(pushCallBack, never()).onFail(any());
+        verify(pushCallBack2).onFail(any(NacosException.class));
+        verify(pushCallBack2, never()).onSuccess();
+    }
+    
+    private List<Instance> buildHosts(int... suffixes) {
+        List<Instance> result = new ArrayList<>();
+        for (int each : suffixes) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1." + each);
+            instance.setPort(8848);
+            instance.setClusterName("DEFAULT");
+            result.add(instance);
+        }
+        return result;
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
         public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
-            NotifySubscriberRequest pushRequest = invocationOnMock.getArgument(1);
+            EncodedServerRequest encodedRequest = invocationOnMock.getArgument(2);
+            NotifySubscriberRequest pushRequest = (NotifySubscriberRequest) encodedRequest.getRequest();
             assertEquals(pushData.getOriginalData().toString(), pushRequest.getServiceInfo().toString());
-            PushCallBack callBack = invocationOnMock.getArgument(2);
+            PushCallBack callBack = invocationOnMock.getArgument(3);
             callBack.onSuccess();
             return null;
         }
@@ -26,6 +26,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.PushRevisionManager;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 import org.junit.After;
 import org.junit.Before;
@@ -69,6 +70,9 @@ public class PushDelayTaskExecuteEngineTest {
     @Mock
     private SwitchDomain switchDomain;
     
+    @Mock
+    private PushRevisionManager revisionManager;
+    
     private final Service service = Service.newService("N", "G", "S");
     
     private final String clientId = "testClient";
@@ -83,7 +87,7 @@ public class PushDelayTaskExecuteEngineTest {
         when(client.getSubscriber(service)).thenReturn(subscriber);
         when(switchDomain.isPushEnabled()).thenReturn(true);
         executeEngine = new PushDelayTaskExecuteEngine(clientManager, indexesManager, serviceStorage, metadataManager,
-                pushExecutor, switchDomain);
+                pushExecutor, switchDomain, revisionManager);
     }
     
     @After
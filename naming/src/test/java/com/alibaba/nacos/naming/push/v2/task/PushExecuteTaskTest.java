@@ -27,6 +27,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.NoRequiredRetryException;
+import com.alibaba.nacos.naming.push.v2.PushRevisionManager;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -72,6 +73,9 @@ public class PushExecuteTaskTest {
     @Mock
     private NamingMetadataManager metadataManager;
     
+    @Mock
+    private PushRevisionManager revisionManager;
+    
     @Mock
     private ConfigurableApplicationContext context;
     
@@ -93,6 +97,7 @@ public class PushExecuteTaskTest {
         when(delayTaskExecuteEngine.getPushExecutor()).thenReturn(pushExecutor);
         when(delayTaskExecuteEngine.getServiceStorage()).thenReturn(serviceStorage);
         when(delayTaskExecuteEngine.getMetadataManager()).thenReturn(metadataManager);
+        when(delayTaskExecuteEngine.getRevisionManager()).thenReturn(revisionManager);
         when(metadataManager.getServiceMetadata(service)).thenReturn(Optional.empty());
         ApplicationUtils.injectContext(context);
         when(context.getBean(TpsMonitorManager.class)).thenReturn(tpsMonitorManager);
@@ -396,6 +396,27 @@ public class ConfigInfoMapperByDerby extends AbstractMapper implements ConfigInf
         return sql + where + " OFFSET " + startRow + " ROWS FETCH NEXT " + pageSize + " ROWS ONLY";
     }
     
+    @Override
+    public String findConfigInfo4PageFetchRowsAfterId(Map<String, String> params, int pageSize) {
+        final String appName = params.get(APP_NAME);
+        final String dataId = params.get(DATA_ID);
+        final String group = params.get(GROUP);
+        final String sql = "SELECT id,data_id,group_id,tenant_id,app_name,content,type,encrypted_data_key FROM config_info";
+        StringBuilder where = new StringBuilder(" WHERE ");
+        where.append(" tenant_id=? ");
+        if (StringUtils.isNotBlank(dataId)) {
+            where.append(" AND data_id=? ");
+        }
+        if (StringUtils.isNotBlank(group)) {
+            where.append(" AND group_id=? ");
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            where.append(" AND app_name=? ");
+        }
+        where.append(" AND id > ? ");
+        return sql + where + " ORDER BY id OFFSET 0 ROWS FETCH NEXT " + pageSize + " ROWS ONLY";
+    }
+    
     @Override
     public String findConfigInfoBaseByDataIdCountRows() {
         return "SELECT count(*) FROM config_info WHERE data_id=? AND tenant_id=?";
@@ -509,6 +530,31 @@ public class ConfigInfoMapperByDerby extends AbstractMapper implements ConfigInf
         return sqlFetchRows + where + " OFFSET " + startRow + " ROWS FETCH NEXT " + pageSize + " ROWS ONLY";
     }
     
+    @Override
+    public String findConfigInfoLike4PageFetchRowsAfterId(Map<String, String> params, int pageSize) {
+        final String appName = params.get(APP_NAME);
+        final String content = params.get(CONTENT);
+        final String dataId = params.get(DATA_ID);
+        final String group = params.get(GROUP);
+        final String sqlFetchRows = "SELECT id,data_id,group_id,tenant_id,app_name,content,encrypted_data_key FROM config_info";
+        StringBuilder where = new StringBuilder(" WHERE ");
+        where.append(" tenant_id LIKE ? ");
+        if (!StringUtils.isBlank(dataId)) {
+            where.append(" AND data_id LIKE ? ");
+        }
+        if (!StringUtils.isBlank(group)) {
+            where.append(" AND group_id LIKE ? ");
+        }
+        if (!StringUtils.isBlank(appName)) {
+            where.append(" AND app_name = ? ");
+        }
+        if (!StringUtils.isBlank(content)) {
+            where.append(" AND content LIKE ? ");
+        }
+        where.append(" AND id > ? ");
+        return sqlFetchRows + where + " ORDER BY id OFFSET 0 ROWS FETCH NEXT " + pageSize + " ROWS ONLY";
+    }
+    
     @Override
     public String findAllConfigInfoFetchRows(int startRow, int pageSize) {
         return " SELECT t.id,data_id,group_id,tenant_id,app_name,content,md5 "
@@ -554,7 +600,7 @@ public class ConfigInfoMapperByDerby extends AbstractMapper implements ConfigInf
     @Override
     public String findConfigInfosByIds(int idSize) {
         StringBuilder sql = new StringBuilder(
-                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5 FROM config_info WHERE ");
+                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5,encrypted_data_key FROM config_info WHERE ");
         sql.append("id IN (");
         for (int i = 0; i < idSize; i++) {
             if (i != 0) {
@@ -35,6 +35,16 @@ public class HistoryConfigInfoMapperByDerby extends AbstractMapper implements Hi
                 + "SELECT id FROM his_config_info WHERE gmt_modified < ? OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY)";
     }
     
+    @Override
+    public String removeConfigHistoryByTimeRange() {
+        return "DELETE FROM his_config_info WHERE gmt_modified >= ? AND gmt_modified < ?";
+    }
+    
+    @Override
+    public String findConfigHistoryMinModifiedTime() {
+        return "SELECT MIN(gmt_modified) FROM his_config_info";
+    }
+    
     @Override
     public String findConfigHistoryCountByTime() {
         return "SELECT count(*) FROM his_config_info WHERE gmt_modified < ?";
@@ -57,6 +67,13 @@ public class HistoryConfigInfoMapperByDerby extends AbstractMapper implements Hi
                 + "WHERE data_id = ? AND group_id = ? AND tenant_id = ? ORDER BY nid DESC";
     }
     
+    @Override
+    public String findConfigHistoryFetchRowsBeforeNid(int pageSize) {
+        return "SELECT nid,data_id,group_id,tenant_id,app_name,src_ip,src_user,op_type,gmt_create,gmt_modified FROM his_config_info "
+                + "WHERE data_id = ? AND group_id = ? AND tenant_id = ? AND nid < ? ORDER BY nid DESC"
+                + " OFFSET 0 ROWS FETCH NEXT " + pageSize + " ROWS ONLY";
+    }
+    
     @Override
     public String detailPreviousConfigHistory() {
         return "SELECT nid,data_id,group_id,tenant_id,app_name,content,md5,src_user,src_ip,op_type,gmt_create,gmt_modified "
@@ -34,6 +34,16 @@ public class HistoryConfigInfoMapperByMySql extends AbstractMapper implements Hi
         return "DELETE FROM his_config_info WHERE gmt_modified < ? LIMIT ?";
     }
     
+    @Override
+    public String removeConfigHistoryByTimeRange() {
+        return "DELETE FROM his_config_info WHERE gmt_modified >= ? AND gmt_modified < ?";
+    }
+    
+    @Override
+    public String findConfigHistoryMinModifiedTime() {
+        return "SELECT MIN(gmt_modified) FROM his_config_info";
+    }
+    
     @Override
     public String findConfigHistoryCountByTime() {
         return "SELECT count(*) FROM his_config_info WHERE gmt_modified < ?";
@@ -55,6 +65,12 @@ public class HistoryConfigInfoMapperByMySql extends AbstractMapper implements Hi
                 + "WHERE data_id = ? AND group_id = ? AND tenant_id = ? ORDER BY nid DESC";
     }
     
+    @Override
+    public String findConfigHistoryFetchRowsBeforeNid(int pageSize) {
+        return "SELECT nid,data_id,group_id,tenant_id,app_name,src_ip,src_user,op_type,gmt_create,gmt_modified FROM his_config_info "
+                + "WHERE data_id = ? AND group_id = ? AND tenant_id = ? AND nid < ? ORDER BY nid DESC LIMIT " + pageSize;
+    }
+    
     @Override
     public String detailPreviousConfigHistory() {
         return "SELECT nid,data_id,group_id,tenant_id,app_name,content,md5,src_user,src_ip,op_type,gmt_create,gmt_modified "
@@ -358,6 +358,18 @@ public interface ConfigInfoMapper extends Mapper {
      */
     String findConfigInfo4PageFetchRows(Map<String, String> params, int startRow, int pageSize);
     
+    /**
+     * find config info after the last id, which is the keyset pagination of {@link #findConfigInfo4PageFetchRows}.
+     * The default sql:
+     * SELECT id,data_id,group_id,tenant_id,app_name,content,type,encrypted_data_key FROM config_info
+     * WHERE tenant_id=? ... AND id > ? ORDER BY id LIMIT pageSize
+     *
+     * @param params The mpa of dataId, groupId and appName.
+     * @param pageSize The size of page.
+     * @return The sql of finding config info.
+     */
+    String findConfigInfo4PageFetchRowsAfterId(Map<String, String> params, int pageSize);
+    
     /**
      * The count of querying configuration information based on dataId.
      * The default sql:
@@ -482,6 +494,18 @@ public interface ConfigInfoMapper extends Mapper {
      */
     String findConfigInfoLike4PageFetchRows(Map<String, String> params, int startRow, int pageSize);
     
+    /**
+     * Query config info after the last id, which is the keyset pagination of {@link #findConfigInfoLike4PageFetchRows}.
+     * The default sql:
+     * SELECT id,data_id,group_id,tenant_id,app_name,content,encrypted_data_key FROM config_info
+     * WHERE tenant_id LIKE ? ... AND id > ? ORDER BY id LIMIT pageSize
+     *
+     * @param params The map of dataId, group, appName, content
+     * @param pageSize The size of page.
+     * @return The sql of querying config info
+     */
+    String findConfigInfoLike4PageFetchRowsAfterId(Map<String, String> params, int pageSize);
+    
     /**
      * Query all configuration information by page.
      * The default sql:
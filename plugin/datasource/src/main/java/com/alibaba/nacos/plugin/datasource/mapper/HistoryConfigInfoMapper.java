@@ -33,6 +33,24 @@ public interface HistoryConfigInfoMapper extends Mapper {
      */
     String removeConfigHistory();
     
+    /**
+     * Delete data modified in the time range, which is used to delete history by time buckets.
+     * The default sql:
+     * DELETE FROM his_config_info WHERE gmt_modified >= ? AND gmt_modified < ?
+     *
+     * @return The sql of deleting data modified in the time range.
+     */
+    String removeConfigHistoryByTimeRange();
+    
+    /**
+     * Get the earliest modified time of history configs.
+     * The default sql:
+     * SELECT MIN(gmt_modified) FROM his_config_info
+     *
+     * @return The sql of getting the earliest modified time of history configs.
+     */
+    String findConfigHistoryMinModifiedTime();
+    
     /**
      * Get the number of configurations before the specified time.
      * The default sql:
@@ -70,6 +88,18 @@ public interface HistoryConfigInfoMapper extends Mapper {
      */
     String findConfigHistoryFetchRows();
     
+    /**
+     * List configuration history change record before the last nid, which is the keyset pagination of
+     * {@link #findConfigHistoryFetchRows()}.
+     * The default sql:
+     * SELECT nid,data_id,group_id,tenant_id,app_name,src_ip,src_user,op_type,gmt_create,gmt_modified FROM his_config_info
+     * WHERE data_id = ? AND group_id = ? AND tenant_id = ? AND nid < ? ORDER BY nid DESC LIMIT pageSize
+     *
+     * @param pageSize The size of page.
+     * @return The sql of listing configuration history change record.
+     */
+    String findConfigHistoryFetchRowsBeforeNid(int pageSize);
+    
     /**
      * Get previous config detail.
      * The default sql: